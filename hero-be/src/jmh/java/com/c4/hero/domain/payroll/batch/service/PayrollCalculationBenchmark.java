@@ -0,0 +1,145 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
+import com.c4.hero.domain.payroll.batch.entity.Payroll;
+import com.c4.hero.domain.payroll.benchmark.PayrollBenchmarkFixtures;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.integration.attendance.service.PayrollAttendanceServiceImpl;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.engine.EvaluatedPayrollItem;
+import com.c4.hero.domain.payroll.policy.engine.PolicyEvaluationInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * Class Name : PayrollCalculationBenchmark
+ * Description : 급여 배치 사원 단위 계산 핫패스 벤치마크
+ *
+ * 측정 대상
+ *  - overtime         : PayrollAttendanceServiceImpl.calculateOvertime (선조회 근태 기준 메모리 계산)
+ *  - applyCalculated  : Payroll.applyCalculated (급여 엔티티 계산 결과 반영)
+ *  - fingerprint      : PayrollInputFingerprint.of (증분 재계산 입력값 지문)
+ *  - employee         : PayrollEmployeeCalculateTxService.apply 와 동일한 사원 1명 계산 절차 전체
+ *                       (스냅샷 조회 → 연장근무 → 항목 정책 평가 → 조정 합산 → 엔티티 반영 → 지문 기록)
+ *
+ * 측정 방식
+ *  - 호출 1회 = 사원 1명 (ops/s = 사원/초, gc.alloc.rate.norm = 사원 1명당 할당 바이트)
+ *  - 사원 수(employees)별로 입력값을 순환 조회하여 스냅샷 크기에 따른 캐시 영향 포함
+ *
+ * 측정하지 않는 부분 (배치 전체 소요 시간은 스테이징 DB에서 실제 배치로 확인)
+ *  - 입력값 선조회 : PayrollInputSnapshotLoader 의 MyBatis 집합 쿼리 (1000명 단위 분할)
+ *  - 저장         : 청크 트랜잭션의 급여/급여 항목 INSERT, 지문/체크포인트 갱신
+ *  - 병렬 처리    : PayrollCalculationService 의 청크 병렬 실행과 커넥션 풀 경합
+ *  - employee 는 PayrollEmployeeCalculateTxService.apply 의 절차를 벤치마크 안에서 재현한 것이므로
+ *    apply 를 바꾸면 이 벤치마크도 함께 맞춰야 함
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 측정하지 않는 범위 명시 (End-to-End 벤치마크 제거)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayrollCalculationBenchmark {
+
+    private static final Integer BATCH_ID = 1;
+
+    @Param({"1000", "10000", "100000"})
+    private int employees;
+
+    private PayrollEmployeeInputDTO[] inputs;
+    private PayrollInputSnapshot snapshot;
+    private CompiledPayrollPolicy policy;
+    private PayrollAttendanceServiceImpl attendanceService;
+    private Payroll reusedPayroll;
+
+    /** 순환 조회 위치 */
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inputs = PayrollBenchmarkFixtures.inputs(employees);
+
+        Map<Integer, PayrollEmployeeInputDTO> byEmployee = new HashMap<>(employees * 2);
+        for (PayrollEmployeeInputDTO input : inputs) {
+            byEmployee.put(input.employeeId(), input);
+        }
+        snapshot = new PayrollInputSnapshot(PayrollBenchmarkFixtures.SALARY_MONTH, byEmployee);
+        policy = CompiledPayrollPolicy.compile(PayrollBenchmarkFixtures.policy());
+
+        // 메모리 계산 메서드만 사용하므로 근태 매퍼 불필요
+        attendanceService = new PayrollAttendanceServiceImpl(null, null);
+        reusedPayroll = Payroll.ready(1, BATCH_ID, PayrollBenchmarkFixtures.SALARY_MONTH);
+    }
+
+    private PayrollEmployeeInputDTO next() {
+        PayrollEmployeeInputDTO input = inputs[cursor];
+        if (++cursor == inputs.length) cursor = 0;
+        return input;
+    }
+
+    @Benchmark
+    public int overtime() {
+        PayrollEmployeeInputDTO input = next();
+        return attendanceService.calculateOvertime(input.baseSalary(), input.attendanceDays(), input.workedMinutes());
+    }
+
+    @Benchmark
+    public Payroll applyCalculated() {
+        PayrollEmployeeInputDTO input = next();
+        reusedPayroll.applyCalculated(BATCH_ID, input.effectiveBaseSalary(), 150_000, 700_000, 450_000);
+        return reusedPayroll;
+    }
+
+    @Benchmark
+    public String fingerprint() {
+        return PayrollInputFingerprint.of(next(), policy);
+    }
+
+    @Benchmark
+    public void employee(Blackhole bh) {
+        PayrollEmployeeInputDTO input = snapshot.get(next().employeeId());
+        Payroll payroll = Payroll.ready(input.employeeId(), BATCH_ID, PayrollBenchmarkFixtures.SALARY_MONTH);
+
+        int baseSalary = input.effectiveBaseSalary();
+        int overtimePay = attendanceService.calculateOvertime(
+                input.baseSalary(), input.attendanceDays(), input.workedMinutes()
+        );
+
+        int allowanceTotal = 0;
+        int deductionTotal = 0;
+        for (EvaluatedPayrollItem item : policy.evaluate(new PolicyEvaluationInput(
+                input.employeeId(), input.departmentId(), input.gradeId(),
+                baseSalary, overtimePay, input.attendanceDays(), input.workedMinutes()
+        ))) {
+            bh.consume(item);
+            if (item.itemType() == ItemType.ALLOWANCE) allowanceTotal += item.amount();
+            else deductionTotal += item.amount();
+        }
+
+        int manualAdjustNet = input.adjustmentNet();
+        if (manualAdjustNet > 0) allowanceTotal += manualAdjustNet;
+        else deductionTotal += Math.abs(manualAdjustNet);
+
+        payroll.applyCalculated(BATCH_ID, baseSalary, overtimePay, allowanceTotal, deductionTotal);
+        payroll.recordInputFingerprint(PayrollInputFingerprint.of(input, policy));
+        bh.consume(payroll);
+    }
+}
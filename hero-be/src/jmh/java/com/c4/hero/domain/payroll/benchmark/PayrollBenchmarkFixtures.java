@@ -0,0 +1,151 @@
+package com.c4.hero.domain.payroll.benchmark;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicySnapshotDTO;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.SplittableRandom;
+
+/**
+ * <pre>
+ * Class Name : PayrollBenchmarkFixtures
+ * Description : 급여 계산 벤치마크용 합성 데이터 생성기
+ *
+ * 생성 기준
+ *  - 고정 시드 난수로 생성하여 실행 간 입력 분포를 동일하게 유지
+ *  - 부서 20개 / 직급 8개, 기본급 250만 ~ 800만 (만원 단위)
+ *  - 근태 일수 18 ~ 23일, 일 평균 근무 7 ~ 11시간 (일부 사원 초과근무 발생)
+ *  - 인상 건 약 10%, 수기 조정 건 약 5%
+ *  - 항목 정책은 운영 정책과 유사한 구성 (정액/정률/계산식, 부서·직급 대상 항목 포함)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public final class PayrollBenchmarkFixtures {
+
+    /** 벤치마크 급여월 */
+    public static final String SALARY_MONTH = "2026-10";
+
+    /** 합성 데이터 난수 시드 */
+    private static final long SEED = 20261017L;
+
+    private static final int DEPARTMENTS = 20;
+    private static final int GRADES = 8;
+
+    private PayrollBenchmarkFixtures() {
+    }
+
+    /**
+     * 합성 사원 입력값 생성
+     *
+     * @param employees 사원 수
+     * @return 사원 ID 1부터 순번으로 채번된 입력값 배열
+     */
+    public static PayrollEmployeeInputDTO[] inputs(int employees) {
+        SplittableRandom random = new SplittableRandom(SEED);
+        PayrollEmployeeInputDTO[] inputs = new PayrollEmployeeInputDTO[employees];
+
+        for (int i = 0; i < employees; i++) {
+            int baseSalary = random.nextInt(250, 801) * 10_000;
+            Integer raisedSalary = random.nextInt(10) == 0 ? baseSalary + random.nextInt(10, 51) * 10_000 : null;
+            int attendanceDays = random.nextInt(18, 24);
+            int workedMinutes = attendanceDays * random.nextInt(420, 661);
+            int adjustmentNet = random.nextInt(20) == 0 ? random.nextInt(-30, 31) * 10_000 : 0;
+
+            inputs[i] = new PayrollEmployeeInputDTO(
+                    i + 1,
+                    random.nextInt(DEPARTMENTS) + 1,
+                    random.nextInt(GRADES) + 1,
+                    baseSalary,
+                    raisedSalary,
+                    attendanceDays,
+                    workedMinutes,
+                    adjustmentNet
+            );
+        }
+        return inputs;
+    }
+
+    /**
+     * 운영 정책과 유사한 구성의 항목 정책 스냅샷 생성
+     *
+     * @return 정책 스냅샷 (수당 5개 + 공제 5개)
+     */
+    public static PayrollPolicySnapshotDTO policy() {
+        List<PayrollPolicySnapshotDTO.ItemSnapshot> items = List.of(
+                // 수당
+                fixed(1, ItemType.ALLOWANCE, "MEAL", "식대", "N", 200_000, 10, Map.of()),
+                fixed(2, ItemType.ALLOWANCE, "POSITION", "직책수당", "Y", 300_000, 20,
+                        Map.of(PayrollTargetType.POSITION, List.of("5", "6", "7", "8"))),
+                fixed(3, ItemType.ALLOWANCE, "RND", "연구활동비", "N", 200_000, 30,
+                        Map.of(PayrollTargetType.DEPARTMENT, List.of("3", "7", "11"))),
+                formula(4, ItemType.ALLOWANCE, "ATTEND", "근속장려수당", "Y",
+                        "MIN(ATTENDANCE_DAYS, 22) * 5000", 10, RoundingModeType.FLOOR, 40),
+                rate(5, ItemType.ALLOWANCE, "BONUS", "성과수당", "Y",
+                        "0.05", BaseAmountType.BASE_SALARY, 1000, RoundingModeType.HALF_UP, 50),
+                // 공제 (과세 대상 금액 기준)
+                rate(11, ItemType.DEDUCTION, "PENSION", "국민연금", "N",
+                        "0.045", BaseAmountType.TAXABLE_PAY, 10, RoundingModeType.FLOOR, 110),
+                rate(12, ItemType.DEDUCTION, "HEALTH", "건강보험", "N",
+                        "0.03545", BaseAmountType.TAXABLE_PAY, 10, RoundingModeType.FLOOR, 120),
+                formula(13, ItemType.DEDUCTION, "CARE", "장기요양보험", "N",
+                        "TAXABLE_PAY * 0.03545 * 0.1295", 10, RoundingModeType.FLOOR, 130),
+                rate(14, ItemType.DEDUCTION, "EMPLOY", "고용보험", "N",
+                        "0.009", BaseAmountType.TAXABLE_PAY, 10, RoundingModeType.FLOOR, 140),
+                formula(15, ItemType.DEDUCTION, "INCOME_TAX", "근로소득세", "N",
+                        "MAX(TAXABLE_PAY - 1060000, 0) * 0.06 + MAX(TAXABLE_PAY - 4000000, 0) * 0.09",
+                        10, RoundingModeType.HALF_UP, 150)
+        );
+        return new PayrollPolicySnapshotDTO(1, SALARY_MONTH, "benchmark", Map.of(), items);
+    }
+
+    /**
+     * 정액 항목 정책 생성
+     */
+    public static PayrollPolicySnapshotDTO.ItemSnapshot fixed(
+            int itemPolicyId, ItemType itemType, String itemCode, String itemName, String taxableYn,
+            int fixedAmount, int priority, Map<PayrollTargetType, List<String>> targets
+    ) {
+        return new PayrollPolicySnapshotDTO.ItemSnapshot(
+                itemPolicyId, itemType, itemCode, itemName, taxableYn, CalcMethod.FIXED,
+                fixedAmount, null, null, null, 1, RoundingModeType.HALF_UP, priority, targets
+        );
+    }
+
+    /**
+     * 정률 항목 정책 생성 (전체 사원 대상)
+     */
+    public static PayrollPolicySnapshotDTO.ItemSnapshot rate(
+            int itemPolicyId, ItemType itemType, String itemCode, String itemName, String taxableYn,
+            String rate, BaseAmountType baseAmountType, int roundingUnit, RoundingModeType roundingMode, int priority
+    ) {
+        return new PayrollPolicySnapshotDTO.ItemSnapshot(
+                itemPolicyId, itemType, itemCode, itemName, taxableYn, CalcMethod.RATE,
+                null, new BigDecimal(rate), null, baseAmountType, roundingUnit, roundingMode, priority, Map.of()
+        );
+    }
+
+    /**
+     * 계산식 항목 정책 생성 (전체 사원 대상)
+     */
+    public static PayrollPolicySnapshotDTO.ItemSnapshot formula(
+            int itemPolicyId, ItemType itemType, String itemCode, String itemName, String taxableYn,
+            String formula, int roundingUnit, RoundingModeType roundingMode, int priority
+    ) {
+        return new PayrollPolicySnapshotDTO.ItemSnapshot(
+                itemPolicyId, itemType, itemCode, itemName, taxableYn, CalcMethod.FORMULA,
+                null, null, formula, null, roundingUnit, roundingMode, priority, Map.of()
+        );
+    }
+}
@@ -0,0 +1,128 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
+import com.c4.hero.domain.payroll.benchmark.PayrollBenchmarkFixtures;
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * <pre>
+ * Class Name : PayrollItemPolicyBenchmark
+ * Description : 항목 정책 금액 산정(정률/반올림/계산식) 벤치마크
+ *
+ * 측정 대상
+ *  - rate     : 정률 항목 (기준 금액 × 요율 → 반올림 단위/방식 적용)
+ *  - fixed    : 정액 항목 (반올림 경로만 통과)
+ *  - formula  : 계산식 항목 (컴파일된 계산식 평가 → 반올림)
+ *  - policy   : CompiledPayrollPolicy.evaluate (대상 매칭 + 우선순위 순 전체 항목 평가)
+ *
+ * 측정 방식
+ *  - 호출 1회 = 사원 1명 (사원 수별 합성 입력값 순환 조회)
+ *  - 반올림 방식(roundingMode)별로 BigDecimal 나눗셈 비용 차이 확인
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class PayrollItemPolicyBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int employees;
+
+    @Param({"HALF_UP", "FLOOR", "CEIL"})
+    private RoundingModeType roundingMode;
+
+    private PayrollEmployeeInputDTO[] inputs;
+    private double[][] values;
+
+    private CompiledItemPolicy ratePolicy;
+    private CompiledItemPolicy fixedPolicy;
+    private CompiledItemPolicy formulaPolicy;
+    private CompiledPayrollPolicy policy;
+
+    /** 순환 조회 위치 */
+    private int cursor;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        inputs = PayrollBenchmarkFixtures.inputs(employees);
+
+        // 평가 변수 배열은 사원별로 미리 구성 (정책 평가 외 비용 제외)
+        values = new double[employees][];
+        for (int i = 0; i < employees; i++) {
+            PayrollEmployeeInputDTO input = inputs[i];
+            int baseSalary = input.effectiveBaseSalary();
+            double[] v = new double[PayrollFormulaVariable.SIZE];
+            v[PayrollFormulaVariable.BASE_SALARY.ordinal()] = baseSalary;
+            v[PayrollFormulaVariable.GROSS_PAY.ordinal()] = baseSalary;
+            v[PayrollFormulaVariable.TAXABLE_PAY.ordinal()] = baseSalary;
+            v[PayrollFormulaVariable.ATTENDANCE_DAYS.ordinal()] = input.attendanceDays();
+            v[PayrollFormulaVariable.WORKED_MINUTES.ordinal()] = input.workedMinutes();
+            values[i] = v;
+        }
+
+        ratePolicy = new CompiledItemPolicy(PayrollBenchmarkFixtures.rate(
+                1, ItemType.DEDUCTION, "HEALTH", "건강보험", "N",
+                "0.03545", BaseAmountType.TAXABLE_PAY, 10, roundingMode, 1
+        ));
+        fixedPolicy = new CompiledItemPolicy(PayrollBenchmarkFixtures.fixed(
+                2, ItemType.ALLOWANCE, "MEAL", "식대", "N", 200_000, 2, Map.of()
+        ));
+        formulaPolicy = new CompiledItemPolicy(PayrollBenchmarkFixtures.formula(
+                3, ItemType.DEDUCTION, "INCOME_TAX", "근로소득세", "N",
+                "MAX(TAXABLE_PAY - 1060000, 0) * 0.06 + MAX(TAXABLE_PAY - 4000000, 0) * 0.09",
+                10, roundingMode, 3
+        ));
+        policy = CompiledPayrollPolicy.compile(PayrollBenchmarkFixtures.policy());
+    }
+
+    private int nextIndex() {
+        int index = cursor;
+        if (++cursor == inputs.length) cursor = 0;
+        return index;
+    }
+
+    @Benchmark
+    public int rate() {
+        return ratePolicy.evaluate(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public int fixed() {
+        return fixedPolicy.evaluate(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public int formula() {
+        return formulaPolicy.evaluate(values[nextIndex()]);
+    }
+
+    @Benchmark
+    public List<EvaluatedPayrollItem> policy() {
+        PayrollEmployeeInputDTO input = inputs[nextIndex()];
+        return policy.evaluate(new PolicyEvaluationInput(
+                input.employeeId(), input.departmentId(), input.gradeId(),
+                input.effectiveBaseSalary(), 0, input.attendanceDays(), input.workedMinutes()
+        ));
+    }
+}
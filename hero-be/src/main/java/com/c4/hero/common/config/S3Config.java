@@ -3,12 +3,17 @@ package com.c4.hero.common.config;
 import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.auth.InstanceProfileCredentialsProvider; // ★ 이거 추가됨!
+import com.amazonaws.client.builder.AwsClientBuilder;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.concurrent.Executors;
+
 @Configuration
 public class S3Config {
 
@@ -22,13 +27,37 @@ public class S3Config {
     @Value("${cloud.aws.region.static}")
     private String region;
 
+    // S3 호환 로컬 저장소(MinIO, LocalStack 등) 사용 시 엔드포인트 (비어 있으면 AWS S3)
+    @Value("${cloud.aws.s3.endpoint:}")
+    private String endpoint;
+
+    // 첨부파일 병렬 업로드 스레드 수
+    @Value("${cloud.aws.s3.upload.threads:8}")
+    private int uploadThreads;
+
+    // 이 크기 이상 파일은 멀티파트 업로드 (기본 16MB)
+    @Value("${cloud.aws.s3.upload.multipart-threshold:16777216}")
+    private long multipartThreshold;
+
+    // 멀티파트 업로드 파트 크기 (기본 8MB, S3 최소 5MB)
+    @Value("${cloud.aws.s3.upload.part-size:8388608}")
+    private long partSize;
+
     @Bean
     public AmazonS3 amazonS3() {
+        AmazonS3ClientBuilder builder = AmazonS3ClientBuilder.standard();
+
+        // S3 호환 로컬 저장소는 path-style 주소만 지원하는 경우가 많으므로 함께 설정
+        if (endpoint.isEmpty()) {
+            builder.withRegion(region);
+        } else {
+            builder.withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, region))
+                    .withPathStyleAccessEnabled(true);
+        }
+
         // 2. 핵심: 키가 비어있으면 IAM Role (Instance Profile) 사용
         if (accessKey.isEmpty() || secretKey.isEmpty()) {
-            return AmazonS3ClientBuilder
-                    .standard()
-                    .withRegion(region)
+            return builder
                     .withCredentials(InstanceProfileCredentialsProvider.getInstance())
                     .build();
         }
@@ -36,11 +65,20 @@ public class S3Config {
         // 3. 키가 있으면 로컬 개발용 Access Key 사용
         else {
             BasicAWSCredentials credentials = new BasicAWSCredentials(accessKey, secretKey);
-            return AmazonS3ClientBuilder
-                    .standard()
-                    .withRegion(region)
+            return builder
                     .withCredentials(new AWSStaticCredentialsProvider(credentials))
                     .build();
         }
     }
-}
\ No newline at end of file
+
+    // 4. 첨부파일 병렬 업로드용 TransferManager (큰 파일은 멀티파트 업로드)
+    @Bean(destroyMethod = "shutdownNow")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(uploadThreads))
+                .withMultipartUploadThreshold(multipartThreshold)
+                .withMinimumUploadPartSize(partSize)
+                .build();
+    }
+}
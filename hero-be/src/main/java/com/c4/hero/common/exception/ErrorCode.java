@@ -25,10 +25,12 @@ import org.springframework.http.HttpStatus;
  * 2025-12-29 (승건) 파일 업로드 실패 추가
  * 2025-12-31 (승건) 파일 크기 초과 추가
  * 2026-01-05 (민철) 결재 관련 에러 코드 추가
+ * 2026-10-17 (동근) 급여 배치 계산 진행 관련 에러 코드 추가
+ * 2026-10-17 (동근) 급여 배치 작업(Job) 관련 에러 코드로 변경
  * </pre>
  *
  * @author 혜원
- * @version 1.7
+ * @version 1.8
  */
 @Getter
 @RequiredArgsConstructor
@@ -214,6 +216,16 @@ public enum ErrorCode {
      */
     PAYROLL_BATCH_HAS_FAILED(HttpStatus.CONFLICT, "P108", "실패(FAILED) 처리된 사원이 있어 배치를 확정할 수 없습니다."),
 
+    /**
+     * 동일 배치의 작업(계산/확정/지급)이 이미 대기 중이거나 진행 중인 경우 (중복 요청 방지)
+     */
+    PAYROLL_BATCH_JOB_IN_PROGRESS(HttpStatus.CONFLICT, "P109", "해당 배치의 작업이 이미 진행 중입니다."),
+
+    /**
+     * 급여 배치 작업(Job)을 찾을 수 없음
+     */
+    PAYROLL_BATCH_JOB_NOT_FOUND(HttpStatus.NOT_FOUND, "P110", "급여 배치 작업을 찾을 수 없습니다."),
+
 
     // ===== 승진(Promotion) 관련 에러 =====
     /**
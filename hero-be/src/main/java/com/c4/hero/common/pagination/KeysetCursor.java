@@ -0,0 +1,66 @@
+package com.c4.hero.common.pagination;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * <pre>
+ * Class Name: KeysetCursor
+ * Description: (날짜, PK) 기준 키셋 페이지네이션 커서
+ *
+ * - ORDER BY 날짜 DESC, PK DESC 목록에서 마지막 행의 키를 담음
+ * - 다음 조회는 OFFSET 대신 (날짜, PK) 보다 작은 행부터 seek
+ * - 외부에는 Base64(URL-safe) 문자열로만 노출 (형식 의존 방지)
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ * @param date 마지막 행의 정렬 날짜
+ * @param id   마지막 행의 PK
+ */
+public record KeysetCursor(LocalDate date, Integer id) {
+
+    private static final char SEPARATOR = ':';
+
+    /**
+     * 커서 문자열 생성
+     *
+     * @return 불투명(opaque) 커서 문자열
+     */
+    public String encode() {
+        String raw = date.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 커서 문자열 (null/빈 값이면 첫 페이지)
+     * @return 커서, 첫 페이지면 null
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public static KeysetCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            return new KeysetCursor(
+                    LocalDate.parse(raw.substring(0, idx)),
+                    Integer.valueOf(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package com.c4.hero.common.response;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Class Name: CursorResponse
+ * Description: 커서(키셋) 페이징 처리된 응답 포맷
+ *
+ * - 다음 페이지 조회용 커서(nextCursor) 포함
+ * - 전체 데이터 개수는 요청한 경우에만 포함 (미요청 시 null)
+ *
+ * 사용 예시:
+ * CursorResponse.of(rows, size, row -> cursorOf(row), totalElements)
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ * @param <T> 응답 데이터 타입
+ */
+@Getter
+@Builder
+public class CursorResponse<T> {
+
+    /** 데이터 목록 */
+    private List<T> content;
+
+    /** 페이지 크기 (한 페이지당 데이터 개수) */
+    private int size;
+
+    /** 다음 페이지 커서 (마지막 페이지면 null) */
+    private String nextCursor;
+
+    /** 다음 페이지 존재 여부 */
+    private boolean hasNext;
+
+    /** 전체 데이터 개수 (요청하지 않은 경우 null) */
+    private Long totalElements;
+
+    /**
+     * 커서 페이징 응답 생성
+     *
+     * @param rows          size + 1 건까지 조회한 데이터 목록
+     * @param size          페이지 크기
+     * @param cursorOf      행 → 커서 문자열 변환 함수
+     * @param totalElements 전체 데이터 개수 (미집계 시 null)
+     * @param <T> 응답 데이터 타입
+     * @return 커서 페이징 응답
+     */
+    public static <T> CursorResponse<T> of(
+            List<T> rows,
+            int size,
+            Function<T, String> cursorOf,
+            Long totalElements
+    ) {
+        // size 보다 1건 더 조회되었으면 다음 페이지 존재
+        boolean hasNext = rows.size() > size;
+        List<T> content = hasNext ? rows.subList(0, size) : rows;
+
+        return CursorResponse.<T>builder()
+                .content(content)
+                .size(size)
+                .nextCursor(hasNext ? cursorOf.apply(content.get(size - 1)) : null)
+                .hasNext(hasNext)
+                .totalElements(totalElements)
+                .build();
+    }
+}
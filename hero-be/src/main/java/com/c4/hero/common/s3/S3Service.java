@@ -2,8 +2,11 @@ package com.c4.hero.common.s3;
 
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.DeleteObjectsRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.Upload;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
@@ -11,7 +14,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Date;
+import java.util.List;
 import java.util.UUID;
 
 /**
@@ -22,10 +28,11 @@ import java.util.UUID;
  * History
  * 2025/12/28 (혜원) 최초 작성
  * 2026/01/01 (민철) 파일 확장자 추가
+ * 2026/10/17 (민철) 다중 파일 병렬 업로드(TransferManager), 일괄 삭제 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.1
+ * @version 1.2
  */
 @Slf4j
 @Service
@@ -33,6 +40,7 @@ import java.util.UUID;
 public class S3Service {
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
@@ -45,39 +53,10 @@ public class S3Service {
      * @return 업로드된 파일의 URL
      */
     public String uploadFile(MultipartFile file, String directory) {
-        if (file.isEmpty()) {
-            throw new IllegalArgumentException("파일이 비어있습니다.");
-        }
-
-        // 원본 파일명
-        String originalFilename = file.getOriginalFilename();
-        if (originalFilename == null) {
-            throw new IllegalArgumentException("파일명이 없습니다.");
-        }
-
-        // 파일 확장자 검증
-        String extension = getFileExtension(originalFilename);
-        validateImageFile(extension);
-
-        // 고유한 파일명 생성
-        String uniqueFilename = generateUniqueFilename(originalFilename);
-        String s3Key = directory + "/" + uniqueFilename;
+        String s3Key = createS3Key(file, directory);
 
         try {
-            // 메타데이터 설정
-            ObjectMetadata metadata = new ObjectMetadata();
-            metadata.setContentType(file.getContentType());
-            metadata.setContentLength(file.getSize());
-
-            // S3 업로드 (Private ACL)
-            PutObjectRequest putObjectRequest = new PutObjectRequest(
-                    bucket,
-                    s3Key,
-                    file.getInputStream(),
-                    metadata
-            ).withCannedAcl(CannedAccessControlList.Private);
-
-            amazonS3.putObject(putObjectRequest);
+            amazonS3.putObject(createPutObjectRequest(file, s3Key));
 
             // S3 키 반환 (URL이 아닌 키를 저장)
             log.info("S3 파일 업로드 성공 - Key: {}", s3Key);
@@ -85,7 +64,48 @@ public class S3Service {
             return s3Key;
 
         } catch (IOException e) {
-            log.error("S3 파일 업로드 실패 - 파일: {}", originalFilename, e);
+            log.error("S3 파일 업로드 실패 - 파일: {}", file.getOriginalFilename(), e);
+            throw new RuntimeException("파일 업로드에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * 여러 파일 병렬 업로드
+     * - 요청 스트림을 그대로 전송 (메모리에 버퍼링하지 않음)
+     * - 큰 파일은 TransferManager 가 멀티파트 업로드로 처리
+     * - 하나라도 실패하면 나머지 업로드를 중단하고 이미 올라간 파일을 삭제한 뒤 예외 발생
+     *
+     * @param files 업로드할 파일 목록
+     * @param directory S3 디렉토리 경로
+     * @return 업로드된 파일의 S3 키 목록 (files 와 같은 순서)
+     */
+    public List<String> uploadFiles(List<MultipartFile> files, String directory) {
+        // 전송 시작 전에 모든 파일을 먼저 검증
+        List<String> s3Keys = new ArrayList<>();
+        for (MultipartFile file : files) {
+            s3Keys.add(createS3Key(file, directory));
+        }
+
+        List<Upload> uploads = new ArrayList<>();
+        try {
+            for (int i = 0; i < files.size(); i++) {
+                uploads.add(transferManager.upload(createPutObjectRequest(files.get(i), s3Keys.get(i))));
+            }
+            for (Upload upload : uploads) {
+                upload.waitForCompletion();
+            }
+
+            log.info("S3 파일 병렬 업로드 성공 - {}건, Directory: {}", s3Keys.size(), directory);
+            return s3Keys;
+
+        } catch (IOException | RuntimeException | InterruptedException e) {
+            if (e instanceof InterruptedException) {
+                Thread.currentThread().interrupt();
+            }
+            uploads.forEach(Upload::abort);
+            deleteFiles(s3Keys);
+
+            log.error("S3 파일 병렬 업로드 실패 - Directory: {}", directory, e);
             throw new RuntimeException("파일 업로드에 실패했습니다.", e);
         }
     }
@@ -111,6 +131,67 @@ public class S3Service {
         }
     }
 
+    /**
+     * 여러 파일 일괄 삭제 (DeleteObjects 요청 1회)
+     *
+     * @param s3Keys 삭제할 파일의 S3 키 목록
+     */
+    public void deleteFiles(Collection<String> s3Keys) {
+        String[] keys = s3Keys.stream()
+                .filter(key -> key != null && !key.isEmpty())
+                .toArray(String[]::new);
+        if (keys.length == 0) {
+            return;
+        }
+
+        try {
+            amazonS3.deleteObjects(new DeleteObjectsRequest(bucket).withKeys(keys).withQuiet(true));
+            log.info("S3 파일 일괄 삭제 성공 - {}건", keys.length);
+        } catch (Exception e) {
+            log.error("S3 파일 일괄 삭제 실패 - Keys: {}", List.of(keys), e);
+            // 삭제 실패해도 예외를 던지지 않음 (로그만 남김)
+        }
+    }
+
+    /**
+     * 업로드 파일 검증 후 S3 키 생성
+     */
+    private String createS3Key(MultipartFile file, String directory) {
+        if (file.isEmpty()) {
+            throw new IllegalArgumentException("파일이 비어있습니다.");
+        }
+
+        // 원본 파일명
+        String originalFilename = file.getOriginalFilename();
+        if (originalFilename == null) {
+            throw new IllegalArgumentException("파일명이 없습니다.");
+        }
+
+        // 파일 확장자 검증
+        String extension = getFileExtension(originalFilename);
+        validateImageFile(extension);
+
+        // 고유한 파일명 생성
+        return directory + "/" + generateUniqueFilename(originalFilename);
+    }
+
+    /**
+     * 업로드 요청 생성 (Private ACL, 요청 스트림을 그대로 사용)
+     */
+    private PutObjectRequest createPutObjectRequest(MultipartFile file, String s3Key) throws IOException {
+        // 메타데이터 설정 (길이를 지정해야 SDK 가 스트림을 버퍼링하지 않음)
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentType(file.getContentType());
+        metadata.setContentLength(file.getSize());
+
+        return new PutObjectRequest(
+                bucket,
+                s3Key,
+                file.getInputStream(),
+                metadata
+        ).withCannedAcl(CannedAccessControlList.Private);
+    }
+
     /**
      * 파일 확장자 추출
      */
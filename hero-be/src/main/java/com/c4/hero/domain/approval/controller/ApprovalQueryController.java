@@ -1,5 +1,6 @@
 package com.c4.hero.domain.approval.controller;
 
+import com.c4.hero.common.response.CursorResponse;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.approval.dto.response.*;
 import com.c4.hero.domain.approval.dto.organization.*;
@@ -29,6 +30,7 @@ import org.springframework.security.core.annotation.AuthenticationPrincipal;
 import org.springframework.web.bind.annotation.*;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -47,11 +49,12 @@ import java.util.stream.Collectors;
  * 2025/12/26 (민철) 조직도 조회 api 추가
  * 2025/12/26 (민철) 문서함 목록 조회 구현 (PageResponse 사용)
  * 2025/12/28 (민철) 작성화면 UI 에 필요한 렌더링용 데이터 조회 api
+ * 2026/10/17 (민철) 문서함 커서 페이징 조회 / 탭별 문서 개수 조회 api 추가
  *
  * </pre>
  *
  * @author 민철
- * @version 2.2
+ * @version 2.3
  */
 @Slf4j
 @RestController
@@ -155,6 +158,64 @@ public class ApprovalQueryController {
         return ResponseEntity.ok().body(response);
     }
 
+    /**
+     * 문서함 문서 목록 커서 조회 (탭별 필터링)
+     *
+     * @param cursor      이전 응답의 nextCursor (없으면 첫 페이지)
+     * @param size        페이지 크기
+     * @param tab         탭 구분 (all/que/request/reject/ref/end/draft)
+     * @param fromDate    시작일
+     * @param toDate      종료일
+     * @param sortBy      검색 필드
+     * @param condition   검색 조건
+     * @param withTotal   전체 개수 포함 여부
+     * @param userDetails 인증된 사용자 정보
+     * @return ResponseEntity<CursorResponse<ApprovalDocumentsResponseDTO>> 문서 목록 (다음 커서 포함)
+     */
+    @Operation(
+            summary = "문서함 문서 목록 커서 조회",
+            description = "문서함을 탭별로 필터링하여 이전 응답의 nextCursor 다음 문서부터 조회함. " +
+                    "OFFSET 없이 조회하므로 깊은 페이지도 일정한 비용으로 조회됨"
+    )
+    @GetMapping("/inbox/documents/cursor")
+    public ResponseEntity<CursorResponse<ApprovalDocumentsResponseDTO>> getInboxDocumentsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(defaultValue = "all") String tab,
+            @RequestParam(required = false) String fromDate,
+            @RequestParam(required = false) String toDate,
+            @RequestParam(required = false) String sortBy,
+            @RequestParam(required = false) String condition,
+            @RequestParam(defaultValue = "false") boolean withTotal,
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Integer employeeId = userDetails.getEmployeeId();
+
+        CursorResponse<ApprovalDocumentsResponseDTO> response = approvalQueryService.getInboxDocumentsByCursor(
+                cursor, size, tab, fromDate, toDate, sortBy, condition, withTotal, employeeId
+        );
+
+        return ResponseEntity.ok().body(response);
+    }
+
+    /**
+     * 문서함 탭별 문서 개수 조회
+     *
+     * @param userDetails 인증된 사용자 정보
+     * @return ResponseEntity<Map<String, Long>> 탭 구분 → 문서 개수
+     */
+    @Operation(
+            summary = "문서함 탭별 문서 개수 조회",
+            description = "로그인한 사용자의 문서함 탭(all/que/request/reject/ref/end/draft)별 문서 개수를 한 번에 조회함"
+    )
+    @GetMapping("/inbox/counts")
+    public ResponseEntity<Map<String, Long>> getInboxTabCounts(
+            @AuthenticationPrincipal CustomUserDetails userDetails
+    ) {
+        Integer employeeId = userDetails.getEmployeeId();
+        return ResponseEntity.ok().body(approvalQueryService.getInboxTabCounts(employeeId));
+    }
+
     /**
      * 문서 상세 조회
      *
@@ -0,0 +1,67 @@
+package com.c4.hero.domain.approval.dto;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * <pre>
+ * Class Name: ApprovalInboxCursor
+ * Description: 문서함 목록 커서 (기안일시, 문서 ID)
+ *
+ * - ORDER BY 기안일시 DESC, 문서 ID DESC 목록에서 마지막 행의 키를 담음
+ * - 기안일시가 초 단위라 날짜 기준 KeysetCursor 대신 일시 기준 커서를 사용
+ * - 외부에는 Base64(URL-safe) 문자열로만 노출
+ *
+ * History
+ * 2026/10/17 (민철) 최초 작성
+ *
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ * @param draftDate 마지막 행의 기안일시
+ * @param docId     마지막 행의 문서 ID
+ */
+public record ApprovalInboxCursor(LocalDateTime draftDate, Integer docId) {
+
+    private static final char SEPARATOR = '|';
+
+    /**
+     * 커서 문자열 생성
+     *
+     * @return 불투명(opaque) 커서 문자열
+     */
+    public String encode() {
+        String raw = draftDate.toString() + SEPARATOR + docId;
+        return Base64.getUrlEncoder().withoutPadding()
+                .encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * 커서 문자열 해석
+     *
+     * @param cursor 커서 문자열 (null/빈 값이면 첫 페이지)
+     * @return 커서, 첫 페이지면 null
+     * @throws BusinessException 커서 형식이 올바르지 않은 경우
+     */
+    public static ApprovalInboxCursor decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int idx = raw.indexOf(SEPARATOR);
+            return new ApprovalInboxCursor(
+                    LocalDateTime.parse(raw.substring(0, idx)),
+                    Integer.valueOf(raw.substring(idx + 1))
+            );
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "잘못된 커서 값입니다.");
+        }
+    }
+}
@@ -0,0 +1,34 @@
+package com.c4.hero.domain.approval.dto;
+
+import lombok.Data;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalSearchSourceDTO
+ * Description : 문서 검색 인덱스 재생성 대상 문서 DTO
+ *
+ * History
+ *   2026/10/17 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Data
+public class ApprovalSearchSourceDTO {
+
+    /**
+     * 문서 ID
+     */
+    private Integer docId;
+
+    /**
+     * 문서 제목
+     */
+    private String title;
+
+    /**
+     * 문서 번호 (임시저장 문서는 null)
+     */
+    private String docNo;
+}
@@ -0,0 +1,35 @@
+package com.c4.hero.domain.approval.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalSearchTokenDTO
+ * Description : 문서 검색 인덱스(tbl_approval_search_token) 토큰 DTO
+ *
+ * History
+ *   2026/10/17 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class ApprovalSearchTokenDTO {
+
+    /**
+     * 토큰 (소문자 정규화된 2글자 n-gram)
+     */
+    private String token;
+
+    /**
+     * 토큰 출처 필드
+     * - T: 문서 제목
+     * - N: 문서 번호
+     */
+    private String field;
+}
@@ -0,0 +1,19 @@
+package com.c4.hero.domain.approval.dto;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalUploadedFileDTO
+ * Description : S3 업로드가 끝난 첨부파일 정보 (DB 트랜잭션에는 이 정보만 전달)
+ *
+ * History
+ *   2026/10/17 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ * @param originName 원본 파일명
+ * @param savePath   S3 키
+ * @param fileSize   파일 크기 (byte)
+ */
+public record ApprovalUploadedFileDTO(String originName, String savePath, Long fileSize) {
+}
@@ -0,0 +1,31 @@
+package com.c4.hero.domain.approval.dto.response;
+
+import lombok.Data;
+
+/**
+ * <pre>
+ * Class Name: ApprovalInboxTabCountDTO
+ * Description: 문서함 탭별 문서 개수 조회 결과 DTO
+ *
+ * History
+ * 2026/10/17 (민철) 최초작성
+ *
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+
+@Data
+public class ApprovalInboxTabCountDTO {
+
+    /**
+     * 탭 구분 (all/que/request/reject/ref/end/draft)
+     */
+    private String tab;
+
+    /**
+     * 탭의 문서 개수
+     */
+    private Long count;
+}
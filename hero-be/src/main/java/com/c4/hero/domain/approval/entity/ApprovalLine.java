@@ -14,11 +14,12 @@ import java.time.LocalDateTime;
  * History
  * 2025/12/26 (민철) 결재 처리 편의 메서드 추가
  * 2026/01/01 (민철) 필드 주석 추가
+ * 2026/10/17 (민철) 임시저장 문서 결재선 초기 상태 복원 메서드 추가
  *
  * </pre>
  *
  * @author 민철
- * @version 2.1
+ * @version 2.2
  */
 @Entity
 @Table(name = "tbl_approval_line")
@@ -107,4 +108,25 @@ public class ApprovalLine {
         this.processDate = LocalDateTime.now();
         this.comment = rejectComment;
     }
+
+    /**
+     * 초기 상태로 복원 (임시저장 문서 수정/상신 시 유지되는 결재선)
+     * 기안자(seq=1)는 APPROVED, 나머지는 처리 이력 없는 PENDING 으로 되돌림
+     * 이미 초기 상태이면 값을 바꾸지 않아 UPDATE 가 발생하지 않음
+     */
+    public void resetToInitial() {
+        if (this.seq == 1) {
+            if (!"APPROVED".equals(this.lineStatus)) {
+                this.lineStatus = "APPROVED";
+                this.processDate = LocalDateTime.now();
+                this.comment = null;
+            }
+            return;
+        }
+        if (!"PENDING".equals(this.lineStatus) || this.processDate != null || this.comment != null) {
+            this.lineStatus = "PENDING";
+            this.processDate = null;
+            this.comment = null;
+        }
+    }
 }
\ No newline at end of file
@@ -22,4 +22,11 @@ public class ApprovalSequence {
     public void increment() {
         this.currentVal++;
     }
+
+    // 비즈니스 로직: size 개 번호 구간 예약 (예약한 구간의 첫 번호 반환)
+    public long reserve(int size) {
+        long start = this.currentVal + 1;
+        this.currentVal += size;
+        return start;
+    }
 }
\ No newline at end of file
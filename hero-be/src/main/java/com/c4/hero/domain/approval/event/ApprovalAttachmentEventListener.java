@@ -0,0 +1,41 @@
+package com.c4.hero.domain.approval.event;
+
+import com.c4.hero.common.s3.S3Service;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalAttachmentEventListener
+ * Description : 첨부파일 레코드 삭제 이벤트를 수신하여 S3 객체를 정리하는 리스너
+ *
+ * 처리 규칙
+ *  - 트랜잭션 커밋 이후 삭제 (롤백되면 기존 첨부파일을 그대로 유지)
+ *  - 삭제 실패 시 로그만 남김 (고아 객체는 남을 수 있으나 문서 처리에는 영향 없음)
+ *
+ * History
+ * 2026/10/17 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalAttachmentEventListener {
+
+    private final S3Service s3Service;
+
+    /**
+     * 첨부파일 레코드 삭제 (임시저장 문서 수정/상신/삭제)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAttachmentsDiscarded(ApprovalAttachmentsDiscardedEvent event) {
+        log.debug("첨부파일 S3 삭제 - docId: {}, {}건", event.getDocId(), event.getS3Keys().size());
+        s3Service.deleteFiles(event.getS3Keys());
+    }
+}
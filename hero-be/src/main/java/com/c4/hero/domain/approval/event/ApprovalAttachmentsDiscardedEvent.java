@@ -0,0 +1,45 @@
+package com.c4.hero.domain.approval.event;
+
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: ApprovalAttachmentsDiscardedEvent
+ * Description: 첨부파일 DB 레코드 삭제 이벤트
+ *              임시저장 문서 수정/상신/삭제로 첨부파일 레코드가 삭제되었을 때 발행
+ *              S3 객체는 트랜잭션 커밋 이후 ApprovalAttachmentEventListener 에서 삭제
+ *              (롤백 시 DB 레코드가 가리키는 파일이 먼저 지워지는 것을 방지)
+ *
+ * History
+ *   2026/10/17 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Getter
+public class ApprovalAttachmentsDiscardedEvent {
+
+    /**
+     * 문서 ID
+     */
+    private final Integer docId;
+
+    /**
+     * 삭제할 S3 키 목록
+     */
+    private final List<String> s3Keys;
+
+    /**
+     * ApprovalAttachmentsDiscardedEvent 생성자
+     *
+     * @param docId 문서 ID
+     * @param s3Keys 삭제할 S3 키 목록
+     */
+    public ApprovalAttachmentsDiscardedEvent(Integer docId, List<String> s3Keys) {
+        this.docId = docId;
+        this.s3Keys = s3Keys;
+    }
+}
@@ -0,0 +1,65 @@
+package com.c4.hero.domain.approval.mapper;
+
+import com.c4.hero.domain.approval.entity.ApprovalAttachment;
+import com.c4.hero.domain.approval.entity.ApprovalLine;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: ApprovalBulkMapper
+ * Description: 결재선/참조자/첨부파일 일괄 저장을 위한 Mybatis 접근 계층
+ *
+ * 각 컬렉션을 multi-row INSERT 한 문장으로 저장하여 컬렉션당 1회 왕복으로 처리
+ * (IDENTITY 키 엔티티는 Hibernate INSERT 배치가 적용되지 않음)
+ * 같은 트랜잭션/커넥션에서 실행되므로 이후 JPA 조회에서 바로 조회됨
+ *
+ * History
+ * 2026/10/17 (민철) 최초 작성
+ *
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Mapper
+public interface ApprovalBulkMapper {
+
+    /**
+     * 결재선 일괄 저장
+     *
+     * @param docId 문서 ID
+     * @param lines 결재선 목록 (approverId, seq, lineStatus, processDate 사용)
+     * @return 저장된 행 수
+     */
+    int insertApprovalLines(
+            @Param("docId") Integer docId,
+            @Param("lines") List<ApprovalLine> lines
+    );
+
+    /**
+     * 참조자 일괄 저장
+     *
+     * @param docId  문서 ID
+     * @param empIds 참조 직원 ID 목록
+     * @return 저장된 행 수
+     */
+    int insertApprovalReferences(
+            @Param("docId") Integer docId,
+            @Param("empIds") List<Integer> empIds
+    );
+
+    /**
+     * 첨부파일 일괄 저장
+     *
+     * @param docId       문서 ID
+     * @param attachments 첨부파일 목록 (originName, savePath, fileSize 사용)
+     * @return 저장된 행 수
+     */
+    int insertApprovalAttachments(
+            @Param("docId") Integer docId,
+            @Param("attachments") List<ApprovalAttachment> attachments
+    );
+}
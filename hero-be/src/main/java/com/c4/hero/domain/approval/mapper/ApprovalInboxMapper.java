@@ -0,0 +1,56 @@
+package com.c4.hero.domain.approval.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: ApprovalInboxMapper
+ * Description: 문서함 인덱스(tbl_approval_inbox) 관리를 위한 Mybatis 접근 계층
+ *
+ * 문서함 인덱스는 (직원, 탭, 기안일시, 문서) 단위 행으로,
+ * 문서함 목록/탭별 건수 조회를 직원+탭 범위 스캔으로 처리하기 위한 비정규화 테이블
+ * 문서/결재선/참조자 변경 시 ApprovalCommandService 에서 문서 단위로 재생성
+ *
+ * History
+ * 2026/10/17 (민철) 최초 작성
+ * 2026/10/17 (민철) 기존 문서 인덱스 재생성용 문서 ID 조회 추가
+ *
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.1
+ */
+@Mapper
+public interface ApprovalInboxMapper {
+
+    /**
+     * 문서함 인덱스 재생성 대상 문서 ID 조회 (문서 ID 오름차순, afterDocId 다음 문서부터)
+     *
+     * @param afterDocId 마지막으로 처리한 문서 ID (null이면 처음부터)
+     * @param size       조회 건수
+     * @return 문서 ID 목록
+     */
+    List<Integer> selectInboxSourceDocIds(
+            @Param("afterDocId") Integer afterDocId,
+            @Param("size") int size
+    );
+
+    /**
+     * 문서의 문서함 인덱스 전체 삭제
+     *
+     * @param docId 문서 ID
+     * @return 삭제된 행 수
+     */
+    int deleteInboxByDocId(@Param("docId") Integer docId);
+
+    /**
+     * 문서의 현재 상태/결재선/참조자 기준으로 문서함 인덱스 생성
+     *
+     * @param docId 문서 ID
+     * @return 생성된 행 수
+     */
+    int insertInboxByDocId(@Param("docId") Integer docId);
+}
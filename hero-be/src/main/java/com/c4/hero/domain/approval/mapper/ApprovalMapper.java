@@ -6,6 +6,7 @@ import com.c4.hero.domain.approval.dto.response.*;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 /**
  * <pre>
@@ -16,11 +17,13 @@ import java.util.List;
  * 2025/12/25 (민철) 작성화면 관련 결재선/참조목록 자동지정을 위한 조회 mapper
  * 2025/12/26 (민철) 문서함 조회 메서드 추가
  * 2025/12/29 (민철) countInboxDocuments에 sortBy 파라미터 추가
+ * 2026/10/17 (민철) 문서함 조회를 문서함 인덱스(tbl_approval_inbox) 기준으로 변경, 커서 조회/탭별 개수 조회 추가
+ * 2026/10/17 (민철) 문서함 검색에 검색 인덱스(tbl_approval_search_token) 후보 조건 및 정확도 정렬 적용
  *
  * </pre>
  *
  * @author 민철
- * @version 2.1
+ * @version 2.3
  */
 @Mapper
 public interface ApprovalMapper {
@@ -53,6 +56,7 @@ public interface ApprovalMapper {
      * @param toDate     종료일
      * @param sortBy     정렬 기준
      * @param condition  필터 조건
+     * @param searchTokens 검색어 n-gram 토큰 (검색 인덱스 후보 조건, 비어 있으면 LIKE 만 사용)
      * @return 문서 목록
      */
     List<ApprovalDocumentsResponseDTO> selectInboxDocuments(
@@ -63,7 +67,8 @@ public interface ApprovalMapper {
             @Param("fromDate") String fromDate,
             @Param("toDate") String toDate,
             @Param("sortBy") String sortBy,
-            @Param("condition") String condition
+            @Param("condition") String condition,
+            @Param("searchTokens") List<String> searchTokens
     );
 
     /**
@@ -75,6 +80,7 @@ public interface ApprovalMapper {
      * @param toDate     종료일
      * @param sortBy     검색 필드
      * @param condition  필터 조건
+     * @param searchTokens 검색어 n-gram 토큰 (검색 인덱스 후보 조건, 비어 있으면 LIKE 만 사용)
      * @return 전체 문서 개수
      */
     int countInboxDocuments(
@@ -83,9 +89,47 @@ public interface ApprovalMapper {
             @Param("fromDate") String fromDate,
             @Param("toDate") String toDate,
             @Param("sortBy") String sortBy,
-            @Param("condition") String condition
+            @Param("condition") String condition,
+            @Param("searchTokens") List<String> searchTokens
     );
 
+    /**
+     * 문서함 목록 커서 조회 (탭별 필터링)
+     * (기안일시, 문서 ID)가 커서보다 작은 행부터 size 건 조회
+     *
+     * @param employeeId 조회할 직원 ID
+     * @param tab        탭 구분 (all/que/request/reject/ref/end/draft)
+     * @param afterDate  커서 기안일시 (null이면 첫 페이지)
+     * @param afterDocId 커서 문서 ID (null이면 첫 페이지)
+     * @param size       조회 건수
+     * @param fromDate   시작일
+     * @param toDate     종료일
+     * @param sortBy     검색 필드
+     * @param condition  필터 조건
+     * @param searchTokens 검색어 n-gram 토큰 (검색 인덱스 후보 조건, 비어 있으면 LIKE 만 사용)
+     * @return 문서 목록
+     */
+    List<ApprovalDocumentsResponseDTO> selectInboxDocumentsAfter(
+            @Param("employeeId") Integer employeeId,
+            @Param("tab") String tab,
+            @Param("afterDate") LocalDateTime afterDate,
+            @Param("afterDocId") Integer afterDocId,
+            @Param("size") int size,
+            @Param("fromDate") String fromDate,
+            @Param("toDate") String toDate,
+            @Param("sortBy") String sortBy,
+            @Param("condition") String condition,
+            @Param("searchTokens") List<String> searchTokens
+    );
+
+    /**
+     * 문서함 탭별 문서 개수 조회
+     *
+     * @param employeeId 조회할 직원 ID
+     * @return 탭별 문서 개수 (문서가 없는 탭은 미포함)
+     */
+    List<ApprovalInboxTabCountDTO> countInboxTabs(@Param("employeeId") Integer employeeId);
+
     /**
      * 문서 상세 정보 조회
      *
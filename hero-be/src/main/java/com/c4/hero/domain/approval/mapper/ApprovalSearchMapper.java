@@ -0,0 +1,60 @@
+package com.c4.hero.domain.approval.mapper;
+
+import com.c4.hero.domain.approval.dto.ApprovalSearchSourceDTO;
+import com.c4.hero.domain.approval.dto.ApprovalSearchTokenDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: ApprovalSearchMapper
+ * Description: 문서 검색 인덱스(tbl_approval_search_token) 관리를 위한 Mybatis 접근 계층
+ *
+ * 문서 제목/문서 번호를 2글자 n-gram 토큰으로 분해하여 (token, doc_id, field) 행으로 저장
+ * 문서함 검색 시 토큰 조회로 후보 문서를 좁힌 뒤 LIKE 로 최종 확인
+ *
+ * History
+ * 2026/10/17 (민철) 최초 작성
+ *
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Mapper
+public interface ApprovalSearchMapper {
+
+    /**
+     * 문서의 검색 토큰 전체 삭제
+     *
+     * @param docId 문서 ID
+     * @return 삭제된 행 수
+     */
+    int deleteSearchTokensByDocId(@Param("docId") Integer docId);
+
+    /**
+     * 문서의 검색 토큰 일괄 저장 (multi-row INSERT)
+     *
+     * @param docId  문서 ID
+     * @param tokens 토큰 목록
+     * @return 저장된 행 수
+     */
+    int insertSearchTokens(
+            @Param("docId") Integer docId,
+            @Param("tokens") List<ApprovalSearchTokenDTO> tokens
+    );
+
+    /**
+     * 검색 인덱스 재생성 대상 문서 조회 (문서 ID 오름차순, afterDocId 다음 문서부터)
+     *
+     * @param afterDocId 마지막으로 처리한 문서 ID (null이면 처음부터)
+     * @param size       조회 건수
+     * @return 문서 목록
+     */
+    List<ApprovalSearchSourceDTO> selectSearchSources(
+            @Param("afterDocId") Integer afterDocId,
+            @Param("size") int size
+    );
+}
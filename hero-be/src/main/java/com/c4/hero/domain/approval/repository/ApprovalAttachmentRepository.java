@@ -2,6 +2,9 @@ package com.c4.hero.domain.approval.repository;
 
 import com.c4.hero.domain.approval.entity.ApprovalAttachment;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.util.List;
 
@@ -14,20 +17,24 @@ import java.util.List;
  * History
  *   2025/12/26 (민철) 최초 작성
  *   2026/01/01 (민철) 메서드 주석 추가
+ *   2026/10/17 (민철) 문서 ID 기준 첨부파일 삭제를 벌크 DELETE 로 변경
  * </pre>
  *
  * @author 민철
- * @version 1.1
+ * @version 1.2
  */
 public interface ApprovalAttachmentRepository extends JpaRepository<ApprovalAttachment, Integer> {
 
     /**
      * 특정 문서의 모든 첨부파일 삭제
      * 문서 삭제 시 연관된 첨부파일을 모두 제거할 때 사용
+     * (행마다 조회/삭제하지 않고 벌크 DELETE 한 문장으로 실행)
      *
      * @param docId 문서 ID
      */
-    void deleteByDocumentDocId(Integer docId);
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ApprovalAttachment a where a.document.docId = :docId")
+    void deleteByDocumentDocId(@Param("docId") Integer docId);
 
     /**
      * 특정 문서의 모든 첨부파일 조회
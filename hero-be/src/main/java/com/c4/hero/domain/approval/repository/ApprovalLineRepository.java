@@ -2,6 +2,9 @@ package com.c4.hero.domain.approval.repository;
 
 import com.c4.hero.domain.approval.entity.ApprovalLine;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -16,10 +19,11 @@ import java.util.List;
  *   2025/12/26 (민철) 최초 작성
  *   2026/01/01 (민철) 메서드 주석 추가
  *   2026/01/03 (혜원) 알림 독촉을 위해 조회 추가
+ *   2026/10/17 (민철) 문서 ID 기준 결재선 삭제를 벌크 DELETE 로 변경
  * </pre>
  *
  * @author 민철
- * @version 1.1
+ * @version 1.2
  */
 @Repository
 public interface ApprovalLineRepository extends JpaRepository<ApprovalLine, Integer> {
@@ -35,11 +39,14 @@ public interface ApprovalLineRepository extends JpaRepository<ApprovalLine, Inte
 
     /**
      * 문서 ID로 결재선 삭제
-     * 문서 삭제 또는 임시저장 문서 수정 시 기존 결재선을 모두 삭제할 때 사용
+     * 문서 삭제 시 기존 결재선을 모두 삭제할 때 사용
+     * (행마다 조회/삭제하지 않고 벌크 DELETE 한 문장으로 실행)
      *
      * @param docId 문서 ID
      */
-    void deleteByDocId(Integer docId);
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ApprovalLine l where l.docId = :docId")
+    void deleteByDocId(@Param("docId") Integer docId);
 
     /**
      * 문서 ID와 결재선 상태로 결재선 목록 조회
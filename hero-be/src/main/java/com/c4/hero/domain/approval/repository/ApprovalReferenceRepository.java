@@ -2,8 +2,13 @@ package com.c4.hero.domain.approval.repository;
 
 import com.c4.hero.domain.approval.entity.ApprovalReference;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
+
 /**
  * <pre>
  * Interface Name : ApprovalReferenceRepository
@@ -13,19 +18,32 @@ import org.springframework.stereotype.Repository;
  * History
  *   2025/12/26 (민철) 최초 작성
  *   2026/01/01 (민철) 메서드 주석 추가
+ *   2026/10/17 (민철) 문서 ID 기준 참조자 조회 추가, 삭제를 벌크 DELETE 로 변경
  * </pre>
  *
  * @author 민철
- * @version 1.1
+ * @version 1.2
  */
 @Repository
 public interface ApprovalReferenceRepository extends JpaRepository<ApprovalReference, Integer> {
 
+    /**
+     * 문서 ID로 참조자 목록 조회
+     * 임시저장 문서 수정 시 변경된 참조자만 반영하기 위해 사용
+     *
+     * @param docId 문서 ID
+     * @return 참조자 목록
+     */
+    List<ApprovalReference> findByDocId(Integer docId);
+
     /**
      * 문서 ID로 참조자 삭제
-     * 문서 삭제 또는 임시저장 문서 수정 시 기존 참조자를 모두 삭제할 때 사용
+     * 문서 삭제 시 기존 참조자를 모두 삭제할 때 사용
+     * (행마다 조회/삭제하지 않고 벌크 DELETE 한 문장으로 실행)
      *
      * @param docId 문서 ID
      */
-    void deleteByDocId(Integer docId);
+    @Modifying(flushAutomatically = true)
+    @Query("delete from ApprovalReference r where r.docId = :docId")
+    void deleteByDocId(@Param("docId") Integer docId);
 }
\ No newline at end of file
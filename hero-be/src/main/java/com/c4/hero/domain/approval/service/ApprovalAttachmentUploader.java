@@ -0,0 +1,94 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.domain.approval.dto.ApprovalUploadedFileDTO;
+import com.c4.hero.domain.approval.exception.ApprovalFileUploadException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalAttachmentUploader
+ * Description : 결재 문서 첨부파일 업로드 (DB 트랜잭션 밖에서 수행)
+ *
+ * 처리 흐름
+ *   1. 첨부파일을 S3에 병렬 업로드 (트랜잭션 시작 전, DB 커넥션 점유 없음)
+ *   2. 업로드 결과(S3 키)만 ApprovalCommandService 트랜잭션에 전달하여 저장
+ *   3. 트랜잭션이 실패하면 이번 요청에서 올린 S3 객체를 삭제 (보상 처리)
+ *
+ * History
+ *   2026/10/17 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalAttachmentUploader {
+
+    /** 결재 첨부파일 S3 디렉토리 */
+    private static final String DIRECTORY = "approval";
+
+    private final S3Service s3Service;
+
+    /**
+     * 첨부파일 업로드 후 작업 실행, 작업 실패 시 업로드한 파일 삭제
+     *
+     * @param files  첨부파일 목록 (null 허용)
+     * @param action 업로드 결과를 받아 실행할 트랜잭션 작업
+     * @return 작업 결과
+     * @throws ApprovalFileUploadException S3 파일 업로드 실패 시
+     */
+    public <T> T uploadThen(List<MultipartFile> files, Function<List<ApprovalUploadedFileDTO>, T> action) {
+        List<ApprovalUploadedFileDTO> uploaded = upload(files);
+        try {
+            return action.apply(uploaded);
+        } catch (RuntimeException e) {
+            if (!uploaded.isEmpty()) {
+                log.warn("문서 저장 실패로 업로드한 첨부파일 삭제 - {}건", uploaded.size());
+                s3Service.deleteFiles(uploaded.stream().map(ApprovalUploadedFileDTO::savePath).toList());
+            }
+            throw e;
+        }
+    }
+
+    /**
+     * 첨부파일 병렬 업로드
+     *
+     * @param files 첨부파일 목록 (null 허용)
+     * @return 업로드된 파일 정보 (files 와 같은 순서)
+     * @throws IllegalArgumentException    파일 검증 실패 시
+     * @throws ApprovalFileUploadException S3 파일 업로드 실패 시
+     */
+    public List<ApprovalUploadedFileDTO> upload(List<MultipartFile> files) {
+        if (files == null || files.isEmpty()) {
+            return List.of();
+        }
+
+        List<String> s3Keys;
+        try {
+            s3Keys = s3Service.uploadFiles(files, DIRECTORY);
+        } catch (IllegalArgumentException e) {
+            // 파일 검증 실패 (빈 파일, 지원하지 않는 형식 등)는 그대로 전달
+            throw e;
+        } catch (RuntimeException e) {
+            throw new ApprovalFileUploadException(ErrorCode.FILE_UPLOAD_ERROR);
+        }
+
+        List<ApprovalUploadedFileDTO> uploaded = new ArrayList<>();
+        for (int i = 0; i < files.size(); i++) {
+            MultipartFile file = files.get(i);
+            uploaded.add(new ApprovalUploadedFileDTO(file.getOriginalFilename(), s3Keys.get(i), file.getSize()));
+        }
+        return uploaded;
+    }
+}
@@ -2,16 +2,19 @@ package com.c4.hero.domain.approval.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
-import com.c4.hero.common.s3.S3Service;
 import com.c4.hero.domain.approval.dto.ApprovalLineDTO;
 import com.c4.hero.domain.approval.dto.ApprovalReferenceDTO;
+import com.c4.hero.domain.approval.dto.ApprovalUploadedFileDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalActionRequestDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalRequestDTO;
 import com.c4.hero.domain.approval.dto.response.ApprovalActionResponseDTO;
 import com.c4.hero.domain.approval.entity.*;
+import com.c4.hero.domain.approval.event.ApprovalAttachmentsDiscardedEvent;
 import com.c4.hero.domain.approval.event.ApprovalCompletedEvent;
 import com.c4.hero.domain.approval.event.ApprovalRejectedEvent;
 import com.c4.hero.domain.approval.exception.*;
+import com.c4.hero.domain.approval.mapper.ApprovalBulkMapper;
+import com.c4.hero.domain.approval.mapper.ApprovalInboxMapper;
 import com.c4.hero.domain.approval.repository.*;
 import com.c4.hero.domain.employee.repository.EmployeeRepository;
 import com.c4.hero.domain.notification.event.approval.ApprovalNotificationEvent;
@@ -20,12 +23,12 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.multipart.MultipartFile;
 
-import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -53,10 +56,16 @@ import java.util.Optional;
  *   2026/01/02 (민철) 문서번호 생성 동시성 처리 (비관적 락 적용)
  *   2026/01/02 (민철) 메서드 주석 개선
  *   2026/01/02 (혜원) 결재 알림 이벤트 발행 추가
+ *   2026/10/17 (민철) 문서 생성/수정/상신/결재/회수/삭제 시 문서함 인덱스 갱신
+ *   2026/10/17 (민철) 문서 제목/문서번호 변경 시 검색 인덱스 갱신
+ *   2026/10/17 (민철) 문서번호 생성을 노드별 구간 할당 방식으로 변경 (시퀀스 행 락 경합 제거)
+ *   2026/10/17 (민철) 결재선/참조자/첨부파일 일괄 저장 및 임시저장 문서 결재선/참조자 변경분만 반영
+ *   2026/10/17 (민철) 첨부파일 S3 업로드를 트랜잭션 밖(ApprovalAttachmentUploader)으로 분리, 기존 파일은 커밋 이후 삭제
+ *   2026/10/17 (민철) 임시저장 문서 수정/상신 전 작성자/상태 사전 검증 추가 (검증 실패 시 업로드하지 않음)
  * </pre>
  *
  * @author 민철
- * @version 3.0
+ * @version 3.6
  */
 @Slf4j
 @Service
@@ -69,10 +78,12 @@ public class ApprovalCommandService {
     private final ApprovalReferenceRepository referenceRepository;
     private final ApprovalBookmarkRepository bookmarkRepository;
     private final ApprovalTemplateRepository templateRepository;
-    private final ApprovalSequenceRepository sequenceRepository;
     private final ApplicationEventPublisher eventPublisher;
-    private final S3Service s3Service;
     private final EmployeeRepository employeeRepository;
+    private final ApprovalInboxMapper inboxMapper;
+    private final ApprovalSearchIndexer searchIndexer;
+    private final ApprovalDocNoAllocator docNoAllocator;
+    private final ApprovalBulkMapper bulkMapper;
 
 
     /**
@@ -111,7 +122,7 @@ public class ApprovalCommandService {
      * 1. 문서 본문 저장
      * 2. 결재선 저장 (seq=1 기안자는 APPROVED, 나머지는 PENDING)
      * 3. 참조자 저장
-     * 4. 첨부파일 S3 업로드 및 DB 저장
+     * 4. 첨부파일 DB 저장 (S3 업로드는 호출 전 ApprovalAttachmentUploader 에서 완료)
      * 5. 상신(INPROGRESS)인 경우 결재선 확인
      *    5-1. 결재선이 기안자(seq=1)만 있으면 자동 승인 처리
      *    5-2. 문서 번호 생성 및 승인 완료 이벤트 발행
@@ -119,17 +130,16 @@ public class ApprovalCommandService {
      *
      * @param employeeId 기안자 ID
      * @param dto        문서 생성 요청 DTO
-     * @param files      첨부 파일 목록
+     * @param files      업로드된 첨부파일 목록
      * @param status     문서 상태 (DRAFT: 임시저장 / INPROGRESS: 상신)
      * @return 생성된 문서 ID
-     * @throws ApprovalFileUploadException S3 파일 업로드 실패 시
-     * @throws BusinessException           문서번호 생성 실패 시
+     * @throws BusinessException 문서번호 생성 실패 시
      */
     @Transactional
     public Integer createDocument(
             Integer employeeId,
             ApprovalRequestDTO dto,
-            List<MultipartFile> files,
+            List<ApprovalUploadedFileDTO> files,
             String status
     ) {
 
@@ -145,7 +155,7 @@ public class ApprovalCommandService {
         }
 
         if (files != null && !files.isEmpty()) {
-            saveFilesToS3(files, savedDoc);
+            saveAttachments(files, savedDoc);
         }
 
         if ("INPROGRESS".equals(status)) {
@@ -177,6 +187,9 @@ public class ApprovalCommandService {
             }
         }
 
+        syncInbox(savedDoc.getDocId());
+        searchIndexer.index(savedDoc.getDocId(), savedDoc.getTitle(), savedDoc.getDocNo());
+
         return savedDoc.getDocId();
     }
 
@@ -185,39 +198,36 @@ public class ApprovalCommandService {
      * 문서 번호 생성 (Format: HERO-yyyy-00001)
      * <pre>
      * 동시성 제어:
-     * - DB의 비관적 락(Pessimistic Lock)을 사용하여 동시 접근 제어
-     * - SELECT ... FOR UPDATE 쿼리로 다른 트랜잭션의 접근 차단
-     * - 트랜잭션 커밋 시점에 락이 해제됨
-     *
-     * 처리 흐름:
-     * 1. 채번 키 생성 (예: HERO-2026)
-     * 2. 비관적 락으로 시퀀스 조회 (없으면 새로 생성)
-     * 3. 번호 증가 (메모리 상 변경)
-     * 4. 변경 사항 저장 (트랜잭션 커밋 시 DB 반영 및 락 해제)
-     * 5. 포맷팅하여 반환 (HERO-2026-00001)
+     * - 노드별로 미리 예약한 번호 구간에서 메모리 카운터로 발급 (ApprovalDocNoAllocator)
+     * - 구간 예약만 별도의 짧은 트랜잭션에서 시퀀스 행 락을 사용하므로
+     *   상신 트랜잭션끼리 시퀀스 행 락을 두고 직렬화되지 않음
      *
      * 주의사항:
-     * - 이 메서드는 반드시 @Transactional 안에서 호출되어야 락이 유지됨
-     * - 트랜잭션 외부에서 호출 시 락이 즉시 해제되어 동시성 문제 발생 가능
+     * - 노드 재시작 시 미발급 구간, 롤백된 상신의 번호는 재사용하지 않음 (번호 공백 발생 가능)
+     * - 노드 간 발급 순서와 번호 순서는 다를 수 있음
      * </pre>
      *
      * @return 생성된 문서 번호 (예: HERO-2026-00001)
      */
     private String generateDocNo() {
-        String currentYear = LocalDate.now().format(DateTimeFormatter.ofPattern("yyyy"));
-        String seqType = "HERO-" + currentYear;
-
-        ApprovalSequence sequence = sequenceRepository.findBySeqTypeWithLock(seqType)
-                .orElseGet(() -> ApprovalSequence.builder()
-                        .seqType(seqType)
-                        .currentVal(0L)
-                        .build());
-
-        sequence.increment();
+        return docNoAllocator.next();
+    }
 
-        sequenceRepository.save(sequence);
 
-        return seqType + "-" + String.format("%05d", sequence.getCurrentVal());
+    /**
+     * 문서함 인덱스 갱신
+     * <pre>
+     * 문서의 현재 상태/결재선/참조자 기준으로 tbl_approval_inbox 행을 재생성
+     * - 문서함 인덱스는 MyBatis로 갱신하므로 JPA 변경사항을 먼저 flush
+     * - 같은 트랜잭션에서 실행되어 문서 변경과 함께 커밋/롤백됨
+     * </pre>
+     *
+     * @param docId 문서 ID
+     */
+    private void syncInbox(Integer docId) {
+        documentRepository.flush();
+        inboxMapper.deleteInboxByDocId(docId);
+        inboxMapper.insertInboxByDocId(docId);
     }
 
     /**
@@ -253,28 +263,79 @@ public class ApprovalCommandService {
      * - seq>1 (결재자들): PENDING 상태로 저장
      *
      * 이유: 기안자는 문서를 작성하는 순간 승인한 것으로 간주
+     *
+     * 결재선 전체를 multi-row INSERT 한 문장으로 저장
      * </pre>
      *
      * @param docId 문서 ID
      * @param lines 결재선 DTO 목록
      */
     private void saveApprovalLines(Integer docId, List<ApprovalLineDTO> lines) {
-        for (ApprovalLineDTO lineDTO : lines) {
-            String initialStatus = (lineDTO.getSeq() == 1) ? "APPROVED" : "PENDING";
+        List<ApprovalLine> newLines = lines.stream()
+                .map(lineDTO -> toApprovalLine(docId, lineDTO))
+                .toList();
 
-            ApprovalLine.ApprovalLineBuilder builder = ApprovalLine.builder()
-                    .docId(docId)
-                    .approverId(lineDTO.getApproverId())
-                    .seq(lineDTO.getSeq())
-                    .lineStatus(initialStatus);
+        bulkMapper.insertApprovalLines(docId, newLines);
+    }
 
-            if (lineDTO.getSeq() == 1) {
-                builder.processDate(LocalDateTime.now());
-            }
+    /**
+     * 결재선 DTO → 초기 상태 결재선 엔티티 변환
+     *
+     * @param docId   문서 ID
+     * @param lineDTO 결재선 DTO
+     * @return 결재선 엔티티 (저장 전)
+     */
+    private ApprovalLine toApprovalLine(Integer docId, ApprovalLineDTO lineDTO) {
+        String initialStatus = (lineDTO.getSeq() == 1) ? "APPROVED" : "PENDING";
 
-            ApprovalLine line = builder.build();
-            lineRepository.save(line);
+        ApprovalLine.ApprovalLineBuilder builder = ApprovalLine.builder()
+                .docId(docId)
+                .approverId(lineDTO.getApproverId())
+                .seq(lineDTO.getSeq())
+                .lineStatus(initialStatus);
 
+        if (lineDTO.getSeq() == 1) {
+            builder.processDate(LocalDateTime.now());
+        }
+
+        return builder.build();
+    }
+
+    /**
+     * 임시저장 문서의 결재선 변경분 반영
+     * <pre>
+     * (seq, 결재자)가 같은 기존 결재선은 유지하고 초기 상태로만 복원,
+     * 요청에 없는 결재선은 한 번에 삭제, 새 결재선은 한 번에 추가
+     * </pre>
+     *
+     * @param docId 문서 ID
+     * @param lines 요청 결재선 목록 (null/빈 목록이면 전부 삭제)
+     */
+    private void syncApprovalLines(Integer docId, List<ApprovalLineDTO> lines) {
+        Map<String, ApprovalLine> existing = new HashMap<>();
+        for (ApprovalLine line : lineRepository.findByDocIdOrderBySeqAsc(docId)) {
+            existing.put(line.getSeq() + ":" + line.getApproverId(), line);
+        }
+
+        List<ApprovalLineDTO> added = new ArrayList<>();
+        if (lines != null) {
+            for (ApprovalLineDTO lineDTO : lines) {
+                ApprovalLine kept = existing.remove(lineDTO.getSeq() + ":" + lineDTO.getApproverId());
+                if (kept != null) {
+                    kept.resetToInitial();
+                } else {
+                    added.add(lineDTO);
+                }
+            }
+        }
+
+        if (!existing.isEmpty()) {
+            lineRepository.deleteAllByIdInBatch(
+                    existing.values().stream().map(ApprovalLine::getLineId).toList()
+            );
+        }
+        if (!added.isEmpty()) {
+            saveApprovalLines(docId, added);
         }
     }
 
@@ -283,56 +344,108 @@ public class ApprovalCommandService {
      * 참조자 저장
      * <pre>
      * 결재 프로세스에는 참여하지 않지만 문서 완료 시 알림을 받을 직원 목록 저장
+     * 참조자 전체를 multi-row INSERT 한 문장으로 저장
      * </pre>
      *
      * @param docId      문서 ID
      * @param references 참조자 DTO 목록
      */
     private void saveReferences(Integer docId, List<ApprovalReferenceDTO> references) {
-        for (ApprovalReferenceDTO refDTO : references) {
-            ApprovalReference reference = ApprovalReference.builder()
-                    .docId(docId)
-                    .empId(refDTO.getReferencerId())
-                    .build();
+        List<Integer> empIds = references.stream()
+                .map(ApprovalReferenceDTO::getReferencerId)
+                .toList();
+
+        bulkMapper.insertApprovalReferences(docId, empIds);
+    }
+
+    /**
+     * 임시저장 문서의 참조자 변경분 반영
+     * <pre>
+     * 기존 참조자는 유지, 요청에 없는 참조자는 한 번에 삭제, 새 참조자는 한 번에 추가
+     * </pre>
+     *
+     * @param docId      문서 ID
+     * @param references 요청 참조자 목록 (null/빈 목록이면 전부 삭제)
+     */
+    private void syncReferences(Integer docId, List<ApprovalReferenceDTO> references) {
+        Map<Integer, ApprovalReference> existing = new HashMap<>();
+        for (ApprovalReference reference : referenceRepository.findByDocId(docId)) {
+            existing.put(reference.getEmpId(), reference);
+        }
 
-            referenceRepository.save(reference);
+        List<ApprovalReferenceDTO> added = new ArrayList<>();
+        if (references != null) {
+            for (ApprovalReferenceDTO refDTO : references) {
+                if (existing.remove(refDTO.getReferencerId()) == null) {
+                    added.add(refDTO);
+                }
+            }
+        }
+
+        if (!existing.isEmpty()) {
+            referenceRepository.deleteAllByIdInBatch(
+                    existing.values().stream().map(ApprovalReference::getRefId).toList()
+            );
+        }
+        if (!added.isEmpty()) {
+            saveReferences(docId, added);
         }
     }
 
 
     /**
-     * 첨부파일을 S3에 업로드하고 DB에 저장
+     * 업로드된 첨부파일 정보를 DB에 저장
      * <pre>
      * 처리 흐름:
-     * 1. S3에 파일 업로드 (S3Service 호출)
-     * 2. 반환된 S3 Key를 DB에 저장
+     * 1. S3 업로드는 트랜잭션 시작 전 ApprovalAttachmentUploader 에서 완료됨
+     * 2. 반환된 S3 Key를 모아 DB에 한 번에 저장 (multi-row INSERT)
      * 3. 원본 파일명, 파일 크기 등 메타데이터도 함께 저장
      * </pre>
      *
-     * @param files    업로드할 파일 목록
+     * @param files    업로드된 파일 목록
      * @param document 문서 엔티티
-     * @throws ApprovalFileUploadException S3 파일 업로드 실패 시
      */
-    private void saveFilesToS3(List<MultipartFile> files, ApprovalDocument document) {
-        for (MultipartFile file : files) {
-            try {
-                String s3Key = s3Service.uploadFile(file, "approval");
-
-                ApprovalAttachment attachment = ApprovalAttachment.builder()
-                        .document(document)
-                        .originName(file.getOriginalFilename())
-                        .savePath(s3Key)
-                        .fileSize(file.getSize())
-                        .build();
+    private void saveAttachments(List<ApprovalUploadedFileDTO> files, ApprovalDocument document) {
+        List<ApprovalAttachment> attachments = new ArrayList<>();
+        for (ApprovalUploadedFileDTO file : files) {
+            attachments.add(ApprovalAttachment.builder()
+                    .document(document)
+                    .originName(file.originName())
+                    .savePath(file.savePath())
+                    .fileSize(file.fileSize())
+                    .build());
+        }
 
-                attachmentRepository.save(attachment);
+        bulkMapper.insertApprovalAttachments(document.getDocId(), attachments);
+    }
 
-            } catch (BusinessException e) {
-                throw new ApprovalFileUploadException(ErrorCode.FILE_UPLOAD_ERROR);
-            }
+
+    /**
+     * 임시저장 문서 수정/상신 가능 여부 사전 검증
+     * <pre>
+     * 첨부파일 업로드 전에 호출하여 작성자가 아니거나 임시저장 상태가 아닌 요청은 업로드 없이 거절
+     * 수정/상신 트랜잭션에서도 같은 조건을 다시 확인함 (검증 이후 상태가 바뀐 경우 대비)
+     * </pre>
+     *
+     * @param employeeId 사원 ID
+     * @param docId      문서 ID
+     * @throws ApprovalDocumentNotFoundException  문서를 찾을 수 없는 경우
+     * @throws InvalidApprovalStateException      문서 상태가 DRAFT가 아닌 경우
+     * @throws ApprovalDocumentAuthorityException 작성자 본인이 아닌 경우
+     */
+    @Transactional(readOnly = true)
+    public void validateDraftEditable(Integer employeeId, Integer docId) {
+        ApprovalDocument document = documentRepository.findById(docId)
+                .orElseThrow(() -> new ApprovalDocumentNotFoundException(docId));
+
+        if (!"DRAFT".equals(document.getDocStatus())) {
+            throw new InvalidApprovalStateException(ErrorCode.DOCUMENT_NOT_DRAFT);
         }
-    }
 
+        if (!document.getDrafterId().equals(employeeId)) {
+            throw new ApprovalDocumentAuthorityException(ErrorCode.NOT_THE_DRAFTER);
+        }
+    }
 
     /**
      * 임시저장 문서 수정
@@ -343,29 +456,27 @@ public class ApprovalCommandService {
      *
      * 처리 흐름:
      * 1. 문서 본문 업데이트
-     * 2. 기존 결재선 삭제 후 재생성
-     * 3. 기존 참조자 삭제 후 재생성
-     * 4. 기존 첨부파일 삭제 (S3 및 DB)
-     * 5. 새 파일 업로드 (S3)
+     * 2. 결재선 변경분만 반영 (삭제/추가/초기 상태 복원)
+     * 3. 참조자 변경분만 반영 (삭제/추가)
+     * 4. 기존 첨부파일 삭제 (DB, S3 객체는 커밋 이후 삭제)
+     * 5. 새 첨부파일 DB 저장 (S3 업로드는 호출 전 완료)
      * </pre>
      *
      * @param employeeId 사원 ID
      * @param docId      문서 ID
      * @param dto        수정할 내용
-     * @param files      새 첨부파일 목록
+     * @param files      업로드된 새 첨부파일 목록
      * @return 수정된 문서 ID
      * @throws ApprovalDocumentNotFoundException 문서를 찾을 수 없는 경우
      * @throws InvalidApprovalStateException     문서 상태가 DRAFT가 아닌 경우
      * @throws ApprovalLineAuthorityException    작성자 본인이 아닌 경우
-     * @throws ApprovalFileDeleteException       S3 파일 삭제 실패 시
-     * @throws ApprovalFileUploadException       S3 파일 업로드 실패 시
      */
     @Transactional
     public Integer updateDraftDocument(
             Integer employeeId,
             Integer docId,
             ApprovalRequestDTO dto,
-            List<MultipartFile> files
+            List<ApprovalUploadedFileDTO> files
     ) {
 
         ApprovalDocument document = documentRepository.findById(docId)
@@ -382,48 +493,46 @@ public class ApprovalCommandService {
         document.updateTitle(dto.getTitle());
         document.updateDetails(dto.getDetails());
 
-        lineRepository.deleteByDocId(docId);
-        if (dto.getLines() != null && !dto.getLines().isEmpty()) {
-            saveApprovalLines(docId, dto.getLines());
-        }
+        syncApprovalLines(docId, dto.getLines());
 
-        referenceRepository.deleteByDocId(docId);
-        if (dto.getReferences() != null && !dto.getReferences().isEmpty()) {
-            saveReferences(docId, dto.getReferences());
-        }
+        syncReferences(docId, dto.getReferences());
 
         deleteAttachments(docId);
 
         if (files != null && !files.isEmpty()) {
-            saveFilesToS3(files, document);
+            saveAttachments(files, document);
         }
 
+        syncInbox(docId);
+        searchIndexer.index(docId, document.getTitle(), document.getDocNo());
+
         return docId;
     }
 
     /**
-     * 문서의 모든 첨부파일 삭제 (S3 및 DB)
+     * 문서의 모든 첨부파일 삭제 (DB 즉시, S3 커밋 이후)
      * <pre>
      * 처리 흐름:
      * 1. DB에서 첨부파일 목록 조회
-     * 2. 각 파일에 대해 S3에서 삭제
-     * 3. DB에서 첨부파일 레코드 삭제
+     * 2. DB에서 첨부파일 레코드 일괄 삭제
+     * 3. 삭제 이벤트 발행 → 커밋 이후 ApprovalAttachmentEventListener 가 S3 객체 일괄 삭제
+     *    (롤백 시 기존 파일이 남아 있어야 하므로 트랜잭션 안에서 S3를 지우지 않음)
      * </pre>
      *
      * @param docId 문서 ID
-     * @throws ApprovalFileDeleteException S3 파일 삭제 실패 시
      */
     private void deleteAttachments(Integer docId) {
         List<ApprovalAttachment> existingFiles = attachmentRepository.findByDocumentDocId(docId);
-
-        for (ApprovalAttachment attachment : existingFiles) {
-            try {
-                s3Service.deleteFile(attachment.getSavePath());
-            } catch (BusinessException e) {
-                throw new ApprovalFileDeleteException(ErrorCode.FILE_DELETE_ERROR);
-            }
+        if (existingFiles.isEmpty()) {
+            return;
         }
+
         attachmentRepository.deleteByDocumentDocId(docId);
+
+        eventPublisher.publishEvent(new ApprovalAttachmentsDiscardedEvent(
+                docId,
+                existingFiles.stream().map(ApprovalAttachment::getSavePath).toList()
+        ));
     }
 
     /* ========================================== */
@@ -439,9 +548,9 @@ public class ApprovalCommandService {
      *
      * 처리 흐름:
      * 1. 문서 본문 업데이트
-     * 2. 기존 결재선 삭제 후 재생성
-     * 3. 기존 참조자 삭제 후 재생성
-     * 4. 기존 첨부파일 삭제 후 새 파일 업로드
+     * 2. 결재선 변경분만 반영 (삭제/추가/초기 상태 복원)
+     * 3. 참조자 변경분만 반영 (삭제/추가)
+     * 4. 기존 첨부파일 삭제 후 새 첨부파일 DB 저장 (S3 업로드는 호출 전 완료)
      * 5. 결재선 확인
      *    - 결재선이 1단계(기안)만 있으면 자동 승인 처리
      *    - 2단계 이상이면 INPROGRESS 상태로 변경
@@ -454,20 +563,18 @@ public class ApprovalCommandService {
      * @param employeeId 사원 ID
      * @param docId      문서 ID
      * @param dto        수정할 내용
-     * @param files      새 첨부파일 목록
+     * @param files      업로드된 새 첨부파일 목록
      * @return 상신된 문서 ID
      * @throws ApprovalDocumentNotFoundException  문서를 찾을 수 없는 경우
      * @throws InvalidApprovalStateException      문서 상태가 DRAFT가 아닌 경우
      * @throws ApprovalDocumentAuthorityException 작성자 본인이 아닌 경우
-     * @throws ApprovalFileDeleteException        S3 파일 삭제 실패 시
-     * @throws ApprovalFileUploadException        S3 파일 업로드 실패 시
      */
     @Transactional
     public Integer submitDraftDocument(
             Integer employeeId,
             Integer docId,
             ApprovalRequestDTO dto,
-            List<MultipartFile> files
+            List<ApprovalUploadedFileDTO> files
     ) {
 
         ApprovalDocument document = documentRepository.findById(docId)
@@ -484,20 +591,14 @@ public class ApprovalCommandService {
         document.updateTitle(dto.getTitle());
         document.updateDetails(dto.getDetails());
 
-        lineRepository.deleteByDocId(docId);
-        if (dto.getLines() != null && !dto.getLines().isEmpty()) {
-            saveApprovalLines(docId, dto.getLines());
-        }
+        syncApprovalLines(docId, dto.getLines());
 
-        referenceRepository.deleteByDocId(docId);
-        if (dto.getReferences() != null && !dto.getReferences().isEmpty()) {
-            saveReferences(docId, dto.getReferences());
-        }
+        syncReferences(docId, dto.getReferences());
 
         deleteAttachments(docId);
 
         if (files != null && !files.isEmpty()) {
-            saveFilesToS3(files, document);
+            saveAttachments(files, document);
         }
 
         List<ApprovalLine> lines = lineRepository.findByDocIdOrderBySeqAsc(docId);
@@ -525,6 +626,9 @@ public class ApprovalCommandService {
             documentRepository.save(document);
         }
 
+        syncInbox(docId);
+        searchIndexer.index(docId, document.getTitle(), document.getDocNo());
+
         return docId;
     }
 
@@ -593,6 +697,8 @@ public class ApprovalCommandService {
 
             publishApprovalRejectedNotificationEvent(document, request.getComment(), employeeId);
 
+            syncInbox(document.getDocId());
+
             return ApprovalActionResponseDTO.builder()
                     .success(true)
                     .message("반려 처리 완료")
@@ -618,6 +724,9 @@ public class ApprovalCommandService {
 
                 publishApprovalCompletedNotificationEvent(document, employeeId);
 
+                syncInbox(document.getDocId());
+                searchIndexer.index(document.getDocId(), document.getTitle(), document.getDocNo());
+
                 return ApprovalActionResponseDTO.builder()
                         .success(true)
                         .message("최종 승인 완료")
@@ -637,6 +746,8 @@ public class ApprovalCommandService {
 
                 document.changeStatus("INPROGRESS");
 
+                syncInbox(document.getDocId());
+
                 return ApprovalActionResponseDTO.builder()
                         .success(true)
                         .message("승인 처리 완료")
@@ -738,6 +849,8 @@ public class ApprovalCommandService {
         document.changeStatus("DRAFT");
         documentRepository.save(document);
 
+        syncInbox(docId);
+
         publishApprovalRecalledEvent(document);
 
         return "회수가 완료되었습니다.";
@@ -748,10 +861,11 @@ public class ApprovalCommandService {
      * 임시저장 문서 삭제
      * <pre>
      * 처리 흐름:
-     * 1. 첨부파일 삭제 (S3 및 DB)
+     * 1. 첨부파일 삭제 (DB, S3 객체는 커밋 이후 삭제)
      * 2. 결재선 삭제
      * 3. 참조자 삭제
-     * 4. 문서 삭제
+     * 4. 문서함 인덱스/검색 인덱스 삭제
+     * 5. 문서 삭제
      *
      * 주의: 연관된 모든 데이터를 완전히 삭제하며 복구 불가능
      * </pre>
@@ -769,6 +883,10 @@ public class ApprovalCommandService {
 
             referenceRepository.deleteByDocId(docId);
 
+            inboxMapper.deleteInboxByDocId(docId);
+
+            searchIndexer.remove(docId);
+
             documentRepository.deleteById(docId);
 
         } catch (BusinessException ex) {
@@ -0,0 +1,211 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.approval.exception.ApprovalDocumentNumberFailedException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalDocNoAllocator
+ * Description : 문서번호 구간 할당기 (HERO-yyyy-NNNNN)
+ *
+ * 할당 방식
+ *   - 노드별로 연도 시퀀스에서 block-size(기본 50) 개 번호 구간을 별도 트랜잭션으로 예약
+ *   - 예약한 구간은 메모리의 원자적 카운터로 발급 (상신 트랜잭션은 시퀀스 행 락을 잡지 않음)
+ *   - 기동 시 첫 구간을, 발급 중 잔여 번호가 절반 아래로 내려가면 다음 구간을
+ *     전용 스레드에서 미리 예약 → 구간 교체 시 예약해 둔 구간으로 바꾸기만 함
+ *
+ * 커넥션 풀 크기
+ *   - 구간 예약(REQUIRES_NEW)은 상신 트랜잭션과 다른 커넥션을 사용
+ *   - 미리 예약한 구간이 없을 때(연도가 바뀐 뒤 첫 발급, 미리 예약 실패/지연)만 상신 트랜잭션 안에서 예약하며,
+ *     이때 요청 1건이 커넥션 2개를 잡으므로 풀 크기(maximum-pool-size)는 동시 상신 수보다 여유 있게 설정
+ *
+ * 번호 공백(gap) / 순서
+ *   - 노드 재시작/종료 시 발급하지 않은 구간 잔여 번호와 미리 예약한 구간은 폐기됨 (재사용하지 않음)
+ *   - 발급 후 상신 트랜잭션이 롤백된 번호도 재사용하지 않음
+ *   - 노드마다 다른 구간을 쓰므로 번호는 연도 내 유일하지만, 노드 간 발급 순서와 번호 순서는 다를 수 있음
+ *
+ * History
+ *   2026/10/17 (민철) 최초 작성
+ *   2026/10/17 (민철) 다음 구간을 상신 트랜잭션 밖에서 미리 예약
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.1
+ */
+@Slf4j
+@Component
+public class ApprovalDocNoAllocator {
+
+    /** 문서번호 접두어 */
+    private static final String PREFIX = "HERO-";
+
+    private final ApprovalSequenceTxService sequenceTxService;
+    private final int blockSize;
+    private final Clock clock;
+
+    /** 다음 구간 미리 예약 실행기 (상신 트랜잭션과 무관한 스레드) */
+    private final Executor prefetchExecutor;
+
+    /** 현재 발급 중인 구간 */
+    private volatile Block current;
+
+    /** 미리 예약해 둔 다음 구간 (없으면 null) */
+    private volatile Block spare;
+
+    /** 다음 구간 미리 예약 진행 여부 */
+    private final AtomicBoolean prefetching = new AtomicBoolean();
+
+    @Autowired
+    public ApprovalDocNoAllocator(
+            ApprovalSequenceTxService sequenceTxService,
+            @Value("${approval.doc-no.block-size:50}") int blockSize
+    ) {
+        this(sequenceTxService, blockSize, Clock.systemDefaultZone(), Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "approval-doc-no-prefetch");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    ApprovalDocNoAllocator(
+            ApprovalSequenceTxService sequenceTxService,
+            int blockSize,
+            Clock clock,
+            Executor prefetchExecutor
+    ) {
+        this.sequenceTxService = sequenceTxService;
+        this.blockSize = Math.max(blockSize, 1);
+        this.clock = clock;
+        this.prefetchExecutor = prefetchExecutor;
+    }
+
+    /**
+     * 기동 시 첫 구간 예약 (요청 트랜잭션 밖에서 미리 예약, 실패해도 첫 발급 시 다시 예약)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reserveOnStartup() {
+        try {
+            refill(current, seqType());
+        } catch (ApprovalDocumentNumberFailedException e) {
+            log.warn("기동 시 문서번호 구간 예약 실패 - 첫 발급 시 다시 예약", e);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (prefetchExecutor instanceof ExecutorService executorService) {
+            executorService.shutdownNow();
+        }
+    }
+
+    /**
+     * 문서번호 발급
+     *
+     * @return 문서번호 (예: HERO-2026-00001)
+     * @throws ApprovalDocumentNumberFailedException 구간 예약 실패 시
+     */
+    public String next() {
+        String seqType = seqType();
+
+        while (true) {
+            Block block = current;
+            if (block != null && block.seqType().equals(seqType)) {
+                long value = block.next().getAndIncrement();
+                if (value <= block.end()) {
+                    if (block.end() - value < Math.max(blockSize / 2, 1)) {
+                        prefetch(seqType);
+                    }
+                    return seqType + "-" + String.format("%05d", value);
+                }
+            }
+            refill(block, seqType);
+        }
+    }
+
+    /**
+     * 구간 교체 (다른 스레드가 먼저 교체했으면 그대로 사용)
+     * 미리 예약한 같은 연도 구간이 있으면 그 구간으로, 없으면 호출 스레드에서 바로 예약
+     */
+    private synchronized void refill(Block exhausted, String seqType) {
+        if (current != exhausted) return;
+
+        Block next = spare;
+        spare = null;
+        if (next == null || !next.seqType().equals(seqType)) {
+            next = reserve(seqType);
+        }
+        current = next;
+    }
+
+    /**
+     * 다음 구간 미리 예약 (이미 예약했거나 예약 중이면 무시)
+     */
+    private void prefetch(String seqType) {
+        if (spare != null || !prefetching.compareAndSet(false, true)) return;
+
+        try {
+            prefetchExecutor.execute(() -> {
+                try {
+                    Block reserved = reserve(seqType);
+                    synchronized (this) {
+                        if (spare == null) {
+                            spare = reserved;
+                        }
+                    }
+                } catch (ApprovalDocumentNumberFailedException e) {
+                    log.warn("문서번호 다음 구간 미리 예약 실패 seqType={}", seqType, e);
+                } finally {
+                    prefetching.set(false);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            prefetching.set(false);
+        }
+    }
+
+    private Block reserve(String seqType) {
+        long start = reserveStart(seqType);
+        log.info("문서번호 구간 예약 seqType={}, range={}~{}", seqType, start, start + blockSize - 1);
+        return new Block(seqType, new AtomicLong(start), start + blockSize - 1);
+    }
+
+    private long reserveStart(String seqType) {
+        try {
+            return sequenceTxService.reserveBlock(seqType, blockSize);
+        } catch (DataIntegrityViolationException e) {
+            // 연도 첫 예약이 다른 노드와 겹쳐 시퀀스 행 INSERT 가 충돌한 경우 → 생성된 행으로 재시도
+            try {
+                return sequenceTxService.reserveBlock(seqType, blockSize);
+            } catch (DataAccessException retryFailed) {
+                throw new ApprovalDocumentNumberFailedException(ErrorCode.DOC_NO_GENERATION_ERROR);
+            }
+        } catch (DataAccessException e) {
+            throw new ApprovalDocumentNumberFailedException(ErrorCode.DOC_NO_GENERATION_ERROR);
+        }
+    }
+
+    private String seqType() {
+        return PREFIX + LocalDate.now(clock).getYear();
+    }
+
+    /** 예약한 번호 구간 (next ~ end) */
+    private record Block(String seqType, AtomicLong next, long end) {}
+}
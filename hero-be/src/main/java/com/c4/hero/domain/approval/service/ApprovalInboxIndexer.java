@@ -0,0 +1,63 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.domain.approval.mapper.ApprovalInboxMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalInboxIndexer
+ * Description : 기존 문서의 문서함 인덱스(tbl_approval_inbox) 일괄 재생성
+ *
+ * 문서 변경 시의 인덱스 갱신은 ApprovalCommandService 에서 같은 트랜잭션으로 처리
+ * 인덱스 도입 이전 문서는 approval.inbox.reindex-on-startup=true 로 기동 시 1회 재생성
+ *
+ * History
+ *   2026/10/17 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalInboxIndexer {
+
+    /** 재생성 시 한 번에 조회할 문서 수 */
+    private static final int REINDEX_CHUNK_SIZE = 500;
+
+    private final ApprovalInboxMapper inboxMapper;
+
+    @Value("${approval.inbox.reindex-on-startup:false}")
+    private boolean reindexOnStartup;
+
+    /**
+     * 기동 시 전체 문서함 인덱스 재생성 (설정으로 활성화한 경우만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexOnStartup() {
+        if (!reindexOnStartup) return;
+
+        int total = 0;
+        Integer afterDocId = null;
+        List<Integer> chunk;
+        do {
+            chunk = inboxMapper.selectInboxSourceDocIds(afterDocId, REINDEX_CHUNK_SIZE);
+            for (Integer docId : chunk) {
+                inboxMapper.deleteInboxByDocId(docId);
+                inboxMapper.insertInboxByDocId(docId);
+                afterDocId = docId;
+            }
+            total += chunk.size();
+        } while (chunk.size() == REINDEX_CHUNK_SIZE);
+
+        log.info("결재 문서함 인덱스 재생성 완료 documents={}", total);
+    }
+}
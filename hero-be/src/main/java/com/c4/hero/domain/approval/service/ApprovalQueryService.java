@@ -1,9 +1,11 @@
 package com.c4.hero.domain.approval.service;
 
+import com.c4.hero.common.response.CursorResponse;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.common.s3.S3Service;
 import com.c4.hero.domain.approval.dto.ApprovalDefaultLineDTO;
 import com.c4.hero.domain.approval.dto.ApprovalDefaultRefDTO;
+import com.c4.hero.domain.approval.dto.ApprovalInboxCursor;
 import com.c4.hero.domain.approval.dto.response.ApprovalTemplateResponseDTO;
 import com.c4.hero.domain.approval.dto.response.*;
 import com.c4.hero.domain.approval.entity.*;
@@ -18,7 +20,9 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -41,17 +45,23 @@ import java.util.stream.Collectors;
  * 2025/12/26 (민철) 페이지 인덱스 음수 방지 로직 추가
  * 2026/01/01 (민철) 첨부파일 다운로드 URL 생성 추가
  * 2026/01/03 (민철) 메서드 주석 개선
+ * 2026/10/17 (민철) 문서함 커서 페이징 조회 및 탭별 문서 개수 조회 추가
+ * 2026/10/17 (민철) 문서함 검색에 검색 인덱스 토큰 전달 및 정확도 정렬 적용
  *
  * </pre>
  *
  * @author 민철
- * @version 2.4
+ * @version 2.6
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class ApprovalQueryService {
 
+    /** 문서함 탭 목록 (화면 표시 순서) */
+    private static final List<String> INBOX_TABS =
+            List.of("all", "que", "request", "reject", "ref", "end", "draft");
+
     private final ApprovalTemplateRepository templateRepository;
     private final ApprovalBookmarkRepository bookmarkRepository;
     private final ApprovalAttachmentRepository attachmentRepository;
@@ -111,6 +121,10 @@ public class ApprovalQueryService {
      * - 페이지 번호 최소값 1
      * - 페이지 크기 최소값 1, 최대값 100
      *
+     * 검색:
+     * - 제목/문서번호는 검색 인덱스(n-gram 토큰)로 후보를 좁힌 뒤 LIKE 로 확인
+     * - 검색어가 있으면 정확도(일치 > 앞부분 일치 > 부분 일치) 순, 같으면 최신순 정렬
+     *
      * 상태값 변환:
      * - INPROGRESS → 진행중
      * - APPROVED → 승인완료
@@ -148,29 +162,116 @@ public class ApprovalQueryService {
             tab = "all";
         }
 
+        List<String> searchTokens = ApprovalSearchIndexer.tokenize(condition);
+
         List<ApprovalDocumentsResponseDTO> documents = approvalMapper.selectInboxDocuments(
-                employeeId, tab, offset, size, fromDate, toDate, sortBy, condition
+                employeeId, tab, offset, size, fromDate, toDate, sortBy, condition, searchTokens
         );
 
-        documents.forEach(doc -> {
-            if ("INPROGRESS".equals(doc.getDocStatus())) {
-                doc.setDocStatus("진행중");
-            } else if ("APPROVED".equals(doc.getDocStatus())) {
-                doc.setDocStatus("승인완료");
-            } else if ("REJECTED".equals(doc.getDocStatus())) {
-                doc.setDocStatus("반려");
-            } else if ("DRAFT".equals(doc.getDocStatus())) {
-                doc.setDocStatus("임시저장");
-            }
-        });
+        documents.forEach(this::applyStatusLabel);
 
         int totalElements = approvalMapper.countInboxDocuments(
-                employeeId, tab, fromDate, toDate, sortBy, condition
+                employeeId, tab, fromDate, toDate, sortBy, condition, searchTokens
         );
 
         return PageResponse.of(documents, pageIndex, size, totalElements);
     }
 
+    /**
+     * 문서함 커서 조회 메소드 (탭별 필터링, 키셋 페이지네이션)
+     * <pre>
+     * OFFSET 없이 이전 응답의 nextCursor (기안일시, 문서 ID) 다음 행부터 조회하므로
+     * 깊은 페이지도 문서함 인덱스 범위 스캔 한 번으로 처리됨
+     *
+     * - 페이지 크기 최소값 1, 최대값 100
+     * - 전체 개수는 withTotal=true 인 경우에만 조회
+     * - 검색어가 있어도 커서 일관성을 위해 최신순 정렬 유지 (정확도 정렬은 페이지 조회에서 제공)
+     * </pre>
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지 크기
+     * @param tab        탭 구분 (all/que/request/reject/ref/end/draft)
+     * @param fromDate   시작일
+     * @param toDate     종료일
+     * @param sortBy     검색 필드
+     * @param condition  필터 조건
+     * @param withTotal  전체 개수 포함 여부
+     * @param employeeId 사원 ID
+     * @return CursorResponse<ApprovalDocumentsResponseDTO> 문서 목록 (다음 커서 포함)
+     */
+    @Transactional(readOnly = true)
+    public CursorResponse<ApprovalDocumentsResponseDTO> getInboxDocumentsByCursor(
+            String cursor, int size, String tab, String fromDate, String toDate,
+            String sortBy, String condition, boolean withTotal, Integer employeeId) {
+
+        ApprovalInboxCursor after = ApprovalInboxCursor.decode(cursor);
+        int safeSize = Math.min(Math.max(size, 1), 100);
+
+        if (tab == null || tab.isEmpty()) {
+            tab = "all";
+        }
+
+        List<String> searchTokens = ApprovalSearchIndexer.tokenize(condition);
+
+        List<ApprovalDocumentsResponseDTO> rows = approvalMapper.selectInboxDocumentsAfter(
+                employeeId, tab,
+                after == null ? null : after.draftDate(),
+                after == null ? null : after.docId(),
+                safeSize + 1, fromDate, toDate, sortBy, condition, searchTokens
+        );
+
+        rows.forEach(this::applyStatusLabel);
+
+        Long totalElements = withTotal
+                ? (long) approvalMapper.countInboxDocuments(employeeId, tab, fromDate, toDate, sortBy, condition, searchTokens)
+                : null;
+
+        return CursorResponse.of(
+                rows, safeSize,
+                row -> new ApprovalInboxCursor(row.getSortDate(), row.getDocId()).encode(),
+                totalElements
+        );
+    }
+
+    /**
+     * 문서함 탭별 문서 개수 조회
+     * <pre>
+     * 문서함 인덱스를 직원 기준으로 한 번 집계하여 모든 탭의 개수를 반환
+     * 문서가 없는 탭은 0으로 채움
+     * </pre>
+     * @param employeeId 사원 ID
+     * @return 탭 구분 → 문서 개수
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getInboxTabCounts(Integer employeeId) {
+
+        Map<String, Long> counts = new LinkedHashMap<>();
+        for (String tab : INBOX_TABS) {
+            counts.put(tab, 0L);
+        }
+
+        approvalMapper.countInboxTabs(employeeId)
+                .forEach(row -> counts.put(row.getTab(), row.getCount()));
+
+        return counts;
+    }
+
+    /**
+     * 문서 상태값을 화면 표시용 문구로 변환
+     *
+     * @param doc 문서함 문서
+     */
+    private void applyStatusLabel(ApprovalDocumentsResponseDTO doc) {
+        if ("INPROGRESS".equals(doc.getDocStatus())) {
+            doc.setDocStatus("진행중");
+        } else if ("APPROVED".equals(doc.getDocStatus())) {
+            doc.setDocStatus("승인완료");
+        } else if ("REJECTED".equals(doc.getDocStatus())) {
+            doc.setDocStatus("반려");
+        } else if ("DRAFT".equals(doc.getDocStatus())) {
+            doc.setDocStatus("임시저장");
+        }
+    }
+
     /**
      * 문서 상세 조회 메소드
      * <pre>
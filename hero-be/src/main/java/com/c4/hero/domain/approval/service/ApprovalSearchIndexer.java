@@ -0,0 +1,135 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.domain.approval.dto.ApprovalSearchSourceDTO;
+import com.c4.hero.domain.approval.dto.ApprovalSearchTokenDTO;
+import com.c4.hero.domain.approval.mapper.ApprovalSearchMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalSearchIndexer
+ * Description : 결재 문서 검색 인덱스(tbl_approval_search_token) 관리
+ *
+ * 토큰 규칙
+ *   - 소문자로 정규화 후 문자/숫자가 아닌 글자를 기준으로 단어 분리
+ *   - 2글자 이상 단어를 2글자 n-gram 으로 분해 (한글 부분 일치 검색 지원)
+ *   - 1글자 단어는 토큰화하지 않음 (검색 시 LIKE 로만 확인)
+ *
+ * 문서 제목/문서 번호가 바뀔 때 ApprovalCommandService 에서 같은 트랜잭션으로 재생성
+ * 기존 문서는 approval.search.reindex-on-startup=true 로 기동 시 1회 재생성
+ *
+ * History
+ *   2026/10/17 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ApprovalSearchIndexer {
+
+    /** 토큰 출처 필드: 문서 제목 */
+    static final String FIELD_TITLE = "T";
+
+    /** 토큰 출처 필드: 문서 번호 */
+    static final String FIELD_DOC_NO = "N";
+
+    /** 재생성 시 한 번에 조회할 문서 수 */
+    private static final int REINDEX_CHUNK_SIZE = 500;
+
+    private final ApprovalSearchMapper searchMapper;
+
+    @Value("${approval.search.reindex-on-startup:false}")
+    private boolean reindexOnStartup;
+
+    /**
+     * 문서의 검색 토큰 재생성
+     *
+     * @param docId 문서 ID
+     * @param title 문서 제목
+     * @param docNo 문서 번호 (없으면 null)
+     */
+    public void index(Integer docId, String title, String docNo) {
+        searchMapper.deleteSearchTokensByDocId(docId);
+
+        List<ApprovalSearchTokenDTO> tokens = new ArrayList<>();
+        tokenize(title).forEach(token -> tokens.add(new ApprovalSearchTokenDTO(token, FIELD_TITLE)));
+        tokenize(docNo).forEach(token -> tokens.add(new ApprovalSearchTokenDTO(token, FIELD_DOC_NO)));
+
+        if (!tokens.isEmpty()) {
+            searchMapper.insertSearchTokens(docId, tokens);
+        }
+    }
+
+    /**
+     * 문서의 검색 토큰 삭제
+     *
+     * @param docId 문서 ID
+     */
+    public void remove(Integer docId) {
+        searchMapper.deleteSearchTokensByDocId(docId);
+    }
+
+    /**
+     * 기동 시 전체 문서 검색 인덱스 재생성 (설정으로 활성화한 경우만)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void reindexOnStartup() {
+        if (!reindexOnStartup) return;
+
+        int total = 0;
+        Integer afterDocId = null;
+        List<ApprovalSearchSourceDTO> chunk;
+        do {
+            chunk = searchMapper.selectSearchSources(afterDocId, REINDEX_CHUNK_SIZE);
+            for (ApprovalSearchSourceDTO doc : chunk) {
+                index(doc.getDocId(), doc.getTitle(), doc.getDocNo());
+                afterDocId = doc.getDocId();
+            }
+            total += chunk.size();
+        } while (chunk.size() == REINDEX_CHUNK_SIZE);
+
+        log.info("결재 문서 검색 인덱스 재생성 완료 documents={}", total);
+    }
+
+    /**
+     * 문자열을 검색 토큰(2글자 n-gram)으로 분해
+     *
+     * @param text 원문 (null 허용)
+     * @return 중복 제거된 토큰 목록 (등장 순서 유지)
+     */
+    static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+
+        Set<String> tokens = new LinkedHashSet<>();
+        String normalized = text.toLowerCase(Locale.ROOT);
+        int start = -1;
+        for (int i = 0; i <= normalized.length(); i++) {
+            boolean wordChar = i < normalized.length() && Character.isLetterOrDigit(normalized.charAt(i));
+            if (wordChar && start < 0) {
+                start = i;
+            } else if (!wordChar && start >= 0) {
+                for (int j = start; j + 2 <= i; j++) {
+                    tokens.add(normalized.substring(j, j + 2));
+                }
+                start = -1;
+            }
+        }
+        return new ArrayList<>(tokens);
+    }
+}
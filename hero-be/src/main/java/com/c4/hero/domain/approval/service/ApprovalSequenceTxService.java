@@ -0,0 +1,52 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.domain.approval.entity.ApprovalSequence;
+import com.c4.hero.domain.approval.repository.ApprovalSequenceRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <pre>
+ * Class Name  : ApprovalSequenceTxService
+ * Description : 문서번호 구간 예약 전용 트랜잭션 분리(Service)
+ *
+ * 문서 상신 트랜잭션과 분리된 짧은 트랜잭션에서 연도별 시퀀스 행에 락을 걸고
+ * 구간만큼 증가시킨 뒤 바로 커밋하므로, 락 보유 시간은 구간 예약 1회로 한정됨
+ *
+ * History
+ *   2026/10/17 (민철) 최초 작성
+ * </pre>
+ *
+ * @author 민철
+ * @version 1.0
+ */
+@Service
+@RequiredArgsConstructor
+public class ApprovalSequenceTxService {
+
+    private final ApprovalSequenceRepository sequenceRepository;
+
+    /**
+     * 문서번호 구간 예약
+     *
+     * @param seqType 시퀀스 구분 (예: HERO-2026)
+     * @param size    예약할 번호 개수
+     * @return 예약한 구간의 첫 번호 (구간: 첫 번호 ~ 첫 번호 + size - 1)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public long reserveBlock(String seqType, int size) {
+        ApprovalSequence sequence = sequenceRepository.findBySeqTypeWithLock(seqType)
+                .orElseGet(() -> ApprovalSequence.builder()
+                        .seqType(seqType)
+                        .currentVal(0L)
+                        .build());
+
+        long start = sequence.reserve(size);
+
+        sequenceRepository.save(sequence);
+
+        return start;
+    }
+}
@@ -0,0 +1,23 @@
+package com.c4.hero.domain.attendance.dto;
+
+/**
+ * <pre>
+ * Class Name: AttendanceImportEmployeeDTO
+ * Description: 근태 일괄 등록 대상 직원 정보 (부서 / 기본 근무제)
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ *
+ * @param employeeId                  직원 ID
+ * @param departmentId                부서 ID
+ * @param defaultWorkSystemTemplateId 기본 근무제 템플릿 ID
+ */
+public record AttendanceImportEmployeeDTO(
+        Integer employeeId,
+        Integer departmentId,
+        Integer defaultWorkSystemTemplateId
+) {}
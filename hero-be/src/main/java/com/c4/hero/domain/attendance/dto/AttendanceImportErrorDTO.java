@@ -0,0 +1,23 @@
+package com.c4.hero.domain.attendance.dto;
+
+/**
+ * <pre>
+ * Class Name: AttendanceImportErrorDTO
+ * Description: 근태 일괄 등록 행 단위 오류
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ *
+ * @param rowNumber  입력 행 번호 (CSV 는 헤더 다음 줄부터, JSON 은 배열 원소 순서로 1부터)
+ * @param employeeId 입력된 직원 ID (입력 그대로)
+ * @param message    오류 내용
+ */
+public record AttendanceImportErrorDTO(
+        long rowNumber,
+        String employeeId,
+        String message
+) {}
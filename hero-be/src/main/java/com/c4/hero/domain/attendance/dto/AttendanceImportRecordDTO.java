@@ -0,0 +1,38 @@
+package com.c4.hero.domain.attendance.dto;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * <pre>
+ * Class Name: AttendanceImportRecordDTO
+ * Description: 근태 일괄 등록 검증을 통과한 tbl_attendance 반영 행
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ *
+ * @param employeeId           직원 ID
+ * @param departmentId         부서 ID
+ * @param workDate             근무 일자
+ * @param startTime            출근 시각
+ * @param endTime              퇴근 시각 (미입력 시 null)
+ * @param state                근태 상태 (정상/지각/조퇴)
+ * @param workDuration         근무 시간 (분, 퇴근 미입력 시 null)
+ * @param workSystemTypeId     근무제 유형 ID
+ * @param workSystemTemplateId 근무제 템플릿 ID
+ */
+public record AttendanceImportRecordDTO(
+        Integer employeeId,
+        Integer departmentId,
+        LocalDate workDate,
+        LocalTime startTime,
+        LocalTime endTime,
+        String state,
+        Integer workDuration,
+        Integer workSystemTypeId,
+        Integer workSystemTemplateId
+) {}
@@ -0,0 +1,38 @@
+package com.c4.hero.domain.attendance.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: AttendanceImportResultDTO
+ * Description: 근태 일괄 등록 결과
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+@Getter
+@Builder
+public class AttendanceImportResultDTO {
+
+    /** 입력 행 수 */
+    private long totalRows;
+
+    /** 반영 행 수 (같은 직원/근무일 중복 행은 마지막 행만 반영) */
+    private long importedRows;
+
+    /** 오류 행 수 */
+    private long failedRows;
+
+    /** 행 단위 오류 목록 (최대 보고 건수까지) */
+    private List<AttendanceImportErrorDTO> errors;
+
+    /** 오류가 최대 보고 건수를 넘어 목록이 잘렸는지 여부 */
+    private boolean errorsTruncated;
+}
@@ -0,0 +1,43 @@
+package com.c4.hero.domain.attendance.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * Class Name: AttendanceImportRowDTO
+ * Description: 근태 일괄 등록 입력 행 (CSV 한 줄 또는 JSON 배열 원소)
+ *
+ * 형식 오류를 행 단위 오류로 보고하기 위해 모든 값을 입력 그대로(문자열) 보관하고
+ * 검증 단계에서 변환합니다.
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+@AllArgsConstructor
+@NoArgsConstructor
+@Getter
+@Setter
+public class AttendanceImportRowDTO {
+
+    /** 직원 ID */
+    private String employeeId;
+
+    /** 근무 일자 (yyyy-MM-dd) */
+    private String workDate;
+
+    /** 출근 시각 (HH:mm 또는 HH:mm:ss) */
+    private String startTime;
+
+    /** 퇴근 시각 (HH:mm 또는 HH:mm:ss, 미입력 시 출근만 등록) */
+    private String endTime;
+
+    /** 근무제 템플릿 ID (미입력 시 직원 기본 근무제) */
+    private String workSystemTemplateId;
+}
@@ -0,0 +1,31 @@
+package com.c4.hero.domain.attendance.dto;
+
+import java.time.LocalTime;
+
+/**
+ * <pre>
+ * Class Name: WorkSystemTemplateCacheDTO
+ * Description: 근무제 템플릿 레지스트리(메모리 보관)용 불변 DTO
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ *
+ * @param workSystemTemplateId 근무제 템플릿 ID
+ * @param startTime            출근 시간
+ * @param endTime              퇴근 시간
+ * @param breakMinMinutes      휴게 시간 (분)
+ * @param reason               근무제명/사유
+ * @param workSystemTypeId     근무제 유형 ID
+ */
+public record WorkSystemTemplateCacheDTO(
+        Integer workSystemTemplateId,
+        LocalTime startTime,
+        LocalTime endTime,
+        Integer breakMinMinutes,
+        String reason,
+        Integer workSystemTypeId
+) {}
@@ -0,0 +1,29 @@
+package com.c4.hero.domain.attendance.dto;
+
+import java.time.LocalTime;
+
+/**
+ * <pre>
+ * Class Name: WorkSystemTypeCacheDTO
+ * Description: 근무제 유형 레지스트리(메모리 보관)용 불변 DTO
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ *
+ * @param workSystemTypeId 근무제 유형 ID
+ * @param name             근무제 유형명
+ * @param flexStartMin     유연 출근 시작 가능 최소 시각
+ * @param flexStartMax     유연 출근 시작 가능 최대 시각
+ * @param fixedSchedule    고정 근무제 여부
+ */
+public record WorkSystemTypeCacheDTO(
+        Integer workSystemTypeId,
+        String name,
+        LocalTime flexStartMin,
+        LocalTime flexStartMax,
+        Boolean fixedSchedule
+) {}
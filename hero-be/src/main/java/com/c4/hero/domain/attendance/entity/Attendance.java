@@ -26,10 +26,11 @@ import java.time.LocalTime;
  *
  * History
  * 2025/12/10 (이지윤) 최초 작성 및 컨벤션 적용
+ * 2026/10/17 (이지윤) 적용 근무제 템플릿 ID 매핑 추가 (조회 전용)
  * </pre>
  *
  * @author 이지윤
- * @version 1.0
+ * @version 1.1
  */
 @Entity
 @Table(name = "tbl_attendance")
@@ -74,6 +75,10 @@ public class Attendance {
     @JoinColumn(name = "work_system_type_id")
     private WorkSystemType workSystemType;
 
+    /** 적용 근무제 템플릿 ID (조회 전용, WorkSystemRegistry 조회 키) */
+    @Column(name = "work_system_template_id", insertable = false, updatable = false)
+    private Integer workSystemTemplateId;
+
     /** 상태값 변경 메서드 */
     public void changeStatus(String status , Integer workDuration) {
         this.state = status;
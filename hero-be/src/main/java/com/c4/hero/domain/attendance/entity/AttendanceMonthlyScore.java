@@ -0,0 +1,101 @@
+package com.c4.hero.domain.attendance.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Entity Name: AttendanceMonthlyScore
+ * Description: 직원별 월간 근태 집계(근무일수/근무시간/초과근무/상태별 횟수, 근태 점수) 엔티티
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * 2026/10/17 (이지윤) 근무일수/근무시간/초과근무 시간 집계 추가 (급여/대시보드/개인 요약 공용 집계)
+ * </pre>
+ *
+ * 근태 상태가 바뀌는 트랜잭션 안에서 해당 직원/월 행을 tbl_attendance 기준으로 다시 계산하여 저장합니다.
+ * (적재/갱신은 AttendanceScoreMapper, 이 엔티티는 대시보드 JPQL 조회 전용)
+ * 근태 점수 = 100 - 지각×1 - 결근×2 (휴직자 0점 처리는 조회 시 직원 상태 기준으로 적용)
+ *
+ * @author 이지윤
+ * @version 1.1
+ */
+@Entity
+@Table(
+        name = "tbl_attendance_monthly_score",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_attendance_monthly_score", columnNames = {"employee_id", "score_month"})
+        },
+        indexes = {
+                @Index(name = "idx_attendance_monthly_score_month", columnList = "score_month, score")
+        }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Getter
+public class AttendanceMonthlyScore {
+
+    /** 근태 집계 PK (식별자) */
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "attendance_score_id")
+    private Integer attendanceScoreId;
+
+    /** 직원 ID */
+    @Column(name = "employee_id", nullable = false)
+    private Integer employeeId;
+
+    /** 집계 월 (YYYY-MM) */
+    @Column(name = "score_month", nullable = false, length = 7)
+    private String scoreMonth;
+
+    /** 근태 기록 일수 (work_date DISTINCT) */
+    @Column(name = "attendance_days", nullable = false)
+    private Integer attendanceDays;
+
+    /** 근무 완료 일수 (근무 시간이 기록된 work_date DISTINCT) */
+    @Column(name = "worked_days", nullable = false)
+    private Integer workedDays;
+
+    /** 총 근무 시간 (분) */
+    @Column(name = "worked_minutes", nullable = false)
+    private Integer workedMinutes;
+
+    /** 초과 근무 시간 (분, 승인된 초과 근무 기록 기준) */
+    @Column(name = "overtime_minutes", nullable = false)
+    private Integer overtimeMinutes;
+
+    /** 정상 출근 횟수 */
+    @Column(name = "normal_count", nullable = false)
+    private Integer normalCount;
+
+    /** 지각 횟수 */
+    @Column(name = "late_count", nullable = false)
+    private Integer lateCount;
+
+    /** 결근 횟수 */
+    @Column(name = "absent_count", nullable = false)
+    private Integer absentCount;
+
+    /** 조퇴 횟수 */
+    @Column(name = "early_leave_count", nullable = false)
+    private Integer earlyLeaveCount;
+
+    /** 근태 점수 (100 - 지각×1 - 결근×2) */
+    @Column(name = "score", nullable = false)
+    private Integer score;
+
+    /** 마지막 재계산 시각 */
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
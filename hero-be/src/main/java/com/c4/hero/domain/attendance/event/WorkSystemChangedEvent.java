@@ -0,0 +1,15 @@
+package com.c4.hero.domain.attendance.event;
+
+/**
+ * <pre>
+ * Class Name: WorkSystemChangedEvent
+ * Description: 근무제 템플릿/유형 변경 이벤트 (설정 저장 트랜잭션 커밋 후 레지스트리 갱신용)
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+public record WorkSystemChangedEvent() {}
@@ -0,0 +1,53 @@
+package com.c4.hero.domain.attendance.mapper;
+
+import com.c4.hero.domain.attendance.dto.AttendanceImportEmployeeDTO;
+import com.c4.hero.domain.attendance.dto.AttendanceImportRecordDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <pre>
+ * Interface Name: AttendanceImportMapper
+ * Description: 근태 일괄 등록(tbl_attendance 업서트)을 위한 MyBatis Mapper 인터페이스
+ *
+ * tbl_attendance 에는 (employee_id, work_date) 유니크 키가 없으므로
+ * 같은 사원/근무일 기록 UPDATE → 없을 때만 INSERT 두 문장으로 업서트합니다.
+ * 두 문장 모두 같은 값을 다시 반영해도 결과가 같습니다.
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+@Mapper
+public interface AttendanceImportMapper {
+
+    /**
+     * 일괄 등록 대상 직원의 부서 / 기본 근무제 조회
+     *
+     * @param employeeIds 직원 ID 목록
+     * @return 직원 정보 목록
+     */
+    List<AttendanceImportEmployeeDTO> selectImportEmployees(@Param("employeeIds") Collection<Integer> employeeIds);
+
+    /**
+     * 같은 사원/근무일 근태 기록을 입력 값으로 UPDATE
+     *
+     * @param row 반영 행
+     * @return 수정된 행 수
+     */
+    int updateImportedAttendance(@Param("row") AttendanceImportRecordDTO row);
+
+    /**
+     * 같은 사원/근무일 근태 기록이 없을 때만 INSERT
+     *
+     * @param row 반영 행
+     * @return 삽입된 행 수
+     */
+    int insertImportedAttendanceIfAbsent(@Param("row") AttendanceImportRecordDTO row);
+}
@@ -5,6 +5,8 @@ import com.c4.hero.domain.attendance.dto.CorrectionDTO;
 import com.c4.hero.domain.attendance.dto.OvertimeDTO;
 import com.c4.hero.domain.attendance.dto.PersonalDTO;
 import com.c4.hero.domain.attendance.dto.AttSummaryDTO;
+import com.c4.hero.domain.attendance.dto.WorkSystemTemplateCacheDTO;
+import com.c4.hero.domain.attendance.dto.WorkSystemTypeCacheDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
@@ -24,10 +26,13 @@ import java.util.Map;
  * 2025/12/30 (이지윤) 초과 근무 로직에 관한 mapper 추가
  * 2025/12/30 (이지윤) 근무제 수정 변경 로직에 관한 mapper 추가
  * 2026/01/02 (혜원) 알림 감지를 위한 mapper 추가
+ * 2026/10/17 (이지윤) 개인 근태/초과 근무/근태 정정/근무제 변경 이력 커서(키셋) 조회 추가
+ * 2026/10/17 (이지윤) 월간 근태 집계 기준 개인 근태 요약 조회 추가
+ * 2026/10/17 (이지윤) 근무제 템플릿/유형 전체 조회 추가 (WorkSystemRegistry 적재용), 건별 근무제 조회 제거
  * </pre>
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.5
  */
 @Mapper
 public interface AttendanceMapper {
@@ -60,6 +65,21 @@ public interface AttendanceMapper {
 
     );
 
+    /**
+     * 월간 근태 집계(tbl_attendance_monthly_score) 기준으로 개인 근태 요약 정보를 조회합니다.
+     *
+     * <p>조회 기간이 한 달 전체인 경우 {@link #selectPersonalSummary} 대신 사용하며,
+     * 해당 월 집계가 없으면 횟수는 0으로 반환합니다.</p>
+     *
+     * @param employeeId 조회 대상 직원 ID (필수)
+     * @param scoreMonth 집계 월 (YYYY-MM)
+     * @return 개인 근태 요약 정보를 담은 DTO
+     */
+    AttSummaryDTO selectPersonalMonthlySummary(
+            @Param("employeeId") Integer employeeId,
+            @Param("scoreMonth") String scoreMonth
+    );
+
     /**
      * 개인 근태 기록 목록(페이지)을 조회합니다.
      *
@@ -106,6 +126,31 @@ public interface AttendanceMapper {
 
     );
 
+    /**
+     * 개인 근태 기록 목록을 커서(키셋) 방식으로 조회합니다.
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param cursorDate 이전 페이지 마지막 행의 날짜, null이면 첫 페이지
+     * @param cursorId   이전 페이지 마지막 행의 PK, null이면 첫 페이지
+     * @param size      조회할 데이터 개수 (다음 페이지 판단용으로 페이지 크기 + 1)
+     * @param startDate 조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate   조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @return 개인 근태 기록 리스트
+     *
+     * <p>
+     * ※ {@code selectPersonalPage}와 동일한 정렬/기간 필터를 사용하며,
+     *    OFFSET 대신 (날짜, PK) 보다 뒤에 오는 행부터 조회합니다.
+     * </p>
+     */
+    List<PersonalDTO> selectPersonalPageAfter(
+            @Param("employeeId") Integer employeeId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Integer cursorId,
+            @Param("size") Integer size,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     /**
      * 개인 근태 기록 단건 조회 (본인 소유 데이터만)
      *
@@ -174,6 +219,31 @@ public interface AttendanceMapper {
 
     );
 
+    /**
+     * 초과 근무 기록 목록을 커서(키셋) 방식으로 조회합니다.
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param cursorDate 이전 페이지 마지막 행의 날짜, null이면 첫 페이지
+     * @param cursorId   이전 페이지 마지막 행의 PK, null이면 첫 페이지
+     * @param size      조회할 데이터 개수 (다음 페이지 판단용으로 페이지 크기 + 1)
+     * @param startDate 조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate   조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @return 초과 근무 기록 리스트
+     *
+     * <p>
+     * ※ {@code selectOvertimePage}와 동일한 정렬/기간 필터를 사용하며,
+     *    OFFSET 대신 (날짜, PK) 보다 뒤에 오는 행부터 조회합니다.
+     * </p>
+     */
+    List<OvertimeDTO> selectOvertimePageAfter(
+            @Param("employeeId") Integer employeeId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Integer cursorId,
+            @Param("size") Integer size,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     /**
      * 근태 정정(출퇴근 시간 수정) 요청 목록(페이지)을 조회합니다.
      *
@@ -219,6 +289,31 @@ public interface AttendanceMapper {
 
     );
 
+    /**
+     * 근태 정정 요청 목록을 커서(키셋) 방식으로 조회합니다.
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param cursorDate 이전 페이지 마지막 행의 날짜, null이면 첫 페이지
+     * @param cursorId   이전 페이지 마지막 행의 PK, null이면 첫 페이지
+     * @param size      조회할 데이터 개수 (다음 페이지 판단용으로 페이지 크기 + 1)
+     * @param startDate 조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate   조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @return 근태 정정 요청 리스트
+     *
+     * <p>
+     * ※ {@code selectCorrectionPage}와 동일한 정렬/기간 필터를 사용하며,
+     *    OFFSET 대신 (날짜, PK) 보다 뒤에 오는 행부터 조회합니다.
+     * </p>
+     */
+    List<CorrectionDTO> selectCorrectionPageAfter(
+            @Param("employeeId") Integer employeeId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Integer cursorId,
+            @Param("size") Integer size,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     /**
      * 근무제 정정 요청 목록(페이지)을 조회합니다.
      *
@@ -264,6 +359,31 @@ public interface AttendanceMapper {
             @Param("endDate") LocalDate endDate
     );
 
+    /**
+     * 근무제 변경 이력 목록을 커서(키셋) 방식으로 조회합니다.
+     *
+     * @param employeeId 로그인한 사람의 정보 확인
+     * @param cursorDate 이전 페이지 마지막 행의 날짜, null이면 첫 페이지
+     * @param cursorId   이전 페이지 마지막 행의 PK, null이면 첫 페이지
+     * @param size      조회할 데이터 개수 (다음 페이지 판단용으로 페이지 크기 + 1)
+     * @param startDate 조회 시작일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @param endDate   조회 종료일(yyyy-MM-dd), null인 경우 기간 필터 미적용
+     * @return 근무제 변경 이력 리스트
+     *
+     * <p>
+     * ※ {@code selectChangeLogPage}와 동일한 정렬/기간 필터를 사용하며,
+     *    OFFSET 대신 (날짜, PK) 보다 뒤에 오는 행부터 조회합니다.
+     * </p>
+     */
+    List<ChangeLogDTO> selectChangeLogPageAfter(
+            @Param("employeeId") Integer employeeId,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Integer cursorId,
+            @Param("size") Integer size,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate
+    );
+
     void insertOvertime(
             @Param("employeeId") Integer employeeId,
             @Param("workDate") LocalDate workDate,
@@ -283,8 +403,19 @@ public interface AttendanceMapper {
      * </p>
      */
 
-    // (추가) work_system_template_id 또는 work_system_type_id 어떤 값이 와도 이름을 얻기 위한 조회
-    String selectWorkSystemNameByAnyId(@Param("id") int id);
+    /**
+     * 근무제 템플릿 전체 조회 (WorkSystemRegistry 적재용)
+     *
+     * @return 근무제 템플릿 목록
+     */
+    List<WorkSystemTemplateCacheDTO> selectWorkSystemTemplates();
+
+    /**
+     * 근무제 유형 전체 조회 (WorkSystemRegistry 적재용)
+     *
+     * @return 근무제 유형 목록
+     */
+    List<WorkSystemTypeCacheDTO> selectWorkSystemTypes();
 
     // (추가) 근무제 변경 이력 INSERT
     int insertWorkSystemChangeLog(
@@ -303,11 +434,4 @@ public interface AttendanceMapper {
      * [스케줄러] 특정 시점에 출근 기록이 없는 직원 조회 (미체크 알림 발송용)
      */
     List<Map<String, Object>> selectClockInMissingEmployees(@Param("workDate") LocalDate workDate);
-
-    /**
-     * [출근 시 즉시 호출] 특정 직원의 출근 예정 시간 및 현재 근태 ID 조회
-     */
-    Map<String, Object> selectCurrentWorkSystem(@Param("employeeId") Integer employeeId, @Param("workDate") LocalDate workDate);
-
-    Integer selectBreakMinMinutes(@Param("attendanceId") int attendanceId);
 }
\ No newline at end of file
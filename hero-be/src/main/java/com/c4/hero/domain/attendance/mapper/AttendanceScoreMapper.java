@@ -0,0 +1,54 @@
+package com.c4.hero.domain.attendance.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.time.LocalDate;
+import java.util.Collection;
+
+/**
+ * <pre>
+ * Interface Name: AttendanceScoreMapper
+ * Description: 직원별 월간 근태 집계(tbl_attendance_monthly_score) 갱신을 위한 MyBatis Mapper 인터페이스
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * 2026/10/17 (이지윤) 근무일수/근무시간/초과근무/정상 출근 집계 추가
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.1
+ */
+@Mapper
+public interface AttendanceScoreMapper {
+
+    /**
+     * 직원별 월간 근태 집계를 tbl_attendance 기준으로 다시 계산하여 저장합니다.
+     *
+     * <p>갱신 규칙</p>
+     * <ul>
+     *     <li>{@code employeeIds}가 비어 있으면 해당 월 근태 기록이 있는 전체 직원 대상</li>
+     *     <li>이미 집계 행이 있으면 계산 결과로 덮어씀 (같은 호출을 반복해도 결과가 같음)</li>
+     * </ul>
+     *
+     * @param scoreMonth  집계 월 (YYYY-MM)
+     * @param startDate   집계 월 1일
+     * @param endDate     집계 월 말일
+     * @param employeeIds 재계산 대상 직원 ID 목록 (null/빈 목록이면 전체)
+     * @return 반영된 행 수
+     */
+    int upsertScores(
+            @Param("scoreMonth") String scoreMonth,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("employeeIds") Collection<Integer> employeeIds
+    );
+
+    /**
+     * 집계 월의 근태 집계 행 수를 조회합니다.
+     *
+     * @param scoreMonth 집계 월 (YYYY-MM)
+     * @return 집계 행 수
+     */
+    int countScores(@Param("scoreMonth") String scoreMonth);
+}
@@ -8,8 +8,6 @@ import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
-import java.time.LocalDate;
-
 /**
  * <pre>
  * Interface Name: AttendanceDashboardRepository
@@ -17,10 +15,12 @@ import java.time.LocalDate;
  *
  * History
  * 2025/12/17 (이지윤) 근태 점수 대시보드 조회 메서드 작성 및 코딩 컨벤션 적용
+ * 2026/10/17 (이지윤) 근태 이력 GROUP BY 집계 대신 월간 근태 집계 테이블 조회로 변경
  * </pre>
  *
- * 특정 기간 동안의 근태 이력을 기준으로,
- * 직원별 지각/결근 횟수 및 근태 점수를 집계하여 대시보드 데이터를 제공합니다.
+ * 월간 근태 집계(AttendanceMonthlyScore)를 기준으로,
+ * 직원별 지각/결근 횟수 및 근태 점수를 조회하여 대시보드 데이터를 제공합니다.
+ * 집계 행이 없는 직원(해당 월 근태 기록 없음)은 지각/결근 0회, 100점으로 처리합니다.
  * 부서 기준 필터링(전체/특정부서)과 페이지네이션을 지원합니다.
  * 점수 계산 로직:
  * <ul>
@@ -31,7 +31,7 @@ import java.time.LocalDate;
  * </ul>
  *
  * @author 이지윤
- * @version 1.0
+ * @version 1.1
  */
 public interface AttendanceDashboardRepository extends JpaRepository<Attendance, Integer> {
 
@@ -40,17 +40,16 @@ public interface AttendanceDashboardRepository extends JpaRepository<Attendance,
      *
      * <p>조회 조건</p>
      * <ul>
-     *     <li>month 기간의 근태 이력을 기준으로 집계</li>
+     *     <li>{@code scoreMonth} 월간 근태 집계를 기준으로 조회</li>
      *     <li>{@code departmentId}가 null이면 전체 부서, 값이 있으면 해당 부서만 대상</li>
-     *     <li>직원별로 지각 횟수, 결근 횟수, 계산된 점수를 함께 반환</li>
+     *     <li>직원별로 지각 횟수, 결근 횟수, 근태 점수를 함께 반환</li>
      *     <li>휴직자(ON_LEAVE)는 점수 0점으로 반환</li>
      *     <li>재직(ACTIVE) 및 휴직(ON_LEAVE) 상태인 직원만 조회 (퇴직자 제외)</li>
      *     <li>admin 계정 제외</li>
      * </ul>
      *
      * @param departmentId 조회 대상 부서 ID (null인 경우 전체 부서)
-     * @param startDate    조회 시작일 (yyyy-MM-dd)
-     * @param endDate      조회 종료일 (yyyy-MM-dd)
+     * @param scoreMonth   조회 월 (YYYY-MM)
      * @param scoreSort    점수 정렬 방향 ("ASC" 또는 "DESC")
      * @param pageable     페이지/정렬 정보
      * @return 근태 대시보드 DTO의 페이지 결과
@@ -63,45 +62,29 @@ public interface AttendanceDashboardRepository extends JpaRepository<Attendance,
             e.employeeName,
             d.departmentId,
             d.departmentName,
-            coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L),
-            coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L),
-            case when e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE then 0L
-            else
-                100L
-                  - coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L)
-                  - coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L) * 2L
+            coalesce(s.lateCount, 0),
+            coalesce(s.absentCount, 0),
+            case when e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE then 0
+            else coalesce(s.score, 100)
             end
         )
         from Employee e
             join e.employeeDepartment d
-            left join Attendance a
-                on a.employee = e
-               and a.workDate between :startDate and :endDate
+            left join AttendanceMonthlyScore s
+                on s.employeeId = e.employeeId
+               and s.scoreMonth = :scoreMonth
         where (:departmentId is null or d.departmentId = :departmentId)
           and (e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ACTIVE or e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE)
           and e.employeeName != 'admin'
-        group by
-            e.employeeId,
-            e.employeeNumber,
-            e.employeeName,
-            d.departmentId,
-            d.departmentName,
-            e.status
         order by
             case when :scoreSort = 'ASC' then (
-                    case when e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE then 0L
-                    else
-                        100L
-                          - coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L)
-                          - coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L) * 2L
+                    case when e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE then 0
+                    else coalesce(s.score, 100)
                     end
                 ) end asc,
             case when :scoreSort = 'DESC' then (
-                    case when e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE then 0L
-                    else
-                        100L
-                          - coalesce(sum(case when a.state = '지각' then 1L else 0L end), 0L)
-                          - coalesce(sum(case when a.state = '결근' then 1L else 0L end), 0L) * 2L
+                    case when e.status = com.c4.hero.domain.employee.type.EmployeeStatus.ON_LEAVE then 0
+                    else coalesce(s.score, 100)
                     end
                 ) end desc,
             e.employeeId asc
@@ -117,9 +100,8 @@ public interface AttendanceDashboardRepository extends JpaRepository<Attendance,
     )
     Page<AttendanceDashboardDTO> findAttendanceDashboard(
             @Param("departmentId") Integer departmentId,
-            @Param("startDate") LocalDate startDate,
-            @Param("endDate") LocalDate endDate,
+            @Param("scoreMonth") String scoreMonth,
             @Param("scoreSort") String scoreSort,
             Pageable pageable
     );
-}
\ No newline at end of file
+}
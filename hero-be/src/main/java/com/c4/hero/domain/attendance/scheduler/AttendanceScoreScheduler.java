@@ -0,0 +1,43 @@
+package com.c4.hero.domain.attendance.scheduler;
+
+import com.c4.hero.domain.attendance.service.AttendanceScoreService;
+import lombok.RequiredArgsConstructor;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.YearMonth;
+
+/**
+ * <pre>
+ * Class Name: AttendanceScoreScheduler
+ * Description: 직원별 월간 근태 집계를 주기적으로 다시 계산하는 스케줄러
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * 근태 상태 변경 시점의 재계산이 누락된 경우(직접 수정된 데이터 등)를 보정하기 위해
+ * 매일 새벽 이번 달과 지난 달(월말 정정 반영) 집계를 전체 다시 계산합니다.
+ * ShedLock을 사용하여 여러 서버 인스턴스에서 동시에 실행되는 것을 방지합니다.
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class AttendanceScoreScheduler {
+
+    private final AttendanceScoreService attendanceScoreService;
+
+    /**
+     * 매일 00:30 이번 달 / 지난 달 근태 집계 재계산
+     */
+    @Scheduled(cron = "0 30 0 * * *", zone = "Asia/Seoul")
+    @SchedulerLock(name = "refreshAttendanceScores", lockAtLeastFor = "PT1M", lockAtMostFor = "PT10M")
+    public void refreshScores() {
+        YearMonth thisMonth = YearMonth.now();
+        attendanceScoreService.refreshMonth(thisMonth.minusMonths(1));
+        attendanceScoreService.refreshMonth(thisMonth);
+    }
+}
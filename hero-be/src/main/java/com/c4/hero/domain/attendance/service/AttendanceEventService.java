@@ -19,6 +19,8 @@ import java.time.LocalTime;
  * 2025/12/29 (이지윤) 최초 작성 및 컨벤션 적용
  * 2025/12/30 (이지윤) 초과 근무 로직 추가
  * 2025/12/31 (이지윤) 근무제 변경 로직 추가
+ * 2026/10/17 (이지윤) 초과 근무 적재 시 월간 근태 집계 재계산
+ * 2026/10/17 (이지윤) 근무제 변경 이력의 근무제명을 근무제 레지스트리에서 조회
  * </pre>
  *
  * 결재 완료 이벤트에서 전달된 details(JSON) 정보를 기반으로
@@ -33,6 +35,12 @@ public class AttendanceEventService {
     /** 근태 관련 조회/INSERT를 위한 MyBatis Mapper */
     private final AttendanceMapper attendanceMapper;
 
+    /** 월간 근태 집계(초과 근무 시간) 갱신 서비스 */
+    private final AttendanceScoreService attendanceScoreService;
+
+    /** 근무제 템플릿/유형 레지스트리 (근무제명 조회) */
+    private final WorkSystemRegistry workSystemRegistry;
+
     private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
 
     /**
@@ -150,6 +158,7 @@ public class AttendanceEventService {
                     overtimeHours,
                     reason
             );
+            attendanceScoreService.refresh(employeeId, workDate);
 
         } catch (Exception e) {
             throw new IllegalArgumentException("초과 근무 생성 실패: " + e.getMessage(), e);
@@ -207,8 +216,8 @@ public class AttendanceEventService {
             LocalTime endTime = LocalTime.parse(endTimeStr);
 
             // ✅ template_name 채우기(로그 테이블에 문자열이 필요)
-            // - ID가 템플릿ID든 타입ID든 대응 가능하도록, SQL에서 존재하는 쪽을 우선 조회하게 만들 예정(아래 XML 참고)
-            String templateName = attendanceMapper.selectWorkSystemNameByAnyId(workSystemTemplateId);
+            // - ID가 템플릿ID든 타입ID든 대응 가능하도록, 유형명을 우선 조회하고 없으면 템플릿 사유 사용
+            String templateName = workSystemRegistry.nameOfAnyId(workSystemTemplateId);
             if (templateName == null || templateName.isBlank()) {
                 templateName = "근무제 변경";
             }
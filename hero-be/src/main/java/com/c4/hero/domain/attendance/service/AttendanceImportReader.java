@@ -0,0 +1,155 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.dto.AttendanceImportRowDTO;
+import tools.jackson.databind.MappingIterator;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name: AttendanceImportReader
+ * Description: 근태 일괄 등록 입력 스트림을 한 행씩 읽는 리더 (전체를 메모리에 올리지 않음)
+ *
+ * 입력 형식
+ *  - CSV : 첫 줄 헤더 (employeeId, workDate, startTime, endTime, workSystemTemplateId 순서 무관, 대소문자 무시)
+ *          UTF-8 BOM 허용, 빈 줄은 건너뜀, 값의 앞뒤 공백/큰따옴표 제거
+ *  - JSON: 행 객체 배열 ([{"employeeId": 1, "workDate": "2026-10-17", ...}, ...])
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+abstract class AttendanceImportReader implements Closeable {
+
+    /** 마지막으로 읽은 행 번호 (1부터) */
+    protected long rowNumber;
+
+    /**
+     * 입력 형식에 맞는 리더 생성
+     *
+     * @param in           입력 스트림
+     * @param json         JSON 배열 여부 (false 면 CSV)
+     * @param objectMapper JSON 행 변환용 ObjectMapper
+     * @return 행 리더
+     */
+    static AttendanceImportReader open(InputStream in, boolean json, ObjectMapper objectMapper) throws IOException {
+        return json ? new JsonReader(in, objectMapper) : new CsvReader(in);
+    }
+
+    /**
+     * 다음 행 읽기
+     *
+     * @return 다음 행, 더 이상 없으면 null
+     */
+    abstract AttendanceImportRowDTO next() throws IOException;
+
+    long rowNumber() {
+        return rowNumber;
+    }
+
+    /** CSV 리더 */
+    private static final class CsvReader extends AttendanceImportReader {
+
+        private static final List<String> REQUIRED_COLUMNS = List.of("employeeid", "workdate", "starttime");
+
+        private final BufferedReader reader;
+        private final Map<String, Integer> columns = new HashMap<>();
+
+        CsvReader(InputStream in) throws IOException {
+            this.reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+
+            String header = reader.readLine();
+            if (header != null && header.startsWith("\uFEFF")) header = header.substring(1);
+
+            if (header != null) {
+                String[] names = header.split(",", -1);
+                for (int i = 0; i < names.length; i++) {
+                    columns.put(clean(names[i]).toLowerCase(Locale.ROOT), i);
+                }
+            }
+            if (!columns.keySet().containsAll(REQUIRED_COLUMNS)) {
+                throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE,
+                        "CSV 헤더에 employeeId, workDate, startTime 컬럼이 필요합니다.");
+            }
+        }
+
+        @Override
+        AttendanceImportRowDTO next() throws IOException {
+            String line;
+            do {
+                line = reader.readLine();
+                if (line == null) return null;
+            } while (line.isBlank());
+
+            rowNumber++;
+            String[] values = line.split(",", -1);
+            return new AttendanceImportRowDTO(
+                    value(values, "employeeid"),
+                    value(values, "workdate"),
+                    value(values, "starttime"),
+                    value(values, "endtime"),
+                    value(values, "worksystemtemplateid")
+            );
+        }
+
+        private String value(String[] values, String column) {
+            Integer index = columns.get(column);
+            if (index == null || index >= values.length) return null;
+
+            String value = clean(values[index]);
+            return value.isEmpty() ? null : value;
+        }
+
+        private static String clean(String value) {
+            String trimmed = value.trim();
+            if (trimmed.length() >= 2 && trimmed.startsWith("\"") && trimmed.endsWith("\"")) {
+                trimmed = trimmed.substring(1, trimmed.length() - 1).trim();
+            }
+            return trimmed;
+        }
+
+        @Override
+        public void close() throws IOException {
+            reader.close();
+        }
+    }
+
+    /** JSON 배열 리더 */
+    private static final class JsonReader extends AttendanceImportReader {
+
+        private final MappingIterator<AttendanceImportRowDTO> iterator;
+
+        JsonReader(InputStream in, ObjectMapper objectMapper) {
+            this.iterator = objectMapper.readerFor(AttendanceImportRowDTO.class).readValues(in);
+        }
+
+        @Override
+        AttendanceImportRowDTO next() {
+            if (!iterator.hasNextValue()) return null;
+
+            AttendanceImportRowDTO row = iterator.nextValue();
+            rowNumber++;
+            return row;
+        }
+
+        @Override
+        public void close() {
+            iterator.close();
+        }
+    }
+}
@@ -0,0 +1,347 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.dto.AttendanceImportEmployeeDTO;
+import com.c4.hero.domain.attendance.dto.AttendanceImportErrorDTO;
+import com.c4.hero.domain.attendance.dto.AttendanceImportRecordDTO;
+import com.c4.hero.domain.attendance.dto.AttendanceImportResultDTO;
+import com.c4.hero.domain.attendance.dto.AttendanceImportRowDTO;
+import com.c4.hero.domain.attendance.dto.WorkSystemTemplateCacheDTO;
+import com.c4.hero.domain.attendance.mapper.AttendanceImportMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.web.multipart.MultipartFile;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.time.DateTimeException;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * <pre>
+ * Class Name: AttendanceImportService
+ * Description: 근태 일괄 등록 서비스 (출입 시스템 장애 등으로 누락된 출퇴근 기록 재등록)
+ *
+ * 처리 규칙
+ *  - CSV / JSON 입력을 스트림으로 한 행씩 읽어 묶음(CHUNK_SIZE) 단위로 검증 → 반영
+ *  - 행 검증: 직원 존재, 근무 일자(미래 불가), 출/퇴근 시각, 근무제 템플릿 존재 (근무제 레지스트리 기준)
+ *  - 근태 상태/근무 시간은 근무제 템플릿(출근·퇴근 시각, 휴게 시간) 기준으로 한 번에 계산해 반영
+ *  - 묶음마다 별도 트랜잭션으로 반영 (묶음 반영 실패 시 해당 묶음 행만 오류 처리)
+ *  - 같은 묶음 안의 같은 사원/근무일 행은 마지막 행만 반영
+ *  - 모든 묶음 반영 후 반영 대상 사원/월의 월간 근태 집계를 한 번 재계산
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceImportService {
+
+    /** 검증/반영 묶음 크기 */
+    static final int CHUNK_SIZE = 1000;
+
+    /** 응답에 포함할 최대 오류 건수 */
+    static final int MAX_REPORTED_ERRORS = 1000;
+
+    /** 직원 기본 근무제가 없을 때 사용할 근무제 템플릿 ID */
+    private static final int DEFAULT_TEMPLATE_ID = 1;
+
+    private final AttendanceImportMapper attendanceImportMapper;
+    private final AttendanceImportWriter attendanceImportWriter;
+    private final AttendanceScoreService attendanceScoreService;
+    private final WorkSystemRegistry workSystemRegistry;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 근태 일괄 등록
+     *
+     * @param file   CSV 또는 JSON 파일
+     * @param format 입력 형식 (csv/json, 미지정 시 파일 확장자/Content-Type 으로 판단)
+     * @return 등록 결과 (행 단위 오류 포함)
+     */
+    public AttendanceImportResultDTO importAttendances(MultipartFile file, String format) {
+        if (file == null || file.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "등록할 근태 파일이 없습니다.");
+        }
+
+        ImportContext context = new ImportContext();
+        try (InputStream in = file.getInputStream();
+             AttendanceImportReader reader = AttendanceImportReader.open(in, isJson(file, format), objectMapper)) {
+
+            List<NumberedRow> chunk = new ArrayList<>(CHUNK_SIZE);
+            while (true) {
+                AttendanceImportRowDTO row;
+                try {
+                    row = reader.next();
+                } catch (JacksonException e) {
+                    // JSON 구조가 깨지면 이후 행을 신뢰할 수 없으므로 읽기 중단 (이전 행은 그대로 반영)
+                    context.fail(reader.rowNumber() + 1, null, "JSON 형식 오류로 이후 행을 읽지 못했습니다: " + e.getOriginalMessage());
+                    break;
+                }
+                if (row == null) break;
+
+                chunk.add(new NumberedRow(reader.rowNumber(), row));
+                if (chunk.size() == CHUNK_SIZE) {
+                    importChunk(chunk, context);
+                    chunk.clear();
+                }
+            }
+            importChunk(chunk, context);
+
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "근태 파일을 읽을 수 없습니다.");
+        }
+
+        // 월간 근태 집계 재계산 (반영 대상 사원/월 단위로 한 번씩)
+        context.employeesByMonth.forEach((month, employeeIds) -> {
+            List<Integer> ids = new ArrayList<>(employeeIds);
+            for (int from = 0; from < ids.size(); from += CHUNK_SIZE) {
+                attendanceScoreService.refresh(ids.subList(from, Math.min(from + CHUNK_SIZE, ids.size())), month);
+            }
+        });
+
+        log.info("근태 일괄 등록 완료 - 입력 {}건, 반영 {}건, 오류 {}건",
+                context.totalRows, context.importedRows, context.failedRows);
+
+        return AttendanceImportResultDTO.builder()
+                .totalRows(context.totalRows)
+                .importedRows(context.importedRows)
+                .failedRows(context.failedRows)
+                .errors(context.errors)
+                .errorsTruncated(context.failedRows > context.errors.size())
+                .build();
+    }
+
+    /**
+     * 묶음 검증 후 반영
+     */
+    private void importChunk(List<NumberedRow> chunk, ImportContext context) {
+        if (chunk.isEmpty()) return;
+        context.totalRows += chunk.size();
+
+        loadEmployees(chunk, context);
+
+        // 같은 사원/근무일은 마지막 행만 남김
+        Map<String, NumberedRecord> records = new LinkedHashMap<>();
+        for (NumberedRow numbered : chunk) {
+            try {
+                AttendanceImportRecordDTO record = toRecord(numbered.row(), context);
+                String key = record.employeeId() + ":" + record.workDate();
+                records.remove(key);
+                records.put(key, new NumberedRecord(numbered.rowNumber(), record));
+            } catch (IllegalArgumentException e) {
+                context.fail(numbered.rowNumber(), numbered.row().getEmployeeId(), e.getMessage());
+            }
+        }
+        if (records.isEmpty()) return;
+
+        List<AttendanceImportRecordDTO> toWrite = records.values().stream().map(NumberedRecord::record).toList();
+        try {
+            attendanceImportWriter.write(toWrite);
+        } catch (DataAccessException e) {
+            log.error("근태 일괄 등록 묶음 반영 실패 - {}건", toWrite.size(), e);
+            for (NumberedRecord numbered : records.values()) {
+                context.fail(numbered.rowNumber(), String.valueOf(numbered.record().employeeId()), "DB 반영 실패");
+            }
+            return;
+        }
+
+        context.importedRows += toWrite.size();
+        for (AttendanceImportRecordDTO record : toWrite) {
+            context.employeesByMonth
+                    .computeIfAbsent(YearMonth.from(record.workDate()), month -> new HashSet<>())
+                    .add(record.employeeId());
+        }
+    }
+
+    /**
+     * 묶음에 처음 나온 직원만 조회해 직원 정보 보관
+     */
+    private void loadEmployees(List<NumberedRow> chunk, ImportContext context) {
+        Set<Integer> missing = new HashSet<>();
+        for (NumberedRow numbered : chunk) {
+            Integer employeeId = parseIntOrNull(numbered.row().getEmployeeId());
+            if (employeeId != null && context.lookedUpEmployeeIds.add(employeeId)) {
+                missing.add(employeeId);
+            }
+        }
+        if (missing.isEmpty()) return;
+
+        for (AttendanceImportEmployeeDTO employee : attendanceImportMapper.selectImportEmployees(missing)) {
+            context.employees.put(employee.employeeId(), employee);
+        }
+    }
+
+    /**
+     * 입력 행 검증 후 반영 행 생성 (상태/근무 시간 계산)
+     *
+     * @throws IllegalArgumentException 검증 실패 시 (메시지가 행 오류 내용)
+     */
+    private AttendanceImportRecordDTO toRecord(AttendanceImportRowDTO row, ImportContext context) {
+        Integer employeeId = parseIntOrNull(row.getEmployeeId());
+        if (employeeId == null) {
+            throw new IllegalArgumentException("employeeId 누락 또는 형식 오류");
+        }
+        AttendanceImportEmployeeDTO employee = context.employees.get(employeeId);
+        if (employee == null) {
+            throw new IllegalArgumentException("존재하지 않는 직원입니다. employeeId=" + employeeId);
+        }
+
+        LocalDate workDate = parseDate(row.getWorkDate());
+        if (workDate.isAfter(LocalDate.now())) {
+            throw new IllegalArgumentException("미래 일자는 등록할 수 없습니다. workDate=" + workDate);
+        }
+
+        LocalTime startTime = parseTime(row.getStartTime(), "startTime");
+        if (startTime == null) {
+            throw new IllegalArgumentException("startTime 누락");
+        }
+        LocalTime endTime = parseTime(row.getEndTime(), "endTime");
+        if (endTime != null && !endTime.isAfter(startTime)) {
+            throw new IllegalArgumentException("endTime 은 startTime 이후여야 합니다.");
+        }
+
+        Integer templateId;
+        if (row.getWorkSystemTemplateId() == null || row.getWorkSystemTemplateId().isBlank()) {
+            templateId = employee.defaultWorkSystemTemplateId() != null
+                    ? employee.defaultWorkSystemTemplateId()
+                    : DEFAULT_TEMPLATE_ID;
+        } else {
+            templateId = parseIntOrNull(row.getWorkSystemTemplateId());
+            if (templateId == null) {
+                throw new IllegalArgumentException("workSystemTemplateId 형식 오류");
+            }
+        }
+        WorkSystemTemplateCacheDTO template = context.templates
+                .computeIfAbsent(templateId, id -> Optional.ofNullable(workSystemRegistry.findTemplate(id)))
+                .orElseThrow(() -> new IllegalArgumentException(
+                        "존재하지 않는 근무제 템플릿입니다. workSystemTemplateId=" + templateId));
+
+        return new AttendanceImportRecordDTO(
+                employeeId,
+                employee.departmentId(),
+                workDate,
+                startTime,
+                endTime,
+                stateOf(startTime, endTime, template),
+                workDurationOf(startTime, endTime, template),
+                template.workSystemTypeId(),
+                template.workSystemTemplateId()
+        );
+    }
+
+    /**
+     * 근태 상태 계산 (근무제 출근 시각 이후 출근 → 지각, 근무제 퇴근 시각 이전 퇴근 → 조퇴)
+     */
+    private static String stateOf(LocalTime startTime, LocalTime endTime, WorkSystemTemplateCacheDTO template) {
+        LocalTime scheduledStart = template.startTime() != null ? template.startTime() : WorkSystemRegistry.DEFAULT_START_TIME;
+        LocalTime scheduledEnd = template.endTime() != null ? template.endTime() : LocalTime.of(18, 0);
+
+        if (startTime.isAfter(scheduledStart)) return "지각";
+        if (endTime != null && endTime.isBefore(scheduledEnd)) return "조퇴";
+        return "정상";
+    }
+
+    /**
+     * 근무 시간 계산 (분, 휴게 시간 차감 - 휴게 시간보다 짧게 근무했으면 차감하지 않음)
+     */
+    private static Integer workDurationOf(LocalTime startTime, LocalTime endTime, WorkSystemTemplateCacheDTO template) {
+        if (endTime == null) return null;
+
+        int totalMinutes = (int) Duration.between(startTime, endTime).toMinutes();
+        int breakMinutes = template.breakMinMinutes() != null ? template.breakMinMinutes() : 0;
+        return totalMinutes < breakMinutes ? totalMinutes : totalMinutes - breakMinutes;
+    }
+
+    private static boolean isJson(MultipartFile file, String format) {
+        if (format != null && !format.isBlank()) {
+            return "json".equalsIgnoreCase(format.trim());
+        }
+        String filename = file.getOriginalFilename();
+        if (filename != null && filename.toLowerCase(Locale.ROOT).endsWith(".json")) {
+            return true;
+        }
+        String contentType = file.getContentType();
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json");
+    }
+
+    private static Integer parseIntOrNull(String value) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return Integer.valueOf(value.trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static LocalDate parseDate(String value) {
+        if (value == null || value.isBlank()) {
+            throw new IllegalArgumentException("workDate 누락");
+        }
+        try {
+            return LocalDate.parse(value.trim());
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException("workDate 형식 오류 (yyyy-MM-dd): " + value);
+        }
+    }
+
+    private static LocalTime parseTime(String value, String fieldName) {
+        if (value == null || value.isBlank()) return null;
+        try {
+            return LocalTime.parse(value.trim()).truncatedTo(ChronoUnit.SECONDS);
+        } catch (DateTimeException e) {
+            throw new IllegalArgumentException(fieldName + " 형식 오류 (HH:mm 또는 HH:mm:ss): " + value);
+        }
+    }
+
+    /** 입력 행 번호 + 입력 행 */
+    private record NumberedRow(long rowNumber, AttendanceImportRowDTO row) {}
+
+    /** 입력 행 번호 + 반영 행 */
+    private record NumberedRecord(long rowNumber, AttendanceImportRecordDTO record) {}
+
+    /** 일괄 등록 1회 진행 상태 */
+    private static final class ImportContext {
+
+        private final Map<Integer, AttendanceImportEmployeeDTO> employees = new HashMap<>();
+        private final Set<Integer> lookedUpEmployeeIds = new HashSet<>();
+        private final Map<Integer, Optional<WorkSystemTemplateCacheDTO>> templates = new HashMap<>();
+        private final Map<YearMonth, Set<Integer>> employeesByMonth = new TreeMap<>();
+        private final List<AttendanceImportErrorDTO> errors = new ArrayList<>();
+
+        private long totalRows;
+        private long importedRows;
+        private long failedRows;
+
+        private void fail(long rowNumber, String employeeId, String message) {
+            failedRows++;
+            if (errors.size() < MAX_REPORTED_ERRORS) {
+                errors.add(new AttendanceImportErrorDTO(rowNumber, employeeId, message));
+            }
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.domain.attendance.dto.AttendanceImportRecordDTO;
+import com.c4.hero.domain.attendance.mapper.AttendanceImportMapper;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Collection;
+
+/**
+ * <pre>
+ * Class Name: AttendanceImportWriter
+ * Description: 근태 일괄 등록 tbl_attendance 반영기
+ *
+ * 반영 규칙
+ *  - MyBatis BATCH 실행기로 UPDATE / INSERT(없을 때만) 를 각각 JDBC 배치로 묶어 묶음당 트랜잭션 1회에 반영
+ *  - UPDATE 를 먼저 모두 실행한 뒤 INSERT 실행 (같은 문장이 연속되어야 하나의 JDBC 배치로 묶임)
+ *  - 같은 묶음 안에 같은 사원/근무일 행이 없어야 함 (호출 측에서 마지막 행만 남김)
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.0
+ */
+@Component
+public class AttendanceImportWriter {
+
+    private final SqlSessionTemplate batchSqlSession;
+
+    public AttendanceImportWriter(SqlSessionFactory sqlSessionFactory) {
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    /**
+     * 근태 행 일괄 업서트
+     *
+     * @param records 반영 행 목록 (사원/근무일 중복 없음)
+     * @return 실행된 JDBC 배치 수
+     */
+    @Transactional
+    public int write(Collection<AttendanceImportRecordDTO> records) {
+        AttendanceImportMapper mapper = batchSqlSession.getMapper(AttendanceImportMapper.class);
+
+        for (AttendanceImportRecordDTO record : records) {
+            mapper.updateImportedAttendance(record);
+        }
+        for (AttendanceImportRecordDTO record : records) {
+            mapper.insertImportedAttendanceIfAbsent(record);
+        }
+
+        return batchSqlSession.flushStatements().size();
+    }
+}
@@ -0,0 +1,93 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.domain.attendance.mapper.AttendanceScoreMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name: AttendanceScoreService
+ * Description: 직원별 월간 근태 집계(근무일수/근무시간/초과근무/상태별 횟수, 근태 점수) 갱신 서비스
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * 2026/10/17 (이지윤) 급여/대시보드/개인 요약 공용 월간 집계로 확장, 초과 근무 등록 시 재계산
+ * </pre>
+ *
+ * 갱신 시점
+ * <ul>
+ *     <li>출퇴근 / 근태 정정 / 초과 근무 등록 등 근태가 바뀌는 트랜잭션 안에서 해당 직원/월만 재계산</li>
+ *     <li>AttendanceScoreScheduler 가 매일 이번 달/지난 달 전체를 다시 계산 (누락 보정)</li>
+ *     <li>대시보드 조회 월의 집계가 하나도 없으면 조회 전에 해당 월 전체를 계산 (최초 적재)</li>
+ * </ul>
+ *
+ * 조회 측
+ * <ul>
+ *     <li>근태 점수 대시보드 / 개인 근태 요약 (AttendanceService)</li>
+ *     <li>대시보드 이번 달 요약 / 출근 통계 (DashboardMapper)</li>
+ *     <li>급여 초과근무 수당 계산 (PayrollAttendanceMapper)</li>
+ * </ul>
+ *
+ * @author 이지윤
+ * @version 1.1
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AttendanceScoreService {
+
+    private final AttendanceScoreMapper attendanceScoreMapper;
+
+    /**
+     * 근태 상태가 바뀐 직원의 해당 월 집계를 다시 계산합니다.
+     *
+     * @param employeeId 직원 ID
+     * @param workDate   근태 일자
+     */
+    @Transactional
+    public void refresh(Integer employeeId, LocalDate workDate) {
+        refresh(List.of(employeeId), YearMonth.from(workDate));
+    }
+
+    /**
+     * 직원 목록의 해당 월 집계를 다시 계산합니다.
+     *
+     * @param employeeIds 직원 ID 목록
+     * @param month       집계 월
+     */
+    @Transactional
+    public void refresh(Collection<Integer> employeeIds, YearMonth month) {
+        if (employeeIds.isEmpty()) return;
+        attendanceScoreMapper.upsertScores(month.toString(), month.atDay(1), month.atEndOfMonth(), employeeIds);
+    }
+
+    /**
+     * 해당 월 근태 기록이 있는 전체 직원의 집계를 다시 계산합니다.
+     *
+     * @param month 집계 월
+     */
+    @Transactional
+    public void refreshMonth(YearMonth month) {
+        int rows = attendanceScoreMapper.upsertScores(month.toString(), month.atDay(1), month.atEndOfMonth(), null);
+        log.info("월간 근태 집계 재계산 month={}, rows={}", month, rows);
+    }
+
+    /**
+     * 해당 월 집계가 하나도 없으면 전체 직원 집계를 계산합니다.
+     *
+     * @param month 집계 월
+     */
+    @Transactional
+    public void ensureMonth(YearMonth month) {
+        if (attendanceScoreMapper.countScores(month.toString()) == 0) {
+            refreshMonth(month);
+        }
+    }
+}
@@ -2,8 +2,10 @@ package com.c4.hero.domain.attendance.service;
 
 import com.c4.hero.common.exception.EntityNotFoundException;
 import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.common.pagination.KeysetCursor;
 import com.c4.hero.common.pagination.PageCalculator;
 import com.c4.hero.common.pagination.PageInfo;
+import com.c4.hero.common.response.CursorResponse;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.attendance.dto.AttSummaryDTO;
 import com.c4.hero.domain.attendance.dto.AttendanceDashboardDTO;
@@ -56,6 +58,11 @@ import java.util.stream.Collectors;
  * 2025/12/09 (이지윤) 최초 작성
  * 2025/12/24 (이지윤) 대시보드/반기 대시보드/요약 카드 로직 추가 및 컨벤션 정리
  * 2026/01/07 (민철) 근태 이력 수정 로직 추가
+ * 2026/10/17 (이지윤) 근태 점수 대시보드/요약을 월간 근태 집계 기준으로 조회, 근태 이력 수정 시 집계 재계산
+ * 2026/10/17 (이지윤) 개인 근태 이력 목록 커서(키셋) 조회 추가
+ * 2026/10/17 (이지윤) 한 달 전체 개인 근태 요약은 월간 근태 집계 기준으로 조회
+ * 2026/10/17 (이지윤) 근태 이력 수정 시 휴게 시간을 근무제 레지스트리에서 조회
+ * 2026/10/17 (이지윤) 커서 조회 size 를 기본형으로 변경 (null 이면 NPE 발생)
  * </pre>
  *
  * 개인/부서 단위의 근태 이력 및 각종 요약/대시보드 데이터를 조회하는 도메인 서비스입니다.
@@ -66,7 +73,7 @@ import java.util.stream.Collectors;
  * 공통 페이지네이션/기간 보정 로직을 내부에서 처리합니다.
  *
  * @author 이지윤
- * @version 1.2
+ * @version 1.7
  */
 @Slf4j
 @Service
@@ -88,6 +95,12 @@ public class AttendanceService {
     /** 직원 반기 대시보드(요약/월별 통계) 조회용 JPA 레포지토리 */
     private final AttendanceEmployeeDashboardRepository attendanceEmployeeDashboardRepository;
 
+    /** 월간 근태 집계(근태 점수) 갱신 서비스 */
+    private final AttendanceScoreService attendanceScoreService;
+
+    /** 근무제 템플릿 레지스트리 (휴게 시간 조회) */
+    private final WorkSystemRegistry workSystemRegistry;
+
     /** 직원 기본 정보 조회용 JPA 레포지토리 */
     private final EmployeeRepository employeeRepository;
     private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
@@ -127,11 +140,8 @@ public class AttendanceService {
                         ));
             }
 
-            Integer breakMinMinutes = attendanceMapper.selectBreakMinMinutes(attendanceId);
+            int breakMinMinutes = workSystemRegistry.breakMinutesOf(attendanceEntity.getWorkSystemTemplateId());
             log.info("휴게시간{}",breakMinMinutes);
-            if (breakMinMinutes == null) {
-                breakMinMinutes = 0;
-            }
 
             Integer workDuration = null;
             if (correctedStart != null && correctedEnd != null) {
@@ -148,7 +158,13 @@ public class AttendanceService {
             }
 
             attendanceEntity.changeStatus( "정상", workDuration);
-            attendanceEmployeeDashboardRepository.save(attendanceEntity);
+            attendanceEmployeeDashboardRepository.saveAndFlush(attendanceEntity);
+
+            // 월간 근태 집계 재계산 (변경 내용을 flush 한 뒤 같은 트랜잭션에서 집계)
+            attendanceScoreService.refresh(
+                    attendanceEntity.getEmployee().getEmployeeId(),
+                    attendanceEntity.getWorkDate()
+            );
         } catch (JsonProcessingException e) {
             log.error("근태 상세정보 JSON 파싱 실패. drafterId={}, details={}",
                     drafterId, detailsJson, e);
@@ -208,35 +224,33 @@ public class AttendanceService {
     }
 
     /**
-     * "YYYY-MM" 문자열 기준으로 월 단위 대시보드 기간(start~end)을 계산합니다.
+     * 조회 기간이 한 달 전체인지 판단합니다.
      *
-     * <p>규칙</p>
-     * <ul>
-     *     <li>month가 null/공백이면: 현재 월 기준</li>
-     *     <li>start: 해당 월 1일</li>
-     *     <li>end: 해당 월 말일, 단 현재 월인 경우 오늘(LocalDate.now())까지만 사용</li>
-     * </ul>
+     * <p>이번 달은 오늘 이후 근태 기록이 없으므로 1일 ~ 오늘도 한 달 전체로 봅니다.</p>
      *
-     * @param month "YYYY-MM" 형식 문자열 (예: "2025-12"), null/공백 가능
-     * @return 월 단위 시작일/종료일을 담은 DateRange
+     * @param startDate 조회 시작일
+     * @param endDate   조회 종료일
+     * @return 월간 근태 집계로 응답 가능하면 true
      */
-    private DateRange resolveDashboardMonth(String month) {
-        YearMonth ym = (month != null && !month.isBlank())
-                ? YearMonth.parse(month)   // "2025-12"
-                : YearMonth.now();
+    private boolean isWholeMonth(LocalDate startDate, LocalDate endDate) {
+        if (startDate.getDayOfMonth() != 1) return false;
 
-        LocalDate start = ym.atDay(1);
-        LocalDate end = ym.atEndOfMonth();
+        YearMonth month = YearMonth.from(startDate);
+        if (!month.equals(YearMonth.from(endDate))) return false;
 
-        // 현재 월이면 미래 날짜 제외(오늘까지)
-        if (ym.equals(YearMonth.now())) {
-            LocalDate today = LocalDate.now();
-            if (end.isAfter(today)) {
-                end = today;
-            }
-        }
+        return endDate.equals(month.atEndOfMonth()) || !endDate.isBefore(LocalDate.now());
+    }
 
-        return new DateRange(start, end);
+    /**
+     * "YYYY-MM" 문자열 기준으로 근태 점수 집계 월을 확정합니다.
+     *
+     * @param month "YYYY-MM" 형식 문자열 (예: "2025-12"), null/공백이면 현재 월
+     * @return 집계 월
+     */
+    private YearMonth resolveScoreMonth(String month) {
+        return (month != null && !month.isBlank())
+                ? YearMonth.parse(month)
+                : YearMonth.now();
     }
 
     /**
@@ -332,6 +346,7 @@ public class AttendanceService {
      * <ul>
      *     <li>startDate/endDate가 null이면: 이번 달 1일 ~ 오늘 기준으로 조회</li>
      *     <li>그 외에는 전달받은 기간(startDate ~ endDate) 기준으로 조회</li>
+     *     <li>기간이 한 달 전체(1일 ~ 말일, 이번 달은 1일 ~ 오늘)이면 월간 근태 집계에서 조회</li>
      * </ul>
      *
      * @param employeeId 직원 ID (JWT 토큰에서 추출된 값)
@@ -348,6 +363,13 @@ public class AttendanceService {
         LocalDate finalStartDate = range.startDate();
         LocalDate finalEndDate = range.endDate();
 
+        // 한 달 전체 조회는 월간 근태 집계 1행으로 응답
+        if (isWholeMonth(finalStartDate, finalEndDate)) {
+            YearMonth month = YearMonth.from(finalStartDate);
+            attendanceScoreService.ensureMonth(month);
+            return attendanceMapper.selectPersonalMonthlySummary(employeeId, month.toString());
+        }
+
         return attendanceMapper.selectPersonalSummary(
                 employeeId,
                 finalStartDate,
@@ -400,6 +422,46 @@ public class AttendanceService {
         );
     }
 
+    /**
+     * 개인 근태 기록 목록을 커서(키셋) 방식으로 조회합니다.
+     *
+     * @param employeeId 직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지당 데이터 개수
+     * @param startDate  조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate    조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param withTotal  전체 개수 포함 여부 (true일 때만 COUNT 쿼리 수행)
+     * @return 개인 근태 기록 커서 응답 DTO
+     */
+    public CursorResponse<PersonalDTO> getPersonalListByCursor(
+            Integer employeeId,
+            String cursor,
+            int size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean withTotal
+    ) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int safeSize = Math.max(size, 1);
+
+        // 1. 커서 다음 행부터 size + 1 건 조회 (+1 건은 다음 페이지 존재 여부 판단용)
+        List<PersonalDTO> rows = attendanceMapper.selectPersonalPageAfter(
+                employeeId,
+                after == null ? null : after.date(),
+                after == null ? null : after.id(),
+                safeSize + 1,
+                startDate,
+                endDate
+        );
+
+        // 2. 전체 개수는 요청한 경우에만 조회
+        Long totalCount = withTotal
+                ? (long) attendanceMapper.selectPersonalCount(employeeId, startDate, endDate)
+                : null;
+
+        return CursorResponse.of(rows, safeSize, row -> new KeysetCursor(row.getWorkDate(), row.getAttendanceId()).encode(), totalCount);
+    }
+
     /**
      * 초과 근무(연장 근무) 기록 페이지를 조회합니다.
      *
@@ -445,6 +507,46 @@ public class AttendanceService {
         );
     }
 
+    /**
+     * 초과 근무(연장 근무) 기록 목록을 커서(키셋) 방식으로 조회합니다.
+     *
+     * @param employeeId 직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지당 데이터 개수
+     * @param startDate  조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate    조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param withTotal  전체 개수 포함 여부 (true일 때만 COUNT 쿼리 수행)
+     * @return 초과 근무(연장 근무) 기록 커서 응답 DTO
+     */
+    public CursorResponse<OvertimeDTO> getOvertimeListByCursor(
+            Integer employeeId,
+            String cursor,
+            int size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean withTotal
+    ) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int safeSize = Math.max(size, 1);
+
+        // 1. 커서 다음 행부터 size + 1 건 조회 (+1 건은 다음 페이지 존재 여부 판단용)
+        List<OvertimeDTO> rows = attendanceMapper.selectOvertimePageAfter(
+                employeeId,
+                after == null ? null : after.date(),
+                after == null ? null : after.id(),
+                safeSize + 1,
+                startDate,
+                endDate
+        );
+
+        // 2. 전체 개수는 요청한 경우에만 조회
+        Long totalCount = withTotal
+                ? (long) attendanceMapper.selectOvertimeCount(employeeId, startDate, endDate)
+                : null;
+
+        return CursorResponse.of(rows, safeSize, row -> new KeysetCursor(row.getDate(), row.getOvertimeId()).encode(), totalCount);
+    }
+
     /**
      * 근태 정정 요청 이력 페이지를 조회합니다.
      *
@@ -490,6 +592,46 @@ public class AttendanceService {
         );
     }
 
+    /**
+     * 근태 정정 요청 이력 목록을 커서(키셋) 방식으로 조회합니다.
+     *
+     * @param employeeId 직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지당 데이터 개수
+     * @param startDate  조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate    조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param withTotal  전체 개수 포함 여부 (true일 때만 COUNT 쿼리 수행)
+     * @return 근태 정정 요청 이력 커서 응답 DTO
+     */
+    public CursorResponse<CorrectionDTO> getCorrectionListByCursor(
+            Integer employeeId,
+            String cursor,
+            int size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean withTotal
+    ) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int safeSize = Math.max(size, 1);
+
+        // 1. 커서 다음 행부터 size + 1 건 조회 (+1 건은 다음 페이지 존재 여부 판단용)
+        List<CorrectionDTO> rows = attendanceMapper.selectCorrectionPageAfter(
+                employeeId,
+                after == null ? null : after.date(),
+                after == null ? null : after.id(),
+                safeSize + 1,
+                startDate,
+                endDate
+        );
+
+        // 2. 전체 개수는 요청한 경우에만 조회
+        Long totalCount = withTotal
+                ? (long) attendanceMapper.selectCorrectionCount(employeeId, startDate, endDate)
+                : null;
+
+        return CursorResponse.of(rows, safeSize, row -> new KeysetCursor(row.getDate(), row.getCorrectionId()).encode(), totalCount);
+    }
+
     /**
      * 근무제 변경(Change Log) 이력 페이지를 조회합니다.
      *
@@ -535,6 +677,46 @@ public class AttendanceService {
         );
     }
 
+    /**
+     * 근무제 변경(Change Log) 이력 목록을 커서(키셋) 방식으로 조회합니다.
+     *
+     * @param employeeId 직원 ID (JWT 토큰에서 추출된 값)
+     * @param cursor     이전 응답의 nextCursor (null이면 첫 페이지)
+     * @param size       페이지당 데이터 개수
+     * @param startDate  조회 시작일(옵션, null이면 기간 필터 미적용)
+     * @param endDate    조회 종료일(옵션, null이면 기간 필터 미적용)
+     * @param withTotal  전체 개수 포함 여부 (true일 때만 COUNT 쿼리 수행)
+     * @return 근무제 변경(Change Log) 이력 커서 응답 DTO
+     */
+    public CursorResponse<ChangeLogDTO> getChangeLogListByCursor(
+            Integer employeeId,
+            String cursor,
+            int size,
+            LocalDate startDate,
+            LocalDate endDate,
+            boolean withTotal
+    ) {
+        KeysetCursor after = KeysetCursor.decode(cursor);
+        int safeSize = Math.max(size, 1);
+
+        // 1. 커서 다음 행부터 size + 1 건 조회 (+1 건은 다음 페이지 존재 여부 판단용)
+        List<ChangeLogDTO> rows = attendanceMapper.selectChangeLogPageAfter(
+                employeeId,
+                after == null ? null : after.date(),
+                after == null ? null : after.id(),
+                safeSize + 1,
+                startDate,
+                endDate
+        );
+
+        // 2. 전체 개수는 요청한 경우에만 조회
+        Long totalCount = withTotal
+                ? (long) attendanceMapper.selectChangeLogCount(employeeId, startDate, endDate)
+                : null;
+
+        return CursorResponse.of(rows, safeSize, row -> new KeysetCursor(LocalDate.parse(row.getDate()), row.getWorkSystemChangeLogId()).encode(), totalCount);
+    }
+
     /**
      * 부서 근태 현황 페이지를 조회합니다.
      *
@@ -591,7 +773,7 @@ public class AttendanceService {
      *     <li>month: "YYYY-MM" 형식 문자열 (예: "2025-12")</li>
      *     <li>departmentId가 null이면 전체 부서 대상</li>
      *     <li>scoreSort: "ASC" 또는 "DESC" (null/공백이면 "DESC")</li>
-     *     <li>기간은 month 기준으로 시작일/종료일을 계산하여 조회</li>
+     *     <li>month 월간 근태 집계(지각/결근 횟수, 점수)를 기준으로 조회</li>
      * </ul>
      *
      * @param departmentId 부서 ID (null이면 전체 부서)
@@ -608,10 +790,9 @@ public class AttendanceService {
             int page,
             int size
     ) {
-        // 1. 월 -> 기간 변환
-        DateRange range = resolveDashboardMonth(month);
-        LocalDate finalStart = range.startDate();
-        LocalDate finalEnd = range.endDate();
+        // 1. 조회 월 확정 (집계가 없는 월이면 먼저 전체 집계)
+        YearMonth scoreMonth = resolveScoreMonth(month);
+        attendanceScoreService.ensureMonth(scoreMonth);
 
         // 2. scoreSort 기본값 보정
         String finalSort = (scoreSort == null || scoreSort.isBlank()) ? "DESC" : scoreSort;
@@ -624,8 +805,7 @@ public class AttendanceService {
         Page<AttendanceDashboardDTO> pageResult =
                 attendanceDashboardRepository.findAttendanceDashboard(
                         departmentId,
-                        finalStart,
-                        finalEnd,
+                        scoreMonth.toString(),
                         finalSort,
                         pageable
                 );
@@ -645,7 +825,7 @@ public class AttendanceService {
      * <p>규칙</p>
      * <ul>
      *     <li>전체 직원 수: 월과 무관, 부서(departmentId) 기준만 반영</li>
-     *     <li>우수/위험 직원 수: month 기준 기간에 대해 점수를 계산하여 집계</li>
+     *     <li>우수/위험 직원 수: month 월간 근태 집계 점수 기준으로 집계</li>
      * </ul>
      *
      * @param departmentId 부서 ID (null이면 전체 부서)
@@ -661,20 +841,17 @@ public class AttendanceService {
                 departmentId
         );
 
-        // 2. 우수/위험은 월 기준
-        DateRange range = resolveDashboardMonth(month);
-        LocalDate startDate = range.startDate();
-        LocalDate endDate = range.endDate();
+        // 2. 우수/위험은 월 기준 (월간 근태 집계 점수)
+        YearMonth scoreMonth = resolveScoreMonth(month);
+        attendanceScoreService.ensureMonth(scoreMonth);
 
         long excellent = attendanceDashboardSummaryRepository.countExcellentEmployees(
                 departmentId,
-                startDate,
-                endDate
+                scoreMonth.toString()
         );
         long risky = attendanceDashboardSummaryRepository.countRiskyEmployees(
                 departmentId,
-                startDate,
-                endDate
+                scoreMonth.toString()
         );
 
         return new AttendanceDashboardSummaryDTO(total, excellent, risky);
@@ -0,0 +1,254 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.domain.attendance.dto.WorkSystemTemplateCacheDTO;
+import com.c4.hero.domain.attendance.dto.WorkSystemTypeCacheDTO;
+import com.c4.hero.domain.attendance.event.WorkSystemChangedEvent;
+import com.c4.hero.domain.attendance.mapper.AttendanceMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.LocalTime;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Class Name: WorkSystemRegistry
+ * Description: 근무제 템플릿/유형 인메모리 레지스트리
+ *
+ * 적재/갱신
+ *  - 기동 시 tbl_work_system_template / tbl_work_system_type 전체를 한 번에 적재
+ *  - 근태 설정 저장(WorkSystemChangedEvent) 커밋 후 재적재, Redis 채널로 다른 노드에 무효화 전파
+ *  - 다른 노드의 무효화 메시지 수신 시 재적재 (자기 노드 메시지는 무시)
+ *  - 조회 시 없는 템플릿 ID면 1회 재적재 (메시지 유실 대비), 주기적 재적재로 변경 누락 보정
+ *    · 없는 ID 재적재는 MISS_RELOAD_INTERVAL 당 최대 1회 (삭제된/잘못된 ID 반복 조회 시 전체 재적재 폭주 방지)
+ *    · 간격 안의 조회는 락 대기 없이 현재 스냅샷 기준으로 null 반환
+ *
+ * 조회는 불변 스냅샷을 참조하므로 DB 조회 없이 동작합니다.
+ *
+ * History
+ * 2026/10/17 (이지윤) 최초 작성
+ * 2026/10/17 (이지윤) 없는 템플릿 ID 조회 시 재적재 간격 제한
+ * </pre>
+ *
+ * @author 이지윤
+ * @version 1.1
+ */
+@Slf4j
+@Component
+public class WorkSystemRegistry implements MessageListener {
+
+    /** 무효화 전파 채널 */
+    static final String CHANNEL = "attendance:work-system:invalidate";
+
+    /** 템플릿이 없을 때 기본 출근 시각 */
+    public static final LocalTime DEFAULT_START_TIME = LocalTime.of(9, 0);
+
+    /** 없는 템플릿 ID 조회로 인한 재적재 최소 간격 */
+    static final Duration MISS_RELOAD_INTERVAL = Duration.ofSeconds(10);
+
+    private final AttendanceMapper attendanceMapper;
+    private final StringRedisTemplate redisTemplate;
+    private final RedisMessageListenerContainer listenerContainer;
+    private final Clock clock;
+
+    /** 이 노드 식별자 (자기 무효화 메시지 구분용) */
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private volatile Snapshot snapshot = new Snapshot(Map.of(), Map.of());
+
+    /** 마지막 없는 ID 재적재 시각 (epoch ms) */
+    private volatile long lastMissReloadAt = Long.MIN_VALUE;
+
+    @Autowired
+    public WorkSystemRegistry(
+            AttendanceMapper attendanceMapper,
+            StringRedisTemplate redisTemplate,
+            RedisConnectionFactory connectionFactory
+    ) {
+        this(attendanceMapper, redisTemplate, connectionFactory, Clock.systemDefaultZone());
+    }
+
+    WorkSystemRegistry(
+            AttendanceMapper attendanceMapper,
+            StringRedisTemplate redisTemplate,
+            RedisConnectionFactory connectionFactory,
+            Clock clock
+    ) {
+        this.attendanceMapper = attendanceMapper;
+        this.redisTemplate = redisTemplate;
+        this.clock = clock;
+        this.listenerContainer = new RedisMessageListenerContainer();
+        this.listenerContainer.setConnectionFactory(connectionFactory);
+        this.listenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @PostConstruct
+    public void init() {
+        reload();
+        listenerContainer.afterPropertiesSet();
+        listenerContainer.start();
+    }
+
+    /**
+     * 근무제 템플릿 조회
+     *
+     * @param workSystemTemplateId 근무제 템플릿 ID
+     * @return 근무제 템플릿, ID가 null 이거나 존재하지 않으면 null
+     */
+    public WorkSystemTemplateCacheDTO findTemplate(Integer workSystemTemplateId) {
+        if (workSystemTemplateId == null) return null;
+
+        WorkSystemTemplateCacheDTO template = snapshot.templates().get(workSystemTemplateId);
+        if (template == null) {
+            // 다른 노드에서 추가된 템플릿일 수 있으므로 재적재 후 재조회 (간격 제한)
+            template = reloadIfMissing(workSystemTemplateId);
+        }
+        return template;
+    }
+
+    /**
+     * 근무제 템플릿의 휴게 시간 조회
+     *
+     * @param workSystemTemplateId 근무제 템플릿 ID
+     * @return 휴게 시간 (분), 템플릿이 없으면 0
+     */
+    public int breakMinutesOf(Integer workSystemTemplateId) {
+        WorkSystemTemplateCacheDTO template = findTemplate(workSystemTemplateId);
+        return (template == null || template.breakMinMinutes() == null) ? 0 : template.breakMinMinutes();
+    }
+
+    /**
+     * 근무제 템플릿의 출근 시각 조회 (지각 판단 기준)
+     *
+     * @param workSystemTemplateId 근무제 템플릿 ID
+     * @return 출근 시각, 템플릿이 없으면 09:00
+     */
+    public LocalTime startTimeOf(Integer workSystemTemplateId) {
+        WorkSystemTemplateCacheDTO template = findTemplate(workSystemTemplateId);
+        return (template == null || template.startTime() == null) ? DEFAULT_START_TIME : template.startTime();
+    }
+
+    /**
+     * 근무제 유형 ID 또는 템플릿 ID로 근무제 이름 조회 (유형 우선)
+     *
+     * @param id 근무제 유형 ID 또는 템플릿 ID
+     * @return 유형명 또는 템플릿 사유, 둘 다 없으면 null
+     */
+    public String nameOfAnyId(Integer id) {
+        WorkSystemTypeCacheDTO type = snapshot.types().get(id);
+        if (type != null) return type.name();
+
+        WorkSystemTemplateCacheDTO template = findTemplate(id);
+        return template == null ? null : template.reason();
+    }
+
+    /**
+     * 근태 설정 저장 커밋 후 재적재 및 다른 노드 무효화
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onWorkSystemChanged(WorkSystemChangedEvent event) {
+        reload();
+        try {
+            redisTemplate.convertAndSend(CHANNEL, nodeId);
+        } catch (DataAccessException e) {
+            log.warn("근무제 레지스트리 무효화 전파 실패 (다른 노드는 주기 재적재로 반영)", e);
+        }
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 수신
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String sender = new String(message.getBody(), StandardCharsets.UTF_8);
+        if (nodeId.equals(sender)) return;
+
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("근무제 레지스트리 재적재 실패 sender={}", sender, e);
+        }
+    }
+
+    /**
+     * 주기적 재적재 (무효화 메시지 유실 보정)
+     */
+    @Scheduled(
+            fixedDelayString = "${attendance.work-system.reload-interval-ms:600000}",
+            initialDelayString = "${attendance.work-system.reload-interval-ms:600000}"
+    )
+    public void scheduledReload() {
+        try {
+            reload();
+        } catch (DataAccessException e) {
+            log.warn("근무제 레지스트리 주기 재적재 실패", e);
+        }
+    }
+
+    /**
+     * 근무제 템플릿/유형 전체 재적재 (조회 중인 스냅샷은 교체 전까지 그대로 사용)
+     */
+    public synchronized void reload() {
+        Map<Integer, WorkSystemTemplateCacheDTO> templates = attendanceMapper.selectWorkSystemTemplates().stream()
+                .collect(Collectors.toUnmodifiableMap(WorkSystemTemplateCacheDTO::workSystemTemplateId, Function.identity()));
+        Map<Integer, WorkSystemTypeCacheDTO> types = attendanceMapper.selectWorkSystemTypes().stream()
+                .collect(Collectors.toUnmodifiableMap(WorkSystemTypeCacheDTO::workSystemTypeId, Function.identity()));
+
+        snapshot = new Snapshot(templates, types);
+        log.info("근무제 레지스트리 적재 templates={}, types={}", templates.size(), types.size());
+    }
+
+    /**
+     * 없는 템플릿 ID 조회 시 재적재 후 재조회
+     *  - 마지막 재적재 후 MISS_RELOAD_INTERVAL 이 지나지 않았으면 락 없이 null 반환
+     *  - 여러 스레드가 동시에 놓치면 한 스레드만 재적재하고 나머지는 교체된 스냅샷을 재조회
+     */
+    private WorkSystemTemplateCacheDTO reloadIfMissing(Integer workSystemTemplateId) {
+        if (missReloadThrottled()) return null;
+
+        synchronized (this) {
+            WorkSystemTemplateCacheDTO template = snapshot.templates().get(workSystemTemplateId);
+            if (template != null || missReloadThrottled()) return template;
+
+            // 재적재 실패 시에도 간격을 적용하여 DB 장애 중 조회마다 재시도하지 않음
+            lastMissReloadAt = clock.millis();
+            reload();
+            return snapshot.templates().get(workSystemTemplateId);
+        }
+    }
+
+    private boolean missReloadThrottled() {
+        return clock.millis() < lastMissReloadAt + MISS_RELOAD_INTERVAL.toMillis();
+    }
+
+    @PreDestroy
+    public void shutdown() throws Exception {
+        listenerContainer.stop();
+        listenerContainer.destroy();
+    }
+
+    /** 근무제 템플릿/유형 불변 스냅샷 */
+    private record Snapshot(
+            Map<Integer, WorkSystemTemplateCacheDTO> templates,
+            Map<Integer, WorkSystemTypeCacheDTO> types
+    ) {}
+}
@@ -2,13 +2,13 @@ package com.c4.hero.domain.dashboard.controller;
 
 import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.domain.dashboard.dto.WorkSystemTemplateDTO;
-import com.c4.hero.domain.notification.service.AttendanceNotificationEventService;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
 import com.c4.hero.domain.dashboard.dto.ApprovalStatsDTO;
 import com.c4.hero.domain.dashboard.dto.AttendanceStatsDTO;
 import com.c4.hero.domain.dashboard.dto.ClockInRequestDTO;
 import com.c4.hero.domain.dashboard.dto.ClockOutRequestDTO;
 import com.c4.hero.domain.dashboard.dto.ClockStatusDTO;
+import com.c4.hero.domain.dashboard.dto.DashboardSummaryDTO;
 import com.c4.hero.domain.dashboard.dto.MonthlySummaryDTO;
 import com.c4.hero.domain.dashboard.dto.VacationStatsDTO;
 import com.c4.hero.domain.dashboard.dto.WeeklyStatsDTO;
@@ -34,10 +34,12 @@ import java.time.LocalTime;
  *
  * History
  * 2025/12/26 (혜원) 최초 작성
+ * 2026/10/17 (혜원) 출퇴근 알림 호출을 근태 기록 반영 시점(DashboardService)으로 이동
+ * 2026/10/17 (혜원) 대시보드 통합 조회 API 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.2
  */
 @Tag(name = "홈 대시보드", description = "대시보드 통계 API")
 @Slf4j
@@ -47,7 +49,7 @@ import java.time.LocalTime;
 public class DashboardController {
 
     private final DashboardService timeClockService;
-    private final AttendanceNotificationEventService attendanceNotificationEventService;
+
     /**
      * 출근 처리
      * POST /api/dashboard/clock-in
@@ -78,8 +80,8 @@ public class DashboardController {
         dto.setWorkSystemTemplateId(1);
 
         // 출근 처리
+        // (지각 알림은 근태 기록 반영 시점에 DashboardService 가 처리)
         timeClockService.clockIn(employeeId, departmentId, dto);
-        attendanceNotificationEventService.clockIn(employeeId); // 이벤트 서비스 호출
         return ResponseEntity.ok(CustomResponse.success());
     }
 
@@ -110,9 +112,8 @@ public class DashboardController {
         dto.setEndTime(LocalTime.now());
 
         // 퇴근 처리
+        // (근무시간 경고 알림은 근태 기록 반영 시점에 DashboardService 가 처리)
         timeClockService.clockOut(employeeId, dto);
-        attendanceNotificationEventService.clockOut(employeeId); // 이벤트 서비스 호출
-
 
         return ResponseEntity.ok(CustomResponse.success());
     }
@@ -143,6 +144,31 @@ public class DashboardController {
         return ResponseEntity.ok(CustomResponse.success(status));
     }
 
+    /**
+     * 대시보드 통합 조회 (오늘 출퇴근 상태 + 통계 위젯)
+     * GET /api/dashboard/summary
+     *
+     * @param userDetails 인증된 사용자 정보
+     * @return 대시보드 통합 정보
+     */
+    @Operation(summary = "대시보드 통합 조회",
+            description = "오늘 출퇴근 상태와 주간/월간/출근/휴가/결재 통계를 한 번에 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패", content = @Content)
+    })
+    @GetMapping("/summary")
+    public ResponseEntity<CustomResponse<DashboardSummaryDTO>> getDashboardSummary(
+            @AuthenticationPrincipal CustomUserDetails userDetails) {
+
+        Integer employeeId = userDetails.getEmployeeId();
+        log.info("=== 대시보드 통합 조회 API 호출 === 사원ID: {}", employeeId);
+
+        DashboardSummaryDTO summary = timeClockService.getDashboardSummary(employeeId);
+
+        return ResponseEntity.ok(CustomResponse.success(summary));
+    }
+
     /**
      * 이번 주 근무 통계 조회 (실시간 근무 중 시간 포함)
      * GET /api/dashboard/weekly-stats
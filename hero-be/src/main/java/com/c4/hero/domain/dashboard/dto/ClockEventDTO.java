@@ -0,0 +1,81 @@
+package com.c4.hero.domain.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+
+/**
+ * <pre>
+ * Class Name  : ClockEventDTO
+ * Description : 출퇴근 적재 대기열 이벤트 DTO
+ *               출퇴근 요청 수락 시 대기열에 적재되고, 적재기가 모아서 tbl_attendance 에 일괄 반영
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ClockEventDTO {
+
+    /** 출근 이벤트 유형 */
+    public static final String CLOCK_IN = "CLOCK_IN";
+
+    /** 퇴근 이벤트 유형 */
+    public static final String CLOCK_OUT = "CLOCK_OUT";
+
+    /** 이벤트 유형 (CLOCK_IN / CLOCK_OUT) */
+    private String type;
+
+    /** 사원 ID */
+    private Integer employeeId;
+
+    /** 부서 ID (출근 시) */
+    private Integer departmentId;
+
+    /** 근무 일자 */
+    private LocalDate workDate;
+
+    /** 출근 또는 퇴근 시각 (초 단위) */
+    private LocalTime time;
+
+    /** 근무제 타입 ID (출근 시) */
+    private Integer workSystemTypeId;
+
+    /** 근무제 템플릿 ID (출근 시) */
+    private Integer workSystemTemplateId;
+
+    /** 근무시간(분) - 휴게시간 차감 후 (퇴근 시) */
+    private Integer workDuration;
+
+    /**
+     * 출근 INSERT 요청 DTO 로 변환
+     *
+     * @return 출근 요청 DTO
+     */
+    public ClockInRequestDTO toClockInRequest() {
+        return new ClockInRequestDTO(workDate, time, workSystemTypeId, workSystemTemplateId);
+    }
+
+    /**
+     * 퇴근 UPDATE 요청 DTO 로 변환 (근태 ID 없이 사원/근무일 기준으로 갱신)
+     *
+     * @return 퇴근 요청 DTO
+     */
+    public ClockOutRequestDTO toClockOutRequest() {
+        ClockOutRequestDTO dto = new ClockOutRequestDTO();
+        dto.setWorkDate(workDate);
+        dto.setEndTime(time);
+        dto.setWorkDuration(workDuration);
+        return dto;
+    }
+}
@@ -0,0 +1,43 @@
+package com.c4.hero.domain.dashboard.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * Class Name  : DashboardSummaryDTO
+ * Description : 대시보드 홈 통합 응답 DTO (출퇴근 상태 + 통계 위젯)
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+public class DashboardSummaryDTO {
+
+    /** 오늘 출퇴근 상태 */
+    private ClockStatusDTO todayStatus;
+
+    /** 이번 주 근무 통계 */
+    private WeeklyStatsDTO weeklyStats;
+
+    /** 이번 달 요약 통계 */
+    private MonthlySummaryDTO monthlySummary;
+
+    /** 이번 달 출근 통계 */
+    private AttendanceStatsDTO attendanceStats;
+
+    /** 이번 달 휴가 현황 */
+    private VacationStatsDTO vacationStats;
+
+    /** 결재 현황 */
+    private ApprovalStatsDTO approvalStats;
+}
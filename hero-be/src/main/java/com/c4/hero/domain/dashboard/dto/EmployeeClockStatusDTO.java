@@ -0,0 +1,46 @@
+package com.c4.hero.domain.dashboard.dto;
+
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * <pre>
+ * Class Name  : EmployeeClockStatusDTO
+ * Description : 사원 ID 포함 출퇴근 상태 DTO
+ *               오늘 출퇴근 상태 캐시를 DB 기록으로 채울 때 사용
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+public class EmployeeClockStatusDTO extends ClockStatusDTO {
+
+    /** 사원 ID */
+    private Integer employeeId;
+
+    /**
+     * 사원 ID 를 제외한 출퇴근 상태 응답 DTO 로 변환
+     *
+     * @return 출퇴근 상태 DTO
+     */
+    public ClockStatusDTO toStatus() {
+        return new ClockStatusDTO(
+                getAttendanceId(),
+                getWorkDate(),
+                getStartTime(),
+                getEndTime(),
+                getState(),
+                getIsClockedIn(),
+                getIsClockedOut(),
+                getWorkDuration(),
+                getWorkSystemTemplateId()
+        );
+    }
+}
@@ -1,5 +1,6 @@
 package com.c4.hero.domain.dashboard.dto;
 
+import com.c4.hero.domain.attendance.dto.WorkSystemTemplateCacheDTO;
 import lombok.Getter;
 import lombok.Setter;
 import lombok.ToString;
@@ -13,10 +14,11 @@ import java.time.LocalTime;
  *
  * History
  * 2026/01/06 (혜원) 최초 작성
+ * 2026/10/17 (혜원) 근무제 레지스트리 템플릿 변환 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 @Getter
 @Setter
@@ -29,4 +31,23 @@ public class WorkSystemTemplateDTO {
     private Integer breakMinMinutes;       // 휴게 시간 (분)
     private String reason;                 // 사유
     private Integer workSystemTypeId;      // 근무제 타입 ID
+
+    /**
+     * 근무제 레지스트리 템플릿 → 응답 DTO 변환
+     * @param template 근무제 레지스트리 템플릿 (null 허용)
+     * @return 근무제 템플릿 DTO, 템플릿이 null 이면 null
+     */
+    public static WorkSystemTemplateDTO from(WorkSystemTemplateCacheDTO template) {
+        if (template == null) {
+            return null;
+        }
+        WorkSystemTemplateDTO dto = new WorkSystemTemplateDTO();
+        dto.setWorkSystemTemplateId(template.workSystemTemplateId());
+        dto.setStartTime(template.startTime());
+        dto.setEndTime(template.endTime());
+        dto.setBreakMinMinutes(template.breakMinMinutes());
+        dto.setReason(template.reason());
+        dto.setWorkSystemTypeId(template.workSystemTypeId());
+        return dto;
+    }
 }
\ No newline at end of file
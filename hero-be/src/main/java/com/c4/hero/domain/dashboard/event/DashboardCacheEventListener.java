@@ -0,0 +1,69 @@
+package com.c4.hero.domain.dashboard.event;
+
+import com.c4.hero.domain.approval.event.ApprovalCompletedEvent;
+import com.c4.hero.domain.approval.event.ApprovalRejectedEvent;
+import com.c4.hero.domain.dashboard.service.DashboardCache;
+import com.c4.hero.domain.dashboard.service.DashboardWidget;
+import com.c4.hero.domain.notification.event.approval.ApprovalNotificationEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <pre>
+ * Class Name  : DashboardCacheEventListener
+ * Description : 결재 이벤트를 수신하여 기안자의 대시보드 위젯 캐시를 무효화하는 리스너
+ *
+ * 처리 규칙
+ *  - 결재 트랜잭션 커밋 이후 무효화 (커밋 전 무효화 시 이전 값이 다시 적재될 수 있음)
+ *  - 상신 / 반려 / 회수 : 결재 현황 위젯만 무효화
+ *  - 최종 승인 : 휴가 / 근태 신청 승인 반영을 위해 전체 위젯 무효화
+ *    (휴가 반영은 승인 트랜잭션 안에서 처리되어 커밋 이후 조회 시 반영되어 있음,
+ *     커밋 이후 처리되는 근태 신청 반영과 순서가 어긋나 이전 값이 적재되어도 캐시 TTL 이내로 제한됨)
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Component
+@RequiredArgsConstructor
+public class DashboardCacheEventListener {
+
+    private final DashboardCache dashboardCache;
+
+    /**
+     * 결재 상신 (결재 요청 도착)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApprovalRequested(ApprovalNotificationEvent.ApprovalRequestEvent event) {
+        dashboardCache.evict(event.getDrafterId(), DashboardWidget.APPROVAL_WIDGETS);
+    }
+
+    /**
+     * 결재 최종 승인 (기안자 단독 결재 포함)
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApprovalCompleted(ApprovalCompletedEvent event) {
+        dashboardCache.evict(event.getDrafterId(), DashboardWidget.APPROVAL_COMPLETED_WIDGETS);
+    }
+
+    /**
+     * 결재 반려
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApprovalRejected(ApprovalRejectedEvent event) {
+        dashboardCache.evict(event.getDrafterId(), DashboardWidget.APPROVAL_WIDGETS);
+    }
+
+    /**
+     * 결재 회수
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onApprovalRecalled(ApprovalNotificationEvent.ApprovalRecalledEvent event) {
+        dashboardCache.evict(event.getDrafterId(), DashboardWidget.APPROVAL_WIDGETS);
+    }
+}
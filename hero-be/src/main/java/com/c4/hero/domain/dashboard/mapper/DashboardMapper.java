@@ -5,6 +5,7 @@ import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
 import java.time.LocalDate;
+import java.util.List;
 
 /**
  * <pre>
@@ -13,10 +14,13 @@ import java.time.LocalDate;
  *
  * History
  * 2025/12/26 (혜원) 최초 작성
+ * 2026/10/17 (혜원) 출퇴근 대기열 일괄 적재용 쿼리 추가
+ * 2026/10/17 (혜원) 이번 달 요약/출근 통계를 월간 근태 집계 기준으로 조회
+ * 2026/10/17 (혜원) 근무제 템플릿 조회 제거 (WorkSystemRegistry 사용)
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.3
  */
 @Mapper
 public interface DashboardMapper {
@@ -34,8 +38,23 @@ public interface DashboardMapper {
             @Param("dto") ClockInRequestDTO dto
     );
 
+    /**
+     * 출근 기록 INSERT (같은 사원/근무일 기록이 없을 때만)
+     * 출퇴근 대기열 적재기가 재시도해도 중복 기록이 생기지 않도록 사용
+     * @param employeeId 사원 ID
+     * @param departmentId 부서 ID
+     * @param dto 출근 요청 정보
+     * @return 삽입된 행 수 (이미 있으면 0)
+     */
+    int insertClockInIfAbsent(
+            @Param("employeeId") Integer employeeId,
+            @Param("departmentId") Integer departmentId,
+            @Param("dto") ClockInRequestDTO dto
+    );
+
     /**
      * 퇴근 시각 UPDATE
+     * attendanceId 가 없으면 사원/근무일 기준으로 갱신 (출퇴근 대기열 적재 시)
      * @param employeeId 사원 ID
      * @param dto 퇴근 요청 정보
      * @return 수정된 행 수
@@ -45,14 +64,6 @@ public interface DashboardMapper {
             @Param("dto") ClockOutRequestDTO dto
     );
 
-    /**
-
-     * 근무제 템플릿 정보 조회
-     * @param workSystemTemplateId 근무제 템플릿 ID
-     * @return 근무제 템플릿 정보
-     */
-    WorkSystemTemplateDTO selectWorkSystemTemplate(@Param("workSystemTemplateId") Integer workSystemTemplateId);
-
     /**
      * 오늘 출퇴근 상태 조회
      * @param employeeId 사원 ID
@@ -64,6 +75,13 @@ public interface DashboardMapper {
             @Param("workDate") LocalDate workDate
     );
 
+    /**
+     * 근무일 전체 사원 출퇴근 상태 조회 (오늘 출퇴근 상태 캐시 적재용)
+     * @param workDate 근무 일자
+     * @return 사원별 출퇴근 상태 목록
+     */
+    List<EmployeeClockStatusDTO> selectTodayStatuses(@Param("workDate") LocalDate workDate);
+
     /**
      * 이번 주 근무 통계 조회 (실시간 근무 중인 시간 포함)
      * @param employeeId 사원 ID
@@ -78,7 +96,7 @@ public interface DashboardMapper {
     );
 
     /**
-     * 이번 달 요약 통계 조회
+     * 이번 달 요약 통계 조회 (근무일수는 월간 근태 집계 기준)
      * @param employeeId 사원 ID
      * @param startDate 시작 날짜 (이번 달 1일)
      * @param endDate 종료 날짜 (이번 달 말일)
@@ -91,7 +109,7 @@ public interface DashboardMapper {
     );
 
     /**
-     * 출근 통계 조회 (이번 달)
+     * 출근 통계 조회 (이번 달, 월간 근태 집계 기준)
      * @param employeeId 사원 ID
      * @param startDate 시작 날짜 (이번 달 1일)
      * @param endDate 종료 날짜 (이번 달 말일)
@@ -0,0 +1,173 @@
+package com.c4.hero.domain.dashboard.scheduler;
+
+import com.c4.hero.domain.dashboard.dto.ClockEventDTO;
+import com.c4.hero.domain.dashboard.service.ClockEventQueue;
+import com.c4.hero.domain.dashboard.service.ClockEventWriter;
+import com.c4.hero.domain.dashboard.service.DashboardCache;
+import com.c4.hero.domain.dashboard.service.DashboardWidget;
+import com.c4.hero.domain.notification.service.AttendanceNotificationEventService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name  : ClockEventFlushScheduler
+ * Description : 출퇴근 이벤트 대기열을 주기적으로 tbl_attendance 에 반영하는 스케줄러
+ *
+ * 처리 규칙
+ *  - ShedLock 으로 전체 노드 중 1곳에서만 대기열 소비 (적재 순서 유지)
+ *  - 1주기 실행 시간을 락 보유 시간(PT30S)보다 짧은 RUN_TIME_BUDGET 으로 제한
+ *  - 대기열 앞쪽 이벤트를 묶음으로 가져옴(claim) → DB 반영 커밋 → 묶음 삭제(ack)
+ *    (락이 만료되어 다른 노드가 함께 소비해도 묶음이 겹치지 않음,
+ *     ack 전 장애 시 CLAIM_TIMEOUT 후 묶음을 대기열로 되돌려 다시 반영하며, 반영은 멱등)
+ *  - 묶음 반영 실패 시 건별로 다시 반영하고, 건별 실패 이벤트는 실패 대기열로 이동
+ *  - DB 연결 장애 등 일시적 오류는 대기열을 그대로 두고 다음 주기에 재시도
+ *  - 반영을 마친 이벤트는 사원별 대시보드 근태 위젯 캐시 무효화 후 근태 알림(지각 / 근무시간 경고) 처리
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * 2026/10/17 (혜원) 반영 완료 시 대시보드 근태 위젯 캐시 무효화 추가
+ * 2026/10/17 (혜원) 지각 판단 시 이벤트의 근무제 템플릿 ID 전달
+ * 2026/10/17 (혜원) 묶음 원자 이동(claim/ack) 방식으로 소비, 1주기 실행 시간 제한
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.3
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClockEventFlushScheduler {
+
+    /** 1회 반영 최대 이벤트 수 */
+    private static final int CHUNK_SIZE = 500;
+
+    /** 1주기 최대 반영 묶음 수 (출근 몰림 시 한 주기에 연속 소비) */
+    private static final int MAX_CHUNKS_PER_RUN = 20;
+
+    /** 1주기 최대 실행 시간 (이후 새 묶음을 가져오지 않음, lockAtMostFor 보다 짧게) */
+    private static final Duration RUN_TIME_BUDGET = Duration.ofSeconds(20);
+
+    private final ClockEventQueue clockEventQueue;
+    private final ClockEventWriter clockEventWriter;
+    private final ObjectMapper objectMapper;
+    private final DashboardCache dashboardCache;
+    private final AttendanceNotificationEventService attendanceNotificationEventService;
+
+    /**
+     * 출퇴근 이벤트 대기열 반영
+     */
+    @Scheduled(fixedDelayString = "${dashboard.clock.flush-interval-ms:1000}")
+    @SchedulerLock(name = "clockEventFlush", lockAtMostFor = "PT30S")
+    public void flush() {
+        clockEventQueue.releaseStaleClaims();
+
+        long deadline = System.nanoTime() + RUN_TIME_BUDGET.toNanos();
+        for (int i = 0; i < MAX_CHUNKS_PER_RUN && System.nanoTime() < deadline; i++) {
+            ClockEventQueue.Claim claim = clockEventQueue.claim(CHUNK_SIZE);
+            List<String> chunk = claim.events();
+            if (chunk.isEmpty()) return;
+
+            List<ClockEventDTO> written = flushChunk(chunk);
+            if (written == null) {
+                clockEventQueue.release(claim);
+                return;
+            }
+            clockEventQueue.ack(claim);
+            evictWritten(written);
+            notifyWritten(written);
+
+            if (chunk.size() < CHUNK_SIZE) return;
+        }
+    }
+
+    /**
+     * 이벤트 묶음 반영
+     *
+     * @param chunk 가져온 묶음의 이벤트 JSON 목록
+     * @return 반영된 이벤트 목록 (일시적 오류로 재시도가 필요하면 null)
+     */
+    private List<ClockEventDTO> flushChunk(List<String> chunk) {
+        List<ClockEventDTO> events = new ArrayList<>(chunk.size());
+        List<String> sources = new ArrayList<>(chunk.size());
+        for (String json : chunk) {
+            try {
+                events.add(objectMapper.readValue(json, ClockEventDTO.class));
+                sources.add(json);
+            } catch (JacksonException e) {
+                log.error("출퇴근 이벤트 역직렬화 실패 - 실패 대기열 이동 event={}", json, e);
+                clockEventQueue.deadLetter(json);
+            }
+        }
+        if (events.isEmpty()) return events;
+
+        try {
+            clockEventWriter.write(events);
+            log.debug("출퇴근 이벤트 반영 count={}", events.size());
+        } catch (DataAccessResourceFailureException | TransientDataAccessException e) {
+            log.warn("출퇴근 이벤트 반영 보류 (일시적 오류) count={}", events.size(), e);
+            return null;
+        } catch (RuntimeException e) {
+            log.warn("출퇴근 이벤트 묶음 반영 실패 - 건별 재반영 count={}", events.size(), e);
+            List<ClockEventDTO> written = new ArrayList<>(events.size());
+            for (int i = 0; i < events.size(); i++) {
+                try {
+                    clockEventWriter.write(List.of(events.get(i)));
+                    written.add(events.get(i));
+                } catch (DataAccessResourceFailureException | TransientDataAccessException transientError) {
+                    // 앞서 반영된 건은 재반영해도 멱등이므로 묶음 전체를 다음 주기에 재시도
+                    log.warn("출퇴근 이벤트 반영 보류 (일시적 오류)", transientError);
+                    return null;
+                } catch (RuntimeException single) {
+                    log.error("출퇴근 이벤트 반영 실패 - 실패 대기열 이동 event={}", sources.get(i), single);
+                    clockEventQueue.deadLetter(sources.get(i));
+                }
+            }
+            return written;
+        }
+        return events;
+    }
+
+    /**
+     * 반영된 출퇴근 이벤트 사원의 대시보드 근태 위젯 캐시 무효화
+     *
+     * @param written 반영된 이벤트 목록
+     */
+    private void evictWritten(List<ClockEventDTO> written) {
+        written.stream()
+                .map(ClockEventDTO::getEmployeeId)
+                .distinct()
+                .forEach(employeeId -> dashboardCache.evict(employeeId, DashboardWidget.ATTENDANCE_WIDGETS));
+    }
+
+    /**
+     * 반영된 출퇴근 이벤트 근태 알림 처리 (알림 실패는 반영 결과에 영향 없음)
+     *
+     * @param written 반영된 이벤트 목록
+     */
+    private void notifyWritten(List<ClockEventDTO> written) {
+        for (ClockEventDTO event : written) {
+            try {
+                if (ClockEventDTO.CLOCK_IN.equals(event.getType())) {
+                    attendanceNotificationEventService.clockIn(
+                            event.getEmployeeId(), event.getWorkDate(), event.getTime(), event.getWorkSystemTemplateId());
+                } else {
+                    attendanceNotificationEventService.clockOut(event.getEmployeeId());
+                }
+            } catch (RuntimeException e) {
+                log.warn("출퇴근 알림 처리 실패 employeeId={}, type={}", event.getEmployeeId(), event.getType(), e);
+            }
+        }
+    }
+}
@@ -0,0 +1,324 @@
+package com.c4.hero.domain.dashboard.service;
+
+import com.c4.hero.domain.dashboard.dto.ClockEventDTO;
+import com.c4.hero.domain.dashboard.dto.ClockStatusDTO;
+import com.c4.hero.domain.dashboard.dto.EmployeeClockStatusDTO;
+import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Class Name  : ClockEventQueue
+ * Description : 출퇴근 이벤트 대기열 + 오늘 출퇴근 상태 (Redis)
+ *
+ * Redis 키
+ *  - attendance:today:{근무일}          HASH  사원 ID → 출퇴근 상태(ClockStatusDTO JSON)
+ *  - attendance:today:{근무일}:loaded   STRING 오늘 상태 적재 여부 (LOADING / DONE)
+ *  - attendance:clock-events            LIST  tbl_attendance 반영 대기 이벤트 (ClockEventDTO JSON)
+ *  - attendance:clock-events:claim:{ID} LIST  소비 측이 가져가 반영 중인 이벤트 묶음
+ *  - attendance:clock-events:claims     ZSET  반영 중인 묶음 키 → 가져간 시각(ms)
+ *  - attendance:clock-events:dead       LIST  반영 실패 이벤트 (수동 확인용)
+ *
+ * 처리 규칙
+ *  - 상태 변경과 대기열 적재는 Lua 스크립트 1회로 원자 처리 (중복 출근/퇴근 방지)
+ *  - 근무일 첫 요청 시 DB 출퇴근 기록으로 오늘 상태를 1회 채움
+ *  - 적재 중(LOADING)인 동안에는 호출 측이 DB 직접 처리로 대체하고, 처리 후 DB 기록으로 오늘 상태를 갱신
+ *  - 퇴근 시 오늘 상태가 없으면 DB 기록으로 다시 채움 (Redis 장애 중 DB 직접 처리된 출근 복구)
+ *  - 소비는 대기열 앞쪽 이벤트를 묶음 키로 원자 이동(claim) → DB 반영 커밋 → 묶음 키 삭제(ack)
+ *    · 묶음끼리 이벤트가 겹치지 않으므로 소비 노드가 동시에 실행되어도 반영 누락/중복이 없음
+ *    · 일시적 오류 시 묶음을 대기열 앞으로 되돌림(release)
+ *    · 소비 노드 중단으로 CLAIM_TIMEOUT 동안 ack 되지 않은 묶음은 다음 소비 시 대기열 앞으로 되돌림 (반영은 멱등)
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * 2026/10/17 (혜원) 대기열 소비를 조회 후 개수 제거에서 묶음 원자 이동(claim/ack) 방식으로 변경
+ * 2026/10/17 (혜원) DB 직접 처리 후 오늘 상태 갱신, 오늘 상태 누락 시 DB 기록으로 복구
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.2
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ClockEventQueue {
+
+    static final String EVENT_QUEUE_KEY = "attendance:clock-events";
+    static final String DEAD_LETTER_KEY = "attendance:clock-events:dead";
+    static final String CLAIMS_KEY = "attendance:clock-events:claims";
+
+    private static final String CLAIM_KEY_PREFIX = "attendance:clock-events:claim:";
+
+    private static final String TODAY_KEY_PREFIX = "attendance:today:";
+    private static final String LOADING = "LOADING";
+    private static final String DONE = "DONE";
+
+    /** 오늘 상태 보관 기간 (자정 전후 퇴근 처리 여유) */
+    private static final Duration TODAY_TTL = Duration.ofDays(2);
+
+    /** 오늘 상태 적재 중 표시 유지 시간 (적재 실패 시 자동 해제) */
+    private static final Duration LOADING_TTL = Duration.ofSeconds(60);
+
+    /** 반영 중인 묶음을 중단된 것으로 보고 되돌리기까지의 시간 (소비 1주기 시간보다 충분히 길게) */
+    static final Duration CLAIM_TIMEOUT = Duration.ofMinutes(5);
+
+    /** 출근: 상태가 없을 때만 등록 후 대기열 적재 */
+    private static final RedisScript<Long> CLOCK_IN_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HSETNX', KEYS[1], ARGV[1], ARGV[2]) == 0 then return 0 end
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            redis.call('RPUSH', KEYS[2], ARGV[3])
+            return 1
+            """, Long.class);
+
+    /** 퇴근: 조회 시점 상태에서 바뀌지 않았을 때만 갱신 후 대기열 적재 */
+    private static final RedisScript<Long> CLOCK_OUT_SCRIPT = new DefaultRedisScript<>("""
+            if redis.call('HGET', KEYS[1], ARGV[1]) ~= ARGV[2] then return 0 end
+            redis.call('HSET', KEYS[1], ARGV[1], ARGV[3])
+            redis.call('RPUSH', KEYS[2], ARGV[4])
+            return 1
+            """, Long.class);
+
+    /** 대기열 앞쪽 이벤트를 묶음 키로 이동 후 반영 중 목록에 등록 */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private static final RedisScript<List> CLAIM_SCRIPT = new DefaultRedisScript<>("""
+            local events = redis.call('LRANGE', KEYS[1], 0, tonumber(ARGV[1]) - 1)
+            if #events == 0 then return events end
+            redis.call('LTRIM', KEYS[1], #events, -1)
+            redis.call('RPUSH', KEYS[2], unpack(events))
+            redis.call('ZADD', KEYS[3], ARGV[2], KEYS[2])
+            return events
+            """, List.class);
+
+    /** 묶음 이벤트를 원래 순서대로 대기열 앞으로 되돌림 */
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>("""
+            local count = 0
+            local event = redis.call('RPOP', KEYS[2])
+            while event do
+                redis.call('LPUSH', KEYS[1], event)
+                count = count + 1
+                event = redis.call('RPOP', KEYS[2])
+            end
+            redis.call('ZREM', KEYS[3], KEYS[2])
+            return count
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final DashboardMapper dashboardMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 근무일 오늘 상태 사용 가능 여부 (최초 호출 시 DB 기록으로 적재)
+     *
+     * @param workDate 근무 일자
+     * @return 적재 완료 시 true, 다른 요청이 적재 중이면 false
+     */
+    public boolean ensureLoaded(LocalDate workDate) {
+        String loadedKey = todayKey(workDate) + ":loaded";
+        String marker = redisTemplate.opsForValue().get(loadedKey);
+        if (DONE.equals(marker)) return true;
+        if (marker != null) return false;
+
+        if (!Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(loadedKey, LOADING, LOADING_TTL))) {
+            return DONE.equals(redisTemplate.opsForValue().get(loadedKey));
+        }
+
+        List<EmployeeClockStatusDTO> rows = dashboardMapper.selectTodayStatuses(workDate);
+        if (!rows.isEmpty()) {
+            // 적재 중 수락된 이벤트 상태를 덮어쓰지 않도록 없는 사원만 채움
+            Map<String, String> statuses = rows.stream().collect(Collectors.toMap(
+                    row -> String.valueOf(row.getEmployeeId()),
+                    row -> objectMapper.writeValueAsString(row.toStatus()),
+                    (a, b) -> a
+            ));
+            String key = todayKey(workDate);
+            statuses.forEach((field, json) -> redisTemplate.opsForHash().putIfAbsent(key, field, json));
+            redisTemplate.expire(key, TODAY_TTL);
+        }
+        redisTemplate.opsForValue().set(loadedKey, DONE, TODAY_TTL);
+        log.info("오늘 출퇴근 상태 적재 workDate={}, count={}", workDate, rows.size());
+        return true;
+    }
+
+    /**
+     * 오늘 출퇴근 상태 조회 (반영 대기 중인 출퇴근 포함)
+     *
+     * @param employeeId 사원 ID
+     * @param workDate   근무 일자
+     * @return 상태 JSON (출근 전이면 null)
+     */
+    public String findStatusJson(Integer employeeId, LocalDate workDate) {
+        Object json = redisTemplate.opsForHash().get(todayKey(workDate), String.valueOf(employeeId));
+        return (json == null) ? null : json.toString();
+    }
+
+    /**
+     * DB 직접 처리한 출퇴근 기록으로 오늘 상태 갱신
+     *  - 갱신하지 않으면 이후 대기열 경로에서 중복 출근이 수락되거나 출근한 사원의 퇴근이 거부됨
+     *
+     * @param employeeId 사원 ID
+     * @param workDate   근무 일자
+     */
+    public void refreshStatus(Integer employeeId, LocalDate workDate) {
+        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, workDate);
+        if (status == null) return;
+
+        String key = todayKey(workDate);
+        redisTemplate.opsForHash().put(key, String.valueOf(employeeId), objectMapper.writeValueAsString(status));
+        redisTemplate.expire(key, TODAY_TTL);
+    }
+
+    /**
+     * 오늘 상태가 없는 사원의 상태를 DB 출퇴근 기록으로 채움
+     *  - Redis 장애 중 DB 직접 처리되어 오늘 상태에 반영되지 못한 출근 복구용
+     *
+     * @param employeeId 사원 ID
+     * @param workDate   근무 일자
+     * @return 채운 뒤 상태 JSON (DB 에도 출근 기록이 없으면 null)
+     */
+    public String restoreStatusJson(Integer employeeId, LocalDate workDate) {
+        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, workDate);
+        if (status == null || !Boolean.TRUE.equals(status.getIsClockedIn())) return null;
+
+        String key = todayKey(workDate);
+        redisTemplate.opsForHash().putIfAbsent(key, String.valueOf(employeeId), objectMapper.writeValueAsString(status));
+        redisTemplate.expire(key, TODAY_TTL);
+        return findStatusJson(employeeId, workDate);
+    }
+
+    /**
+     * 출근 수락 (오늘 상태 등록 + 대기열 적재)
+     *
+     * @param status 출근 후 상태
+     * @param event  출근 이벤트
+     * @return 수락 시 true, 이미 출근 상태면 false
+     */
+    public boolean offerClockIn(ClockStatusDTO status, ClockEventDTO event) {
+        Long result = redisTemplate.execute(
+                CLOCK_IN_SCRIPT,
+                List.of(todayKey(event.getWorkDate()), EVENT_QUEUE_KEY),
+                String.valueOf(event.getEmployeeId()),
+                objectMapper.writeValueAsString(status),
+                objectMapper.writeValueAsString(event),
+                String.valueOf(TODAY_TTL.toMillis())
+        );
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /**
+     * 퇴근 수락 (오늘 상태 갱신 + 대기열 적재)
+     *
+     * @param expectedJson 조회 시점 상태 JSON
+     * @param status       퇴근 후 상태
+     * @param event        퇴근 이벤트
+     * @return 수락 시 true, 조회 이후 상태가 바뀌었으면 false
+     */
+    public boolean offerClockOut(String expectedJson, ClockStatusDTO status, ClockEventDTO event) {
+        Long result = redisTemplate.execute(
+                CLOCK_OUT_SCRIPT,
+                List.of(todayKey(event.getWorkDate()), EVENT_QUEUE_KEY),
+                String.valueOf(event.getEmployeeId()),
+                expectedJson,
+                objectMapper.writeValueAsString(status),
+                objectMapper.writeValueAsString(event)
+        );
+        return Long.valueOf(1L).equals(result);
+    }
+
+    /**
+     * 대기열 앞쪽 이벤트를 반영할 묶음으로 가져옴 (다른 소비 노드와 겹치지 않음)
+     *
+     * @param max 최대 건수
+     * @return 가져온 묶음 (대기열이 비었으면 이벤트 목록이 빈 묶음)
+     */
+    @SuppressWarnings("unchecked")
+    public Claim claim(int max) {
+        String claimKey = CLAIM_KEY_PREFIX + UUID.randomUUID();
+        List<String> events = redisTemplate.execute(
+                CLAIM_SCRIPT,
+                List.of(EVENT_QUEUE_KEY, claimKey, CLAIMS_KEY),
+                String.valueOf(max),
+                String.valueOf(System.currentTimeMillis())
+        );
+        return new Claim(claimKey, (events == null) ? List.of() : events);
+    }
+
+    /**
+     * DB 반영을 마친 묶음 삭제
+     *
+     * @param claim 반영을 마친 묶음
+     */
+    public void ack(Claim claim) {
+        if (claim.events().isEmpty()) return;
+        redisTemplate.delete(claim.key());
+        redisTemplate.opsForZSet().remove(CLAIMS_KEY, claim.key());
+    }
+
+    /**
+     * 반영하지 못한 묶음을 대기열 앞으로 되돌림 (다음 주기에 재시도)
+     *
+     * @param claim 되돌릴 묶음
+     */
+    public void release(Claim claim) {
+        if (claim.events().isEmpty()) return;
+        release(claim.key());
+    }
+
+    /**
+     * CLAIM_TIMEOUT 동안 ack 되지 않은 묶음(소비 노드 중단)을 대기열 앞으로 되돌림
+     *
+     * @return 되돌린 이벤트 수
+     */
+    public long releaseStaleClaims() {
+        long staleBefore = System.currentTimeMillis() - CLAIM_TIMEOUT.toMillis();
+        Set<String> staleKeys = redisTemplate.opsForZSet().rangeByScore(CLAIMS_KEY, 0, staleBefore);
+        if (staleKeys == null || staleKeys.isEmpty()) return 0;
+
+        long released = 0;
+        for (String claimKey : staleKeys) {
+            released += release(claimKey);
+        }
+        log.warn("중단된 출퇴근 이벤트 묶음 되돌림 claims={}, events={}", staleKeys.size(), released);
+        return released;
+    }
+
+    private long release(String claimKey) {
+        Long released = redisTemplate.execute(RELEASE_SCRIPT, List.of(EVENT_QUEUE_KEY, claimKey, CLAIMS_KEY));
+        return (released == null) ? 0 : released;
+    }
+
+    /**
+     * 반영 실패 이벤트 보관
+     *
+     * @param eventJson 이벤트 JSON
+     */
+    public void deadLetter(String eventJson) {
+        redisTemplate.opsForList().rightPush(DEAD_LETTER_KEY, eventJson);
+    }
+
+    private static String todayKey(LocalDate workDate) {
+        return TODAY_KEY_PREFIX + workDate;
+    }
+
+    /**
+     * 반영할 이벤트 묶음
+     *
+     * @param key    묶음 키
+     * @param events 이벤트 JSON 목록 (적재 순)
+     */
+    public record Claim(String key, List<String> events) {
+    }
+}
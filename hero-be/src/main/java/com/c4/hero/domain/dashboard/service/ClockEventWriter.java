@@ -0,0 +1,85 @@
+package com.c4.hero.domain.dashboard.service;
+
+import com.c4.hero.domain.attendance.mapper.AttendanceScoreMapper;
+import com.c4.hero.domain.dashboard.dto.ClockEventDTO;
+import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
+import org.apache.ibatis.executor.BatchResult;
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Class Name  : ClockEventWriter
+ * Description : 출퇴근 이벤트 tbl_attendance 일괄 반영기
+ *
+ * 반영 규칙
+ *  - MyBatis BATCH 실행기로 출근 INSERT / 퇴근 UPDATE 를 JDBC 배치로 묶어 트랜잭션 1회에 반영
+ *  - 출근을 먼저 반영한 뒤 퇴근을 반영 (같은 묶음 안의 출근 → 퇴근 순서 보장)
+ *  - 출근은 같은 사원/근무일 기록이 없을 때만 INSERT, 퇴근은 같은 값으로 UPDATE
+ *    → 같은 이벤트를 다시 반영해도 결과가 같음
+ *  - 반영 후 같은 트랜잭션에서 반영 대상 사원의 월간 근태 집계(지각/결근/조퇴, 근태 점수) 재계산
+ *    (같은 트랜잭션의 SqlSession 은 BATCH 실행기 하나만 사용 가능하므로 집계 매퍼도 BATCH 세션에서 조회)
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * 2026/10/17 (혜원) 월간 근태 집계 재계산 추가
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
+@Component
+public class ClockEventWriter {
+
+    private final SqlSessionTemplate batchSqlSession;
+
+    public ClockEventWriter(SqlSessionFactory sqlSessionFactory) {
+        this.batchSqlSession = new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    /**
+     * 출퇴근 이벤트 일괄 반영
+     *
+     * @param events 적재 순 이벤트 목록
+     * @return 실행된 JDBC 배치 수
+     */
+    @Transactional
+    public int write(List<ClockEventDTO> events) {
+        DashboardMapper mapper = batchSqlSession.getMapper(DashboardMapper.class);
+
+        for (ClockEventDTO event : events) {
+            if (ClockEventDTO.CLOCK_IN.equals(event.getType())) {
+                mapper.insertClockInIfAbsent(event.getEmployeeId(), event.getDepartmentId(), event.toClockInRequest());
+            }
+        }
+        for (ClockEventDTO event : events) {
+            if (ClockEventDTO.CLOCK_OUT.equals(event.getType())) {
+                mapper.updateClockOut(event.getEmployeeId(), event.toClockOutRequest());
+            }
+        }
+
+        List<BatchResult> results = batchSqlSession.flushStatements();
+
+        // 월간 근태 집계 재계산 (근무월별 반영 대상 사원)
+        AttendanceScoreMapper scoreMapper = batchSqlSession.getMapper(AttendanceScoreMapper.class);
+        Map<YearMonth, Set<Integer>> employeesByMonth = events.stream()
+                .collect(Collectors.groupingBy(
+                        event -> YearMonth.from(event.getWorkDate()),
+                        Collectors.mapping(ClockEventDTO::getEmployeeId, Collectors.toSet())
+                ));
+        employeesByMonth.forEach((month, employeeIds) ->
+                scoreMapper.upsertScores(month.toString(), month.atDay(1), month.atEndOfMonth(), employeeIds));
+        batchSqlSession.flushStatements();
+
+        return results.size();
+    }
+}
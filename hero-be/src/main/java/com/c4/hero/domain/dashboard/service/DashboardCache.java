@@ -0,0 +1,167 @@
+package com.c4.hero.domain.dashboard.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name  : DashboardCache
+ * Description : 사원별 대시보드 위젯 캐시 (Redis)
+ *
+ * Redis 키
+ *  - dashboard:{사원 ID}:{오늘 날짜}  HASH  위젯 필드 → 위젯 DTO JSON, gen → 무효화 세대
+ *    (날짜가 바뀌면 새 키를 사용하므로 주/월 경계에서 이전 값이 쓰이지 않음)
+ *
+ * 캐시 규칙
+ *  - 무효화 시 세대(gen)를 올리고 대상 위젯 필드 삭제
+ *  - 적재는 조회 시작 시점의 세대가 그대로일 때만 반영 (조회 중 무효화된 이전 값 적재 방지)
+ *  - 무효화 누락 대비 TTL 로 최대 보관 시간 제한
+ *  - Redis 장애 시 캐시 없이 동작 (조회는 DB, 무효화는 생략)
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DashboardCache {
+
+    private static final String KEY_PREFIX = "dashboard:";
+    private static final String GEN_FIELD = "gen";
+
+    /** 위젯 최대 보관 시간 */
+    private static final Duration TTL = Duration.ofMinutes(10);
+
+    /** 세대가 그대로일 때만 위젯 적재 (ARGV: 세대, TTL, 필드/값 쌍...) */
+    private static final RedisScript<Long> PUT_SCRIPT = new DefaultRedisScript<>("""
+            if (redis.call('HGET', KEYS[1], 'gen') or '') ~= ARGV[1] then return 0 end
+            for i = 3, #ARGV, 2 do redis.call('HSET', KEYS[1], ARGV[i], ARGV[i + 1]) end
+            redis.call('PEXPIRE', KEYS[1], ARGV[2])
+            return 1
+            """, Long.class);
+
+    /** 세대 증가 + 대상 위젯 삭제 (ARGV: TTL, 필드...) */
+    private static final RedisScript<Long> EVICT_SCRIPT = new DefaultRedisScript<>("""
+            local gen = redis.call('HINCRBY', KEYS[1], 'gen', 1)
+            for i = 2, #ARGV do redis.call('HDEL', KEYS[1], ARGV[i]) end
+            redis.call('PEXPIRE', KEYS[1], ARGV[1])
+            return gen
+            """, Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 위젯 캐시 조회 결과
+     *
+     * @param generation 조회 시점 세대 (적재 시 전달)
+     * @param widgets    캐시된 위젯 DTO
+     */
+    public record Snapshot(String generation, Map<DashboardWidget, Object> widgets) {
+
+        static Snapshot empty() {
+            return new Snapshot(null, new EnumMap<>(DashboardWidget.class));
+        }
+    }
+
+    /**
+     * 오늘 위젯 캐시 일괄 조회 (Redis 1회 왕복)
+     *
+     * @param employeeId 사원 ID
+     * @param widgets    조회 대상 위젯
+     * @return 캐시 조회 결과 (Redis 장애 시 빈 결과, 적재 불가)
+     */
+    public Snapshot get(Integer employeeId, Collection<DashboardWidget> widgets) {
+        List<DashboardWidget> targets = new ArrayList<>(widgets);
+        List<Object> fields = new ArrayList<>(targets.size() + 1);
+        fields.add(GEN_FIELD);
+        targets.forEach(widget -> fields.add(widget.getField()));
+
+        List<Object> values;
+        try {
+            values = redisTemplate.opsForHash().multiGet(key(employeeId), fields);
+        } catch (DataAccessException e) {
+            log.warn("대시보드 캐시 조회 실패 - DB 조회 employeeId={}", employeeId, e);
+            return Snapshot.empty();
+        }
+
+        Map<DashboardWidget, Object> cached = new EnumMap<>(DashboardWidget.class);
+        for (int i = 0; i < targets.size(); i++) {
+            Object json = values.get(i + 1);
+            if (json == null) continue;
+            try {
+                cached.put(targets.get(i), objectMapper.readValue(json.toString(), targets.get(i).getType()));
+            } catch (JacksonException e) {
+                log.warn("대시보드 캐시 역직렬화 실패 - DB 조회 employeeId={}, widget={}", employeeId, targets.get(i), e);
+            }
+        }
+        Object generation = values.get(0);
+        return new Snapshot(generation == null ? "" : generation.toString(), cached);
+    }
+
+    /**
+     * 위젯 캐시 적재 (조회 시점 이후 무효화되었으면 적재하지 않음)
+     *
+     * @param employeeId 사원 ID
+     * @param snapshot   조회 시점 캐시 조회 결과
+     * @param widgets    위젯별 DTO
+     */
+    public void put(Integer employeeId, Snapshot snapshot, Map<DashboardWidget, Object> widgets) {
+        if (snapshot.generation() == null || widgets.isEmpty()) return;
+        try {
+            List<String> args = new ArrayList<>(widgets.size() * 2 + 2);
+            args.add(snapshot.generation());
+            args.add(String.valueOf(TTL.toMillis()));
+            for (Map.Entry<DashboardWidget, Object> entry : widgets.entrySet()) {
+                if (entry.getValue() == null) continue;
+                args.add(entry.getKey().getField());
+                args.add(objectMapper.writeValueAsString(entry.getValue()));
+            }
+            redisTemplate.execute(PUT_SCRIPT, List.of(key(employeeId)), args.toArray());
+        } catch (DataAccessException | JacksonException e) {
+            log.warn("대시보드 캐시 적재 실패 employeeId={}, widgets={}", employeeId, widgets.keySet(), e);
+        }
+    }
+
+    /**
+     * 위젯 캐시 무효화
+     *
+     * @param employeeId 사원 ID
+     * @param widgets    무효화 대상 위젯
+     */
+    public void evict(Integer employeeId, Collection<DashboardWidget> widgets) {
+        if (employeeId == null) return;
+
+        List<String> args = new ArrayList<>(widgets.size() + 1);
+        args.add(String.valueOf(TTL.toMillis()));
+        widgets.forEach(widget -> args.add(widget.getField()));
+        try {
+            redisTemplate.execute(EVICT_SCRIPT, List.of(key(employeeId)), args.toArray());
+        } catch (DataAccessException e) {
+            log.warn("대시보드 캐시 무효화 실패 employeeId={}, widgets={}", employeeId, widgets, e);
+        }
+    }
+
+    private static String key(Integer employeeId) {
+        return KEY_PREFIX + employeeId + ":" + LocalDate.now();
+    }
+}
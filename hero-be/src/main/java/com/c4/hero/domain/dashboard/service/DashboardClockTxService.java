@@ -0,0 +1,144 @@
+package com.c4.hero.domain.dashboard.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.service.AttendanceScoreService;
+import com.c4.hero.domain.attendance.service.WorkSystemRegistry;
+import com.c4.hero.domain.dashboard.dto.ClockInRequestDTO;
+import com.c4.hero.domain.dashboard.dto.ClockOutRequestDTO;
+import com.c4.hero.domain.dashboard.dto.ClockStatusDTO;
+import com.c4.hero.domain.dashboard.dto.WorkSystemTemplateDTO;
+import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalTime;
+
+/**
+ * <pre>
+ * Class Name  : DashboardClockTxService
+ * Description : 출퇴근 DB 직접 처리 트랜잭션 서비스
+ *               출퇴근 대기열(Redis)을 사용할 수 없을 때 tbl_attendance 에 바로 반영
+ *
+ * History
+ * 2026/10/17 (혜원) DashboardServiceImpl 에서 출퇴근 DB 직접 처리 분리
+ * 2026/10/17 (혜원) 출퇴근 반영 시 월간 근태 집계 재계산 추가
+ * 2026/10/17 (혜원) 퇴근 시 근무제 템플릿을 근무제 레지스트리에서 조회
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.2
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardClockTxService {
+
+    /** 기본 휴게시간 (분) */
+    private static final int DEFAULT_BREAK_MINUTES = 60;
+
+    private final DashboardMapper dashboardMapper;
+    private final AttendanceScoreService attendanceScoreService;
+    private final WorkSystemRegistry workSystemRegistry;
+
+    /**
+     * 출근 처리 (DB 직접 반영)
+     * @param employeeId 사원 ID
+     * @param departmentId 부서 ID
+     * @param dto 출근 요청 정보 (기본값/초 단위 절삭 적용 후)
+     */
+    @Transactional
+    public void clockIn(Integer employeeId, Integer departmentId, ClockInRequestDTO dto) {
+        // 1. 오늘 이미 출근 기록이 있는지 확인
+        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, dto.getWorkDate());
+        if (status != null && status.getIsClockedIn()) {
+            throw new BusinessException(ErrorCode.ALREADY_CLOCKED_IN);
+        }
+
+        // 2. 출근 기록 INSERT
+        int result = dashboardMapper.insertClockIn(employeeId, departmentId, dto);
+        if (result != 1) {
+            log.error("❌ 출근 INSERT 실패. result: {}", result);
+            throw new BusinessException(ErrorCode.CLOCK_IN_FAILED);
+        }
+
+        // 3. 월간 근태 집계 재계산 (지각 반영)
+        attendanceScoreService.refresh(employeeId, dto.getWorkDate());
+    }
+
+    /**
+     * 퇴근 처리 (DB 직접 반영)
+     * @param employeeId 사원 ID
+     * @param dto 퇴근 요청 정보 (초 단위 절삭 적용 후)
+     * @return 근무시간 (분)
+     */
+    @Transactional
+    public long clockOut(Integer employeeId, ClockOutRequestDTO dto) {
+        // 1. 오늘 출근 기록 확인
+        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, dto.getWorkDate());
+        if (status == null || !status.getIsClockedIn()) {
+            log.warn("출근 기록이 없습니다.");
+            throw new BusinessException(ErrorCode.NOT_CLOCKED_IN);
+        }
+
+        // 2. 이미 퇴근 처리되었는지 확인
+        if (status.getIsClockedOut()) {
+            log.warn("이미 퇴근 처리되었습니다. attendanceId: {}", status.getAttendanceId());
+            throw new BusinessException(ErrorCode.ALREADY_CLOCKED_OUT);
+        }
+
+        // 3. 근무제 템플릿 정보 조회 (반차 여부 확인, 근무제 레지스트리)
+        WorkSystemTemplateDTO template =
+                WorkSystemTemplateDTO.from(workSystemRegistry.findTemplate(status.getWorkSystemTemplateId()));
+
+        // 4. DTO에 attendanceId, 근무시간 설정
+        long workMinutes = calculateWorkMinutes(status.getStartTime(), dto.getEndTime(), dto.getIncludeBreakTime(), template);
+        dto.setAttendanceId(status.getAttendanceId());
+        dto.setWorkDuration((int) workMinutes);
+
+        // 5. 퇴근 시각 및 근무시간 UPDATE
+        int result = dashboardMapper.updateClockOut(employeeId, dto);
+        if (result != 1) {
+            log.error("퇴근 UPDATE 실패. result: {}", result);
+            throw new BusinessException(ErrorCode.CLOCK_OUT_FAILED);
+        }
+
+        // 6. 월간 근태 집계 재계산 (조퇴/결근 반영)
+        attendanceScoreService.refresh(employeeId, dto.getWorkDate());
+        return workMinutes;
+    }
+
+    /**
+     * 근무시간 계산 (분 단위, 휴게시간 차감)
+     * @param startTime 출근 시각
+     * @param endTime 퇴근 시각
+     * @param includeBreakTime 휴게시간 차감 여부 (오후 1시 이후 퇴근 시 true)
+     * @param template 근무제 템플릿 (없으면 기본 휴게시간 60분)
+     * @return 근무시간 (분, 음수면 0)
+     */
+    static long calculateWorkMinutes(
+            LocalTime startTime,
+            LocalTime endTime,
+            Boolean includeBreakTime,
+            WorkSystemTemplateDTO template
+    ) {
+        long workMinutes = Duration.between(startTime, endTime).toMinutes();
+
+        // 휴게시간 차감 로직
+        if (Boolean.TRUE.equals(includeBreakTime)) {
+            // 오후 1시 이후 퇴근 → 휴게시간 차감
+            int breakMinutes = (template != null && template.getBreakMinMinutes() != null)
+                    ? template.getBreakMinMinutes()
+                    : DEFAULT_BREAK_MINUTES;
+
+            workMinutes -= breakMinutes;
+            log.info("휴게시간 차감: {}분, 최종 근무시간: {}분", breakMinutes, workMinutes);
+        }
+
+        // 음수 방지
+        return Math.max(workMinutes, 0);
+    }
+}
@@ -5,6 +5,7 @@ import com.c4.hero.domain.dashboard.dto.AttendanceStatsDTO;
 import com.c4.hero.domain.dashboard.dto.ClockInRequestDTO;
 import com.c4.hero.domain.dashboard.dto.ClockOutRequestDTO;
 import com.c4.hero.domain.dashboard.dto.ClockStatusDTO;
+import com.c4.hero.domain.dashboard.dto.DashboardSummaryDTO;
 import com.c4.hero.domain.dashboard.dto.MonthlySummaryDTO;
 import com.c4.hero.domain.dashboard.dto.VacationStatsDTO;
 import com.c4.hero.domain.dashboard.dto.WeeklyStatsDTO;
@@ -20,10 +21,11 @@ import java.time.LocalDate;
  *
  * History
  * 2025/12/26 (혜원) 최초 작성
+ * 2026/10/17 (혜원) 대시보드 통합 조회 추가
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.1
  */
 public interface DashboardService {
 
@@ -50,6 +52,13 @@ public interface DashboardService {
      */
     ClockStatusDTO getTodayStatus(Integer employeeId, LocalDate workDate);
 
+    /**
+     * 대시보드 통합 조회 (오늘 출퇴근 상태 + 통계 위젯)
+     * @param employeeId 사원 ID
+     * @return 대시보드 통합 정보
+     */
+    DashboardSummaryDTO getDashboardSummary(Integer employeeId);
+
     /**
      * 이번 주 근무 통계 조회 (실시간 근무 중 시간 포함)
      * @param employeeId 사원 ID
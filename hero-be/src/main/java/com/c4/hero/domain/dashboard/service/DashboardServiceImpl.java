@@ -2,16 +2,24 @@ package com.c4.hero.domain.dashboard.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.service.WorkSystemRegistry;
 import com.c4.hero.domain.dashboard.dto.*;
 import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
+import com.c4.hero.domain.notification.service.AttendanceNotificationEventService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
 
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalTime;
-import java.time.format.DateTimeFormatter;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
 
 /**
  * <pre>
@@ -20,37 +28,65 @@ import java.time.format.DateTimeFormatter;
  *
  * History
  * 2025/12/26 (혜원) 최초 작성
+ * 2026/10/17 (혜원) 출퇴근 대기열(Redis) 접수 후 일괄 반영 방식으로 변경
+ *                   오늘 출퇴근 상태는 대기열 상태 우선 조회 (DB 반영 전 출퇴근 포함)
+ * 2026/10/17 (혜원) 통계 위젯 사원별 캐시(DashboardCache) 적용, 대시보드 통합 조회 추가
+ *                   위젯 DB 조회는 DashboardWidgetLoader 로 이동 (캐시 미스 위젯 병렬 조회)
+ *                   주간 통계의 오늘 근무 중 시간은 캐시하지 않고 오늘 출퇴근 상태로 조회 시 계산
+ * 2026/10/17 (혜원) 근무제 템플릿은 근무제 레지스트리(WorkSystemRegistry)에서 조회
+ * 2026/10/17 (혜원) DB 직접 처리 후 오늘 출퇴근 상태(Redis) 갱신, 퇴근 시 상태 누락이면 DB 기록 확인
+ * 2026/10/17 (혜원) 출근 대기열 적재 중 직렬화 오류도 DB 직접 처리로 대체 (퇴근과 동일)
  * </pre>
  *
  * @author 혜원
- * @version 1.0
+ * @version 1.5
  */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class DashboardServiceImpl implements DashboardService {
 
+    /** 기본 출근 기준 시각 */
+    private static final LocalTime DEFAULT_START_TIME = LocalTime.of(9, 0);
+
+    /** 기본 퇴근 기준 시각 */
+    private static final LocalTime DEFAULT_END_TIME = LocalTime.of(18, 0);
+
+    private static final String STATE_NORMAL = "정상";
+    private static final String STATE_LATE = "지각";
+    private static final String STATE_EARLY_LEAVE = "조퇴";
+    private static final String STATE_ABSENT = "결근";
+
+    /** 동시 퇴근 요청 시 재시도 횟수 */
+    private static final int CLOCK_OUT_MAX_ATTEMPTS = 3;
+
+    /** 법정 주 근무시간 */
+    private static final int LEGAL_WEEKLY_HOURS = 52;
+
     private final DashboardMapper dashboardMapper;
+    private final DashboardClockTxService clockTxService;
+    private final ClockEventQueue clockEventQueue;
+    private final ObjectMapper objectMapper;
+    private final AttendanceNotificationEventService attendanceNotificationEventService;
+    private final DashboardCache dashboardCache;
+    private final DashboardWidgetLoader widgetLoader;
+    private final WorkSystemRegistry workSystemRegistry;
 
     /**
      * 출근 처리
+     *  - 오늘 출퇴근 상태(Redis)로 중복 출근을 검증하고 대기열에 적재 후 바로 응답
+     *  - tbl_attendance 반영 및 지각 알림은 ClockEventFlushScheduler 가 묶음 단위로 처리
+     *  - 대기열을 사용할 수 없으면 DB 직접 처리 후 오늘 출퇴근 상태 갱신
      * @param employeeId 사원 ID
      * @param departmentId 부서 ID
      * @param dto 출근 요청 정보
      */
     @Override
-    @Transactional
     public void clockIn(Integer employeeId, Integer departmentId, ClockInRequestDTO dto) {
         log.info("=== 출근 처리 시작 === employeeId: {}, workDate: {}, startTime: {}",
                 employeeId, dto.getWorkDate(), dto.getStartTime());
 
-        // 1. 오늘 이미 출근 기록이 있는지 확인
-        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, dto.getWorkDate());
-        if (status != null && status.getIsClockedIn()) {
-            throw new BusinessException(ErrorCode.ALREADY_CLOCKED_IN);
-        }
-
-        // 2. ✅ null 체크 및 기본값 설정
+        // 1. ✅ null 체크 및 기본값 설정
         if (dto.getWorkSystemTypeId() == null) {
             log.warn("⚠️ workSystemTypeId가 null! 기본값 1 설정");
             dto.setWorkSystemTypeId(1);
@@ -61,108 +97,211 @@ public class DashboardServiceImpl implements DashboardService {
             dto.setWorkSystemTemplateId(1);
         }
 
-        // 3. ✅ 최종 값 로그 출력
-        log.info("✅ INSERT 직전 - typeId: {}, templateId: {}",
-                dto.getWorkSystemTypeId(), dto.getWorkSystemTemplateId());
-
-        // 4. 출근 시각을 초 단위로 자르기
+        // 2. 출근 시각을 초 단위로 자르기
         dto.setStartTime(dto.getStartTime().withNano(0));
 
-        // 5. 출근 기록 INSERT
-        int result = dashboardMapper.insertClockIn(employeeId, departmentId, dto);
-        if (result != 1) {
-            log.error("❌ 출근 INSERT 실패. result: {}", result);
-            throw new BusinessException(ErrorCode.CLOCK_IN_FAILED);
+        // 3. 대기열 적재 (중복 출근 검증 포함)
+        try {
+            if (clockEventQueue.ensureLoaded(dto.getWorkDate())) {
+                ClockStatusDTO status = new ClockStatusDTO(
+                        null,
+                        dto.getWorkDate(),
+                        dto.getStartTime(),
+                        null,
+                        dto.getStartTime().isAfter(DEFAULT_START_TIME) ? STATE_LATE : STATE_NORMAL,
+                        true,
+                        false,
+                        null,
+                        dto.getWorkSystemTemplateId()
+                );
+                ClockEventDTO event = new ClockEventDTO(
+                        ClockEventDTO.CLOCK_IN,
+                        employeeId,
+                        departmentId,
+                        dto.getWorkDate(),
+                        dto.getStartTime(),
+                        dto.getWorkSystemTypeId(),
+                        dto.getWorkSystemTemplateId(),
+                        null
+                );
+                if (!clockEventQueue.offerClockIn(status, event)) {
+                    throw new BusinessException(ErrorCode.ALREADY_CLOCKED_IN);
+                }
+                log.info("=== ✅ 출근 접수 완료 === templateId: {}", dto.getWorkSystemTemplateId());
+                return;
+            }
+        } catch (DataAccessException | JacksonException e) {
+            log.warn("출퇴근 대기열 사용 불가 - DB 직접 처리. employeeId: {}", employeeId, e);
         }
 
+        // 4. 출근 기록 INSERT (DB 직접 처리)
+        clockTxService.clockIn(employeeId, departmentId, dto);
+        refreshClockStatus(employeeId, dto.getWorkDate());
+        dashboardCache.evict(employeeId, DashboardWidget.ATTENDANCE_WIDGETS);
+        attendanceNotificationEventService.clockIn(
+                employeeId, dto.getWorkDate(), dto.getStartTime(), dto.getWorkSystemTemplateId());
+
         log.info("=== ✅ 출근 처리 완료 === templateId: {}", dto.getWorkSystemTemplateId());
     }
 
     /**
      * 퇴근 처리
+     *  - 오늘 출퇴근 상태(Redis)로 출근/중복 퇴근을 검증하고 대기열에 적재 후 바로 응답
+     *  - 대기열을 사용할 수 없으면 DB 직접 처리 후 오늘 출퇴근 상태 갱신
      * @param employeeId 사원 ID
      * @param dto 퇴근 요청 정보
      */
     @Override
-    @Transactional
     public void clockOut(Integer employeeId, ClockOutRequestDTO dto) {
         log.info("=== 퇴근 처리 시작 === employeeId: {}, workDate: {}, endTime: {}, includeBreakTime: {}",
                 employeeId, dto.getWorkDate(), dto.getEndTime(), dto.getIncludeBreakTime());
 
-        // 1. 오늘 출근 기록 확인
-        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, dto.getWorkDate());
-        if (status == null || !status.getIsClockedIn()) {
-            log.warn("출근 기록이 없습니다.");
-            throw new BusinessException(ErrorCode.NOT_CLOCKED_IN);
-        }
-
-        // 2. 이미 퇴근 처리되었는지 확인
-        if (status.getIsClockedOut()) {
-            log.warn("이미 퇴근 처리되었습니다. attendanceId: {}", status.getAttendanceId());
-            throw new BusinessException(ErrorCode.ALREADY_CLOCKED_OUT);
-        }
-
-        // 3. 근무제 템플릿 정보 조회 (반차 여부 확인)
-        Integer workSystemTemplateId = status.getWorkSystemTemplateId();
-        WorkSystemTemplateDTO template = null;
-        if (workSystemTemplateId != null) {
-            template = dashboardMapper.selectWorkSystemTemplate(workSystemTemplateId);
-        }
-
-        // 4. DTO에 attendanceId 설정
-        dto.setAttendanceId(status.getAttendanceId());
-
-        // 5. 퇴근 시각을 초 단위로 자르기 (마이크로초 제거)
+        // 1. 퇴근 시각을 초 단위로 자르기 (마이크로초 제거)
         dto.setEndTime(dto.getEndTime().withNano(0));
 
-        // 6. 근무시간 계산 (분 단위)
-        LocalTime startTime = status.getStartTime();
-        LocalTime endTime = dto.getEndTime();
-
-        long workMinutes = java.time.Duration.between(startTime, endTime).toMinutes();
+        // 2. 대기열 적재 (출근/중복 퇴근 검증 포함)
+        try {
+            if (clockEventQueue.ensureLoaded(dto.getWorkDate())) {
+                long workMinutes = offerClockOut(employeeId, dto);
+                log.info("=== 퇴근 접수 완료 === 근무시간: {}분 ({}시간 {}분)",
+                        workMinutes, workMinutes / 60, workMinutes % 60);
+                return;
+            }
+        } catch (DataAccessException | JacksonException e) {
+            log.warn("출퇴근 대기열 사용 불가 - DB 직접 처리. employeeId: {}", employeeId, e);
+        }
 
-        // 7. 휴게시간 차감 로직
-        if (Boolean.TRUE.equals(dto.getIncludeBreakTime())) {
-            // 오후 1시 이후 퇴근 → 휴게시간 차감
-            Integer breakMinutes = (template != null && template.getBreakMinMinutes() != null)
-                    ? template.getBreakMinMinutes()
-                    : 60; // 기본 60분
+        // 3. 퇴근 시각 및 근무시간 UPDATE (DB 직접 처리)
+        long workMinutes = clockTxService.clockOut(employeeId, dto);
+        refreshClockStatus(employeeId, dto.getWorkDate());
+        dashboardCache.evict(employeeId, DashboardWidget.ATTENDANCE_WIDGETS);
+        attendanceNotificationEventService.clockOut(employeeId);
 
-            workMinutes -= breakMinutes;
-            log.info("휴게시간 차감: {}분, 최종 근무시간: {}분", breakMinutes, workMinutes);
-        }
+        log.info("=== 퇴근 처리 완료 === 근무시간: {}분 ({}시간 {}분)",
+                workMinutes, workMinutes / 60, workMinutes % 60);
+    }
 
-        // 음수 방지
-        if (workMinutes < 0) {
-            workMinutes = 0;
+    /**
+     * 퇴근 대기열 적재
+     *  - 조회한 오늘 상태가 그 사이 바뀌었으면(동시 퇴근 요청) 다시 조회 후 재검증
+     *  - 오늘 상태가 없으면 DB 기록 확인 (Redis 장애 중 DB 직접 처리된 출근)
+     * @param employeeId 사원 ID
+     * @param dto 퇴근 요청 정보
+     * @return 근무시간 (분)
+     */
+    private long offerClockOut(Integer employeeId, ClockOutRequestDTO dto) {
+        for (int attempt = 0; attempt < CLOCK_OUT_MAX_ATTEMPTS; attempt++) {
+            String json = clockEventQueue.findStatusJson(employeeId, dto.getWorkDate());
+            if (json == null) {
+                json = clockEventQueue.restoreStatusJson(employeeId, dto.getWorkDate());
+            }
+            if (json == null) {
+                log.warn("출근 기록이 없습니다.");
+                throw new BusinessException(ErrorCode.NOT_CLOCKED_IN);
+            }
+
+            ClockStatusDTO status = objectMapper.readValue(json, ClockStatusDTO.class);
+            if (Boolean.TRUE.equals(status.getIsClockedOut())) {
+                log.warn("이미 퇴근 처리되었습니다. attendanceId: {}", status.getAttendanceId());
+                throw new BusinessException(ErrorCode.ALREADY_CLOCKED_OUT);
+            }
+
+            // 근무제 템플릿 정보 조회 (반차 여부 확인, 근무제 레지스트리)
+            WorkSystemTemplateDTO template =
+                    WorkSystemTemplateDTO.from(workSystemRegistry.findTemplate(status.getWorkSystemTemplateId()));
+
+            long workMinutes = DashboardClockTxService.calculateWorkMinutes(
+                    status.getStartTime(), dto.getEndTime(), dto.getIncludeBreakTime(), template);
+
+            ClockStatusDTO updated = new ClockStatusDTO(
+                    status.getAttendanceId(),
+                    status.getWorkDate(),
+                    status.getStartTime(),
+                    dto.getEndTime(),
+                    clockOutState(status.getStartTime(), dto.getEndTime(), template),
+                    true,
+                    true,
+                    (int) workMinutes,
+                    status.getWorkSystemTemplateId()
+            );
+            ClockEventDTO event = new ClockEventDTO(
+                    ClockEventDTO.CLOCK_OUT,
+                    employeeId,
+                    null,
+                    dto.getWorkDate(),
+                    dto.getEndTime(),
+                    null,
+                    null,
+                    (int) workMinutes
+            );
+            if (clockEventQueue.offerClockOut(json, updated, event)) {
+                return workMinutes;
+            }
         }
+        throw new BusinessException(ErrorCode.ALREADY_CLOCKED_OUT);
+    }
 
-        // 8. DTO에 근무시간 설정
-        dto.setWorkDuration((int) workMinutes);
-
-        // 9. 퇴근 시각 및 근무시간 UPDATE
-        int result = dashboardMapper.updateClockOut(employeeId, dto);
-        if (result != 1) {
-            log.error("퇴근 UPDATE 실패. result: {}", result);
-            throw new BusinessException(ErrorCode.CLOCK_OUT_FAILED);
+    /**
+     * DB 직접 처리 후 오늘 출퇴근 상태(Redis) 갱신
+     *  - 실패해도 DB 반영은 완료되었으므로 로그만 남김 (퇴근 시 상태가 없으면 DB 기록을 다시 확인)
+     * @param employeeId 사원 ID
+     * @param workDate 근무 일자
+     */
+    private void refreshClockStatus(Integer employeeId, LocalDate workDate) {
+        try {
+            clockEventQueue.refreshStatus(employeeId, workDate);
+        } catch (DataAccessException | JacksonException e) {
+            log.warn("오늘 출퇴근 상태 갱신 실패. employeeId: {}", employeeId, e);
         }
+    }
 
-        log.info("=== 퇴근 처리 완료 === 근무시간: {}분 ({}시간 {}분)",
-                workMinutes, workMinutes / 60, workMinutes % 60);
+    /**
+     * 퇴근 시 근태 상태 판정 (updateClockOut 쿼리의 상태 판정과 동일)
+     * @param startTime 출근 시각
+     * @param endTime 퇴근 시각
+     * @param template 근무제 템플릿 (없으면 09:00 ~ 18:00)
+     * @return 근태 상태
+     */
+    private static String clockOutState(LocalTime startTime, LocalTime endTime, WorkSystemTemplateDTO template) {
+        LocalTime templateStart = (template != null && template.getStartTime() != null)
+                ? template.getStartTime() : DEFAULT_START_TIME;
+        LocalTime templateEnd = (template != null && template.getEndTime() != null)
+                ? template.getEndTime() : DEFAULT_END_TIME;
+
+        if (startTime == null) return STATE_ABSENT;
+        if (startTime.isAfter(templateStart)) return STATE_LATE;
+        if (endTime.isBefore(templateEnd)) return STATE_EARLY_LEAVE;
+        return STATE_NORMAL;
     }
 
     /**
      * 오늘 출퇴근 상태 조회
+     *  - 오늘 출퇴근 상태(Redis)를 우선 조회하여 DB 반영 전 출퇴근도 바로 보이도록 함 (read-your-writes)
+     *  - DB 반영 전이면 attendanceId 는 비어 있음
+     *  - 대기열을 사용할 수 없으면 DB 조회
      * @param employeeId 사원 ID
      * @param workDate 근무 일자
      * @return 출퇴근 상태 정보
      */
     @Override
-    @Transactional(readOnly = true)
     public ClockStatusDTO getTodayStatus(Integer employeeId, LocalDate workDate) {
         log.debug("=== 출퇴근 상태 조회 === employeeId: {}, workDate: {}", employeeId, workDate);
 
-        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, workDate);
+        ClockStatusDTO status = null;
+        boolean cached = false;
+        try {
+            if (clockEventQueue.ensureLoaded(workDate)) {
+                String json = clockEventQueue.findStatusJson(employeeId, workDate);
+                status = (json == null) ? null : objectMapper.readValue(json, ClockStatusDTO.class);
+                cached = true;
+            }
+        } catch (DataAccessException | JacksonException e) {
+            log.warn("오늘 출퇴근 상태 캐시 조회 실패 - DB 조회. employeeId: {}", employeeId, e);
+        }
+
+        if (!cached) {
+            status = dashboardMapper.selectTodayStatus(employeeId, workDate);
+        }
 
         // 출근 기록이 없으면 기본값 반환
         if (status == null) {
@@ -175,36 +314,45 @@ public class DashboardServiceImpl implements DashboardService {
         return status;
     }
 
+    /**
+     * 대시보드 통합 조회 (오늘 출퇴근 상태 + 통계 위젯)
+     *  - 캐시된 위젯은 한 번에 조회하고, 캐시 미스 위젯만 DB 병렬 조회 후 캐시 적재
+     * @param employeeId 사원 ID
+     * @return 대시보드 통합 정보
+     */
+    @Override
+    public DashboardSummaryDTO getDashboardSummary(Integer employeeId) {
+        log.info("=== 대시보드 통합 조회 시작 === employeeId: {}", employeeId);
+
+        ClockStatusDTO todayStatus = getTodayStatus(employeeId, LocalDate.now());
+        Map<DashboardWidget, Object> widgets = getWidgets(employeeId, EnumSet.allOf(DashboardWidget.class));
+
+        WeeklyStatsDTO weeklyStats = (WeeklyStatsDTO) widgets.get(DashboardWidget.WEEKLY_STATS);
+        applyTodayWork(weeklyStats, todayStatus);
+
+        return new DashboardSummaryDTO(
+                todayStatus,
+                weeklyStats,
+                (MonthlySummaryDTO) widgets.get(DashboardWidget.MONTHLY_SUMMARY),
+                (AttendanceStatsDTO) widgets.get(DashboardWidget.ATTENDANCE_STATS),
+                (VacationStatsDTO) widgets.get(DashboardWidget.VACATION_STATS),
+                (ApprovalStatsDTO) widgets.get(DashboardWidget.APPROVAL_STATS)
+        );
+    }
+
     /**
      * 이번 주 근무 통계 조회 (실시간 근무 중 시간 포함)
      * @param employeeId 사원 ID
      * @return 주간 근무 통계
      */
     @Override
-    @Transactional(readOnly = true)
     public WeeklyStatsDTO getWeeklyStats(Integer employeeId) {
         log.info("=== 주간 통계 조회 시작 === employeeId: {}", employeeId);
 
-        // 이번 주 월요일 ~ 일요일 계산
-        LocalDate today = LocalDate.now();
-        LocalDate monday = today.with(java.time.DayOfWeek.MONDAY);
-        LocalDate sunday = today.with(java.time.DayOfWeek.SUNDAY);
-
-        String startDate = monday.format(DateTimeFormatter.ISO_LOCAL_DATE);
-        String endDate = sunday.format(DateTimeFormatter.ISO_LOCAL_DATE);
-
-        log.info("조회 기간: {} ~ {}", startDate, endDate);
-
-        // Mapper 호출
-        WeeklyStatsDTO stats = dashboardMapper.selectWeeklyStats(employeeId, startDate, endDate);
+        WeeklyStatsDTO stats = (WeeklyStatsDTO) getWidget(employeeId, DashboardWidget.WEEKLY_STATS);
 
         // 오늘 근무 중이면 실시간 시간 추가
-        if (Boolean.TRUE.equals(stats.getIsWorkingToday())) {
-            Integer totalWithToday = stats.getTotalWorkMinutes() + stats.getTodayWorkMinutes();
-            stats.setTotalWorkMinutes(totalWithToday);
-            stats.setTotalWorkHours(Math.round(totalWithToday / 60.0 * 10.0) / 10.0);
-            stats.setAchievementRate(Math.round((totalWithToday / 60.0) / 52 * 1000.0) / 10.0);
-        }
+        applyTodayWork(stats, getTodayStatus(employeeId, LocalDate.now()));
 
         log.info("=== 주간 통계 조회 완료 === 총 근무시간: {}시간, 달성률: {}%",
                 stats.getTotalWorkHours(), stats.getAchievementRate());
@@ -218,18 +366,10 @@ public class DashboardServiceImpl implements DashboardService {
      * @return 월간 요약 통계
      */
     @Override
-    @Transactional(readOnly = true)
     public MonthlySummaryDTO getMonthlySummary(Integer employeeId) {
         log.info("=== 월간 요약 조회 시작 === employeeId: {}", employeeId);
 
-        LocalDate today = LocalDate.now();
-        LocalDate firstDay = today.withDayOfMonth(1);
-        LocalDate lastDay = today.withDayOfMonth(today.lengthOfMonth());
-
-        String startDate = firstDay.format(DateTimeFormatter.ISO_LOCAL_DATE);
-        String endDate = lastDay.format(DateTimeFormatter.ISO_LOCAL_DATE);
-
-        MonthlySummaryDTO summary = dashboardMapper.selectMonthlySummary(employeeId, startDate, endDate);
+        MonthlySummaryDTO summary = (MonthlySummaryDTO) getWidget(employeeId, DashboardWidget.MONTHLY_SUMMARY);
 
         log.info("=== 월간 요약 조회 완료 === 근무일수: {}일", summary.getWorkDays());
 
@@ -242,18 +382,10 @@ public class DashboardServiceImpl implements DashboardService {
      * @return 출근 통계
      */
     @Override
-    @Transactional(readOnly = true)
     public AttendanceStatsDTO getAttendanceStats(Integer employeeId) {
         log.info("=== 출근 통계 조회 시작 === employeeId: {}", employeeId);
 
-        LocalDate today = LocalDate.now();
-        LocalDate firstDay = today.withDayOfMonth(1);
-        LocalDate lastDay = today.withDayOfMonth(today.lengthOfMonth());
-
-        String startDate = firstDay.format(DateTimeFormatter.ISO_LOCAL_DATE);
-        String endDate = lastDay.format(DateTimeFormatter.ISO_LOCAL_DATE);
-
-        AttendanceStatsDTO stats = dashboardMapper.selectAttendanceStats(employeeId, startDate, endDate);
+        AttendanceStatsDTO stats = (AttendanceStatsDTO) getWidget(employeeId, DashboardWidget.ATTENDANCE_STATS);
 
         log.info("=== 출근 통계 조회 완료 === 정상: {}일, 지각: {}일",
                 stats.getNormalDays(), stats.getLateDays());
@@ -267,18 +399,10 @@ public class DashboardServiceImpl implements DashboardService {
      * @return 휴가 현황 통계
      */
     @Override
-    @Transactional(readOnly = true)
     public VacationStatsDTO getVacationStats(Integer employeeId) {
         log.info("=== 휴가 현황 조회 시작 === employeeId: {}", employeeId);
 
-        LocalDate today = LocalDate.now();
-        LocalDate firstDay = today.withDayOfMonth(1);
-        LocalDate lastDay = today.withDayOfMonth(today.lengthOfMonth());
-
-        String startDate = firstDay.format(DateTimeFormatter.ISO_LOCAL_DATE);
-        String endDate = lastDay.format(DateTimeFormatter.ISO_LOCAL_DATE);
-
-        VacationStatsDTO stats = dashboardMapper.selectVacationStats(employeeId, startDate, endDate);
+        VacationStatsDTO stats = (VacationStatsDTO) getWidget(employeeId, DashboardWidget.VACATION_STATS);
 
         log.info("=== 휴가 현황 조회 완료 === 연차: {}일", stats.getAnnualLeaveDays());
 
@@ -291,11 +415,10 @@ public class DashboardServiceImpl implements DashboardService {
      * @return 결재 현황 통계
      */
     @Override
-    @Transactional(readOnly = true)
     public ApprovalStatsDTO getApprovalStats(Integer employeeId) {
         log.info("=== 결재 현황 조회 시작 === employeeId: {}", employeeId);
 
-        ApprovalStatsDTO stats = dashboardMapper.selectApprovalStats(employeeId);
+        ApprovalStatsDTO stats = (ApprovalStatsDTO) getWidget(employeeId, DashboardWidget.APPROVAL_STATS);
 
         log.info("=== 결재 현황 조회 완료 === 대기: {}건, 완료: {}건",
                 stats.getPendingCount(), stats.getApprovedCount());
@@ -303,9 +426,68 @@ public class DashboardServiceImpl implements DashboardService {
         return stats;
     }
 
+    /**
+     * 통계 위젯 단건 조회 (캐시 우선)
+     * @param employeeId 사원 ID
+     * @param widget 위젯
+     * @return 위젯 DTO
+     */
+    private Object getWidget(Integer employeeId, DashboardWidget widget) {
+        return getWidgets(employeeId, EnumSet.of(widget)).get(widget);
+    }
+
+    /**
+     * 통계 위젯 조회 (캐시 우선, 캐시 미스 위젯만 DB 조회 후 캐시 적재)
+     * @param employeeId 사원 ID
+     * @param widgets 조회 대상 위젯
+     * @return 위젯별 DTO
+     */
+    private Map<DashboardWidget, Object> getWidgets(Integer employeeId, Set<DashboardWidget> widgets) {
+        DashboardCache.Snapshot snapshot = dashboardCache.get(employeeId, widgets);
+        Map<DashboardWidget, Object> result = new EnumMap<>(snapshot.widgets());
+
+        Set<DashboardWidget> missed = EnumSet.copyOf(widgets);
+        missed.removeAll(result.keySet());
+        if (!missed.isEmpty()) {
+            log.debug("대시보드 위젯 캐시 미스 employeeId: {}, widgets: {}", employeeId, missed);
+            Map<DashboardWidget, Object> loaded = widgetLoader.load(employeeId, missed);
+            dashboardCache.put(employeeId, snapshot, loaded);
+            result.putAll(loaded);
+        }
+        return result;
+    }
+
+    /**
+     * 주간 통계에 오늘 근무 반영 (캐시된 주간 통계는 DB 반영된 근무시간만 포함)
+     *  - 근무 중이면 출근 시각부터 현재까지 근무시간 합산
+     *  - 퇴근했지만 아직 DB 반영 전(attendanceId 없음)이면 퇴근 시 계산된 근무시간 합산
+     * @param stats 주간 근무 통계
+     * @param todayStatus 오늘 출퇴근 상태
+     */
+    private static void applyTodayWork(WeeklyStatsDTO stats, ClockStatusDTO todayStatus) {
+        boolean clockedIn = Boolean.TRUE.equals(todayStatus.getIsClockedIn());
+        boolean clockedOut = Boolean.TRUE.equals(todayStatus.getIsClockedOut());
+        boolean working = clockedIn && !clockedOut && todayStatus.getStartTime() != null;
+
+        int todayWorkMinutes = working
+                ? (int) Math.max(0, Duration.between(todayStatus.getStartTime(), LocalTime.now()).toMinutes())
+                : 0;
+
+        int totalWorkMinutes = stats.getTotalWorkMinutes() + todayWorkMinutes;
+        if (clockedOut && todayStatus.getAttendanceId() == null && todayStatus.getWorkDuration() != null) {
+            totalWorkMinutes += todayStatus.getWorkDuration();
+        }
+
+        stats.setIsWorkingToday(working);
+        stats.setTodayWorkMinutes(todayWorkMinutes);
+        stats.setTotalWorkMinutes(totalWorkMinutes);
+        stats.setTotalWorkHours(Math.round(totalWorkMinutes / 60.0 * 10.0) / 10.0);
+        stats.setAchievementRate(Math.round((totalWorkMinutes / 60.0) / LEGAL_WEEKLY_HOURS * 1000.0) / 10.0);
+    }
+
     @Override
     public WorkSystemTemplateDTO getWorkSystemTemplate(Integer templateId) {
-        return dashboardMapper.selectWorkSystemTemplate(templateId);
+        return WorkSystemTemplateDTO.from(workSystemRegistry.findTemplate(templateId));
     }
 
     @Override
@@ -320,6 +502,6 @@ public class DashboardServiceImpl implements DashboardService {
             templateId = 1; // 기본 템플릿
         }
 
-        return dashboardMapper.selectWorkSystemTemplate(templateId);
+        return WorkSystemTemplateDTO.from(workSystemRegistry.findTemplate(templateId));
     }
 }
\ No newline at end of file
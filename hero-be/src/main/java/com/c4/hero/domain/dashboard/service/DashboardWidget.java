@@ -0,0 +1,68 @@
+package com.c4.hero.domain.dashboard.service;
+
+import com.c4.hero.domain.dashboard.dto.ApprovalStatsDTO;
+import com.c4.hero.domain.dashboard.dto.AttendanceStatsDTO;
+import com.c4.hero.domain.dashboard.dto.MonthlySummaryDTO;
+import com.c4.hero.domain.dashboard.dto.VacationStatsDTO;
+import com.c4.hero.domain.dashboard.dto.WeeklyStatsDTO;
+
+import java.util.EnumSet;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Enum Name   : DashboardWidget
+ * Description : 대시보드 캐시 대상 위젯 (캐시 필드명 / 응답 DTO 타입)
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+public enum DashboardWidget {
+
+    /** 이번 주 근무 통계 (완료된 근무일 기준, 오늘 근무 중 시간은 조회 시 합산) */
+    WEEKLY_STATS("weekly", WeeklyStatsDTO.class),
+
+    /** 이번 달 요약 통계 */
+    MONTHLY_SUMMARY("monthly", MonthlySummaryDTO.class),
+
+    /** 이번 달 출근 통계 */
+    ATTENDANCE_STATS("attendance", AttendanceStatsDTO.class),
+
+    /** 이번 달 휴가 현황 */
+    VACATION_STATS("vacation", VacationStatsDTO.class),
+
+    /** 결재 현황 */
+    APPROVAL_STATS("approval", ApprovalStatsDTO.class);
+
+    /** 출퇴근 기록 반영 시 무효화 대상 */
+    public static final Set<DashboardWidget> ATTENDANCE_WIDGETS =
+            EnumSet.of(WEEKLY_STATS, MONTHLY_SUMMARY, ATTENDANCE_STATS);
+
+    /** 결재 상신/회수/반려 시 무효화 대상 */
+    public static final Set<DashboardWidget> APPROVAL_WIDGETS =
+            EnumSet.of(APPROVAL_STATS);
+
+    /** 결재 최종 승인 시 무효화 대상 (휴가/근태 신청 승인 반영 포함) */
+    public static final Set<DashboardWidget> APPROVAL_COMPLETED_WIDGETS =
+            EnumSet.allOf(DashboardWidget.class);
+
+    private final String field;
+    private final Class<?> type;
+
+    DashboardWidget(String field, Class<?> type) {
+        this.field = field;
+        this.type = type;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public Class<?> getType() {
+        return type;
+    }
+}
@@ -0,0 +1,119 @@
+package com.c4.hero.domain.dashboard.service;
+
+import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+
+/**
+ * <pre>
+ * Class Name  : DashboardWidgetLoader
+ * Description : 대시보드 위젯 DB 조회기 (캐시 미스 위젯 병렬 조회)
+ *
+ * 조회 규칙
+ *  - 위젯이 1개면 요청 스레드에서 바로 조회
+ *  - 위젯이 여러 개면 전용 조회 풀에서 위젯별 집계 쿼리를 동시에 실행
+ *    (위젯별 쿼리는 서로 독립적인 읽기 전용 집계이므로 각자 커넥션에서 실행)
+ *
+ * 설정
+ *  - dashboard.summary.query-threads : 위젯 동시 조회 스레드 수 (기본 8)
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성 (DashboardServiceImpl 위젯 조회 로직 이동)
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Slf4j
+@Component
+public class DashboardWidgetLoader {
+
+    private final DashboardMapper dashboardMapper;
+
+    /** 위젯 조회 전용 풀 (빈으로 등록하지 않음) */
+    private final ThreadPoolTaskExecutor queryPool;
+
+    public DashboardWidgetLoader(
+            DashboardMapper dashboardMapper,
+            @Value("${dashboard.summary.query-threads:8}") int queryThreads
+    ) {
+        this.dashboardMapper = dashboardMapper;
+
+        this.queryPool = new ThreadPoolTaskExecutor();
+        this.queryPool.setCorePoolSize(Math.max(1, queryThreads));
+        this.queryPool.setMaxPoolSize(Math.max(1, queryThreads));
+        this.queryPool.setThreadNamePrefix("dashboard-query-");
+        this.queryPool.initialize();
+    }
+
+    /**
+     * 위젯 DB 조회
+     *
+     * @param employeeId 사원 ID
+     * @param widgets    조회 대상 위젯
+     * @return 위젯별 DTO
+     */
+    public Map<DashboardWidget, Object> load(Integer employeeId, Collection<DashboardWidget> widgets) {
+        Map<DashboardWidget, Object> loaded = new EnumMap<>(DashboardWidget.class);
+        if (widgets.size() == 1) {
+            DashboardWidget widget = widgets.iterator().next();
+            loaded.put(widget, query(employeeId, widget));
+            return loaded;
+        }
+
+        Map<DashboardWidget, CompletableFuture<Object>> futures = new EnumMap<>(DashboardWidget.class);
+        for (DashboardWidget widget : widgets) {
+            futures.put(widget, CompletableFuture.supplyAsync(() -> query(employeeId, widget), queryPool));
+        }
+        try {
+            futures.forEach((widget, future) -> loaded.put(widget, future.join()));
+        } catch (CompletionException e) {
+            futures.values().forEach(future -> future.cancel(false));
+            if (e.getCause() instanceof RuntimeException cause) throw cause;
+            throw e;
+        }
+        return loaded;
+    }
+
+    /**
+     * 위젯별 집계 쿼리 실행
+     *
+     * @param employeeId 사원 ID
+     * @param widget     위젯
+     * @return 위젯 DTO
+     */
+    private Object query(Integer employeeId, DashboardWidget widget) {
+        LocalDate today = LocalDate.now();
+        String monthStart = today.withDayOfMonth(1).format(DateTimeFormatter.ISO_LOCAL_DATE);
+        String monthEnd = today.withDayOfMonth(today.lengthOfMonth()).format(DateTimeFormatter.ISO_LOCAL_DATE);
+
+        return switch (widget) {
+            case WEEKLY_STATS -> dashboardMapper.selectWeeklyStats(
+                    employeeId,
+                    today.with(DayOfWeek.MONDAY).format(DateTimeFormatter.ISO_LOCAL_DATE),
+                    today.with(DayOfWeek.SUNDAY).format(DateTimeFormatter.ISO_LOCAL_DATE)
+            );
+            case MONTHLY_SUMMARY -> dashboardMapper.selectMonthlySummary(employeeId, monthStart, monthEnd);
+            case ATTENDANCE_STATS -> dashboardMapper.selectAttendanceStats(employeeId, monthStart, monthEnd);
+            case VACATION_STATS -> dashboardMapper.selectVacationStats(employeeId, monthStart, monthEnd);
+            case APPROVAL_STATS -> dashboardMapper.selectApprovalStats(employeeId);
+        };
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        queryPool.shutdown();
+    }
+}
@@ -2,7 +2,9 @@ package com.c4.hero.domain.notification.mapper;
 
 import com.c4.hero.domain.notification.dto.NotificationDTO;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -14,10 +16,11 @@ import java.util.List;
  * History
  * 2025/12/11 (혜원) 최초 작성
  * 2025/12/15 (혜원) 알림 삭제 관련 메서드 추가
+ * 2026/10/17 (혜원) 출근 미체크 알림 일괄 생성 메서드 추가
  * </pre>
  *
  * @author 혜원
- * @version 2.0
+ * @version 2.1
  */
 @Mapper
 public interface NotificationMapper {
@@ -95,4 +98,38 @@ public interface NotificationMapper {
      * @return 오래된 삭제 알림 목록
      */
     List<NotificationDTO> selectOldDeletedNotifications(LocalDateTime thirtyDaysAgo);
-}
\ No newline at end of file
+
+    /**
+     * 출근 미체크 알림 일괄 생성 (INSERT ... SELECT 1회)
+     *
+     * @param workDate  근무 일자
+     * @param since     중복 발송 확인 기준 일시 (이후 같은 알림을 받은 사원 제외)
+     * @param createdAt 생성 일시 (일괄 생성분 식별용)
+     * @param title     알림 제목
+     * @param message   알림 내용
+     * @param link      이동 링크
+     * @return 생성된 알림 수
+     */
+    int insertClockInMissingNotifications(
+            @Param("workDate") LocalDate workDate,
+            @Param("since") LocalDateTime since,
+            @Param("createdAt") LocalDateTime createdAt,
+            @Param("title") String title,
+            @Param("message") String message,
+            @Param("link") String link
+    );
+
+    /**
+     * 일괄 생성한 알림 조회
+     *
+     * @param type      알림 타입
+     * @param title     알림 제목
+     * @param createdAt 생성 일시
+     * @return 알림 목록
+     */
+    List<NotificationDTO> selectNotificationsCreatedAt(
+            @Param("type") String type,
+            @Param("title") String title,
+            @Param("createdAt") LocalDateTime createdAt
+    );
+}
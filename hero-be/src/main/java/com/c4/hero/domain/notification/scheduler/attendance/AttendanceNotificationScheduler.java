@@ -1,94 +1,76 @@
 package com.c4.hero.domain.notification.scheduler.attendance;
 
-import com.c4.hero.domain.notification.event.attendance.AttendanceNotificationEvent;
-import com.c4.hero.domain.attendance.mapper.AttendanceMapper;
-import com.c4.hero.domain.notification.service.AttendanceNotificationEventService;
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import com.c4.hero.domain.notification.service.NotificationCommandService;
+import com.c4.hero.domain.notification.service.NotificationPushService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.context.ApplicationEventPublisher;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
 import java.util.List;
-import java.util.Map;
 
+/**
+ * <pre>
+ * Class Name: AttendanceNotificationScheduler
+ * Description: 출근 미체크 알림 스케줄러
+ *
+ * 처리 방식
+ *  - 매일 10:00 / 11:00 / 14:00 (월~금) 출근 미체크 사원에게 알림 발송
+ *  - 대상 조회 / 알림 설정 확인 / 저장을 INSERT ... SELECT 1회로 일괄 처리
+ *  - 같은 회차(정시 이후)에 이미 알림을 받은 사원은 제외 (재실행 시 중복 발송 방지)
+ *  - 저장 커밋 이후 WebSocket 전송은 전송 풀에서 병렬 처리
+ *  - ShedLock 으로 여러 서버 중 1곳에서만 실행
+ *
+ * History
+ * 2026/01/02 (혜원) 최초 작성
+ * 2026/10/17 (혜원) 사원별 이벤트 발행 대신 일괄 저장 + 병렬 전송으로 변경, ShedLock 적용
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.1
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class AttendanceNotificationScheduler {
 
-    private final AttendanceNotificationEventService attendanceNotificationEventService;
-    private final ApplicationEventPublisher eventPublisher;
-    private final AttendanceMapper attendanceMapper;
+    private final NotificationCommandService notificationCommandService;
+    private final NotificationPushService notificationPushService;
 
     /**
-     * 테스트용: 매 1분마다 출근 미체크 확인
-     * 운영 시 주석 처리
+     * 매일 10:00, 11:00, 14:00(오후 2시) 출근 미체크자 확인 (월~금)
      */
-    /*
-    @Scheduled(cron = "0 * * * * *")
-    public void testCheckClockInMissing() {
-        checkAndNotifyClockInMissing("테스트-매1분");
-    }
-    */
-
-    /**
-     * 매일 10:00 출근 미체크자 확인 (월~금)
-     */
-    @Scheduled(cron = "0 0 10 * * MON-FRI")
-    public void checkClockInMissing10AM() {
-        checkAndNotifyClockInMissing("10:00");
-    }
-
-    /**
-     * 매일 11:00 출근 미체크자 확인 (월~금)
-     */
-    @Scheduled(cron = "0 0 11 * * MON-FRI")
-    public void checkClockInMissing11AM() {
-        checkAndNotifyClockInMissing("11:00");
-    }
-
-    /**
-     * 매일 14:00(오후 2시) 출근 미체크자 확인 (월~금)
-     */
-    @Scheduled(cron = "0 0 14 * * MON-FRI")
-    public void checkClockInMissing2PM() {
-        checkAndNotifyClockInMissing("14:00");
+    @Scheduled(cron = "0 0 10,11,14 * * MON-FRI")
+    @SchedulerLock(name = "checkClockInMissing", lockAtLeastFor = "PT1M", lockAtMostFor = "PT10M")
+    public void checkClockInMissing() {
+        LocalDateTime round = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS);
+        checkAndNotifyClockInMissing(round);
     }
 
     /**
      * 출근 미체크 확인 및 알림 발송 공통 메서드
+     *
+     * @param round 알림 회차 (정시)
      */
-    private void checkAndNotifyClockInMissing(String time) {
+    private void checkAndNotifyClockInMissing(LocalDateTime round) {
+        String time = round.toLocalTime().toString();
         log.info("[스케줄러 {}] 출근 미체크 확인 시작", time);
 
-        LocalDate today = LocalDate.now();
-        List<Map<String, Object>> missingList = attendanceNotificationEventService.findClockInMissingEmployees(today);
+        LocalDate today = round.toLocalDate();
+        List<NotificationDTO> notifications =
+                notificationCommandService.registClockInMissingNotifications(today, round);
 
-        log.info("[{}] 출근 미체크: {}명", time, missingList.size());
-
-        if (missingList.isEmpty()) {
-            log.info("[{}] 모든 직원이 출근했습니다!", time);
+        if (notifications.isEmpty()) {
+            log.info("[{}] 알림 대상 출근 미체크 직원이 없습니다.", time);
             return;
         }
 
-        missingList.forEach(map -> {
-            Integer employeeId = (Integer) map.get("employeeId");
-            Integer attendanceId = (Integer) map.get("attendanceId");
-
-            log.info("[{}] 출근 미체크 알림 발송 - employeeId: {}", time, employeeId);
-
-            AttendanceNotificationEvent.ClockInMissingEvent event = AttendanceNotificationEvent.ClockInMissingEvent.builder()
-                    .employeeId(employeeId)
-                    .attendanceId(attendanceId)
-                    .workDate(today.toString())
-                    .build();
-
-            eventPublisher.publishEvent(event);
-        });
-
-        log.info("[스케줄러 {}] 출근 미체크 알림 발송 완료: {}건", time, missingList.size());
+        int sent = notificationPushService.pushAll(notifications);
+        log.info("[스케줄러 {}] 출근 미체크 알림 발송 완료: 저장 {}건, 전송 {}건", time, notifications.size(), sent);
     }
-
-}
\ No newline at end of file
+}
@@ -2,6 +2,8 @@ package com.c4.hero.domain.notification.service;
 
 import com.c4.hero.domain.notification.event.attendance.AttendanceNotificationEvent;
 import com.c4.hero.domain.attendance.mapper.AttendanceMapper;
+import com.c4.hero.domain.attendance.service.WorkSystemRegistry;
+import com.c4.hero.domain.dashboard.dto.ClockStatusDTO;
 import com.c4.hero.domain.dashboard.dto.WeeklyStatsDTO;
 import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
 import lombok.RequiredArgsConstructor;
@@ -23,6 +25,8 @@ import java.util.Map;
  *
  * History
  * 2026/01/02 (혜원) 지각 즉시 알림 및 결근 스케줄러 로직 완성
+ * 2026/10/17 (혜원) 출근 시각 지정 지각 판단 추가 (출퇴근 대기열 반영 후 호출)
+ * 2026/10/17 (혜원) 지각 판단 기준 출근 시간을 근무제 레지스트리에서 조회, 근태 ID는 지각 시에만 조회
  * </pre>
  */
 @Slf4j
@@ -34,6 +38,7 @@ public class AttendanceNotificationEventService {
     private final AttendanceMapper attendanceMapper;
     private final ApplicationEventPublisher eventPublisher;
     private final DashboardMapper dashboardMapper;
+    private final WorkSystemRegistry workSystemRegistry;
 
     /**
      * 출근 미체크 직원 조회 (스케줄러에서 미체크 알림 발송용으로 사용)
@@ -48,47 +53,48 @@ public class AttendanceNotificationEventService {
      */
     @Transactional
     public void clockIn(Integer employeeId) {
-        LocalTime now = LocalTime.now();
         LocalDate today = LocalDate.now();
-
-        // 1. 오늘 적용된 근무제 시작 시간과 근태 기록 ID 조회
-        Map<String, Object> workSystem = attendanceMapper.selectCurrentWorkSystem(employeeId, today);
-        if (workSystem == null) {
+        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, today);
+        if (status == null) {
             log.warn("해당 직원의 근태 생성 데이터가 없습니다. employeeId: {}", employeeId);
             return;
         }
+        clockIn(employeeId, today, LocalTime.now(), status.getWorkSystemTemplateId());
+    }
 
-        Object startTimeObj = workSystem.get("scheduledStartTime");
-        LocalTime scheduledStartTime;
-
-        if (startTimeObj instanceof String) {
-            scheduledStartTime = LocalTime.parse((String) startTimeObj);
-        } else {
-            scheduledStartTime = (LocalTime) startTimeObj;
-        }
+    /**
+     * 출근 기록 반영 후 지각 즉시 알림 (출퇴근 대기열 반영 시 실제 출근 시각 기준으로 호출)
+     *
+     * @param workSystemTemplateId 출근 시 적용된 근무제 템플릿 ID (없으면 09:00 기준)
+     */
+    @Transactional
+    public void clockIn(Integer employeeId, LocalDate today, LocalTime now, Integer workSystemTemplateId) {
 
-        Integer attendanceId = (Integer) workSystem.get("attendanceId");
+        // 1. 오늘 적용된 근무제 시작 시간 조회 (근무제 레지스트리, DB 조회 없음)
+        LocalTime scheduledStartTime = workSystemRegistry.startTimeOf(workSystemTemplateId);
 
         // 2. 지각 여부 판단
-        String status = "정상";
-        int lateMinutes = 0;
-
-        if (now.isAfter(scheduledStartTime)) {
-            status = "지각";
-            lateMinutes = (int) Duration.between(scheduledStartTime, now).toMinutes();
-            log.info("[지각 감지] employeeId: {}, {}분 지각", employeeId, lateMinutes);
+        if (!now.isAfter(scheduledStartTime)) {
+            return;
         }
 
-        // 3. 지각일 경우 '즉시' 이벤트 발행 -> Listener를 통해 알림 발송
-        if ("지각".equals(status)) {
-            eventPublisher.publishEvent(AttendanceNotificationEvent.LateEvent.builder()
-                    .employeeId(employeeId)
-                    .attendanceId(attendanceId)
-                    .lateMinutes(lateMinutes)
-                    .workDate(today.toString())
-                    .startTime(now)
-                    .build());
+        int lateMinutes = (int) Duration.between(scheduledStartTime, now).toMinutes();
+        log.info("[지각 감지] employeeId: {}, {}분 지각", employeeId, lateMinutes);
+
+        // 3. 지각일 경우 근태 기록 ID 조회 후 '즉시' 이벤트 발행 -> Listener를 통해 알림 발송
+        ClockStatusDTO status = dashboardMapper.selectTodayStatus(employeeId, today);
+        if (status == null) {
+            log.warn("해당 직원의 근태 생성 데이터가 없습니다. employeeId: {}", employeeId);
+            return;
         }
+
+        eventPublisher.publishEvent(AttendanceNotificationEvent.LateEvent.builder()
+                .employeeId(employeeId)
+                .attendanceId(status.getAttendanceId())
+                .lateMinutes(lateMinutes)
+                .workDate(today.toString())
+                .startTime(now)
+                .build());
     }
 
     @Transactional
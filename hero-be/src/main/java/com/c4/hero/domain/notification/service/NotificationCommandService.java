@@ -12,6 +12,7 @@ import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 
@@ -24,10 +25,11 @@ import java.util.List;
  * History
  * 2025/12/16 (혜원) 최초작성 (CQRS 패턴 적용 - Command 분리)
  * 2025/12/22 (혜원) 읽음 처리 및 삭제 관련 보안 파라미터(employeeId) 적용 및 로직 정비
+ * 2026/10/17 (혜원) 출근 미체크 알림 일괄 생성 추가
  * </pre>
  *
  * @author 혜원
- * @version 2.1
+ * @version 2.2
  */
 @Slf4j
 @Service
@@ -95,6 +97,35 @@ public class NotificationCommandService {
         return notificationDTO;
     }
 
+    /**
+     * 출근 미체크 알림 일괄 생성 (WebSocket 전송은 커밋 이후 호출자가 처리)
+     *  - 대상 조회 / 알림 설정 확인 / 중복 발송 확인 / 저장을 INSERT ... SELECT 1회로 처리
+     *
+     * @param workDate 근무 일자
+     * @param since 중복 발송 확인 기준 일시 (이후 같은 알림을 받은 사원 제외)
+     * @return 생성된 알림 목록
+     */
+    @Transactional
+    public List<NotificationDTO> registClockInMissingNotifications(LocalDate workDate, LocalDateTime since) {
+        String title = "출근 미체크";
+        LocalDateTime createdAt = LocalDateTime.now().withNano(0);
+
+        int inserted = notificationMapper.insertClockInMissingNotifications(
+                workDate,
+                since,
+                createdAt,
+                title,
+                workDate + " 출근 체크가 없습니다. 근태를 확인해주세요.",
+                "/attendance"
+        );
+        log.info("출근 미체크 알림 일괄 저장 완료: workDate={}, count={}", workDate, inserted);
+
+        if (inserted == 0) {
+            return List.of();
+        }
+        return notificationMapper.selectNotificationsCreatedAt("attendance", title, createdAt);
+    }
+
     /**
      * 특정 알림 읽음 처리 (복구된 기능!)
      *
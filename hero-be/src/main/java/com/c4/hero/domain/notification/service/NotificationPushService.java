@@ -0,0 +1,87 @@
+package com.c4.hero.domain.notification.service;
+
+import com.c4.hero.domain.notification.dto.NotificationDTO;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * <pre>
+ * Class Name: NotificationPushService
+ * Description: 저장된 알림 WebSocket 일괄 전송 서비스
+ *              대량 알림(출근 미체크 등)을 전용 전송 풀에서 병렬로 전송
+ *
+ * 설정
+ *  - notification.push-threads : 동시 전송 스레드 수 (기본 8)
+ *
+ * History
+ * 2026/10/17 (혜원) 최초 작성
+ * </pre>
+ *
+ * @author 혜원
+ * @version 1.0
+ */
+@Slf4j
+@Service
+public class NotificationPushService {
+
+    private final SimpMessagingTemplate messagingTemplate;
+
+    /** 알림 전송 전용 풀 (빈으로 등록하지 않음) */
+    private final ThreadPoolTaskExecutor pushPool;
+
+    public NotificationPushService(
+            SimpMessagingTemplate messagingTemplate,
+            @Value("${notification.push-threads:8}") int pushThreads
+    ) {
+        this.messagingTemplate = messagingTemplate;
+
+        this.pushPool = new ThreadPoolTaskExecutor();
+        this.pushPool.setCorePoolSize(Math.max(1, pushThreads));
+        this.pushPool.setMaxPoolSize(Math.max(1, pushThreads));
+        this.pushPool.setThreadNamePrefix("notification-push-");
+        this.pushPool.setWaitForTasksToCompleteOnShutdown(true);
+        this.pushPool.setAwaitTerminationSeconds(30);
+        this.pushPool.initialize();
+    }
+
+    /**
+     * 알림 목록 WebSocket 병렬 전송 (전송 실패 건은 로그만 남기고 계속 진행)
+     *
+     * @param notifications 저장된 알림 목록
+     * @return 전송 성공 건수
+     */
+    public int pushAll(List<NotificationDTO> notifications) {
+        AtomicInteger sent = new AtomicInteger();
+
+        CompletableFuture<?>[] futures = notifications.stream()
+                .map(notification -> CompletableFuture.runAsync(() -> {
+                    try {
+                        messagingTemplate.convertAndSend(
+                                "/topic/notifications/" + notification.getEmployeeId(),
+                                notification
+                        );
+                        sent.incrementAndGet();
+                    } catch (Exception e) {
+                        log.error("WebSocket 전송 실패: employeeId={}, {}", notification.getEmployeeId(), e.getMessage());
+                    }
+                }, pushPool))
+                .toArray(CompletableFuture[]::new);
+        CompletableFuture.allOf(futures).join();
+
+        log.info("알림 WebSocket 일괄 전송 완료: {}/{}건", sent.get(), notifications.size());
+        return sent.get();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        pushPool.shutdown();
+    }
+}
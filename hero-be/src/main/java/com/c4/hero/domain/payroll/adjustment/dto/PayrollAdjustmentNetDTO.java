@@ -0,0 +1,21 @@
+package com.c4.hero.domain.payroll.adjustment.dto;
+
+/**
+ * <pre>
+ * DTO Name : PayrollAdjustmentNetDTO
+ * Description : 급여 배치 일괄 조회용 사원별 승인 조정 순합(net) DTO
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param employeeId 사원 ID
+ * @param net        승인된 조정 순합 (+ 지급 / - 공제)
+ */
+public record PayrollAdjustmentNetDTO(
+        Integer employeeId,
+        Integer net
+) {}
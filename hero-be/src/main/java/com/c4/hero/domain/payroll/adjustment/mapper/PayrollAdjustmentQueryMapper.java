@@ -1,8 +1,11 @@
 package com.c4.hero.domain.payroll.adjustment.mapper;
 
+import com.c4.hero.domain.payroll.adjustment.dto.PayrollAdjustmentNetDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 /**
  * <pre>
  * Mapper Name : PayrollAdjustmentQueryMapper
@@ -10,10 +13,11 @@ import org.apache.ibatis.annotations.Param;
  *
  * History
  *  2025/12/31 - 동근 최초 작성
+ *  2026/10/17 - 동근 사원 목록 단위 조정 순합 일괄 조회 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 @Mapper
 public interface PayrollAdjustmentQueryMapper {
@@ -28,4 +32,16 @@ public interface PayrollAdjustmentQueryMapper {
             @Param("employeeId") Integer employeeId,
             @Param("salaryMonth") String salaryMonth
     );
+
+    /**
+     * 사원 목록 기준 승인된 조정의 순합(net) 일괄 조회 (급여 배치 입력 선조회용)
+     *
+     * @param employeeIds 사원 ID 목록
+     * @param salaryMonth 급여월(YYYY-MM) = adjustment.effective_month
+     * @return 사원별 net 합계 목록 (조정이 없는 사원은 제외)
+     */
+    List<PayrollAdjustmentNetDTO> selectApprovedAdjustmentNets(
+            @Param("employeeIds") List<Integer> employeeIds,
+            @Param("salaryMonth") String salaryMonth
+    );
 }
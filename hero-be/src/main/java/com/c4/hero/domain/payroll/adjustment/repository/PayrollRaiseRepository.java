@@ -3,6 +3,8 @@ package com.c4.hero.domain.payroll.adjustment.repository;
 import com.c4.hero.domain.payroll.adjustment.entity.PayrollRaise;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 /**
@@ -13,10 +15,11 @@ import java.util.Optional;
  * History
  *
  *  2025/12/31 - 동근 최초 작성
+ *  2026/10/17 - 동근 사원 목록 단위 인상 내역 일괄 조회 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 public interface PayrollRaiseRepository extends JpaRepository<PayrollRaise, Integer> {
     /**
@@ -30,4 +33,16 @@ public interface PayrollRaiseRepository extends JpaRepository<PayrollRaise, Inte
     Optional<PayrollRaise> findTopByEmployeeIdAndEffectiveMonthAndStatusOrderByRaiseIdDesc(
             Integer employeeId, String effectiveMonth, String status
     );
+
+    /**
+     * 사원 목록 + 급여월 + 상태 기준 급여 인상 내역 일괄 조회 (급여 배치 입력 선조회용)
+     *
+     * @param employeeIds    사원 ID 목록
+     * @param effectiveMonth 적용 급여월 (YYYY-MM)
+     * @param status         인상 상태
+     * @return 급여 인상 내역 목록
+     */
+    List<PayrollRaise> findAllByEmployeeIdInAndEffectiveMonthAndStatus(
+            Collection<Integer> employeeIds, String effectiveMonth, String status
+    );
 }
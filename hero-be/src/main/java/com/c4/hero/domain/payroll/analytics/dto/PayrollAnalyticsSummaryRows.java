@@ -0,0 +1,49 @@
+package com.c4.hero.domain.payroll.analytics.dto;
+
+/**
+ * <pre>
+ * DTO Name : PayrollAnalyticsSummaryRows
+ * Description : 급여 분석 월별 집계 테이블(확정/지급 월) 조회용 Row DTO 모음
+ *
+ * History
+ *   2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public class PayrollAnalyticsSummaryRows {
+
+    /**
+     * 월별 전사 집계 Row (tbl_payroll_monthly_summary)
+     */
+    public record MonthlySummaryRow(
+            String month,
+            Integer headcount,
+            Integer baseTotal,
+            Integer allowanceTotal,
+            Integer overtimeTotal,
+            Integer bonusTotal,
+            Integer deductionTotal,
+            Integer laborCostTotal,
+            Integer netTotal,
+            Integer avgNetPay,
+            Integer medianNetPay
+    ) {}
+
+    /**
+     * 월별 부서 집계 Row (tbl_payroll_monthly_dept_summary, 급여 없는 부서는 0)
+     */
+    public record DeptSummaryRow(
+            Integer departmentId,
+            String departmentName,
+            Integer headcount,
+            Integer baseTotal,
+            Integer allowanceTotal,
+            Integer overtimeTotal,
+            Integer bonusTotal,
+            Integer deductionTotal,
+            Integer laborCostTotal,
+            Integer netTotal
+    ) {}
+}
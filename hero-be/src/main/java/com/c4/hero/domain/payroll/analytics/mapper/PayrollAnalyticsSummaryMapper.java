@@ -0,0 +1,117 @@
+package com.c4.hero.domain.payroll.analytics.mapper;
+
+import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsCompositionRows;
+import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsSummaryRows;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Mapper Name : PayrollAnalyticsSummaryMapper
+ * Description : 급여 분석 월별 집계 테이블 적재/조회 MyBatis 매퍼
+ *
+ * 집계 테이블
+ *  - tbl_payroll_monthly_summary      : 월별 전사 집계 (실지급 평균/중앙값 포함)
+ *  - tbl_payroll_monthly_dept_summary : 월별 부서 집계 (확정 시점 소속 부서 기준)
+ *  - tbl_payroll_monthly_item_summary : 월별 급여 항목 집계
+ *
+ * History
+ *   2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Mapper
+public interface PayrollAnalyticsSummaryMapper {
+
+    /**
+     * 월별 전사 집계 삭제
+     *
+     * @param month 급여월 (YYYY-MM)
+     * @return 삭제 건수
+     */
+    int deleteMonthlySummary(@Param("month") String month);
+
+    /**
+     * 월별 전사 집계 적재 (확정/지급 급여 기준 INSERT ... SELECT)
+     *
+     * @param month 급여월 (YYYY-MM)
+     * @return 적재 건수 (확정/지급 급여가 없으면 0)
+     */
+    int insertMonthlySummary(@Param("month") String month);
+
+    /**
+     * 월별 부서 집계 삭제
+     *
+     * @param month 급여월 (YYYY-MM)
+     * @return 삭제 건수
+     */
+    int deleteDeptSummaries(@Param("month") String month);
+
+    /**
+     * 월별 부서 집계 적재 (확정/지급 급여 기준 INSERT ... SELECT)
+     *
+     * @param month 급여월 (YYYY-MM)
+     * @return 적재 건수
+     */
+    int insertDeptSummaries(@Param("month") String month);
+
+    /**
+     * 월별 급여 항목 집계 삭제
+     *
+     * @param month 급여월 (YYYY-MM)
+     * @return 삭제 건수
+     */
+    int deleteItemSummaries(@Param("month") String month);
+
+    /**
+     * 월별 급여 항목 집계 적재 (확정/지급 급여 기준 INSERT ... SELECT)
+     *
+     * @param month 급여월 (YYYY-MM)
+     * @return 적재 건수
+     */
+    int insertItemSummaries(@Param("month") String month);
+
+    /**
+     * 월별 전사 집계 조회
+     *
+     * @param month 급여월 (YYYY-MM)
+     * @return 집계 Row (집계되지 않은 월이면 null)
+     */
+    PayrollAnalyticsSummaryRows.MonthlySummaryRow selectMonthlySummary(@Param("month") String month);
+
+    /**
+     * 기간 내 월별 전사 집계 조회
+     *
+     * @param fromMonth 시작 월 (YYYY-MM)
+     * @param toMonth   종료 월 (YYYY-MM)
+     * @return 집계된 월의 Row 목록 (월 오름차순)
+     */
+    List<PayrollAnalyticsSummaryRows.MonthlySummaryRow> selectMonthlySummaries(
+            @Param("fromMonth") String fromMonth,
+            @Param("toMonth") String toMonth
+    );
+
+    /**
+     * 월별 부서 집계 조회 (전체 부서, 인건비 내림차순)
+     *
+     * @param month 급여월 (YYYY-MM)
+     * @return 부서 집계 Row 목록
+     */
+    List<PayrollAnalyticsSummaryRows.DeptSummaryRow> selectDeptSummaries(@Param("month") String month);
+
+    /**
+     * 월별 급여 항목 집계 조회
+     *
+     * @param month    급여월 (YYYY-MM)
+     * @param itemType 항목 유형 (ALLOWANCE / DEDUCTION)
+     * @return 항목 집계 Row 목록 (금액 내림차순)
+     */
+    List<PayrollAnalyticsCompositionRows.ItemAggRow> selectItemSummaries(
+            @Param("month") String month,
+            @Param("itemType") String itemType
+    );
+}
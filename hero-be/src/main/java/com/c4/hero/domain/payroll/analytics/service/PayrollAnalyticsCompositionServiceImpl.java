@@ -3,13 +3,17 @@ package com.c4.hero.domain.payroll.analytics.service;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsCompositionResponse;
 import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsCompositionRows;
+import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsSummaryRows;
 import com.c4.hero.domain.payroll.analytics.mapper.PayrollAnalyticsCompositionMapper;
+import com.c4.hero.domain.payroll.analytics.mapper.PayrollAnalyticsSummaryMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * <pre>
@@ -19,10 +23,11 @@ import java.util.List;
  * History
  *   2026/01/02 - 동근 최초 작성
  *   2026/01/03 - 동근 권한 인가 정책 추가
+ *   2026/10/17 - 동근 확정/지급 월 부서/항목/추이 집계는 월별 집계 테이블에서 조회하도록 변경
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 
 @PayrollAdminOnly
@@ -31,6 +36,7 @@ import java.util.List;
 public class PayrollAnalyticsCompositionServiceImpl implements PayrollAnalyticsCompositionService {
 
     private final PayrollAnalyticsCompositionMapper mapper;
+    private final PayrollAnalyticsSummaryMapper summaryMapper;
 
     /**
      * 급여 구성(Composition) 분석 데이터 조회
@@ -42,7 +48,12 @@ public class PayrollAnalyticsCompositionServiceImpl implements PayrollAnalyticsC
     public PayrollAnalyticsCompositionResponse getComposition(String month, Integer trendMonths) {
         int months = (trendMonths == null || trendMonths <= 0) ? 6 : trendMonths;
 
-        var deptAgg = mapper.selectDeptShareAgg(month);
+        // 확정/지급 월은 집계 테이블, 집계되지 않은 월(미확정 당월 등)만 실시간 집계
+        boolean summarized = summaryMapper.selectMonthlySummary(month) != null;
+
+        var deptAgg = summarized
+                ? toDeptShareAgg(summaryMapper.selectDeptSummaries(month))
+                : mapper.selectDeptShareAgg(month);
         int deptTotal = deptAgg.stream().mapToInt(r -> nz(r.laborCostTotal())).sum();
 
         List<PayrollAnalyticsCompositionResponse.DeptShareRow> deptShare = new ArrayList<>();
@@ -56,8 +67,12 @@ public class PayrollAnalyticsCompositionServiceImpl implements PayrollAnalyticsC
             ));
         }
 
-        var allowAgg = mapper.selectItemAgg(month, "ALLOWANCE");
-        var dedAgg = mapper.selectItemAgg(month, "DEDUCTION");
+        var allowAgg = summarized
+                ? summaryMapper.selectItemSummaries(month, "ALLOWANCE")
+                : mapper.selectItemAgg(month, "ALLOWANCE");
+        var dedAgg = summarized
+                ? summaryMapper.selectItemSummaries(month, "DEDUCTION")
+                : mapper.selectItemAgg(month, "DEDUCTION");
 
         int allowTotal = allowAgg.stream().mapToInt(r -> nz(r.amountTotal())).sum();
         int dedTotal = dedAgg.stream().mapToInt(r -> nz(r.amountTotal())).sum();
@@ -67,6 +82,7 @@ public class PayrollAnalyticsCompositionServiceImpl implements PayrollAnalyticsC
 
         var items = new PayrollAnalyticsCompositionResponse.ItemSummary(allowList, dedList);
 
+        // 사업주 부담분은 요율 테이블과 조인이 필요하여 원본 테이블에서 조회
         var burdenAgg = mapper.selectBurdenAgg(month);
         List<PayrollAnalyticsCompositionResponse.BurdenRow> burden = new ArrayList<>();
         for (var r : burdenAgg) {
@@ -81,7 +97,7 @@ public class PayrollAnalyticsCompositionServiceImpl implements PayrollAnalyticsC
 
         YearMonth to = YearMonth.parse(month);
         YearMonth from = to.minusMonths(months - 1);
-        var trendAgg = mapper.selectStackTrend(from.toString(), to.toString());
+        var trendAgg = selectStackTrend(from, to);
 
         List<PayrollAnalyticsCompositionResponse.MonthStackRow> stackTrend = new ArrayList<>();
         for (var r : trendAgg) {
@@ -99,6 +115,65 @@ public class PayrollAnalyticsCompositionServiceImpl implements PayrollAnalyticsC
         return new PayrollAnalyticsCompositionResponse(month, deptShare, items, burden, stackTrend);
     }
 
+    /**
+     * 부서 집계 Row를 부서별 인건비 합계 Row로 변환
+     *
+     * @param deptSummaries 부서 집계 Row 목록 (인건비 내림차순)
+     * @return 부서별 인건비 합계 Row 목록
+     */
+    private List<PayrollAnalyticsCompositionRows.DeptShareAggRow> toDeptShareAgg(
+            List<PayrollAnalyticsSummaryRows.DeptSummaryRow> deptSummaries
+    ) {
+        List<PayrollAnalyticsCompositionRows.DeptShareAggRow> out = new ArrayList<>(deptSummaries.size());
+        for (var r : deptSummaries) {
+            out.add(new PayrollAnalyticsCompositionRows.DeptShareAggRow(
+                    r.departmentId(),
+                    r.departmentName(),
+                    r.laborCostTotal()
+            ));
+        }
+        return out;
+    }
+
+    /**
+     * 월별 구성 변화(스택) 조회
+     *  - 집계 테이블에 있는 월은 집계값 사용
+     *  - 집계가 없는 월이 있을 때만 해당 구간을 실시간 집계로 보완
+     *
+     * @param from 시작 월
+     * @param to   종료 월
+     * @return 월 오름차순 구성 Row 목록 (급여가 없는 월은 제외)
+     */
+    private List<PayrollAnalyticsCompositionRows.MonthStackAggRow> selectStackTrend(YearMonth from, YearMonth to) {
+        Map<String, PayrollAnalyticsCompositionRows.MonthStackAggRow> byMonth = new TreeMap<>();
+        for (var s : summaryMapper.selectMonthlySummaries(from.toString(), to.toString())) {
+            byMonth.put(s.month(), new PayrollAnalyticsCompositionRows.MonthStackAggRow(
+                    s.month(),
+                    s.baseTotal(),
+                    s.allowanceTotal(),
+                    s.overtimeTotal(),
+                    s.bonusTotal(),
+                    s.deductionTotal(),
+                    s.laborCostTotal()
+            ));
+        }
+
+        YearMonth firstMissing = null;
+        YearMonth lastMissing = null;
+        for (YearMonth m = from; !m.isAfter(to); m = m.plusMonths(1)) {
+            if (byMonth.containsKey(m.toString())) continue;
+            if (firstMissing == null) firstMissing = m;
+            lastMissing = m;
+        }
+
+        if (firstMissing != null) {
+            for (var r : mapper.selectStackTrend(firstMissing.toString(), lastMissing.toString())) {
+                byMonth.putIfAbsent(r.month(), r);
+            }
+        }
+        return new ArrayList<>(byMonth.values());
+    }
+
     /**
      * 항목 합계 집계 Row를 화면용 ItemRow로 변환하고 비중(%)을 계산한다.
      *
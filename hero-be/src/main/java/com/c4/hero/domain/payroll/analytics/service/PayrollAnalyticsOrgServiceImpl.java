@@ -2,11 +2,17 @@ package com.c4.hero.domain.payroll.analytics.service;
 
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsOrgResponse;
+import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsSummaryRows;
 import com.c4.hero.domain.payroll.analytics.mapper.PayrollAnalyticsOrgMapper;
+import com.c4.hero.domain.payroll.analytics.mapper.PayrollAnalyticsSummaryMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 
 /**
  * <pre>
@@ -16,10 +22,11 @@ import java.time.YearMonth;
  * History
  *   2026/01/02 - 동근 최초 작성
  *   2026/01/03 - 동근 권한 인가 정책 추가
+ *   2026/10/17 - 동근 확정/지급 월 KPI/부서 집계는 월별 집계 테이블에서 조회하도록 변경
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @PayrollAdminOnly
 @Service
@@ -27,6 +34,7 @@ import java.time.YearMonth;
 public class PayrollAnalyticsOrgServiceImpl implements PayrollAnalyticsOrgService {
 
     private final PayrollAnalyticsOrgMapper mapper;
+    private final PayrollAnalyticsSummaryMapper summaryMapper;
 
     /**
      * 급여 조직 분석 데이터 조회
@@ -39,12 +47,34 @@ public class PayrollAnalyticsOrgServiceImpl implements PayrollAnalyticsOrgServic
     public PayrollAnalyticsOrgResponse getOrganization(String month, Integer deptId) {
         String prevMonth = YearMonth.parse(month).minusMonths(1).toString();
 
-        Integer totalLaborCost = nz(mapper.selectTotalLaborCost(month));
+        PayrollAnalyticsSummaryRows.MonthlySummaryRow summary = summaryMapper.selectMonthlySummary(month);
 
-        PayrollAnalyticsOrgResponse.OrgKpi rawKpi =
-                (deptId == null)
-                        ? mapper.selectOrgKpiAll(month)
-                        : mapper.selectOrgKpiByDept(month, deptId);
+        Integer totalLaborCost;
+        PayrollAnalyticsOrgResponse.OrgKpi rawKpi;
+        List<PayrollAnalyticsOrgResponse.DeptRow> departments;
+        List<PayrollAnalyticsOrgResponse.DeptStackRow> stacks;
+
+        if (summary != null) {
+            List<PayrollAnalyticsSummaryRows.DeptSummaryRow> deptSummaries = summaryMapper.selectDeptSummaries(month);
+
+            totalLaborCost = nz(summary.laborCostTotal());
+            rawKpi = (deptId == null)
+                    ? new PayrollAnalyticsOrgResponse.OrgKpi(
+                            summary.headcount(), summary.laborCostTotal(), summary.avgNetPay(), null)
+                    : toDeptKpi(deptSummaries, deptId);
+            departments = summaryMapper.selectMonthlySummary(prevMonth) != null
+                    ? toDeptRows(deptSummaries, summaryMapper.selectDeptSummaries(prevMonth))
+                    : mapper.selectDeptTable(month, prevMonth);
+            stacks = toDeptStacks(deptSummaries);
+        } else {
+            // 집계되지 않은 월(미확정 당월 등)만 실시간 집계
+            totalLaborCost = nz(mapper.selectTotalLaborCost(month));
+            rawKpi = (deptId == null)
+                    ? mapper.selectOrgKpiAll(month)
+                    : mapper.selectOrgKpiByDept(month, deptId);
+            departments = mapper.selectDeptTable(month, prevMonth);
+            stacks = mapper.selectDeptStacks(month);
+        }
 
         Double share = null;
         if (totalLaborCost > 0 && rawKpi != null && rawKpi.laborCostTotal() != null) {
@@ -58,9 +88,7 @@ public class PayrollAnalyticsOrgServiceImpl implements PayrollAnalyticsOrgServic
                 share
         );
 
-        var departments = mapper.selectDeptTable(month, prevMonth);
-        var stacks = mapper.selectDeptStacks(month);
-
+        // 개인 단위 랭킹은 LIMIT 10 조회이므로 원본 테이블에서 조회
         var top10 = mapper.selectNetPayTop10(month, deptId);
         var bottom10 = mapper.selectNetPayBottom10(month, deptId);
         var dedTop10 = mapper.selectDeductionRateTop10(month, deptId);
@@ -77,6 +105,84 @@ public class PayrollAnalyticsOrgServiceImpl implements PayrollAnalyticsOrgServic
         );
     }
 
+    /**
+     * 부서 집계 기준 선택 부서 KPI 변환
+     *
+     * @param deptSummaries 부서 집계 Row 목록
+     * @param deptId        선택 부서 ID
+     * @return 선택 부서 KPI (집계가 없으면 0)
+     */
+    private PayrollAnalyticsOrgResponse.OrgKpi toDeptKpi(
+            List<PayrollAnalyticsSummaryRows.DeptSummaryRow> deptSummaries, Integer deptId
+    ) {
+        for (var r : deptSummaries) {
+            if (!deptId.equals(r.departmentId())) continue;
+
+            int headcount = nz(r.headcount());
+            int avgNetPay = headcount == 0 ? 0 : (int) Math.round((double) nz(r.netTotal()) / headcount);
+            return new PayrollAnalyticsOrgResponse.OrgKpi(headcount, nz(r.laborCostTotal()), avgNetPay, null);
+        }
+        return new PayrollAnalyticsOrgResponse.OrgKpi(0, 0, 0, null);
+    }
+
+    /**
+     * 부서 집계 기준 부서 테이블 변환 (전월 대비: netTotal 기준)
+     *
+     * @param current  기준 월 부서 집계
+     * @param previous 전월 부서 집계
+     * @return 부서 테이블 Row 목록
+     */
+    private List<PayrollAnalyticsOrgResponse.DeptRow> toDeptRows(
+            List<PayrollAnalyticsSummaryRows.DeptSummaryRow> current,
+            List<PayrollAnalyticsSummaryRows.DeptSummaryRow> previous
+    ) {
+        Map<Integer, Integer> prevNet = new HashMap<>();
+        for (var r : previous) {
+            prevNet.put(r.departmentId(), nz(r.netTotal()));
+        }
+
+        List<PayrollAnalyticsOrgResponse.DeptRow> rows = new ArrayList<>(current.size());
+        for (var r : current) {
+            int prev = prevNet.getOrDefault(r.departmentId(), 0);
+            Double mom = prev <= 0 ? null : (double) (nz(r.netTotal()) - prev) / prev * 100.0;
+            rows.add(new PayrollAnalyticsOrgResponse.DeptRow(
+                    r.departmentId(),
+                    r.departmentName(),
+                    nz(r.headcount()),
+                    nz(r.laborCostTotal()),
+                    nz(r.deductionTotal()),
+                    nz(r.netTotal()),
+                    mom
+            ));
+        }
+        return rows;
+    }
+
+    /**
+     * 부서 집계 기준 스택 차트 변환
+     *
+     * @param deptSummaries 부서 집계 Row 목록
+     * @return 부서별 스택 차트 Row 목록
+     */
+    private List<PayrollAnalyticsOrgResponse.DeptStackRow> toDeptStacks(
+            List<PayrollAnalyticsSummaryRows.DeptSummaryRow> deptSummaries
+    ) {
+        List<PayrollAnalyticsOrgResponse.DeptStackRow> rows = new ArrayList<>(deptSummaries.size());
+        for (var r : deptSummaries) {
+            rows.add(new PayrollAnalyticsOrgResponse.DeptStackRow(
+                    r.departmentId(),
+                    r.departmentName(),
+                    nz(r.baseTotal()),
+                    nz(r.allowanceTotal()),
+                    nz(r.overtimeTotal()),
+                    nz(r.bonusTotal()),
+                    nz(r.deductionTotal()),
+                    nz(r.laborCostTotal())
+            ));
+        }
+        return rows;
+    }
+
     /**
      * null 안전 정수 변환
      *
@@ -3,13 +3,17 @@ package com.c4.hero.domain.payroll.analytics.service;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsOverviewResponse;
 import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsOverviewRows;
+import com.c4.hero.domain.payroll.analytics.dto.PayrollAnalyticsSummaryRows;
 import com.c4.hero.domain.payroll.analytics.mapper.PayrollAnalyticsMapper;
+import com.c4.hero.domain.payroll.analytics.mapper.PayrollAnalyticsSummaryMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 
 import java.time.YearMonth;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
 
 /**
  * <pre>
@@ -19,10 +23,11 @@ import java.util.List;
  * History
  *   2026/01/02 - 동근 최초 작성
  *   2026/01/03 - 동근 권한 인가 정책 추가
+ *   2026/10/17 - 동근 확정/지급 월은 월별 집계 테이블에서 조회하도록 변경
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @PayrollAdminOnly
 @Service
@@ -30,6 +35,7 @@ import java.util.List;
 public class PayrollAnalyticsServiceImpl implements PayrollAnalyticsService {
 
     private final PayrollAnalyticsMapper mapper;
+    private final PayrollAnalyticsSummaryMapper summaryMapper;
 
     /**
      * 급여 분석 Overview 데이터 조회
@@ -42,18 +48,30 @@ public class PayrollAnalyticsServiceImpl implements PayrollAnalyticsService {
     public PayrollAnalyticsOverviewResponse getOverview(String month, Integer trendMonths) {
         int months = (trendMonths == null || trendMonths <= 0) ? 6 : trendMonths;
 
-        PayrollAnalyticsOverviewRows.OverviewAggRow agg = mapper.selectOverviewAgg(month);
-        PayrollAnalyticsOverviewRows.NetPayStatsRow net = mapper.selectNetPayStats(month);
+        PayrollAnalyticsSummaryRows.MonthlySummaryRow summary = summaryMapper.selectMonthlySummary(month);
+
+        PayrollAnalyticsOverviewRows.OverviewAggRow agg;
+        PayrollAnalyticsOverviewRows.NetPayStatsRow net;
+        if (summary != null) {
+            agg = new PayrollAnalyticsOverviewRows.OverviewAggRow(
+                    summary.headcount(), summary.laborCostTotal(), summary.deductionTotal(), summary.laborCostTotal()
+            );
+            net = new PayrollAnalyticsOverviewRows.NetPayStatsRow(summary.avgNetPay(), summary.medianNetPay());
+        } else {
+            // 집계되지 않은 월(미확정 당월 등)만 실시간 집계
+            agg = mapper.selectOverviewAgg(month);
+            net = mapper.selectNetPayStats(month);
+        }
 
         String prevMonth = YearMonth.parse(month).minusMonths(1).toString();
-        Integer prevAvg = mapper.selectPrevMonthAvgNetPay(prevMonth);
+        PayrollAnalyticsSummaryRows.MonthlySummaryRow prevSummary = summaryMapper.selectMonthlySummary(prevMonth);
+        Integer prevAvg = (prevSummary != null) ? prevSummary.avgNetPay() : mapper.selectPrevMonthAvgNetPay(prevMonth);
         Double netMom = calcRate(prevAvg, net.avgNetPay());
 
         YearMonth to = YearMonth.parse(month);
         YearMonth from = to.minusMonths(months - 1);
 
-        List<PayrollAnalyticsOverviewRows.TrendAggRow> rows =
-                mapper.selectLaborCostTrend(from.toString(), to.toString());
+        List<PayrollAnalyticsOverviewRows.TrendAggRow> rows = selectLaborCostTrend(from, to);
 
         List<PayrollAnalyticsOverviewResponse.TrendPoint> trend = new ArrayList<>();
         PayrollAnalyticsOverviewRows.TrendAggRow prev = null;
@@ -79,6 +97,37 @@ public class PayrollAnalyticsServiceImpl implements PayrollAnalyticsService {
         return new PayrollAnalyticsOverviewResponse(month, kpi, netPay, trend);
     }
 
+    /**
+     * 월별 인건비 추이 조회
+     *  - 집계 테이블에 있는 월은 집계값 사용
+     *  - 집계가 없는 월이 있을 때만 해당 구간을 실시간 집계로 보완
+     *
+     * @param from 시작 월
+     * @param to   종료 월
+     * @return 월 오름차순 인건비 추이 Row 목록 (급여가 없는 월은 제외)
+     */
+    private List<PayrollAnalyticsOverviewRows.TrendAggRow> selectLaborCostTrend(YearMonth from, YearMonth to) {
+        Map<String, PayrollAnalyticsOverviewRows.TrendAggRow> byMonth = new TreeMap<>();
+        for (var s : summaryMapper.selectMonthlySummaries(from.toString(), to.toString())) {
+            byMonth.put(s.month(), new PayrollAnalyticsOverviewRows.TrendAggRow(s.month(), s.laborCostTotal()));
+        }
+
+        YearMonth firstMissing = null;
+        YearMonth lastMissing = null;
+        for (YearMonth m = from; !m.isAfter(to); m = m.plusMonths(1)) {
+            if (byMonth.containsKey(m.toString())) continue;
+            if (firstMissing == null) firstMissing = m;
+            lastMissing = m;
+        }
+
+        if (firstMissing != null) {
+            for (var r : mapper.selectLaborCostTrend(firstMissing.toString(), lastMissing.toString())) {
+                byMonth.putIfAbsent(r.month(), r);
+            }
+        }
+        return new ArrayList<>(byMonth.values());
+    }
+
     /**
      * null 안전 정수 변환
      *
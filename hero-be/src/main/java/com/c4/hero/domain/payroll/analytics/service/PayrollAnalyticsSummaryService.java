@@ -0,0 +1,56 @@
+package com.c4.hero.domain.payroll.analytics.service;
+
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.analytics.mapper.PayrollAnalyticsSummaryMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * <pre>
+ * Service Name : PayrollAnalyticsSummaryService
+ * Description  : 급여 분석 월별 집계 테이블 적재 서비스
+ *
+ * 적재 시점
+ *  - 급여 배치 확정(CONFIRMED) / 지급(PAID) 트랜잭션 안에서 호출
+ *  - 배치 상태 전이와 같은 트랜잭션이므로 확정된 월은 항상 집계가 존재
+ *
+ * 조회 규칙
+ *  - 분석 API는 집계가 존재하는 월은 집계 테이블에서 조회
+ *  - 집계가 없는 월(미확정 당월 등)만 원본 급여 테이블 실시간 집계로 조회
+ *
+ * History
+ *   2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+public class PayrollAnalyticsSummaryService {
+
+    private final PayrollAnalyticsSummaryMapper mapper;
+
+    /**
+     * 급여월 집계 재적재 (해당 월 집계 삭제 후 INSERT ... SELECT)
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     */
+    @Transactional
+    public void refresh(String salaryMonth) {
+        mapper.deleteMonthlySummary(salaryMonth);
+        mapper.deleteDeptSummaries(salaryMonth);
+        mapper.deleteItemSummaries(salaryMonth);
+
+        int monthly = mapper.insertMonthlySummary(salaryMonth);
+        int departments = mapper.insertDeptSummaries(salaryMonth);
+        int items = mapper.insertItemSummaries(salaryMonth);
+
+        log.info("급여 분석 월별 집계 적재 month={}, monthly={}, departments={}, items={}",
+                salaryMonth, monthly, departments, items);
+    }
+}
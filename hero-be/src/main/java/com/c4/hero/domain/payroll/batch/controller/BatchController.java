@@ -5,10 +5,13 @@ import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.domain.auth.security.CustomUserDetails;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchDetailResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchListResponseDTO;
 import com.c4.hero.domain.payroll.batch.dto.PayrollBatchTargetEmployeeResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationProgressResponseDTO;
 import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeResultResponseDTO;
 import com.c4.hero.domain.payroll.batch.mapper.PayrollBatchQueryMapper;
+import com.c4.hero.domain.payroll.batch.service.PayrollBatchJobService;
 import com.c4.hero.domain.payroll.batch.service.PayrollBatchService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -39,10 +42,14 @@ import java.util.List;
  *  2025/12/18 - 동근 지급(pay) API 추가
  *             - swagger 문서화 주석 추가
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/17 - 동근 계산 API 비동기 응답(202) 및 진행률 조회 API 추가
+ *  2026/10/17 - 동근 지급 API 응답에 지급 처리 결과 건수 추가
+ *  2026/10/17 - 동근 계산/확정/지급 API 를 비동기 작업(Job) 등록 방식으로 변경 및 작업 조회 API 추가
+ *  2026/10/17 - 동근 계산 API 증분 재계산(incremental) 옵션 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.2
+ *  @version 1.6
  */
 @PayrollAdminOnly
 @RequestMapping("/api/admin/payroll/batches")
@@ -52,6 +59,7 @@ import java.util.List;
 public class BatchController {
 
     private final PayrollBatchService batchService;
+    private final PayrollBatchJobService batchJobService;
     private final PayrollBatchQueryMapper batchQueryMapper;
 
     /**
@@ -76,47 +84,92 @@ public ResponseEntity<Integer> create(
     }
 
     /**
-     * 급여 배치 계산 실행
+     * 급여 배치 계산 작업 등록
+     *  - 계산은 작업(Job)으로 등록되어 비동기로 진행되며 즉시 작업 정보를 반환
      *
      * @param batchId     급여 배치 ID
      * @param employeeIds 계산 대상 사원 ID 목록 (null일 경우 배치 전체 대상)
+     * @param incremental 증분 재계산 여부 (true 이면 입력값이 바뀐 사원만 재계산)
+     * @return 등록된 계산 작업
      */
     @Operation(summary = "급여 배치 계산 실행",
-            description = "배치 단위 급여 계산을 실행합니다. employeeIds가 없으면 배치 전체 대상 계산을 수행합니다.")
+            description = "배치 단위 급여 계산 작업을 등록합니다. employeeIds가 없으면 배치 전체 대상 계산을 수행합니다. "
+                    + "incremental=true 이면 마지막 계산 이후 근태/인상/조정/수당·공제 정책이 바뀐 사원만 재계산합니다. "
+                    + "진행 상황은 /jobs/{jobId} 또는 /{batchId}/calculate/progress 로 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "202", description = "작업 등록",
+                    content = @Content(schema = @Schema(implementation = PayrollBatchJobResponseDTO.class))),
             @ApiResponse(responseCode = "400", description = "요청값이 올바르지 않음", content = @Content),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "404", description = "배치를 찾을 수 없음", content = @Content),
-            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 계산 불가", content = @Content)
+            @ApiResponse(responseCode = "409", description = "상태가 맞지 않거나 이미 진행 중인 작업이 있어 계산 불가", content = @Content)
     })
     @PostMapping("/{batchId}/calculate")
-    public ResponseEntity<Void> calculate(
+    public ResponseEntity<PayrollBatchJobResponseDTO> calculate(
             @PathVariable Integer batchId,
-            @RequestBody(required = false) List<Integer> employeeIds
+            @RequestBody(required = false) List<Integer> employeeIds,
+            @RequestParam(defaultValue = "false") boolean incremental,
+            @AuthenticationPrincipal CustomUserDetails user
     ) {
-        batchService.calculate(batchId, employeeIds);
-        return ResponseEntity.ok().build();
+        return ResponseEntity.accepted()
+                .body(batchJobService.submitCalculate(batchId, employeeIds, incremental, user.getEmployeeId()));
     }
 
     /**
-     * 급여 배치 확정
+     * 급여 배치 계산 진행률 조회
      *
      * @param batchId 급여 배치 ID
+     * @return 진행률 (done/failed/total)
      */
-    @Operation(summary = "급여 배치 확정", description = "급여 배치를 확정(CONFIRMED) 상태로 변경합니다.")
+    @Operation(summary = "급여 배치 계산 진행률 조회", description = "진행 중이거나 마지막으로 실행된 배치 계산 작업의 진행률을 조회합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "처리 성공"),
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = PayrollCalculationProgressResponseDTO.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "배치를 찾을 수 없음", content = @Content)
+    })
+    @GetMapping("/{batchId}/calculate/progress")
+    public PayrollCalculationProgressResponseDTO calculationProgress(@PathVariable Integer batchId) {
+        return batchJobService.getCalculationProgress(batchId);
+    }
+
+    /**
+     * 급여 배치 작업 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태 및 처리 건수
+     */
+    @Operation(summary = "급여 배치 작업 조회", description = "계산/확정/지급 작업의 상태와 처리 건수를 조회합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = PayrollBatchJobResponseDTO.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
+            @ApiResponse(responseCode = "404", description = "작업을 찾을 수 없음", content = @Content)
+    })
+    @GetMapping("/jobs/{jobId}")
+    public PayrollBatchJobResponseDTO job(@PathVariable Integer jobId) {
+        return batchJobService.getJob(jobId);
+    }
+
+    /**
+     * 급여 배치 확정 작업 등록
+     *
+     * @param batchId 급여 배치 ID
+     * @return 등록된 확정 작업
+     */
+    @Operation(summary = "급여 배치 확정", description = "급여 배치를 확정(CONFIRMED) 상태로 변경하는 작업을 등록합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "202", description = "작업 등록",
+                    content = @Content(schema = @Schema(implementation = PayrollBatchJobResponseDTO.class))),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "404", description = "배치를 찾을 수 없음", content = @Content),
-            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 확정 불가", content = @Content)
+            @ApiResponse(responseCode = "409", description = "상태가 맞지 않거나 이미 진행 중인 작업이 있어 확정 불가", content = @Content)
     })
     @PostMapping("/{batchId}/confirm")
-public ResponseEntity<Void> confirm(
-        @PathVariable Integer batchId,
-        @AuthenticationPrincipal CustomUserDetails user) {
-            batchService.confirm(batchId, user.getEmployeeId());
-        return ResponseEntity.ok().build();
+    public ResponseEntity<PayrollBatchJobResponseDTO> confirm(
+            @PathVariable Integer batchId,
+            @AuthenticationPrincipal CustomUserDetails user) {
+        return ResponseEntity.accepted().body(batchJobService.submitConfirm(batchId, user.getEmployeeId()));
     }
 
     /**
@@ -193,24 +246,25 @@ public ResponseEntity<Void> confirm(
     }
 
     /**
-     * 급여 배치 지급 처리
+     * 급여 배치 지급 작업 등록
      *
      * @param batchId 급여 배치 ID
-     * @return 공통 성공 응답
+     * @return 등록된 지급 작업 (완료 시 total / done = 배치 급여 건수 / 신규 지급 이력 건수)
      */
-    @Operation(summary = "급여 배치 지급 처리", description = "확정된 배치에 대해 지급(PAID) 처리를 수행합니다.")
+    @Operation(summary = "급여 배치 지급 처리",
+            description = "확정된 배치에 대해 지급(PAID) 처리 작업을 등록합니다. 재요청 시 누락된 지급 이력만 등록합니다.")
     @ApiResponses(value = {
-            @ApiResponse(responseCode = "200", description = "처리 성공",
-                    content = @Content(schema = @Schema(implementation = CustomResponse.class))),
+            @ApiResponse(responseCode = "202", description = "작업 등록",
+                    content = @Content(schema = @Schema(implementation = PayrollBatchJobResponseDTO.class))),
             @ApiResponse(responseCode = "403", description = "권한 없음", content = @Content),
             @ApiResponse(responseCode = "404", description = "배치를 찾을 수 없음", content = @Content),
-            @ApiResponse(responseCode = "409", description = "상태가 맞지 않아 지급 불가", content = @Content)
+            @ApiResponse(responseCode = "409", description = "상태가 맞지 않거나 이미 진행 중인 작업이 있어 지급 불가", content = @Content)
     })
     @PostMapping("/{batchId}/pay")
-public ResponseEntity<CustomResponse<Void>> pay(
-        @PathVariable Integer batchId,
-        @AuthenticationPrincipal CustomUserDetails user) {
-            batchService.pay(batchId, user.getEmployeeId());
-        return ResponseEntity.ok(CustomResponse.success());
+    public ResponseEntity<CustomResponse<PayrollBatchJobResponseDTO>> pay(
+            @PathVariable Integer batchId,
+            @AuthenticationPrincipal CustomUserDetails user) {
+        return ResponseEntity.accepted()
+                .body(CustomResponse.success(batchJobService.submitPay(batchId, user.getEmployeeId())));
     }
 }
@@ -0,0 +1,86 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.common.type.PayrollJobStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollJobType;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * DTO Name : PayrollBatchJobResponseDTO
+ * Description : 급여 배치 비동기 작업(계산/확정/지급) 조회 응답 DTO
+ *
+ * 건수 의미
+ *  - CALCULATE : 대상 사원 수 / 계산 완료 사원 수 / 계산 실패 사원 수 / 계산 생략 사원 수
+ *                (청크 완료 시마다 갱신, 생략 건수는 완료 건수에 포함)
+ *  - CONFIRM   : 확정된 급여 건수 (종료 시 기록)
+ *  - PAY       : 배치 급여 건수 / 신규 등록된 지급 이력 건수 (종료 시 기록)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 증분 재계산 여부 및 생략 건수 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ *
+ * @param jobId        작업 ID
+ * @param batchId      급여 배치 ID
+ * @param jobType      작업 유형 (CALCULATE / CONFIRM / PAY)
+ * @param status       작업 상태 (QUEUED / RUNNING / COMPLETED / FAILED)
+ * @param total        처리 대상 건수
+ * @param done         처리 완료 건수
+ * @param failed       처리 실패 건수
+ * @param skipped      증분 재계산에서 입력값 변경이 없어 계산 생략한 건수
+ * @param incremental  증분 재계산 작업 여부
+ * @param attemptCount 실행 시도 횟수 (재개 시 증가)
+ * @param requestedBy  요청자 사원 ID
+ * @param createdAt    작업 등록 시각
+ * @param startedAt    최초 실행 시각
+ * @param finishedAt   종료 시각 (진행 중이면 null)
+ * @param errorMessage 작업 중단 사유 (FAILED 상태일 경우)
+ */
+public record PayrollBatchJobResponseDTO(
+        Integer jobId,
+        Integer batchId,
+        PayrollJobType jobType,
+        PayrollJobStatus status,
+        int total,
+        int done,
+        int failed,
+        int skipped,
+        boolean incremental,
+        int attemptCount,
+        Integer requestedBy,
+        LocalDateTime createdAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String errorMessage
+) {
+    /**
+     * PayrollBatchJob 엔티티 -> 응답 DTO 변환 메서드
+     *
+     * @param job PayrollBatchJob 엔티티
+     * @return PayrollBatchJobResponseDTO
+     */
+    public static PayrollBatchJobResponseDTO from(PayrollBatchJob job) {
+        return new PayrollBatchJobResponseDTO(
+                job.getJobId(),
+                job.getBatchId(),
+                job.getJobType(),
+                job.getStatus(),
+                job.getTotalCount(),
+                job.getDoneCount(),
+                job.getFailedCount(),
+                job.getSkippedCount(),
+                job.isIncremental(),
+                job.getAttemptCount(),
+                job.getRequestedBy(),
+                job.getCreatedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getErrorMessage()
+        );
+    }
+}
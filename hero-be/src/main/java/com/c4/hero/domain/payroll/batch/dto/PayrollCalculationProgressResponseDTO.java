@@ -0,0 +1,40 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+import com.c4.hero.domain.payroll.common.type.PayrollCalculationStatus;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * DTO Name : PayrollCalculationProgressResponseDTO
+ * Description : 급여 배치 계산 진행률 조회 응답 DTO
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 증분 재계산 생략 건수 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ *
+ * @param batchId      급여 배치 ID
+ * @param status       계산 실행 상태 (IDLE / RUNNING / COMPLETED / FAILED)
+ * @param total        계산 대상 사원 수
+ * @param done         계산 완료 사원 수 (확정/입력값 동일로 스킵된 사원 포함)
+ * @param failed       계산 실패(FAILED) 사원 수
+ * @param skipped      증분 재계산에서 입력값 변경이 없어 계산 생략한 사원 수
+ * @param startedAt    계산 시작 시각
+ * @param finishedAt   계산 종료 시각 (진행 중이면 null)
+ * @param errorMessage 계산 실행 중단 사유 (FAILED 상태일 경우)
+ */
+public record PayrollCalculationProgressResponseDTO(
+        Integer batchId,
+        PayrollCalculationStatus status,
+        int total,
+        int done,
+        int failed,
+        int skipped,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        String errorMessage
+) {}
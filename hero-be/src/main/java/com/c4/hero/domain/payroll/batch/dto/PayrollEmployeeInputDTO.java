@@ -0,0 +1,52 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+/**
+ * <pre>
+ * DTO Name : PayrollEmployeeInputDTO
+ * Description : 급여 배치 계산용 사원 1명의 선조회 입력값 DTO
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 항목 정책 대상 판별용 부서/직급 ID 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ *
+ * @param employeeId     사원 ID
+ * @param departmentId   부서 ID (없으면 null)
+ * @param gradeId        직급 ID (없으면 null)
+ * @param baseSalary     사원 기본급 (tbl_employee 기준, 없으면 0)
+ * @param raisedSalary   해당 급여월 승인된 인상 후 급여 (없으면 null)
+ * @param attendanceDays 해당 월 근태 기록 일수
+ * @param workedMinutes  해당 월 총 근무 시간 (분 단위)
+ * @param adjustmentNet  해당 월 승인된 수기 조정 순합 (+ 지급 / - 공제)
+ */
+public record PayrollEmployeeInputDTO(
+        Integer employeeId,
+        Integer departmentId,
+        Integer gradeId,
+        int baseSalary,
+        Integer raisedSalary,
+        int attendanceDays,
+        int workedMinutes,
+        int adjustmentNet
+) {
+
+    /**
+     * 선조회 결과가 전혀 없는 사원의 기본 입력값
+     *
+     * @param employeeId 사원 ID
+     * @return 모든 값이 0인 입력값
+     */
+    public static PayrollEmployeeInputDTO empty(Integer employeeId) {
+        return new PayrollEmployeeInputDTO(employeeId, null, null, 0, null, 0, 0, 0);
+    }
+
+    /**
+     * 급여 계산에 적용할 기본급 (인상 승인 건이 있으면 인상 후 급여 우선)
+     */
+    public int effectiveBaseSalary() {
+        return raisedSalary != null ? raisedSalary : baseSalary;
+    }
+}
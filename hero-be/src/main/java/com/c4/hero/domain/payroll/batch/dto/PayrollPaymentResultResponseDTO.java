@@ -0,0 +1,25 @@
+package com.c4.hero.domain.payroll.batch.dto;
+
+/**
+ * <pre>
+ * DTO Name : PayrollPaymentResultResponseDTO
+ * Description : 급여 배치 지급 처리 결과 응답 DTO
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param batchId     급여 배치 ID
+ * @param totalCount  배치 내 급여 건수
+ * @param postedCount 이번 요청으로 신규 등록된 지급 이력 건수
+ * @param skippedCount 이미 지급 이력이 있어 건너뛴 건수
+ */
+public record PayrollPaymentResultResponseDTO(
+        Integer batchId,
+        long totalCount,
+        int postedCount,
+        long skippedCount
+) {}
@@ -1,6 +1,7 @@
 package com.c4.hero.domain.payroll.batch.entity;
 
 import com.c4.hero.domain.payroll.common.type.PayrollStatus;
+import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
@@ -30,10 +31,11 @@ import lombok.NoArgsConstructor;
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 도메인 로직 확장
+ *  2026/10/17 - 동근 증분 재계산용 계산 입력값 지문 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.1
  */
 
 @Entity
@@ -65,6 +67,15 @@ public class Payroll {
     private Integer employeeId;
     private Integer batchId;
     private String errorMessage;
+
+    /**
+     * 마지막 계산에 사용된 입력값 지문 (PayrollInputFingerprint)
+     *  - 증분 재계산 시 지문이 같으면 계산 생략
+     *  - 계산 실패 시 null 로 초기화하여 항상 재계산 대상이 되도록 함
+     */
+    @Column(name = "input_fingerprint", length = 64)
+    private String inputFingerprint;
+
     /**
      * 급여 계산 성공 시 생성 팩토리 메서드
      *
@@ -185,6 +196,26 @@ public class Payroll {
         this.totalPay = 0;
         this.status = PayrollStatus.FAILED;
         this.errorMessage = message;
+        this.inputFingerprint = null;
+    }
+
+    /**
+     * 계산에 사용된 입력값 지문 기록
+     *
+     * @param fingerprint 입력값 지문
+     */
+    public void recordInputFingerprint(String fingerprint) {
+        this.inputFingerprint = fingerprint;
+    }
+
+    /**
+     * 마지막 계산 이후 입력값 변경이 없는지 여부
+     *
+     * @param fingerprint 현재 입력값 지문
+     * @return true = 계산 완료 상태이며 입력값 동일 (재계산 불필요)
+     */
+    public boolean isUpToDate(String fingerprint) {
+        return this.status == PayrollStatus.CALCULATED && fingerprint.equals(this.inputFingerprint);
     }
 
     /**
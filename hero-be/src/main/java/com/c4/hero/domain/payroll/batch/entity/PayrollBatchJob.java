@@ -0,0 +1,213 @@
+package com.c4.hero.domain.payroll.batch.entity;
+
+import com.c4.hero.domain.payroll.common.type.PayrollJobStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollJobType;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * <pre>
+ * Entity Name : PayrollBatchJob
+ * Description : 급여 배치 비동기 작업(계산/확정/지급) 엔티티
+ *
+ * 역할
+ *  - BatchController 요청 시 작업을 등록하고 jobId 를 즉시 반환
+ *  - 실행 노드가 중단되어도 작업 상태/대상/청크 크기가 남아 있어 다른 노드가 이어서 실행
+ *
+ * 도메인 규칙
+ *  - 배치 1개당 QUEUED / RUNNING 상태 작업은 최대 1개
+ *  - 계산 작업의 대상 사원과 청크 크기는 등록 시점에 고정 (재개 시 청크 번호가 동일하게 유지됨)
+ *  - doneCount / failedCount / skippedCount 는 청크 체크포인트와 같은 트랜잭션에서 누적
+ *  - 증분(incremental) 계산 작업은 입력값 지문이 같은 급여를 계산하지 않고 skippedCount 로 집계
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 증분 재계산 모드 및 계산 생략 건수 추가
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ */
+@Entity
+@Table(
+        name = "tbl_payroll_batch_job",
+        indexes = {
+                @Index(name = "idx_payroll_batch_job_batch", columnList = "batch_id, job_type"),
+                @Index(name = "idx_payroll_batch_job_status", columnList = "status")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PayrollBatchJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "job_id")
+    private Integer jobId;
+
+    @Column(name = "batch_id", nullable = false)
+    private Integer batchId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "job_type", nullable = false, length = 20)
+    private PayrollJobType jobType;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", nullable = false, length = 20)
+    private PayrollJobStatus status;
+
+    /**
+     * 계산 대상 사원 ID 목록 (콤마 구분, 계산 작업만 사용)
+     */
+    @Lob
+    @Column(name = "target_employee_ids")
+    private String targetEmployeeIds;
+
+    @Column(name = "chunk_size", nullable = false)
+    private Integer chunkSize;
+
+    /**
+     * 증분 재계산 여부 (계산 작업만 사용)
+     */
+    @Column(name = "incremental", nullable = false)
+    private boolean incremental;
+
+    @Column(name = "total_count", nullable = false)
+    private Integer totalCount;
+
+    @Column(name = "done_count", nullable = false)
+    private Integer doneCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount;
+
+    /**
+     * 입력값 변경이 없어 계산을 생략한 건수 (doneCount 에 포함)
+     */
+    @Column(name = "skipped_count", nullable = false)
+    private Integer skippedCount;
+
+    /**
+     * 실행 시도 횟수 (노드 중단 후 재개될 때마다 증가)
+     */
+    @Column(name = "attempt_count", nullable = false)
+    private Integer attemptCount;
+
+    @Column(name = "error_message", length = 500)
+    private String errorMessage;
+
+    @Column(name = "requested_by")
+    private Integer requestedBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "started_at")
+    private LocalDateTime startedAt;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    /**
+     * 작업 등록 팩토리 메서드
+     *
+     * @param batchId     급여 배치 ID
+     * @param jobType     작업 유형
+     * @param employeeIds 계산 대상 사원 ID 목록 (확정/지급 작업은 빈 목록)
+     * @param chunkSize   계산 청크 크기
+     * @param incremental 증분 재계산 여부
+     * @param requestedBy 요청자 사원 ID
+     * @return QUEUED 상태의 작업 엔티티
+     */
+    public static PayrollBatchJob queued(
+            Integer batchId,
+            PayrollJobType jobType,
+            List<Integer> employeeIds,
+            int chunkSize,
+            boolean incremental,
+            Integer requestedBy
+    ) {
+        PayrollBatchJob job = new PayrollBatchJob();
+        job.batchId = batchId;
+        job.jobType = jobType;
+        job.status = PayrollJobStatus.QUEUED;
+        job.targetEmployeeIds = employeeIds.isEmpty()
+                ? null
+                : employeeIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+        job.chunkSize = chunkSize;
+        job.incremental = incremental;
+        job.totalCount = employeeIds.size();
+        job.doneCount = 0;
+        job.failedCount = 0;
+        job.skippedCount = 0;
+        job.attemptCount = 0;
+        job.requestedBy = requestedBy;
+        job.createdAt = LocalDateTime.now();
+        return job;
+    }
+
+    /**
+     * 계산 대상 사원 ID 목록 (등록 순서 유지)
+     */
+    public List<Integer> getTargetEmployeeIdList() {
+        if (targetEmployeeIds == null || targetEmployeeIds.isBlank()) {
+            return List.of();
+        }
+        return Arrays.stream(targetEmployeeIds.split(","))
+                .map(Integer::valueOf)
+                .toList();
+    }
+
+    /**
+     * 실행 시작(또는 재개) 처리
+     */
+    public void start() {
+        this.status = PayrollJobStatus.RUNNING;
+        this.attemptCount = attemptCount + 1;
+        if (startedAt == null) {
+            this.startedAt = LocalDateTime.now();
+        }
+    }
+
+    /**
+     * 정상 종료 처리
+     *
+     * @param total  처리 대상 건수 (확정/지급 작업은 실행 시점에 확정)
+     * @param done   처리 완료 건수
+     * @param failed 처리 실패 건수
+     */
+    public void complete(int total, int done, int failed) {
+        this.status = PayrollJobStatus.COMPLETED;
+        this.totalCount = total;
+        this.doneCount = done;
+        this.failedCount = failed;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+    /**
+     * 실행 중단 처리
+     *
+     * @param message 중단 사유
+     */
+    public void fail(String message) {
+        this.status = PayrollJobStatus.FAILED;
+        this.errorMessage = message;
+        this.finishedAt = LocalDateTime.now();
+    }
+}
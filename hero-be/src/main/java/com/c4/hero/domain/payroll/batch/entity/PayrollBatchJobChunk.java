@@ -0,0 +1,94 @@
+package com.c4.hero.domain.payroll.batch.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Entity Name : PayrollBatchJobChunk
+ * Description : 급여 계산 작업의 청크 완료 체크포인트 엔티티
+ *
+ * 도메인 규칙
+ *  - (jobId + chunkNo)는 유일해야 함
+ *  - 청크 계산 결과와 같은 트랜잭션에서 저장되므로, 행이 있으면 해당 청크 계산은 커밋된 상태
+ *  - 작업 재개 시 체크포인트가 있는 청크는 다시 계산하지 않음
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 계산 생략 건수 추가
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ */
+@Entity
+@Table(
+        name = "tbl_payroll_batch_job_chunk",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_payroll_batch_job_chunk", columnNames = {"job_id", "chunk_no"})
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PayrollBatchJobChunk {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "chunk_id")
+    private Integer chunkId;
+
+    @Column(name = "job_id", nullable = false)
+    private Integer jobId;
+
+    @Column(name = "chunk_no", nullable = false)
+    private Integer chunkNo;
+
+    @Column(name = "done_count", nullable = false)
+    private Integer doneCount;
+
+    @Column(name = "failed_count", nullable = false)
+    private Integer failedCount;
+
+    @Column(name = "skipped_count", nullable = false)
+    private Integer skippedCount;
+
+    @Column(name = "completed_at", nullable = false)
+    private LocalDateTime completedAt;
+
+    /**
+     * 청크 완료 체크포인트 생성 팩토리 메서드
+     *
+     * @param jobId       작업 ID
+     * @param chunkNo     청크 번호 (0부터 시작)
+     * @param doneCount   계산 완료 사원 수
+     * @param failedCount 계산 실패 사원 수
+     * @param skippedCount 입력값 변경이 없어 계산 생략한 사원 수
+     * @return 체크포인트 엔티티
+     */
+    public static PayrollBatchJobChunk completed(
+            Integer jobId,
+            int chunkNo,
+            int doneCount,
+            int failedCount,
+            int skippedCount
+    ) {
+        PayrollBatchJobChunk c = new PayrollBatchJobChunk();
+        c.jobId = jobId;
+        c.chunkNo = chunkNo;
+        c.doneCount = doneCount;
+        c.failedCount = failedCount;
+        c.skippedCount = skippedCount;
+        c.completedAt = LocalDateTime.now();
+        return c;
+    }
+}
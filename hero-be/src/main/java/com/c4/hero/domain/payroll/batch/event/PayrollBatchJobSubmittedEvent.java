@@ -0,0 +1,19 @@
+package com.c4.hero.domain.payroll.batch.event;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobSubmittedEvent
+ * Description : 급여 배치 작업 등록 이벤트
+ *               작업 등록 트랜잭션 커밋 이후 PayrollBatchJobRunner 가 수신하여 실행을 시작
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param jobId   작업 ID
+ * @param batchId 급여 배치 ID
+ */
+public record PayrollBatchJobSubmittedEvent(Integer jobId, Integer batchId) {}
@@ -0,0 +1,19 @@
+package com.c4.hero.domain.payroll.batch.event;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchPaidEvent
+ * Description : 급여 배치 지급 완료 이벤트
+ *               지급 트랜잭션 커밋 이후 PayslipDocumentEventListener 가 수신하여 명세서 문서를 생성
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param batchId     급여 배치 ID
+ * @param salaryMonth 급여월 (YYYY-MM)
+ */
+public record PayrollBatchPaidEvent(Integer batchId, String salaryMonth) {}
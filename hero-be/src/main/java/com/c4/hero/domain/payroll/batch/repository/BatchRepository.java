@@ -1,9 +1,13 @@
 package com.c4.hero.domain.payroll.batch.repository;
 
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
+import jakarta.persistence.LockModeType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.stereotype.Repository;
 
+import java.util.Optional;
+
 /**
  * <pre>
  * Repository Name : BatchRepository
@@ -18,10 +22,11 @@ import org.springframework.stereotype.Repository;
  *
  * History
  *  2025/12/15 - 동근 최초 작성
+ *  2026/10/17 - 동근 지급 처리용 배치 비관적 락 조회 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.1
  */
 @Repository
 public interface BatchRepository extends JpaRepository<PayrollBatch, Integer> {
@@ -34,4 +39,14 @@ public interface BatchRepository extends JpaRepository<PayrollBatch, Integer> {
      */
     boolean existsBySalaryMonth(String salaryMonth);
 
+    /**
+     * 배치 ID 기준 조회 (비관적 락 적용)
+     *  - 동일 배치 지급 요청이 동시에 들어와도 지급 이력 등록이 직렬화되도록 보장
+     *
+     * @param batchId 급여 배치 ID
+     * @return 급여 배치 (없을 수 있음)
+     */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<PayrollBatch> findWithLockByBatchId(Integer batchId);
+
 }
@@ -0,0 +1,32 @@
+package com.c4.hero.domain.payroll.batch.repository;
+
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJobChunk;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Set;
+
+/**
+ * <pre>
+ * Repository Name : PayrollBatchJobChunkRepository
+ * Description     : 급여 계산 작업 청크 체크포인트(PayrollBatchJobChunk) 리포지토리
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.0
+ */
+public interface PayrollBatchJobChunkRepository extends JpaRepository<PayrollBatchJobChunk, Integer> {
+
+    /**
+     * 작업의 완료된 청크 번호 목록 조회 (재개 시 스킵 대상)
+     *
+     * @param jobId 작업 ID
+     * @return 완료된 청크 번호 집합
+     */
+    @Query("select c.chunkNo from PayrollBatchJobChunk c where c.jobId = :jobId")
+    Set<Integer> findChunkNosByJobId(@Param("jobId") Integer jobId);
+}
@@ -0,0 +1,84 @@
+package com.c4.hero.domain.payroll.batch.repository;
+
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.common.type.PayrollJobStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollJobType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * <pre>
+ * Repository Name : PayrollBatchJobRepository
+ * Description     : 급여 배치 비동기 작업(PayrollBatchJob) 엔티티 관리 리포지토리
+ *
+ * 역할
+ *  - 작업 등록 / 상태 조회
+ *  - 배치별 진행 중 작업 중복 등록 방지
+ *  - 재개 대상(QUEUED / RUNNING) 작업 조회
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 계산 생략 건수 누적 추가
+ * </pre>
+ *
+ *  @author 동근
+ *  @version 1.1
+ */
+public interface PayrollBatchJobRepository extends JpaRepository<PayrollBatchJob, Integer> {
+
+    /**
+     * 배치에 지정 상태의 작업이 존재하는지 여부
+     *
+     * @param batchId  급여 배치 ID
+     * @param statuses 작업 상태 목록
+     * @return 존재하면 true
+     */
+    boolean existsByBatchIdAndStatusIn(Integer batchId, Collection<PayrollJobStatus> statuses);
+
+    /**
+     * 지정 상태 작업 목록 조회 (등록 순)
+     *
+     * @param statuses 작업 상태 목록
+     * @return 작업 목록
+     */
+    List<PayrollBatchJob> findAllByStatusInOrderByJobIdAsc(Collection<PayrollJobStatus> statuses);
+
+    /**
+     * 배치의 가장 최근 작업 조회 (유형별)
+     *
+     * @param batchId 급여 배치 ID
+     * @param jobType 작업 유형
+     * @return 가장 최근 작업 (없을 수 있음)
+     */
+    Optional<PayrollBatchJob> findFirstByBatchIdAndJobTypeOrderByJobIdDesc(Integer batchId, PayrollJobType jobType);
+
+    /**
+     * 청크 처리 결과 누적 (청크 체크포인트와 같은 트랜잭션에서 호출)
+     *
+     * @param jobId  작업 ID
+     * @param done   계산 완료 사원 수
+     * @param failed  계산 실패 사원 수
+     * @param skipped 계산 생략 사원 수
+     * @return 업데이트된 row 수
+     */
+    @Modifying
+    @Query("""
+        update PayrollBatchJob j
+           set j.doneCount = j.doneCount + :done,
+               j.failedCount = j.failedCount + :failed,
+               j.skippedCount = j.skippedCount + :skipped
+         where j.jobId = :jobId
+    """)
+    int addProgress(
+            @Param("jobId") Integer jobId,
+            @Param("done") int done,
+            @Param("failed") int failed,
+            @Param("skipped") int skipped
+    );
+}
@@ -2,7 +2,11 @@ package com.c4.hero.domain.payroll.batch.repository;
 
 import com.c4.hero.domain.payroll.batch.entity.PayrollItem;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -17,10 +21,11 @@ import java.util.List;
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 항목 단위 삭제 로직 추가
+ *  2026/10/17 - 동근 급여 목록 단위 항목 일괄 삭제 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.1
+ *  @version 1.2
  */
 public interface PayrollItemRepository extends JpaRepository<PayrollItem, Integer> {
 
@@ -44,4 +49,18 @@ public interface PayrollItemRepository extends JpaRepository<PayrollItem, Intege
             String itemType,
             String itemCode
     );
+
+    /**
+     * 급여 목록 기준 항목 전체 일괄 삭제 (벌크 삭제 쿼리 사용, 청크 단위 계산 시 항목 재생성용)
+     *  - 급여 항목은 연장근무 수당 + 항목 정책 평가 결과로만 생성되므로 재계산 시 전체 교체
+     *
+     * @param payrollIds 급여 ID 목록
+     * @return 삭제된 행 수
+     */
+    @Modifying
+    @Query("""
+        delete from PayrollItem i
+         where i.payrollId in :payrollIds
+        """)
+    int deleteAllByPayrollIdIn(@Param("payrollIds") Collection<Integer> payrollIds);
 }
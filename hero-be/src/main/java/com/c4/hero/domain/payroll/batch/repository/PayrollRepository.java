@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -26,10 +27,12 @@ import java.util.Optional;
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 배치 상태 처리 기능 확장
+ *  2026/10/17 - 동근 사원 목록 단위 급여 일괄 조회 추가
+ *  2026/10/17 - 동근 배치 단위 급여 건수 조회 추가
  * </pre>
  *
  *  @author 동근
- *  @version 1.1
+ *  @version 1.3
  */
 
 public interface PayrollRepository extends JpaRepository<Payroll, Integer> {
@@ -43,6 +46,15 @@ public interface PayrollRepository extends JpaRepository<Payroll, Integer> {
      */
     Optional<Payroll> findByEmployeeIdAndSalaryMonth(Integer employeeId, String salaryMonth);
 
+    /**
+     * 사원 목록 + 급여월 기준 급여 일괄 조회 (청크 단위 계산용)
+     *
+     * @param employeeIds 사원 ID 목록
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 급여 엔티티 목록 (급여가 없는 사원은 제외)
+     */
+    List<Payroll> findAllByEmployeeIdInAndSalaryMonth(Collection<Integer> employeeIds, String salaryMonth);
+
     /**
      * 사원 + 급여월 기준 급여 존재 여부 확인
      *
@@ -83,6 +95,14 @@ public interface PayrollRepository extends JpaRepository<Payroll, Integer> {
      */
     boolean existsByBatchId(Integer batchId);
 
+    /**
+     * 배치에 소속된 급여 건수 조회
+     *
+     * @param batchId 배치 ID
+     * @return 급여 건수
+     */
+    long countByBatchId(Integer batchId);
+
     /**
      * 특정 배치에 속한 모든 급여 목록 조회
      *
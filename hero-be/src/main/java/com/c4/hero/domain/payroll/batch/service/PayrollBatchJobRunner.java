@@ -0,0 +1,252 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.domain.payroll.batch.dto.PayrollPaymentResultResponseDTO;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.batch.event.PayrollBatchJobSubmittedEvent;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchJobRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import net.javacrumbs.shedlock.core.ExtensibleLockProvider;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import net.javacrumbs.shedlock.spring.annotation.SchedulerLock;
+import net.javacrumbs.shedlock.support.KeepAliveLockProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContext;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobRunner
+ * Description : 급여 배치 비동기 작업(계산/확정/지급) 실행기
+ *
+ * 처리 방식
+ *  - 작업 등록 커밋 이후 이벤트를 수신하여 러너 풀에서 실행
+ *  - 실행 전 배치 단위 ShedLock(payroll-batch-{batchId})을 획득하여 한 배치는 한 노드에서만 처리
+ *  - 작업이 실행되는 동안 락을 주기적으로 연장 (KeepAliveLockProvider, lock-at-most-for 의 절반마다)
+ *    → 큰 배치 계산이 lock-at-most-for 를 넘겨도 다른 노드가 같은 작업을 동시에 실행하지 않음
+ *  - 주기적으로 QUEUED / RUNNING 작업을 다시 디스패치
+ *    · 실행 노드가 살아 있으면 락 획득에 실패하므로 건너뜀
+ *    · 실행 노드가 중단되었으면 락 만료(lock-at-most-for) 후 다른 노드가 이어서 실행
+ *      (계산 작업은 체크포인트가 있는 청크를 건너뛰고 남은 청크만 계산)
+ *
+ * 인가
+ *  - 재개 실행은 요청 스레드가 없으므로 급여 담당(HR_PAYROLL) 권한의 시스템 인증으로 실행
+ *    (요청자 정보는 작업의 requestedBy 로 확정/지급 처리자에 기록)
+ *
+ * 설정
+ *  - payroll.job.runner-threads     : 동시에 실행할 작업 수 (기본 2)
+ *  - payroll.job.lock-at-most-for   : 연장이 멈춘 락의 만료 시간 (기본 PT30M, 중단된 노드의 작업을 재개하기까지 대기 시간)
+ *  - payroll.job.resume-interval-ms : 재개 대상 작업 점검 주기 (기본 60초)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 작업 실행 중 배치 락 자동 연장
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@Slf4j
+@Component
+public class PayrollBatchJobRunner {
+
+    private static final String BATCH_LOCK_PREFIX = "payroll-batch-";
+    private static final String SYSTEM_PRINCIPAL = "payroll-batch-job";
+
+    private final PayrollBatchJobRepository jobRepository;
+    private final PayrollBatchJobTxService jobTxService;
+    private final PayrollBatchService batchService;
+    private final Duration lockAtMostFor;
+
+    /** 보유 중인 배치 락을 주기적으로 연장하는 락 제공자 */
+    private final LockProvider batchLockProvider;
+
+    /** 배치 락 연장 스케줄러 (빈으로 등록하지 않음) */
+    private final ScheduledExecutorService lockKeepAliveScheduler;
+
+    /** 작업 실행 전용 러너 풀 (빈으로 등록하지 않음) */
+    private final ThreadPoolTaskExecutor runnerPool;
+
+    /** 시스템 인증으로 작업을 실행하는 실행기 */
+    private final Executor runnerExecutor;
+
+    /** 현재 노드에서 디스패치된 작업 ID (같은 노드 내 중복 디스패치 방지) */
+    private final Set<Integer> dispatched = ConcurrentHashMap.newKeySet();
+
+    public PayrollBatchJobRunner(
+            PayrollBatchJobRepository jobRepository,
+            PayrollBatchJobTxService jobTxService,
+            PayrollBatchService batchService,
+            LockProvider lockProvider,
+            @Value("${payroll.job.runner-threads:2}") int runnerThreads,
+            @Value("${payroll.job.lock-at-most-for:PT30M}") Duration lockAtMostFor
+    ) {
+        this.jobRepository = jobRepository;
+        this.jobTxService = jobTxService;
+        this.batchService = batchService;
+        this.lockAtMostFor = lockAtMostFor;
+
+        this.lockKeepAliveScheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "payroll-job-lock-keepalive");
+            thread.setDaemon(true);
+            return thread;
+        });
+        if (lockProvider instanceof ExtensibleLockProvider extensible) {
+            this.batchLockProvider = new KeepAliveLockProvider(extensible, lockKeepAliveScheduler);
+        } else {
+            log.warn("배치 락 연장을 지원하지 않는 LockProvider - lock-at-most-for 보다 긴 작업은 중복 실행될 수 있음");
+            this.batchLockProvider = lockProvider;
+        }
+
+        this.runnerPool = new ThreadPoolTaskExecutor();
+        this.runnerPool.setCorePoolSize(Math.max(1, runnerThreads));
+        this.runnerPool.setMaxPoolSize(Math.max(1, runnerThreads));
+        this.runnerPool.setThreadNamePrefix("payroll-job-");
+        this.runnerPool.setWaitForTasksToCompleteOnShutdown(true);
+        this.runnerPool.setAwaitTerminationSeconds(60);
+        this.runnerPool.initialize();
+
+        SecurityContext systemContext = SecurityContextHolder.createEmptyContext();
+        systemContext.setAuthentication(UsernamePasswordAuthenticationToken.authenticated(
+                SYSTEM_PRINCIPAL, null, List.of(new SimpleGrantedAuthority("ROLE_HR_PAYROLL"))
+        ));
+        this.runnerExecutor = new DelegatingSecurityContextExecutor(runnerPool, systemContext);
+    }
+
+    /**
+     * 작업 등록 커밋 이후 즉시 실행
+     *
+     * @param event 작업 등록 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onSubmitted(PayrollBatchJobSubmittedEvent event) {
+        dispatch(event.jobId(), event.batchId());
+    }
+
+    /**
+     * 대기/중단된 작업 재개 (노드 재기동, 러너 풀 포화로 밀린 작업 포함)
+     */
+    @Scheduled(
+            fixedDelayString = "${payroll.job.resume-interval-ms:60000}",
+            initialDelayString = "${payroll.job.resume-interval-ms:60000}"
+    )
+    @SchedulerLock(name = "payrollBatchJobResume", lockAtMostFor = "PT50S")
+    public void resumePendingJobs() {
+        for (PayrollBatchJob job : jobRepository.findAllByStatusInOrderByJobIdAsc(PayrollBatchJobService.ACTIVE_STATUSES)) {
+            dispatch(job.getJobId(), job.getBatchId());
+        }
+    }
+
+    /**
+     * 러너 풀에 작업 실행 제출
+     *
+     * @param jobId   작업 ID
+     * @param batchId 급여 배치 ID
+     */
+    private void dispatch(Integer jobId, Integer batchId) {
+        if (!dispatched.add(jobId)) return;
+
+        try {
+            runnerExecutor.execute(() -> {
+                try {
+                    run(jobId, batchId);
+                } finally {
+                    dispatched.remove(jobId);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            dispatched.remove(jobId);
+            log.warn("급여 배치 작업 제출 거부 - 다음 점검 주기에 재시도 jobId={}", jobId);
+        }
+    }
+
+    /**
+     * 배치 락 획득 후 작업 실행
+     *
+     * @param jobId   작업 ID
+     * @param batchId 급여 배치 ID
+     */
+    private void run(Integer jobId, Integer batchId) {
+        Optional<SimpleLock> lock = batchLockProvider.lock(new LockConfiguration(
+                Instant.now(), BATCH_LOCK_PREFIX + batchId, lockAtMostFor, Duration.ZERO
+        ));
+        if (lock.isEmpty()) {
+            log.debug("급여 배치 락 획득 실패 - 다른 노드에서 처리 중 jobId={}, batchId={}", jobId, batchId);
+            return;
+        }
+
+        try {
+            // 락 획득 전 다른 노드가 종료시킨 작업이면 empty
+            Optional<PayrollBatchJob> started = jobTxService.start(jobId);
+            if (started.isPresent()) {
+                execute(started.get());
+            }
+        } catch (Exception e) {
+            Throwable cause = e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+            if (cause instanceof BusinessException be) {
+                jobTxService.fail(jobId, be.getMessage());
+            } else {
+                log.error("급여 배치 작업 실행 중단 - jobId={}, batchId={}", jobId, batchId, cause);
+                jobTxService.fail(jobId, "시스템 오류로 작업이 중단되었습니다.");
+            }
+        } finally {
+            lock.get().unlock();
+        }
+    }
+
+    /**
+     * 작업 유형별 실행
+     *
+     * @param job 실행할 작업
+     */
+    private void execute(PayrollBatchJob job) {
+        switch (job.getJobType()) {
+            case CALCULATE -> {
+                batchService.runCalculation(job);
+                jobTxService.completeCalculation(job.getJobId());
+            }
+            case CONFIRM -> {
+                int confirmed = batchService.confirm(job.getBatchId(), job.getRequestedBy());
+                jobTxService.complete(job.getJobId(), confirmed, confirmed, 0);
+            }
+            case PAY -> {
+                PayrollPaymentResultResponseDTO result = batchService.pay(job.getBatchId(), job.getRequestedBy());
+                jobTxService.complete(job.getJobId(),
+                        (int) result.totalCount(), result.postedCount(), 0);
+            }
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 실행 중 작업 대기 후 러너 풀 종료
+     * (락 연장은 실행 중 작업이 끝날 때까지 유지)
+     */
+    @PreDestroy
+    public void shutdown() {
+        runnerPool.shutdown();
+        lockKeepAliveScheduler.shutdownNow();
+    }
+}
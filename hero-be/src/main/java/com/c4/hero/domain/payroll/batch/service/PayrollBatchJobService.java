@@ -0,0 +1,239 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchJobResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollBatchTargetEmployeeResponseDTO;
+import com.c4.hero.domain.payroll.batch.dto.PayrollCalculationProgressResponseDTO;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.batch.event.PayrollBatchJobSubmittedEvent;
+import com.c4.hero.domain.payroll.batch.mapper.PayrollBatchQueryMapper;
+import com.c4.hero.domain.payroll.batch.repository.BatchRepository;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchJobRepository;
+import com.c4.hero.domain.payroll.common.type.PayrollBatchStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollCalculationStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollJobStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollJobType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobService
+ * Description : 급여 배치 비동기 작업(계산/확정/지급) 등록 및 조회 서비스
+ *
+ * 처리 방식
+ *  - 요청 스레드에서는 배치 상태만 빠르게 검증하고 작업(PayrollBatchJob)을 QUEUED 로 등록
+ *  - 등록 트랜잭션 커밋 이후 PayrollBatchJobRunner 가 이벤트를 수신하여 실행
+ *  - 실제 상태 전이 검증은 작업 실행 시점에 PayrollBatchService 에서 다시 수행
+ *
+ * 도메인 규칙
+ *  - 배치 1개당 QUEUED / RUNNING 작업은 최대 1개 (배치 행 비관적 락으로 동시 등록 직렬화)
+ *
+ * 설정
+ *  - payroll.batch.chunk-size : 계산 청크 크기 (기본 100, 작업 등록 시점에 고정)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 증분 재계산 모드 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@PayrollAdminOnly
+@Service
+public class PayrollBatchJobService {
+
+    /** 실행 대기/진행 중 작업 상태 */
+    static final List<PayrollJobStatus> ACTIVE_STATUSES = List.of(PayrollJobStatus.QUEUED, PayrollJobStatus.RUNNING);
+
+    private final BatchRepository batchRepository;
+    private final PayrollBatchJobRepository jobRepository;
+    private final PayrollBatchQueryMapper batchQueryMapper;
+    private final ApplicationEventPublisher eventPublisher;
+    private final int chunkSize;
+
+    public PayrollBatchJobService(
+            BatchRepository batchRepository,
+            PayrollBatchJobRepository jobRepository,
+            PayrollBatchQueryMapper batchQueryMapper,
+            ApplicationEventPublisher eventPublisher,
+            @Value("${payroll.batch.chunk-size:100}") int chunkSize
+    ) {
+        this.batchRepository = batchRepository;
+        this.jobRepository = jobRepository;
+        this.batchQueryMapper = batchQueryMapper;
+        this.eventPublisher = eventPublisher;
+        this.chunkSize = Math.max(1, chunkSize);
+    }
+
+    /**
+     * 급여 배치 계산 작업 등록
+     *  - incremental = true 이면 마지막 계산 이후 입력값(근태/인상/조정/수당·공제 정책)이
+     *    바뀐 사원의 급여만 재계산
+     *
+     * @param batchId     급여 배치 ID
+     * @param employeeIds 선택 사원 ID 목록 (null 또는 빈 목록이면 전체 대상)
+     * @param incremental 증분 재계산 여부
+     * @param requestedBy 요청자 사원 ID
+     * @return 등록된 작업
+     *
+     * @throws BusinessException PAYROLL_BATCH_LOCKED
+     *         확정/지급된 배치인 경우
+     * @throws BusinessException PAYROLL_BATCH_JOB_IN_PROGRESS
+     *         동일 배치의 작업이 이미 대기/진행 중인 경우
+     */
+    @Transactional
+    public PayrollBatchJobResponseDTO submitCalculate(
+            Integer batchId,
+            List<Integer> employeeIds,
+            boolean incremental,
+            Integer requestedBy
+    ) {
+        PayrollBatch batch = lockBatch(batchId);
+
+        if (batch.getStatus() == PayrollBatchStatus.CONFIRMED || batch.getStatus() == PayrollBatchStatus.PAID) {
+            throw new BusinessException(ErrorCode.PAYROLL_BATCH_LOCKED);
+        }
+
+        List<Integer> targets;
+        if (employeeIds == null || employeeIds.isEmpty()) {
+            targets = batchQueryMapper.selectBatchTargetEmployees()
+                    .stream()
+                    .map(PayrollBatchTargetEmployeeResponseDTO::employeeId)
+                    .toList();
+        } else {
+            targets = employeeIds.stream().distinct().toList();
+        }
+
+        if (targets.isEmpty()) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        return submit(batchId, PayrollJobType.CALCULATE, targets, incremental, requestedBy);
+    }
+
+    /**
+     * 급여 배치 확정 작업 등록
+     *
+     * @param batchId     급여 배치 ID
+     * @param requestedBy 요청자 사원 ID
+     * @return 등록된 작업
+     */
+    @Transactional
+    public PayrollBatchJobResponseDTO submitConfirm(Integer batchId, Integer requestedBy) {
+        PayrollBatch batch = lockBatch(batchId);
+
+        if (batch.getStatus() != PayrollBatchStatus.CALCULATED) {
+            throw new BusinessException(ErrorCode.PAYROLL_BATCH_INVALID_STATUS_TRANSITION);
+        }
+        return submit(batchId, PayrollJobType.CONFIRM, List.of(), false, requestedBy);
+    }
+
+    /**
+     * 급여 배치 지급 작업 등록 (PAID 배치는 누락 지급 이력 보정용 재요청 허용)
+     *
+     * @param batchId     급여 배치 ID
+     * @param requestedBy 요청자 사원 ID
+     * @return 등록된 작업
+     */
+    @Transactional
+    public PayrollBatchJobResponseDTO submitPay(Integer batchId, Integer requestedBy) {
+        PayrollBatch batch = lockBatch(batchId);
+
+        if (batch.getStatus() != PayrollBatchStatus.CONFIRMED && batch.getStatus() != PayrollBatchStatus.PAID) {
+            throw new BusinessException(ErrorCode.PAYROLL_BATCH_INVALID_STATUS_TRANSITION);
+        }
+        return submit(batchId, PayrollJobType.PAY, List.of(), false, requestedBy);
+    }
+
+    /**
+     * 작업 조회
+     *
+     * @param jobId 작업 ID
+     * @return 작업 상태 / 처리 건수
+     */
+    @Transactional(readOnly = true)
+    public PayrollBatchJobResponseDTO getJob(Integer jobId) {
+        return jobRepository.findById(jobId)
+                .map(PayrollBatchJobResponseDTO::from)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_NOT_FOUND));
+    }
+
+    /**
+     * 급여 배치 계산 진행률 조회 (가장 최근 계산 작업 기준)
+     *
+     * @param batchId 급여 배치 ID
+     * @return 진행률 (done/failed/total)
+     */
+    @Transactional(readOnly = true)
+    public PayrollCalculationProgressResponseDTO getCalculationProgress(Integer batchId) {
+        if (!batchRepository.existsById(batchId)) {
+            throw new BusinessException(ErrorCode.PAYROLL_BATCH_NOT_FOUND);
+        }
+
+        return jobRepository.findFirstByBatchIdAndJobTypeOrderByJobIdDesc(batchId, PayrollJobType.CALCULATE)
+                .map(job -> new PayrollCalculationProgressResponseDTO(
+                        batchId,
+                        toCalculationStatus(job.getStatus()),
+                        job.getTotalCount(),
+                        job.getDoneCount(),
+                        job.getFailedCount(),
+                        job.getSkippedCount(),
+                        job.getStartedAt(),
+                        job.getFinishedAt(),
+                        job.getErrorMessage()
+                ))
+                .orElseGet(() -> new PayrollCalculationProgressResponseDTO(
+                        batchId, PayrollCalculationStatus.IDLE, 0, 0, 0, 0, null, null, null
+                ));
+    }
+
+    /**
+     * 작업 등록 공통 처리
+     *  - 커밋 이후 실행되도록 이벤트로 실행 요청 (@TransactionalEventListener AFTER_COMMIT)
+     */
+    private PayrollBatchJobResponseDTO submit(
+            Integer batchId,
+            PayrollJobType jobType,
+            List<Integer> employeeIds,
+            boolean incremental,
+            Integer requestedBy
+    ) {
+        if (jobRepository.existsByBatchIdAndStatusIn(batchId, ACTIVE_STATUSES)) {
+            throw new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_IN_PROGRESS);
+        }
+
+        PayrollBatchJob job = jobRepository.save(
+                PayrollBatchJob.queued(batchId, jobType, employeeIds, chunkSize, incremental, requestedBy)
+        );
+        eventPublisher.publishEvent(new PayrollBatchJobSubmittedEvent(job.getJobId(), batchId));
+        return PayrollBatchJobResponseDTO.from(job);
+    }
+
+    /**
+     * 배치 조회 (비관적 락 적용, 동일 배치 작업 동시 등록 직렬화)
+     */
+    private PayrollBatch lockBatch(Integer batchId) {
+        return batchRepository.findWithLockByBatchId(batchId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYROLL_BATCH_NOT_FOUND));
+    }
+
+    /**
+     * 작업 상태 -> 계산 진행률 상태 변환
+     */
+    private PayrollCalculationStatus toCalculationStatus(PayrollJobStatus status) {
+        return switch (status) {
+            case QUEUED, RUNNING -> PayrollCalculationStatus.RUNNING;
+            case COMPLETED -> PayrollCalculationStatus.COMPLETED;
+            case FAILED -> PayrollCalculationStatus.FAILED;
+        };
+    }
+}
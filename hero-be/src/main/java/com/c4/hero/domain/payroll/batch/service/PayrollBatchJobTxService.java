@@ -0,0 +1,116 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJobChunk;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchJobChunkRepository;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchJobRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+/**
+ * <pre>
+ * Class Name : PayrollBatchJobTxService
+ * Description : 급여 배치 작업 상태 전이 / 청크 체크포인트 전용 트랜잭션 분리(Service)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 체크포인트에 계산 생략 건수 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+public class PayrollBatchJobTxService {
+
+    private final PayrollBatchJobRepository jobRepository;
+    private final PayrollBatchJobChunkRepository chunkRepository;
+
+    /**
+     * 작업 실행 시작(또는 재개) 처리
+     *
+     * @param jobId 작업 ID
+     * @return 실행할 작업 (이미 종료된 작업이면 empty)
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<PayrollBatchJob> start(Integer jobId) {
+        PayrollBatchJob job = getJobOrThrow(jobId);
+        if (job.getStatus().isFinished()) {
+            return Optional.empty();
+        }
+        job.start();
+        return Optional.of(job);
+    }
+
+    /**
+     * 계산 작업 정상 종료 처리 (처리 건수는 청크 체크포인트로 누적된 값 유지)
+     *
+     * @param jobId 작업 ID
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void completeCalculation(Integer jobId) {
+        PayrollBatchJob job = getJobOrThrow(jobId);
+        job.complete(job.getTotalCount(), job.getDoneCount(), job.getFailedCount());
+    }
+
+    /**
+     * 작업 정상 종료 처리
+     *
+     * @param jobId  작업 ID
+     * @param total  처리 대상 건수
+     * @param done   처리 완료 건수
+     * @param failed 처리 실패 건수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void complete(Integer jobId, int total, int done, int failed) {
+        getJobOrThrow(jobId).complete(total, done, failed);
+    }
+
+    /**
+     * 작업 실행 중단 처리
+     *
+     * @param jobId   작업 ID
+     * @param message 중단 사유
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fail(Integer jobId, String message) {
+        getJobOrThrow(jobId).fail(message);
+    }
+
+    /**
+     * 청크 완료 체크포인트 저장 + 작업 처리 건수 누적
+     *  - 청크 계산 트랜잭션 안에서 호출되면 같은 트랜잭션으로 커밋 (계산 결과와 체크포인트 원자성 보장)
+     *  - 사원 단위 재처리 후 호출되면 별도 트랜잭션으로 저장
+     *
+     * @param jobId   작업 ID
+     * @param chunkNo 청크 번호
+     * @param done    계산 완료 사원 수
+     * @param failed  계산 실패 사원 수
+     * @param skipped 입력값 변경이 없어 계산 생략한 사원 수
+     */
+    @Transactional
+    public void saveCheckpoint(Integer jobId, int chunkNo, int done, int failed, int skipped) {
+        chunkRepository.save(PayrollBatchJobChunk.completed(jobId, chunkNo, done, failed, skipped));
+        jobRepository.addProgress(jobId, done, failed, skipped);
+    }
+
+    /**
+     * 작업 ID 기준 작업 조회 유틸리티
+     *
+     * @param jobId 작업 ID
+     * @return 작업 엔티티
+     */
+    private PayrollBatchJob getJobOrThrow(Integer jobId) {
+        return jobRepository.findById(jobId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYROLL_BATCH_JOB_NOT_FOUND));
+    }
+}
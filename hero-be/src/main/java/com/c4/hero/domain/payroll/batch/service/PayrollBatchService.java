@@ -3,22 +3,28 @@ package com.c4.hero.domain.payroll.batch.service;
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
-import com.c4.hero.domain.payroll.batch.dto.PayrollBatchTargetEmployeeResponseDTO;
-import com.c4.hero.domain.payroll.batch.entity.Payroll;
+import com.c4.hero.domain.payroll.analytics.service.PayrollAnalyticsSummaryService;
+import com.c4.hero.domain.payroll.batch.dto.PayrollPaymentResultResponseDTO;
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
-import com.c4.hero.domain.payroll.batch.mapper.PayrollBatchQueryMapper;
+import com.c4.hero.domain.payroll.batch.event.PayrollBatchPaidEvent;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
 import com.c4.hero.domain.payroll.batch.repository.BatchRepository;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchJobChunkRepository;
 import com.c4.hero.domain.payroll.batch.repository.PayrollRepository;
 import com.c4.hero.domain.payroll.common.type.PayrollBatchStatus;
 import com.c4.hero.domain.payroll.common.type.PayrollStatus;
-import com.c4.hero.domain.payroll.payment.entity.PaymentHistory;
 import com.c4.hero.domain.payroll.payment.repository.PaymentHistoryRepository;
+import com.c4.hero.domain.payroll.policy.service.BatchPolicySnapshotService;
+import com.c4.hero.domain.payroll.report.service.EmployeePayRollupService;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-
-import java.util.List;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Set;
 
 /**
  * <pre>
@@ -27,9 +33,10 @@ import java.util.List;
  *
  * 역할
  *  - 급여 배치 생성 (월 단위 중복 방지)
- *  - 급여 배치 계산 실행 요청 (상태/락 검증 후 계산 서비스 위임)
+ *  - 급여 배치 계산 작업 실행 (상태/락 검증 후 계산 서비스 위임)
  *  - 급여 배치 확정 처리 (상태 전이)
  *  - 확정된 배치 기준 급여 지급 처리(PaymentHistory 연동)
+ *  - 계산/확정/지급은 PayrollBatchJobRunner 가 작업(PayrollBatchJob) 단위로 호출
  *
  * 도메인 규칙
  *  - salaryMonth(YYYY-MM) 기준 배치는 1개만 존재 가능
@@ -41,11 +48,20 @@ import java.util.List;
  *  2025/12/18 - 동근 급여 지급(pay) 로직 및 PaymentHistory 연동 추가
  *             - 클래스 레벨 트랜잭션 제거 및 상태 전이 트랜잭션 분리
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/17 - 동근 배치 계산 비동기 실행 및 진행률 조회 추가
+ *  2026/10/17 - 동근 확정 시 배치 정책 스냅샷 캐시 해제
+ *  2026/10/17 - 동근 지급 이력 일괄 등록(INSERT ... SELECT) 및 지급 결과 건수 반환
+ *  2026/10/17 - 동근 계산 실행을 작업(Job) 단위 체크포인트 재개 방식으로 변경
+ *             - 진행률 관리/계산 요청 검증을 PayrollBatchJobService 로 이동
+ *  2026/10/17 - 동근 확정/지급 시 급여 분석 월별 집계 적재
+ *  2026/10/17 - 동근 지급 완료 이벤트 발행 (커밋 이후 급여명세서 문서 생성)
+ *  2026/10/17 - 동근 지급 시 사원별 급여 누적 집계 갱신
  * </pre>
  *
  *  @author 동근
- *  @version 1.2
+ *  @version 1.9
  */
+@Slf4j
 @PayrollAdminOnly
 @Service
 @RequiredArgsConstructor
@@ -55,8 +71,12 @@ public class PayrollBatchService {
     private final PayrollCalculationService calculationService;
     private final PayrollBatchStatusTxService batchStatusTxService;
     private final PayrollRepository payrollRepository;
-    private final PayrollBatchQueryMapper batchQueryMapper;
     private final PaymentHistoryRepository paymentHistoryRepository;
+    private final PayrollBatchJobChunkRepository jobChunkRepository;
+    private final BatchPolicySnapshotService policySnapshotService;
+    private final PayrollAnalyticsSummaryService analyticsSummaryService;
+    private final EmployeePayRollupService payRollupService;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 급여 배치 생성
@@ -76,48 +96,51 @@ public class PayrollBatchService {
     }
 
     /**
-     * 급여 배치 계산 실행
+     * 급여 배치 계산 작업 실행 (PayrollBatchJobRunner 에서 호출)
+     *  - 작업의 완료 청크 체크포인트를 조회하여 남은 청크만 계산 (중단 후 재개 지원)
+     *  - 모든 청크 처리 후 READY 배치를 CALCULATED 로 전이
+     *
+     * @param job 계산 작업
      *
-     * @param batchId     급여 배치 ID
-     * @param employeeIds 선택 사원 ID 목록
+     * @throws BusinessException PAYROLL_BATCH_LOCKED
+     *         실행 시점에 이미 확정/지급된 배치인 경우
      */
-    public void calculate(Integer batchId, List<Integer> employeeIds) {
-        PayrollBatch batch = getBatchOrThrow(batchId);
+    public void runCalculation(PayrollBatchJob job) {
+        PayrollBatch batch = getBatchOrThrow(job.getBatchId());
 
         if (batch.getStatus() == PayrollBatchStatus.CONFIRMED || batch.getStatus() == PayrollBatchStatus.PAID) {
             throw new BusinessException(ErrorCode.PAYROLL_BATCH_LOCKED);
         }
 
-        List<Integer> targets;
-        if (employeeIds == null || employeeIds.isEmpty()) {
-            targets = batchQueryMapper.selectBatchTargetEmployees()
-                    .stream()
-                    .map(PayrollBatchTargetEmployeeResponseDTO::employeeId)
-                    .toList();
-        } else {
-            targets = employeeIds;
+        Set<Integer> completedChunks = jobChunkRepository.findChunkNosByJobId(job.getJobId());
+        if (!completedChunks.isEmpty()) {
+            log.info("급여 배치 계산 재개 - jobId={}, batchId={}, completedChunks={}",
+                    job.getJobId(), batch.getBatchId(), completedChunks.size());
         }
 
-        if (targets.isEmpty()) {
-            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
-        }
-
-        calculationService.calculateEmployees(batch, targets);
+        calculationService.calculateEmployees(batch, job, completedChunks).join();
 
         if (batch.getStatus() == PayrollBatchStatus.READY) {
-            batchStatusTxService.markCalculatedInNewTx(batchId);
+            batchStatusTxService.markCalculatedInNewTx(batch.getBatchId());
         }
     }
 
     /**
      * 급여 배치 확정 처리
      *
-     * @param batchId 급여 배치 ID
+     * @param batchId    급여 배치 ID
+     * @param employeeId 확정 처리자 사원 ID
+     * @return 확정된 급여 건수
      */
     @Transactional
-    public void confirm(Integer batchId, Integer employeeId) {
+    public int confirm(Integer batchId, Integer employeeId) {
         PayrollBatch batch = getBatchOrThrow(batchId);
 
+        // 확정 커밋 직후 노드가 중단되어 작업이 재개된 경우 => 이미 확정된 배치는 그대로 완료 처리
+        if (batch.getStatus() == PayrollBatchStatus.CONFIRMED) {
+            return 0;
+        }
+
         // 배치 상태 검증: CALCULATED 상태에서만 CONFIRMED로 전환 가능
         if (batch.getStatus() != PayrollBatchStatus.CALCULATED) {
             throw new BusinessException(ErrorCode.PAYROLL_BATCH_INVALID_STATUS_TRANSITION);
@@ -135,10 +158,16 @@ public class PayrollBatchService {
 
         // 배치 내 급여 상태 일괄 CONFIRMED로 변경 (벌크 업데이트)
         int updatedCount = payrollRepository.updateStatusByBatchId(batchId, PayrollStatus.CONFIRMED);
-        // 필요하면 updatedCount로 로그 남겨도 됨
 
         // 배치 상태 CONFIRMED로 전환
         batch.confirm(employeeId);
+
+        // 확정 이후 재계산 불가 => 메모리 캐시만 해제 (DB 스냅샷은 감사용으로 유지)
+        policySnapshotService.evict(batchId);
+
+        // 확정 이후 금액 불변 => 분석 집계 테이블 적재 (확정과 같은 트랜잭션)
+        analyticsSummaryService.refresh(batch.getSalaryMonth());
+        return updatedCount;
     }
 
     /**
@@ -154,15 +183,25 @@ public class PayrollBatchService {
 
     /**
      * 급여 배치 지급 처리
+     *  - 배치 행 비관적 락으로 동일 배치 지급 요청을 직렬화
+     *  - 지급 이력이 없는 급여만 INSERT ... SELECT 1회로 일괄 등록 (급여 건수와 무관하게 쿼리 수 고정)
+     *  - 재시도 시 이미 등록된 이력은 건너뛰므로 중복 지급 이력이 생기지 않음
+     *  - 이미 PAID 인 배치에 대한 재요청은 누락분만 보정하고 상태는 유지
+     *  - 사원별 급여 누적 집계(YTD/최근 12개월) 갱신
+     *  - 커밋 이후 급여명세서 문서 생성 (재요청 시 재생성)
      *
-     * @param batchId 급여 배치 ID
+     * @param batchId    급여 배치 ID
+     * @param employeeId 지급 처리자 사원 ID
+     * @return 지급 처리 결과 (전체/신규 등록/기등록 건수)
      */
     @Transactional
-    public void pay(Integer batchId, Integer employeeId) {
-        PayrollBatch batch = getBatchOrThrow(batchId);
+    public PayrollPaymentResultResponseDTO pay(Integer batchId, Integer employeeId) {
+        PayrollBatch batch = batchRepository.findWithLockByBatchId(batchId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.PAYROLL_BATCH_NOT_FOUND));
 
-        // 상태 검증 => CONFIRMED만 지급 가능
-        if (batch.getStatus() != PayrollBatchStatus.CONFIRMED) {
+        // 상태 검증 => CONFIRMED만 지급 가능 (PAID는 재시도로 간주)
+        boolean alreadyPaid = batch.getStatus() == PayrollBatchStatus.PAID;
+        if (batch.getStatus() != PayrollBatchStatus.CONFIRMED && !alreadyPaid) {
             throw new BusinessException(ErrorCode.PAYROLL_BATCH_INVALID_STATUS_TRANSITION);
         }
 
@@ -171,23 +210,27 @@ public class PayrollBatchService {
             throw new BusinessException(ErrorCode.PAYROLL_BATCH_HAS_FAILED);
         }
 
-        List<Payroll> payrolls = payrollRepository.findAllByBatchId(batchId);
-        if (payrolls.isEmpty()) {
+        long totalCount = payrollRepository.countByBatchId(batchId);
+        if (totalCount == 0) {
             throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE, "지급할 급여 데이터가 없습니다.");
         }
 
-        for (Payroll pr : payrolls) {
-            if (paymentHistoryRepository.existsByPayrollId(pr.getPayrollId())) continue;
+        int postedCount = paymentHistoryRepository.insertCompletedForBatch(
+                batchId, LocalDate.now(), LocalDateTime.now()
+        );
 
-            paymentHistoryRepository.save(
-                    PaymentHistory.completed(
-                            pr.getPayrollId(),
-                            pr.getTotalPay(),
-                            null
-                    )
-            );
+        if (!alreadyPaid) {
+            batch.markPaid(employeeId);
         }
-        batch.markPaid(employeeId);
+
+        // 분석 집계 재적재 (집계 도입 전에 확정된 배치도 지급 시점에 적재됨)
+        analyticsSummaryService.refresh(batch.getSalaryMonth());
+        // 사원별 누적 집계 갱신 (내 급여 이력 조회용)
+        payRollupService.applyBatch(batchId);
+        eventPublisher.publishEvent(new PayrollBatchPaidEvent(batchId, batch.getSalaryMonth()));
+        log.info("급여 배치 지급 처리 batchId={}, total={}, posted={}", batchId, totalCount, postedCount);
+
+        return new PayrollPaymentResultResponseDTO(batchId, totalCount, postedCount, totalCount - postedCount);
     }
 }
 
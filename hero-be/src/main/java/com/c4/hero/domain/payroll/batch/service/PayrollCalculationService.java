@@ -2,46 +2,213 @@ package com.c4.hero.domain.payroll.batch.service;
 
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
-import lombok.RequiredArgsConstructor;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.service.BatchPolicySnapshotService;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextExecutor;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
 
 /**
  * <pre>
  * Class Name : PayrollCalculationService
- * Description : 월별 급여 배치 계산 서비스
+ * Description : 월별 급여 배치 계산 서비스 (청크 분할 + 병렬 워커 풀 계산 엔진)
  *
- *  급여 배치 시스템 마무리 되면 수당+공제 기능 추가 할 예정입니당
+ * 처리 방식
+ *  - 계산 대상 전체 입력값(기본급/근태/인상/조정)을 집합 쿼리로 1회 선조회 (PayrollInputSnapshot)
+ *  - 배치 기준 정책 스냅샷을 1회 조회 (BatchPolicySnapshotService, 정책 변경이 없으면 재계산 시 재사용)
+ *  - 계산 대상 사원 목록을 작업(PayrollBatchJob)의 청크 크기 단위로 분할
+ *  - 체크포인트가 있는 청크(이전 실행에서 커밋 완료)는 건너뜀
+ *  - 크기가 고정된 워커 풀에서 청크를 병렬 처리 (청크 1개 = 트랜잭션 1개)
+ *  - 청크가 시스템 오류로 롤백되면 해당 청크만 사원 단위 트랜잭션으로 재처리하여
+ *    사원별 FAILED 격리를 유지
+ *  - 청크 처리 결과는 청크 체크포인트와 함께 작업 처리 건수에 누적 (BatchController 폴링용)
+ *
+ * 설정
+ *  - payroll.batch.worker-threads : 워커 스레드 수 (기본 4, DB 커넥션 풀 크기보다 작게 유지)
  *
  * History
  *  2025/12/15 - 동근 최초 작성
  *  2025/12/18 - 동근 사원 단위 계산/Tx를 PayrollEmployeeCalculateTxService 로 분리
  *             - 클래스 레벨 트랜잭션 제거
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/17 - 동근 청크 분할 병렬 계산 및 진행률 집계로 변경
+ *  2026/10/17 - 동근 입력값 선조회 스냅샷을 전체 청크가 공유하도록 변경
+ *  2026/10/17 - 동근 항목 정책 평가 엔진을 배치당 1회 컴파일하여 공유
+ *  2026/10/17 - 동근 평가 엔진을 배치 정책 스냅샷 캐시에서 조회하도록 변경
+ *  2026/10/17 - 동근 작업 단위 청크 체크포인트 저장 및 완료 청크 스킵(재개) 지원
+ *  2026/10/17 - 동근 증분 재계산 작업 지원
  * </pre>
  *
  *  @author 동근
- *  @version 1.2
+ *  @version 1.8
  */
+@Slf4j
 @PayrollAdminOnly
 @Service
-@RequiredArgsConstructor
 public class PayrollCalculationService {
 
     private final PayrollEmployeeCalculateTxService employeeTxService;
+    private final PayrollBatchJobTxService jobTxService;
+    private final PayrollInputSnapshotLoader inputSnapshotLoader;
+    private final BatchPolicySnapshotService policySnapshotService;
+
+    /** 급여 계산 전용 워커 풀 (@Async 기본 실행기와 분리하기 위해 빈으로 등록하지 않음) */
+    private final ThreadPoolTaskExecutor workerPool;
+
+    /** 요청 스레드의 인증 정보를 워커 스레드로 전파하는 실행기 (@PayrollAdminOnly 인가 유지) */
+    private final Executor workerExecutor;
+
+    public PayrollCalculationService(
+            PayrollEmployeeCalculateTxService employeeTxService,
+            PayrollBatchJobTxService jobTxService,
+            PayrollInputSnapshotLoader inputSnapshotLoader,
+            BatchPolicySnapshotService policySnapshotService,
+            @Value("${payroll.batch.worker-threads:4}") int workerThreads
+    ) {
+        this.employeeTxService = employeeTxService;
+        this.jobTxService = jobTxService;
+        this.inputSnapshotLoader = inputSnapshotLoader;
+        this.policySnapshotService = policySnapshotService;
+
+        this.workerPool = new ThreadPoolTaskExecutor();
+        this.workerPool.setCorePoolSize(Math.max(1, workerThreads));
+        this.workerPool.setMaxPoolSize(Math.max(1, workerThreads));
+        this.workerPool.setThreadNamePrefix("payroll-calc-");
+        this.workerPool.setWaitForTasksToCompleteOnShutdown(true);
+        this.workerPool.setAwaitTerminationSeconds(60);
+        this.workerPool.initialize();
+
+        this.workerExecutor = new DelegatingSecurityContextExecutor(workerPool);
+    }
+
+    /**
+     * 계산 작업 대상 사원 급여 계산 실행 (비동기)
+     *  - 입력값 선조회는 남은 청크의 사원만 대상으로 수행
+     *  - 입력값 선조회 / 정책 스냅샷 조회도 워커 풀에서 병행 수행
+     *
+     * @param batch           급여 배치 엔티티
+     * @param job             계산 작업 (대상 사원 / 청크 크기)
+     * @param completedChunks 체크포인트가 있는(이미 완료된) 청크 번호
+     * @return 남은 청크 처리 완료 시 완료되는 Future
+     */
+    public CompletableFuture<Void> calculateEmployees(
+            PayrollBatch batch,
+            PayrollBatchJob job,
+            Set<Integer> completedChunks
+    ) {
+        List<Integer> employeeIds = job.getTargetEmployeeIdList();
+        int chunkSize = job.getChunkSize();
+
+        Map<Integer, List<Integer>> chunks = new LinkedHashMap<>();
+        List<Integer> remaining = new ArrayList<>();
+        for (int from = 0, chunkNo = 0; from < employeeIds.size(); from += chunkSize, chunkNo++) {
+            if (completedChunks.contains(chunkNo)) continue;
+
+            List<Integer> chunk = List.copyOf(
+                    employeeIds.subList(from, Math.min(from + chunkSize, employeeIds.size()))
+            );
+            chunks.put(chunkNo, chunk);
+            remaining.addAll(chunk);
+        }
+
+        if (chunks.isEmpty()) {
+            return CompletableFuture.completedFuture(null);
+        }
 
+        CompletableFuture<PayrollInputSnapshot> inputs = CompletableFuture.supplyAsync(
+                () -> inputSnapshotLoader.load(batch.getSalaryMonth(), remaining), workerExecutor
+        );
+        CompletableFuture<CompiledPayrollPolicy> policy = CompletableFuture.supplyAsync(
+                () -> policySnapshotService.getPolicy(batch.getBatchId(), batch.getSalaryMonth()), workerExecutor
+        );
+        return inputs
+                .thenCombine(policy, (snapshot, compiled) ->
+                        calculateChunks(batch, job.getJobId(), job.isIncremental(), chunks, snapshot, compiled))
+                .thenCompose(futures -> futures);
+    }
 
     /**
-     * 배치 내 사원 리스트 대상 급여 계산 실행
+     * 청크를 워커 풀에 병렬 제출
      *
      * @param batch       급여 배치 엔티티
-     * @param employeeIds 계산 대상 사원 ID 목록
+     * @param jobId       계산 작업 ID
+     * @param incremental 증분 재계산 여부
+     * @param chunks      청크 번호별 사원 ID 목록 (남은 청크만)
+     * @param snapshot    배치 입력값 스냅샷 (전체 청크 공유)
+     * @param policy      배치 항목 정책 평가 엔진 (전체 청크 공유)
+     * @return 모든 청크 처리 완료 시 완료되는 Future
      */
-    public void calculateEmployees(PayrollBatch batch, List<Integer> employeeIds) {
-        for (Integer empId : employeeIds) {
-            employeeTxService.calculateOne(batch, empId); // 사원 단위 분리 트랜잭션 처리
+    private CompletableFuture<Void> calculateChunks(
+            PayrollBatch batch,
+            Integer jobId,
+            boolean incremental,
+            Map<Integer, List<Integer>> chunks,
+            PayrollInputSnapshot snapshot,
+            CompiledPayrollPolicy policy
+    ) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks.size());
+
+        chunks.forEach((chunkNo, chunk) -> futures.add(CompletableFuture.runAsync(
+                () -> calculateChunk(batch, jobId, incremental, chunkNo, chunk, snapshot, policy), workerExecutor
+        )));
+        return CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]));
+    }
+
+    /**
+     * 청크 1개 계산
+     *  - 청크 트랜잭션이 롤백되면 사원 단위 분리 트랜잭션으로 재처리 후 체크포인트 저장
+     *
+     * @param batch       급여 배치 엔티티
+     * @param jobId       계산 작업 ID
+     * @param incremental 증분 재계산 여부
+     * @param chunkNo     청크 번호
+     * @param chunk       청크 사원 ID 목록
+     * @param snapshot    배치 입력값 스냅샷
+     * @param policy      배치 항목 정책 평가 엔진
+     */
+    private void calculateChunk(
+            PayrollBatch batch,
+            Integer jobId,
+            boolean incremental,
+            int chunkNo,
+            List<Integer> chunk,
+            PayrollInputSnapshot snapshot,
+            CompiledPayrollPolicy policy
+    ) {
+        try {
+            employeeTxService.calculateChunk(batch, jobId, chunkNo, chunk, snapshot, policy, incremental);
+        } catch (Exception e) {
+            log.warn("급여 계산 청크 롤백 - 사원 단위 재처리 batchId={}, chunkNo={}, chunkSize={}",
+                    batch.getBatchId(), chunkNo, chunk.size(), e);
+
+            int done = 0;
+            int failed = 0;
+            for (Integer empId : chunk) {
+                boolean ok = employeeTxService.calculateOne(batch, empId, snapshot, policy); // 사원 단위 분리 트랜잭션 처리
+                if (ok) done++;
+                else failed++;
+            }
+            jobTxService.saveCheckpoint(jobId, chunkNo, done, failed, 0);
         }
     }
-}
 
+    /**
+     * 애플리케이션 종료 시 진행 중 청크 처리 대기 후 워커 풀 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        workerPool.shutdown();
+    }
+}
@@ -2,20 +2,27 @@ package com.c4.hero.domain.payroll.batch.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
-import com.c4.hero.domain.payroll.adjustment.entity.PayrollRaise;
-import com.c4.hero.domain.payroll.adjustment.mapper.PayrollAdjustmentQueryMapper;
-import com.c4.hero.domain.payroll.adjustment.repository.PayrollRaiseRepository;
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
 import com.c4.hero.domain.payroll.batch.entity.Payroll;
 import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
 import com.c4.hero.domain.payroll.batch.entity.PayrollItem;
 import com.c4.hero.domain.payroll.batch.repository.PayrollItemRepository;
 import com.c4.hero.domain.payroll.batch.repository.PayrollRepository;
+import com.c4.hero.domain.payroll.common.type.ItemType;
 import com.c4.hero.domain.payroll.integration.attendance.service.PayrollAttendanceService;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.engine.EvaluatedPayrollItem;
+import com.c4.hero.domain.payroll.policy.engine.PolicyEvaluationInput;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 /**
  * <pre>
  * Class Name : PayrollEmployeeCalculateTxService
@@ -24,10 +31,15 @@ import org.springframework.transaction.annotation.Transactional;
  * History
  *   2025/12/18 - 동근 최초 작성
  *   2026/01/03 - 동근 권한 인가 정책 추가
+ *   2026/10/17 - 동근 청크 단위 트랜잭션 계산(calculateChunk) 추가
+ *   2026/10/17 - 동근 선조회 스냅샷 기반 메모리 계산 + 청크 단위 일괄 저장으로 변경
+ *   2026/10/17 - 동근 항목 정책(수당/공제) 평가 결과 반영
+ *   2026/10/17 - 동근 청크 트랜잭션 내 작업 체크포인트 저장
+ *   2026/10/17 - 동근 증분 재계산 (입력값 지문이 같은 급여는 계산 생략)
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.6
  */
 @PayrollAdminOnly
 @Service
@@ -37,67 +49,207 @@ public class PayrollEmployeeCalculateTxService {
     private final PayrollRepository payrollRepository;
     private final PayrollItemRepository payrollItemRepository;
     private final PayrollAttendanceService attendanceService;
-    private final PayrollRaiseRepository payrollRaiseRepository;
-    private final PayrollAdjustmentQueryMapper payrollAdjustmentQueryMapper;
+    private final PayrollBatchJobTxService jobTxService;
 
     /**
-     * 단일 사원 급여 계산 (REQUIRES_NEW 트랜잭션 사용)
+     * 청크 처리 결과
      *
-     * @param batch  급여 배치 엔티티
-     * @param empId  사원 ID
+     * @param done    계산 완료 사원 수 (확정/입력값 동일로 스킵된 사원 포함)
+     * @param failed  계산 실패(FAILED) 사원 수
+     * @param skipped 증분 재계산에서 입력값 변경이 없어 계산 생략한 사원 수
+     */
+    public record ChunkResult(int done, int failed, int skipped) {}
+
+    /**
+     * 사원 청크 급여 계산 (청크 1개 = REQUIRES_NEW 트랜잭션 1개)
+     *  - 기존 급여는 청크 단위 1회 조회, 입력값은 스냅샷에서 조회
+     *  - 급여 저장 / 급여 항목 삭제 / 항목 저장을 청크 단위로 일괄 처리
+     *  - 업무 오류(BusinessException)는 해당 사원만 FAILED 로 저장하고 다음 사원 계속 처리
+     *  - 시스템 오류는 그대로 전파하여 청크 전체를 롤백
+     *    (호출 측에서 calculateOne 으로 사원 단위 재처리)
+     *  - 청크 체크포인트를 같은 트랜잭션에서 저장하여 재개 시 커밋된 청크만 건너뛰도록 보장
+     *  - 증분 재계산이면 마지막 계산 입력값 지문과 현재 지문이 같은 급여는 저장 없이 스킵
+     *
+     * @param batch       급여 배치 엔티티
+     * @param jobId       계산 작업 ID
+     * @param chunkNo     청크 번호
+     * @param empIds      청크에 포함된 사원 ID 목록
+     * @param snapshot    배치 입력값 스냅샷
+     * @param policy      배치 항목 정책 평가 엔진
+     * @param incremental 증분 재계산 여부
+     * @return 청크 처리 결과
      */
     @Transactional(propagation = Propagation.REQUIRES_NEW)
-    public void calculateOne(PayrollBatch batch, Integer empId) {
-        try {
-            int baseSalary = attendanceService.getBaseSalary(empId); // 근태 연동(기본급 조회)
+    public ChunkResult calculateChunk(
+            PayrollBatch batch,
+            Integer jobId,
+            int chunkNo,
+            List<Integer> empIds,
+            PayrollInputSnapshot snapshot,
+            CompiledPayrollPolicy policy,
+            boolean incremental
+    ) {
+        Map<Integer, Payroll> existing = new HashMap<>();
+        for (Payroll p : payrollRepository.findAllByEmployeeIdInAndSalaryMonth(empIds, batch.getSalaryMonth())) {
+            existing.put(p.getEmployeeId(), p);
+        }
+
+        List<Payroll> toSave = new ArrayList<>(empIds.size());
+        List<Payroll> calculated = new ArrayList<>(empIds.size());
+        Map<Payroll, List<EvaluatedPayrollItem>> itemsByPayroll = new HashMap<>();
+        int done = 0;
+        int failed = 0;
+        int skipped = 0;
 
-            baseSalary = payrollRaiseRepository
-                    .findTopByEmployeeIdAndEffectiveMonthAndStatusOrderByRaiseIdDesc(
-                            empId, batch.getSalaryMonth(), "APPROVED"
-                    )
-                    .map(PayrollRaise::getAfterSalary)
-                    .orElse(baseSalary);
+        for (Integer empId : empIds) {
+            Payroll payroll = existing.getOrDefault(empId,
+                    Payroll.ready(empId, batch.getBatchId(), batch.getSalaryMonth()));
 
-            int overtimePay = attendanceService.calculateOvertime(batch.getSalaryMonth(), empId); //연장근무 수당 계산
+            if (payroll.isLocked()) { // 상태 검증용 (true상태면 계산 스킵)
+                done++;
+                continue;
+            }
 
+            PayrollEmployeeInputDTO input = snapshot.get(empId);
+            String fingerprint = PayrollInputFingerprint.of(input, policy);
+            if (incremental && payroll.isUpToDate(fingerprint)) { // 마지막 계산 이후 입력값 변경 없음
+                done++;
+                skipped++;
+                continue;
+            }
+
+            try {
+                itemsByPayroll.put(payroll, apply(batch, payroll, input, policy));
+                payroll.recordInputFingerprint(fingerprint);
+                calculated.add(payroll);
+                done++;
+            } catch (BusinessException be) {
+                payroll.markFailed(batch.getBatchId(), be.getMessage());
+                failed++;
+            }
+            toSave.add(payroll);
+        }
+
+        payrollRepository.saveAll(toSave);
+        replaceItems(calculated, itemsByPayroll);
+        jobTxService.saveCheckpoint(jobId, chunkNo, done, failed, skipped);
+        return new ChunkResult(done, failed, skipped);
+    }
+
+    /**
+     * 단일 사원 급여 계산 (REQUIRES_NEW 트랜잭션 사용)
+     *
+     * @param batch    급여 배치 엔티티
+     * @param empId    사원 ID
+     * @param snapshot 배치 입력값 스냅샷
+     * @param policy   배치 항목 정책 평가 엔진
+     * @return true = 계산 완료(또는 확정 스킵) / false = FAILED 저장
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean calculateOne(
+            PayrollBatch batch,
+            Integer empId,
+            PayrollInputSnapshot snapshot,
+            CompiledPayrollPolicy policy
+    ) {
+        try {
             Payroll payroll = payrollRepository
                     .findByEmployeeIdAndSalaryMonth(empId, batch.getSalaryMonth()) //기존 급여가 있으면 조회
                     .orElseGet(() -> Payroll.ready(empId, batch.getBatchId(), batch.getSalaryMonth()));
             //없으면 ready상태 엔티티 생성
 
-            if (payroll.isLocked()) return; // 상태 검증용 (true상태면 계산 스킵)
-
-            int allowanceTotal = payroll.getAllowanceTotal() == null ? 0 : payroll.getAllowanceTotal();
-            int deductionTotal = payroll.getDeductionTotal() == null ? 0 : payroll.getDeductionTotal();
-
-            int manualAdjustNet = payrollAdjustmentQueryMapper
-                    .sumApprovedAdjustmentNet(empId, batch.getSalaryMonth());
-            if (manualAdjustNet != 0) {
-                // 조정은 "수당/공제" 어느 쪽이든 될 수 있는데,
-                // 현재 네 Payroll 구조는 allowanceTotal/deductionTotal로 합산해서 totalPay 계산하니까
-                // net이 +면 allowanceTotal에, -면 deductionTotal에 넣는 게 제일 무난함.
-                if (manualAdjustNet > 0) allowanceTotal += manualAdjustNet;
-                else deductionTotal += Math.abs(manualAdjustNet);
-            }
-
+            if (payroll.isLocked()) return true; // 상태 검증용 (true상태면 계산 스킵)
 
-            //급여 계산 적용하는 로직
-            payroll.applyCalculated(batch.getBatchId(), baseSalary, overtimePay, allowanceTotal, deductionTotal); // 호출로 급여 관련 반영
+            PayrollEmployeeInputDTO input = snapshot.get(empId);
+            List<EvaluatedPayrollItem> items = apply(batch, payroll, input, policy);
+            payroll.recordInputFingerprint(PayrollInputFingerprint.of(input, policy));
             Payroll saved = payrollRepository.save(payroll);
-
-            //연장근무 수당 항목 갱신
-            payrollItemRepository.deleteByPayrollIdAndItemTypeAndItemCode(
-                    saved.getPayrollId(), "ALLOWANCE", "OVERTIME"
-            );
-            if (overtimePay > 0) {
-                payrollItemRepository.save(
-                        PayrollItem.of(saved.getPayrollId(), "ALLOWANCE", "OVERTIME", "연장근무수당", overtimePay, "Y")
-                );
-            }
+            replaceItems(List.of(saved), Map.of(saved, items));
+            return true;
         } catch (BusinessException be) {
             saveFailed(batch, empId, be.getMessage());
+            return false;
         } catch (Exception e) {
             saveFailed(batch, empId, "시스템 오류로 계산에 실패했습니다.");
+            return false;
+        }
+    }
+
+    /**
+     * 사원 1명 급여 계산 결과를 엔티티에 반영 (DB 조회 없음)
+     *  - 수당/공제 합계 = 항목 정책 평가 결과 + 승인된 수기 조정 순합
+     *    (재계산 시 이전 합계에 누적되지 않도록 매번 새로 산출)
+     *
+     * @param batch   급여 배치 엔티티
+     * @param payroll 반영 대상 급여 엔티티 (미확정)
+     * @param input   사원 입력값 스냅샷
+     * @param policy  배치 항목 정책 평가 엔진
+     * @return 저장할 급여 항목 목록 (연장근무 수당 + 항목 정책 평가 결과)
+     */
+    private List<EvaluatedPayrollItem> apply(
+            PayrollBatch batch,
+            Payroll payroll,
+            PayrollEmployeeInputDTO input,
+            CompiledPayrollPolicy policy
+    ) {
+        int baseSalary = input.effectiveBaseSalary(); // 승인된 인상 건이 있으면 인상 후 급여
+
+        //연장근무 수당 계산 (시급 산정은 인사 기본급 기준)
+        int overtimePay = attendanceService.calculateOvertime(
+                input.baseSalary(), input.attendanceDays(), input.workedMinutes()
+        );
+
+        List<EvaluatedPayrollItem> items = new ArrayList<>();
+        if (overtimePay > 0) {
+            items.add(new EvaluatedPayrollItem(ItemType.ALLOWANCE, "OVERTIME", "연장근무수당", overtimePay, "Y"));
+        }
+
+        int allowanceTotal = 0;
+        int deductionTotal = 0;
+        for (EvaluatedPayrollItem item : policy.evaluate(new PolicyEvaluationInput(
+                input.employeeId(), input.departmentId(), input.gradeId(),
+                baseSalary, overtimePay, input.attendanceDays(), input.workedMinutes()
+        ))) {
+            items.add(item);
+            if (item.itemType() == ItemType.ALLOWANCE) allowanceTotal += item.amount();
+            else deductionTotal += item.amount();
+        }
+
+        int manualAdjustNet = input.adjustmentNet();
+        if (manualAdjustNet != 0) {
+            // 조정은 "수당/공제" 어느 쪽이든 될 수 있는데,
+            // 현재 네 Payroll 구조는 allowanceTotal/deductionTotal로 합산해서 totalPay 계산하니까
+            // net이 +면 allowanceTotal에, -면 deductionTotal에 넣는 게 제일 무난함.
+            if (manualAdjustNet > 0) allowanceTotal += manualAdjustNet;
+            else deductionTotal += Math.abs(manualAdjustNet);
+        }
+
+        //급여 계산 적용하는 로직
+        payroll.applyCalculated(batch.getBatchId(), baseSalary, overtimePay, allowanceTotal, deductionTotal);
+        return items;
+    }
+
+    /**
+     * 급여 항목 일괄 갱신 (기존 항목 일괄 삭제 후 재생성)
+     *
+     * @param payrolls       저장 완료된(ID 채번된) 급여 엔티티 목록
+     * @param itemsByPayroll 급여별 계산 항목 목록
+     */
+    private void replaceItems(List<Payroll> payrolls, Map<Payroll, List<EvaluatedPayrollItem>> itemsByPayroll) {
+        if (payrolls.isEmpty()) return;
+
+        List<Integer> payrollIds = new ArrayList<>(payrolls.size());
+        List<PayrollItem> items = new ArrayList<>();
+        for (Payroll p : payrolls) {
+            payrollIds.add(p.getPayrollId());
+            for (EvaluatedPayrollItem item : itemsByPayroll.getOrDefault(p, List.of())) {
+                items.add(item.toEntity(p.getPayrollId()));
+            }
+        }
+
+        payrollItemRepository.deleteAllByPayrollIdIn(payrollIds);
+        if (!items.isEmpty()) {
+            payrollItemRepository.saveAll(items);
         }
     }
 
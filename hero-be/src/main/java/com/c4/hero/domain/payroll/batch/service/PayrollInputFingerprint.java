@@ -0,0 +1,67 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * <pre>
+ * Class Name : PayrollInputFingerprint
+ * Description : 사원 1명 급여 계산 입력값 지문 (증분 재계산 시 변경 여부 판별용)
+ *
+ * 지문 구성
+ *  - 인사 기본급 / 승인 인상 후 급여 (인상 변경)
+ *  - 월 근태 일수 / 근무 시간 (근태 정정)
+ *  - 승인된 수기 조정 순합 (조정 승인)
+ *  - 부서 / 직급 (항목 정책 대상 변경)
+ *  - 정책 ID + 정책 지문 (항목 정책 / 수당 / 공제 마스터 변경)
+ *
+ * 참고
+ *  - 계산 로직 자체가 바뀌면 VERSION 을 올려 전체 재계산되도록 함
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+final class PayrollInputFingerprint {
+
+    private static final String VERSION = "1";
+
+    private PayrollInputFingerprint() {
+    }
+
+    /**
+     * 입력값 지문 생성
+     *
+     * @param input  사원 입력값 스냅샷
+     * @param policy 배치 항목 정책 평가 엔진
+     * @return SHA-256 hex (64자)
+     */
+    static String of(PayrollEmployeeInputDTO input, CompiledPayrollPolicy policy) {
+        String canonical = String.join("|",
+                VERSION,
+                String.valueOf(policy.getPolicyId()),
+                String.valueOf(policy.getFingerprint()),
+                String.valueOf(input.departmentId()),
+                String.valueOf(input.gradeId()),
+                String.valueOf(input.baseSalary()),
+                String.valueOf(input.raisedSalary()),
+                String.valueOf(input.attendanceDays()),
+                String.valueOf(input.workedMinutes()),
+                String.valueOf(input.adjustmentNet())
+        );
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(canonical.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+}
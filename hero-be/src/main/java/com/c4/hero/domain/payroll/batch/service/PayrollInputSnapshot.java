@@ -0,0 +1,57 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
+
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name : PayrollInputSnapshot
+ * Description : 급여 배치 1회 계산 범위의 사원별 입력값 스냅샷 (불변)
+ *
+ * 역할
+ *  - 기본급 / 월 근태 집계 / 승인 인상 / 승인 조정 순합을 사원 ID 기준으로 보관
+ *  - 워커 스레드들이 공유하며 사원별 계산을 DB 조회 없이 메모리에서 수행
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public final class PayrollInputSnapshot {
+
+    private final String salaryMonth;
+    private final Map<Integer, PayrollEmployeeInputDTO> inputs;
+
+    PayrollInputSnapshot(String salaryMonth, Map<Integer, PayrollEmployeeInputDTO> inputs) {
+        this.salaryMonth = salaryMonth;
+        this.inputs = Map.copyOf(inputs);
+    }
+
+    /**
+     * 스냅샷 기준 급여월
+     */
+    public String getSalaryMonth() {
+        return salaryMonth;
+    }
+
+    /**
+     * 사원 입력값 조회
+     *
+     * @param employeeId 사원 ID
+     * @return 선조회 입력값 (선조회 결과가 없으면 0으로 채운 기본값)
+     */
+    public PayrollEmployeeInputDTO get(Integer employeeId) {
+        PayrollEmployeeInputDTO input = inputs.get(employeeId);
+        return input != null ? input : PayrollEmployeeInputDTO.empty(employeeId);
+    }
+
+    /**
+     * 스냅샷에 포함된 사원 수
+     */
+    public int size() {
+        return inputs.size();
+    }
+}
@@ -0,0 +1,122 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.attendance.service.AttendanceScoreService;
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.adjustment.dto.PayrollAdjustmentNetDTO;
+import com.c4.hero.domain.payroll.adjustment.entity.PayrollRaise;
+import com.c4.hero.domain.payroll.adjustment.mapper.PayrollAdjustmentQueryMapper;
+import com.c4.hero.domain.payroll.adjustment.repository.PayrollRaiseRepository;
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
+import com.c4.hero.domain.payroll.integration.attendance.dto.AttendanceMonthlySummaryDTO;
+import com.c4.hero.domain.payroll.integration.attendance.dto.EmployeeBaseSalaryDTO;
+import com.c4.hero.domain.payroll.integration.attendance.mapper.PayrollAttendanceMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name : PayrollInputSnapshotLoader
+ * Description : 급여 배치 계산 대상 전체의 입력값을 집합 단위 쿼리로 선조회하는 로더
+ *
+ * 조회 항목 (IN 목록 1,000명 단위 분할, 분할당 4회 조회)
+ *  - 기본급/부서/직급       : PayrollAttendanceMapper.selectBaseSalaries
+ *  - 월 근태 일수/근무 시간 : PayrollAttendanceMapper.selectMonthlyAttendanceSummaries (월간 근태 집계)
+ *  - 승인된 급여 인상       : PayrollRaiseRepository (사원별 최신 raiseId 채택)
+ *  - 승인된 조정 순합       : PayrollAdjustmentQueryMapper.selectApprovedAdjustmentNets
+ *
+ * 설계 의도
+ *  - 사원 1명당 약 10회 발생하던 조회(N+1)를 배치 단위 수 회로 축소
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 항목 정책 대상 판별용 부서/직급 ID 선조회 추가
+ *  2026/10/17 - 동근 월 근태 집계를 월간 근태 집계 테이블에서 조회
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+public class PayrollInputSnapshotLoader {
+
+    /** IN 절 1회당 최대 사원 수 */
+    private static final int PARTITION_SIZE = 1000;
+
+    private final PayrollAttendanceMapper attendanceMapper;
+    private final AttendanceScoreService attendanceScoreService;
+    private final PayrollRaiseRepository payrollRaiseRepository;
+    private final PayrollAdjustmentQueryMapper payrollAdjustmentQueryMapper;
+
+    /**
+     * 계산 대상 사원 전체 입력값 선조회
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @param employeeIds 계산 대상 사원 ID 목록
+     * @return 사원 ID 기준 입력값 스냅샷
+     */
+    public PayrollInputSnapshot load(String salaryMonth, List<Integer> employeeIds) {
+        // 급여월 집계가 하나도 없으면 (과거 월 최초 계산 등) 먼저 전체 집계
+        attendanceScoreService.ensureMonth(YearMonth.parse(salaryMonth));
+
+        Map<Integer, PayrollEmployeeInputDTO> inputs = new HashMap<>(employeeIds.size() * 2);
+
+        for (int from = 0; from < employeeIds.size(); from += PARTITION_SIZE) {
+            List<Integer> ids = employeeIds.subList(from, Math.min(from + PARTITION_SIZE, employeeIds.size()));
+            loadPartition(salaryMonth, ids, inputs);
+        }
+        return new PayrollInputSnapshot(salaryMonth, inputs);
+    }
+
+    /**
+     * 사원 ID 분할 1개 선조회 후 입력값 맵에 병합
+     */
+    private void loadPartition(String salaryMonth, List<Integer> ids,
+                               Map<Integer, PayrollEmployeeInputDTO> inputs) {
+        Map<Integer, EmployeeBaseSalaryDTO> employees = new HashMap<>();
+        for (EmployeeBaseSalaryDTO row : attendanceMapper.selectBaseSalaries(ids)) {
+            employees.put(row.employeeId(), row);
+        }
+
+        Map<Integer, AttendanceMonthlySummaryDTO> attendances = new HashMap<>();
+        for (AttendanceMonthlySummaryDTO row : attendanceMapper.selectMonthlyAttendanceSummaries(ids, salaryMonth)) {
+            attendances.put(row.employeeId(), row);
+        }
+
+        // 동일 사원에 승인 인상 건이 여러 개면 가장 최근(raiseId 최대) 건 채택
+        Map<Integer, PayrollRaise> raises = new HashMap<>();
+        for (PayrollRaise raise : payrollRaiseRepository
+                .findAllByEmployeeIdInAndEffectiveMonthAndStatus(ids, salaryMonth, "APPROVED")) {
+            raises.merge(raise.getEmployeeId(), raise,
+                    (a, b) -> a.getRaiseId() >= b.getRaiseId() ? a : b);
+        }
+
+        Map<Integer, Integer> adjustments = new HashMap<>();
+        for (PayrollAdjustmentNetDTO row : payrollAdjustmentQueryMapper.selectApprovedAdjustmentNets(ids, salaryMonth)) {
+            adjustments.put(row.employeeId(), row.net() == null ? 0 : row.net());
+        }
+
+        for (Integer empId : ids) {
+            EmployeeBaseSalaryDTO emp = employees.get(empId);
+            AttendanceMonthlySummaryDTO att = attendances.get(empId);
+            PayrollRaise raise = raises.get(empId);
+
+            inputs.put(empId, new PayrollEmployeeInputDTO(
+                    empId,
+                    emp == null ? null : emp.departmentId(),
+                    emp == null ? null : emp.gradeId(),
+                    emp == null || emp.baseSalary() == null ? 0 : emp.baseSalary(),
+                    raise == null ? null : raise.getAfterSalary(),
+                    att == null || att.attendanceDays() == null ? 0 : att.attendanceDays(),
+                    att == null || att.workedMinutes() == null ? 0 : att.workedMinutes(),
+                    adjustments.getOrDefault(empId, 0)
+            ));
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.c4.hero.domain.payroll.common.type;
+
+/**
+ * <pre>
+ * Enum Name : PayrollCalculationStatus
+ * Description : 급여 배치 계산 실행(진행률) 상태를 나타내는 Enum
+ *
+ * 상태 흐름
+ *  IDLE -> RUNNING -> COMPLETED
+ *                or
+ *              FAILED
+ *
+ * 상태 설명
+ *  - IDLE
+ *    · 해당 배치의 계산 작업(PayrollBatchJob) 이력이 없는 상태
+ *
+ *  - RUNNING
+ *    · 계산 작업이 실행 대기 중이거나 청크 단위 계산이 진행 중인 상태
+ *
+ *  - COMPLETED
+ *    · 모든 청크 처리가 끝난 상태 (사원 단위 FAILED는 포함될 수 있음)
+ *
+ *  - FAILED
+ *    · 시스템 오류로 계산 실행 자체가 중단된 상태
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 계산 작업(Job) 상태 기준으로 설명 변경
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+public enum PayrollCalculationStatus {
+
+    /**
+     * 계산 실행 이력 없음
+     */
+    IDLE,
+
+    /**
+     * 계산 진행 중
+     */
+    RUNNING,
+
+    /**
+     * 계산 완료
+     */
+    COMPLETED,
+
+    /**
+     * 계산 실행 중단(시스템 오류)
+     */
+    FAILED
+}
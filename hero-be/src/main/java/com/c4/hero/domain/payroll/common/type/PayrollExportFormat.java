@@ -0,0 +1,42 @@
+package com.c4.hero.domain.payroll.common.type;
+
+/**
+ * <pre>
+ * Enum Name : PayrollExportFormat
+ * Description : 급여 조회 결과 내려받기 파일 형식 Enum
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public enum PayrollExportFormat {
+
+    /**
+     * CSV (UTF-8 BOM 포함, 엑셀에서 한글 깨짐 방지)
+     */
+    CSV("text/csv; charset=UTF-8", "csv"),
+
+    /**
+     * 엑셀 (스트리밍 방식 XLSX)
+     */
+    XLSX("application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", "xlsx");
+
+    private final String contentType;
+    private final String extension;
+
+    PayrollExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,62 @@
+package com.c4.hero.domain.payroll.common.type;
+
+/**
+ * <pre>
+ * Enum Name : PayrollJobStatus
+ * Description : 급여 배치 비동기 작업(Job) 실행 상태 Enum
+ *
+ * 상태 흐름
+ *  QUEUED -> RUNNING -> COMPLETED
+ *                 or
+ *               FAILED
+ *
+ * 상태 설명
+ *  - QUEUED
+ *    · 작업이 등록되어 실행 노드 할당을 기다리는 상태
+ *
+ *  - RUNNING
+ *    · 한 노드가 배치 락(ShedLock)을 획득하여 실행 중인 상태
+ *    · 실행 노드가 중단되면 락 만료 후 다른 노드(또는 재기동된 노드)가 이어서 실행
+ *
+ *  - COMPLETED
+ *    · 작업이 정상 종료된 상태 (계산 작업은 사원 단위 FAILED 포함 가능)
+ *
+ *  - FAILED
+ *    · 상태 검증 실패 또는 시스템 오류로 작업이 중단된 상태
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public enum PayrollJobStatus {
+
+    /**
+     * 실행 대기
+     */
+    QUEUED,
+
+    /**
+     * 실행 중
+     */
+    RUNNING,
+
+    /**
+     * 정상 종료
+     */
+    COMPLETED,
+
+    /**
+     * 실행 중단
+     */
+    FAILED;
+
+    /**
+     * 종료 상태 여부
+     */
+    public boolean isFinished() {
+        return this == COMPLETED || this == FAILED;
+    }
+}
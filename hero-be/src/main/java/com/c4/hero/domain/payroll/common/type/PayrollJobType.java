@@ -0,0 +1,41 @@
+package com.c4.hero.domain.payroll.common.type;
+
+/**
+ * <pre>
+ * Enum Name : PayrollJobType
+ * Description : 급여 배치 비동기 작업(Job) 유형 Enum
+ *
+ * 유형 설명
+ *  - CALCULATE
+ *    · 배치 급여 계산 (청크 단위 체크포인트, 중단 시 완료된 청크 이후부터 재개)
+ *
+ *  - CONFIRM
+ *    · 배치 확정 (CALCULATED -> CONFIRMED)
+ *
+ *  - PAY
+ *    · 배치 지급 (CONFIRMED -> PAID, 지급 이력 일괄 등록)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public enum PayrollJobType {
+
+    /**
+     * 급여 계산
+     */
+    CALCULATE,
+
+    /**
+     * 배치 확정
+     */
+    CONFIRM,
+
+    /**
+     * 급여 지급
+     */
+    PAY
+}
@@ -0,0 +1,23 @@
+package com.c4.hero.domain.payroll.integration.attendance.dto;
+
+/**
+ * <pre>
+ * DTO Name : AttendanceMonthlySummaryDTO
+ * Description : 급여 배치 일괄 조회용 사원별 월 근태 집계 DTO
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param employeeId     사원 ID
+ * @param attendanceDays 해당 월 근태 기록 일수 (work_date DISTINCT)
+ * @param workedMinutes  해당 월 총 근무 시간 (분 단위)
+ */
+public record AttendanceMonthlySummaryDTO(
+        Integer employeeId,
+        Integer attendanceDays,
+        Integer workedMinutes
+) {}
@@ -0,0 +1,26 @@
+package com.c4.hero.domain.payroll.integration.attendance.dto;
+
+/**
+ * <pre>
+ * DTO Name : EmployeeBaseSalaryDTO
+ * Description : 급여 배치 일괄 조회용 사원별 기본급 DTO
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 항목 정책 대상 판별용 부서/직급 ID 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ *
+ * @param employeeId   사원 ID
+ * @param baseSalary   기본급 (없으면 null)
+ * @param departmentId 부서 ID (없으면 null)
+ * @param gradeId      직급 ID (없으면 null)
+ */
+public record EmployeeBaseSalaryDTO(
+        Integer employeeId,
+        Integer baseSalary,
+        Integer departmentId,
+        Integer gradeId
+) {}
@@ -1,8 +1,12 @@
 package com.c4.hero.domain.payroll.integration.attendance.mapper;
 
+import com.c4.hero.domain.payroll.integration.attendance.dto.AttendanceMonthlySummaryDTO;
+import com.c4.hero.domain.payroll.integration.attendance.dto.EmployeeBaseSalaryDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 /**
  * <pre>
  * Mapper Name : PayrollAttendanceMapper
@@ -20,10 +24,12 @@ import org.apache.ibatis.annotations.Param;
  *
  * History
  *  2025/12/15 - 동근 최초 작성
+ *  2026/10/17 - 동근 배치 계산용 사원 목록 단위 일괄 조회 추가
+ *  2026/10/17 - 동근 월 근태 집계를 월간 근태 집계(tbl_attendance_monthly_score) 기준으로 조회
  * </pre>
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.2
  */
 
 @Mapper
@@ -37,30 +43,16 @@ public interface PayrollAttendanceMapper {
     Integer selectBaseSalary(@Param("employeeId") Integer employeeId);
 
     /**
-     * 특정 월의 근태 기록 건수 조회
+     * 특정 월의 근태 집계 조회 (월간 근태 집계 기준)
      * @param employeeId 사원 ID
-     * @param start 조회 시작일 (YYYY-MM-01)
-     * @param end 조회 종료일 (YYYY-MM-31)
-     * @return 근태 기록 건수
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 근태 기록 일수/총 근무 시간(분), 해당 월 근태 기록이 없으면 NULL
      * 사용 목적
      *   - 급여 계산 전 근태 데이터 누락 여부 검증
-     *   - 근태 기록이 전혀 없는 사원에 대한 예외 처리 판단
-     */
-    int countAttendanceInMonth(@Param("employeeId") Integer employeeId,
-                               @Param("start") String start,
-                               @Param("end") String end);
-
-
-    /**
-     * 특정 월의 총 근무 시간 합계 조회 (분 단위)
-     * @param employeeId 사원 ID
-     * @param start 조회 시작일 (YYYY-MM-01)
-     * @param end 조회 종료일 (YYYY-MM-31)
-     * @return  총 근무 시간(분), 데이터가 없을 경우 NULL 가능
+     *   - 초과근무 수당 계산
      */
-    Integer sumWorkedMinutesInMonth(@Param("employeeId") Integer employeeId,
-                                    @Param("start") String start,
-                                    @Param("end") String end);
+    AttendanceMonthlySummaryDTO selectMonthlyAttendanceSummary(@Param("employeeId") Integer employeeId,
+                                                              @Param("salaryMonth") String salaryMonth);
 
 
     /**
@@ -73,4 +65,21 @@ public interface PayrollAttendanceMapper {
     int countWorkDaysInMonth(@Param("employeeId") Integer employeeId,
                              @Param("start") String start,
                              @Param("end") String end);
-}
\ No newline at end of file
+
+
+    /**
+     * 사원 목록 기준 기본급 일괄 조회 (급여 배치 입력 선조회용)
+     * @param employeeIds 사원 ID 목록
+     * @return 사원별 기본급 목록 (항목 정책 대상 판별용 부서/직급 ID 포함)
+     */
+    List<EmployeeBaseSalaryDTO> selectBaseSalaries(@Param("employeeIds") List<Integer> employeeIds);
+
+    /**
+     * 사원 목록 기준 특정 월 근태 집계 일괄 조회 (급여 배치 입력 선조회용)
+     * @param employeeIds 사원 ID 목록
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 사원별 근태 기록 일수/총 근무 시간(분) 목록 (근태 기록이 없는 사원은 제외)
+     */
+    List<AttendanceMonthlySummaryDTO> selectMonthlyAttendanceSummaries(@Param("employeeIds") List<Integer> employeeIds,
+                                                                      @Param("salaryMonth") String salaryMonth);
+}
@@ -11,9 +11,10 @@ package com.c4.hero.domain.payroll.integration.attendance.service;
  *
  * History
  *  2025/12/15 - 동근 최초 작성
+ *  2026/10/17 - 동근 선조회 근태 집계 기반 초과근무 수당 계산 추가
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.1
  * </pre>
  */
 public interface PayrollAttendanceService {
@@ -32,4 +33,13 @@ public interface PayrollAttendanceService {
      * @return 초과근무 수당 금액 (원 단위)
      */
     int calculateOvertime(String salaryMonth, Integer employeeId);
-}
\ No newline at end of file
+
+    /**
+     * 선조회된 월 근태 집계 기준 초과근무 수당 계산 (DB 조회 없음)
+     * @param baseSalary     시급 산정 기준 기본급
+     * @param attendanceDays 해당 월 근태 기록 일수
+     * @param workedMinutes  해당 월 총 근무 시간 (분 단위)
+     * @return 초과근무 수당 금액 (원 단위)
+     */
+    int calculateOvertime(int baseSalary, int attendanceDays, int workedMinutes);
+}
@@ -2,6 +2,8 @@ package com.c4.hero.domain.payroll.integration.attendance.service;
 
 import com.c4.hero.common.exception.BusinessException;
 import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.service.AttendanceScoreService;
+import com.c4.hero.domain.payroll.integration.attendance.dto.AttendanceMonthlySummaryDTO;
 import com.c4.hero.domain.payroll.integration.attendance.mapper.PayrollAttendanceMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -24,10 +26,12 @@ import java.time.YearMonth;
  *
  * History
  *  2025/12/15 - 동근 최초 작성
+ *  2026/10/17 - 동근 초과근무 수당 산식을 DB 조회와 분리 (배치 일괄 계산용)
+ *  2026/10/17 - 동근 월 근태 집계를 월간 근태 집계 1건 조회로 변경
  * </pre>
  *
  *  @author 동근
- *  @version 1.0
+ *  @version 1.2
  */
 
 @Service
@@ -39,6 +43,11 @@ public class PayrollAttendanceServiceImpl implements PayrollAttendanceService {
      */
     private final PayrollAttendanceMapper mapper;
 
+    /**
+     * 월간 근태 집계 적재 보장용 서비스
+     */
+    private final AttendanceScoreService attendanceScoreService;
+
     /**
      * 사원의 기본급 조회
      *
@@ -65,9 +74,9 @@ public class PayrollAttendanceServiceImpl implements PayrollAttendanceService {
      * @return 초과근무 수당 금액
      *
      * 계산 흐름
-     *  1. 급여월 기준 조회 기간 산정 (YYYY-MM-01 ~ YYYY-MM-31)
+     *  1. 급여월 월간 근태 집계 조회 (집계가 없는 월이면 먼저 전체 집계)
      *  2. 근태 기록 존재 여부 검증
-     *  3. 월 총 근무 시간(분) 집계
+     *  3. 월 총 근무 시간(분) 확인
      *  4. 기준 근무 시간(209시간) 초과분 계산
      *  5. 시급 계산 (기본급 / 209시간)
      *  6. 초과근무 수당 = 초과근무시간 × 시급 × 1.5
@@ -85,25 +94,42 @@ public class PayrollAttendanceServiceImpl implements PayrollAttendanceService {
      */
     @Override
     public int calculateOvertime(String salaryMonth, Integer employeeId) {
-        YearMonth ym = YearMonth.parse(salaryMonth); // "YYYY-MM"
-        String start = ym.atDay(1).toString();       // YYYY-MM-01
-        String end = ym.atEndOfMonth().toString();   // YYYY-MM-28/29/30/31
+        attendanceScoreService.ensureMonth(YearMonth.parse(salaryMonth)); // "YYYY-MM"
 
-        int cnt = mapper.countAttendanceInMonth(employeeId, start, end);
+        AttendanceMonthlySummaryDTO summary = mapper.selectMonthlyAttendanceSummary(employeeId, salaryMonth);
         // 근태 기록이 없는 경우 (입사/퇴사/휴직 등 정상 케이스)
-        if (cnt == 0) return 0;
+        if (summary == null || summary.attendanceDays() == null || summary.attendanceDays() == 0) return 0;
         // 월 총 근무 시간(분 단위)
-        Integer workedMinObj = mapper.sumWorkedMinutesInMonth(employeeId, start, end);
-        int workedMin = workedMinObj == null ? 0 : workedMinObj;
+        int workedMin = summary.workedMinutes() == null ? 0 : summary.workedMinutes();
+
+        return calculateOvertime(getBaseSalary(employeeId), summary.attendanceDays(), workedMin);
+    }
+
+    /**
+     * 선조회된 월 근태 집계 기준 초과근무 수당 계산
+     *
+     * @param baseSalary     시급 산정 기준 기본급
+     * @param attendanceDays 해당 월 근태 기록 일수
+     * @param workedMinutes  해당 월 총 근무 시간 (분 단위)
+     * @return 초과근무 수당 금액
+     *
+     * 사용 목적
+     *  - 급여 배치 계산 시 사원별 근태 조회 없이 메모리에서 산출
+     *  - 산식은 calculateOvertime(salaryMonth, employeeId)와 동일
+     */
+    @Override
+    public int calculateOvertime(int baseSalary, int attendanceDays, int workedMinutes) {
+        // 근태 기록이 없는 경우 (입사/퇴사/휴직 등 정상 케이스)
+        if (attendanceDays == 0) return 0;
 
         // 기준 근무 시간 (MVP 기준: 209시간)
         int standardMin = 209 * 60;
 
         // 초과근무 시간(분)
-        int overtimeMin = Math.max(0, workedMin - standardMin);
+        int overtimeMin = Math.max(0, workedMinutes - standardMin);
 
         // 시급계산 = baseSalary / 209시간 (MVP)
-        int hourly = (int) Math.floor((double)getBaseSalary(employeeId) / 209.0);
+        int hourly = (int) Math.floor((double) baseSalary / 209.0);
 
         // 초과근무 OT수당 계산 = OT시간 * 시급 * 1.5 (MVP  1.5배 가산)
         double overtimeHours = overtimeMin / 60.0;
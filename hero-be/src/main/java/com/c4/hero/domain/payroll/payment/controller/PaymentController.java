@@ -3,6 +3,7 @@ package com.c4.hero.domain.payroll.payment.controller;
 import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.common.type.PayrollExportFormat;
 import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentDetailResponseDTO;
 import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentSearchRequestDTO;
 import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentSearchRowResponseDTO;
@@ -13,13 +14,19 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
 /**
  * <pre>
  * Class Name : PaymentController
@@ -28,10 +35,11 @@ import org.springframework.web.bind.annotation.RestController;
  * History
  *  2025/12/28 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/17 - 동근 급여 조회 결과 내려받기(CSV/XLSX) 추가
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @Tag(name = "급여 조회 (Admin)", description = "관리자용 급여 조회 및 상세 조회 API")
 @PayrollAdminOnly
@@ -85,6 +93,48 @@ public class PaymentController {
         return CustomResponse.success(data);
     }
 
+    /**
+     * 급여조회 결과 내려받기 (관리자)
+     *  - 검색 조건에 해당하는 전체 결과를 페이징 없이 응답 스트림으로 바로 기록
+     *
+     * @param salaryMonth 기준 급여월 (yyyy-MM)
+     * @param departmentId 부서 ID (선택)
+     * @param jobTitleId 직책 ID (선택)
+     * @param keyword 사번 또는 사원명 검색 키워드 (선택)
+     * @param format 파일 형식 (CSV / XLSX, 기본 CSV)
+     * @param response HTTP 응답 (파일 본문 기록)
+     * @throws IOException 응답 스트림 기록 실패 시
+     */
+    @Operation(
+            summary = "급여 조회 결과 내려받기",
+            description = "급여월 기준 검색 결과 전체를 CSV 또는 XLSX 파일로 내려받습니다. 조회 조건은 급여 조회 목록과 동일합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "파일 내려받기 성공"),
+            @ApiResponse(responseCode = "400", description = "요청 파라미터 오류"),
+            @ApiResponse(responseCode = "500", description = "서버 오류")
+    })
+    @GetMapping("/export")
+    public void export(
+            @RequestParam String salaryMonth,
+            @RequestParam(required = false) Integer departmentId,
+            @RequestParam(required = false) Integer jobTitleId,
+            @RequestParam(required = false) String keyword,
+            @RequestParam(defaultValue = "CSV") PayrollExportFormat format,
+            HttpServletResponse response
+    ) throws IOException {
+        PayrollPaymentSearchRequestDTO req = new PayrollPaymentSearchRequestDTO(
+                salaryMonth, departmentId, jobTitleId, keyword
+        );
+
+        String fileName = "급여조회_" + salaryMonth + "." + format.getExtension();
+        response.setContentType(format.getContentType());
+        response.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(fileName, StandardCharsets.UTF_8).build().toString());
+
+        service.export(req, format, response.getOutputStream());
+    }
+
     /**
      * 급여조회 상세 (관리자)
      *
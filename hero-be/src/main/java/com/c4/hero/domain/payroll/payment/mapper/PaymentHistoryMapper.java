@@ -6,6 +6,7 @@ import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentSearchRequestDTO;
 import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentSearchRowResponseDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
 import java.util.List;
 
@@ -16,10 +17,11 @@ import java.util.List;
  *
  * History
  *  2025/12/28 - 동근 최초 작성
+ *  2026/10/17 - 동근 급여 조회 결과 내려받기(행 단위 스트리밍) 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 @Mapper
 public interface PaymentHistoryMapper {
@@ -52,6 +54,18 @@ public interface PaymentHistoryMapper {
             @Param("limit") int limit
     );
 
+    /**
+     * 급여 조회 검색 조건의 전체 결과를 한 행씩 핸들러로 전달한다.
+     * (결과 목록을 반환하지 않으므로 건수와 무관하게 메모리 사용량이 일정함)
+     *
+     * @param req     급여 조회 검색 조건
+     * @param handler 행 단위 처리 핸들러
+     */
+    void selectPayrollSearchForExport(
+            @Param("req") PayrollPaymentSearchRequestDTO req,
+            ResultHandler<PayrollPaymentSearchRowResponseDTO> handler
+    );
+
     /**
      * 급여 조회 상세 요약 정보를 조회한다.
      *
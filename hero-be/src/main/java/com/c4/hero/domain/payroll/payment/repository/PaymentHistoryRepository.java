@@ -2,8 +2,14 @@ package com.c4.hero.domain.payroll.payment.repository;
 
 import com.c4.hero.domain.payroll.payment.entity.PaymentHistory;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
 /**
  * <pre>
  * Repository Name : PaymentHistoryRepository
@@ -15,10 +21,11 @@ import org.springframework.stereotype.Repository;
  *
  * History
  *   2025/12/17 - 동근 최초 작성
+ *   2026/10/17 - 동근 배치 단위 지급 이력 일괄 등록 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 @Repository
 public interface PaymentHistoryRepository extends JpaRepository<PaymentHistory, Integer> {
@@ -30,4 +37,33 @@ public interface PaymentHistoryRepository extends JpaRepository<PaymentHistory,
      * @return 존재하면 true, 없으면 false
      */
     boolean existsByPayrollId(Integer payrollId);
+
+    /**
+     * 배치 단위 지급 완료(COMPLETED) 이력 일괄 등록 (INSERT ... SELECT + NOT EXISTS 안티 조인)
+     *  - 지급 이력이 없는 급여만 등록하므로 재시도해도 중복 등록되지 않음
+     *  - 값 규칙은 PaymentHistory.completed 와 동일 (BANK_TRANSFER / COMPLETED / 계좌 미지정)
+     *
+     * @param batchId     급여 배치 ID
+     * @param paymentDate 지급일
+     * @param createdAt   등록 시각
+     * @return 신규 등록된 지급 이력 건수
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO tbl_payment_history
+            (payment_date, payment_amount, payment_method, status, created_at, bank_account_id, payroll_id)
+        SELECT :paymentDate, p.total_pay, 'BANK_TRANSFER', 'COMPLETED', :createdAt, NULL, p.payroll_id
+          FROM tbl_payroll p
+         WHERE p.batch_id = :batchId
+           AND NOT EXISTS (
+                SELECT 1
+                  FROM tbl_payment_history h
+                 WHERE h.payroll_id = p.payroll_id
+           )
+        """, nativeQuery = true)
+    int insertCompletedForBatch(
+            @Param("batchId") Integer batchId,
+            @Param("paymentDate") LocalDate paymentDate,
+            @Param("createdAt") LocalDateTime createdAt
+    );
 }
@@ -4,6 +4,7 @@ import com.c4.hero.common.pagination.PageCalculator;
 import com.c4.hero.common.pagination.PageInfo;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.common.type.PayrollExportFormat;
 import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentDetailResponseDTO;
 import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentDetailSummaryResponseDTO;
 import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentSearchRequestDTO;
@@ -13,6 +14,8 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.OutputStream;
 import java.util.List;
 
 /**
@@ -23,10 +26,11 @@ import java.util.List;
  * History
  *  2025/12/28 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/17 - 동근 급여 조회 결과 CSV/XLSX 스트리밍 내려받기 추가
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @PayrollAdminOnly
 @Service
@@ -65,6 +69,39 @@ public class PaymentService {
         return PageResponse.of(items, pageInfo.getPage() - 1, pageInfo.getSize(), totalCount);
     }
 
+    /**
+     * 급여 조회 검색 결과 전체를 파일 형식으로 출력 스트림에 기록한다.
+     *  - 건수 조회/페이징 없이 1회 조회, 결과는 행 단위로 바로 기록 (전체 결과를 메모리에 적재하지 않음)
+     *
+     * @param req    급여 조회 검색 조건
+     * @param format 파일 형식 (CSV / XLSX)
+     * @param out    응답 출력 스트림
+     * @throws IOException 출력 스트림 기록 실패 시 (클라이언트 연결 종료 등)
+     * @throws IllegalArgumentException salaryMonth가 누락/공백인 경우
+     */
+    public void export(
+            PayrollPaymentSearchRequestDTO req,
+            PayrollExportFormat format,
+            OutputStream out
+    ) throws IOException {
+        if (req.salaryMonth() == null || req.salaryMonth().isBlank()) {
+            throw new IllegalArgumentException("salaryMonth(YYYY-MM)는 필수입니다.");
+        }
+
+        try (PayrollPaymentExportWriter writer = PayrollPaymentExportWriter.open(format, out)) {
+            // 핸들러에서 던진 예외는 MyBatis 예외로 감싸지므로, 기록 실패 시 조회만 중단하고 밖에서 다시 던짐
+            IOException[] failure = new IOException[1];
+            mapper.selectPayrollSearchForExport(req, ctx -> {
+                try {
+                    writer.write(ctx.getResultObject());
+                } catch (IOException e) {
+                    failure[0] = e;
+                    ctx.stop();
+                }
+            });
+            if (failure[0] != null) throw failure[0];
+        }
+    }
 
     /**
      * 급여 조회 상세 정보를 조회한다.
@@ -0,0 +1,81 @@
+package com.c4.hero.domain.payroll.payment.service;
+
+import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentSearchRowResponseDTO;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * <pre>
+ * Class Name : PayrollPaymentCsvWriter
+ * Description : 급여 조회 결과 CSV 출력기
+ *
+ * 출력 규칙
+ *  - UTF-8 BOM 선기록 (엑셀에서 한글 깨짐 방지)
+ *  - 쉼표/따옴표/줄바꿈이 포함된 값은 큰따옴표로 감싸고 내부 따옴표는 이중화
+ *  - = + - @ 로 시작하는 문자열은 앞에 ' 를 붙여 수식 실행 방지 (CSV Injection)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+final class PayrollPaymentCsvWriter implements PayrollPaymentExportWriter {
+
+    private final Writer writer;
+
+    PayrollPaymentCsvWriter(OutputStream out) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        writer.write('\uFEFF');
+        writeLine(HEADERS.toArray());
+    }
+
+    @Override
+    public void write(PayrollPaymentSearchRowResponseDTO row) throws IOException {
+        writeLine(
+                row.salaryMonth(),
+                row.employeeNumber(),
+                row.employeeName(),
+                row.departmentName(),
+                row.jobTitleName(),
+                row.baseSalary(),
+                row.allowanceTotal(),
+                row.deductionTotal(),
+                row.netPay(),
+                row.payrollStatus()
+        );
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeLine(Object... values) throws IOException {
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) writer.write(',');
+            writer.write(escape(values[i]));
+        }
+        writer.write("\r\n");
+    }
+
+    private static String escape(Object value) {
+        if (value == null) return "";
+        if (value instanceof Number) return value.toString();
+
+        String s = value.toString();
+        if (!s.isEmpty() && "=+-@".indexOf(s.charAt(0)) >= 0) {
+            s = "'" + s;
+        }
+        if (s.indexOf(',') >= 0 || s.indexOf('"') >= 0 || s.indexOf('\n') >= 0 || s.indexOf('\r') >= 0) {
+            return '"' + s.replace("\"", "\"\"") + '"';
+        }
+        return s;
+    }
+}
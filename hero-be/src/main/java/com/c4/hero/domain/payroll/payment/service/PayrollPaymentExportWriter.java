@@ -0,0 +1,57 @@
+package com.c4.hero.domain.payroll.payment.service;
+
+import com.c4.hero.domain.payroll.common.type.PayrollExportFormat;
+import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentSearchRowResponseDTO;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.List;
+
+/**
+ * <pre>
+ * Interface Name : PayrollPaymentExportWriter
+ * Description : 급여 조회 결과 내려받기 행 단위 출력기
+ *
+ * 사용 방식
+ *  - 조회 결과를 한 행씩 받아 응답 스트림에 바로 기록 (전체 결과를 메모리에 적재하지 않음)
+ *  - close() 시 남은 버퍼를 내보내고 종료 (응답 스트림 자체는 닫지 않음)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+interface PayrollPaymentExportWriter extends Closeable {
+
+    /** 내려받기 컬럼 헤더 (행 출력 순서와 동일) */
+    List<String> HEADERS = List.of(
+            "급여월", "사번", "사원명", "부서", "직책",
+            "기본급", "수당합계", "공제합계", "실지급액", "상태"
+    );
+
+    /**
+     * 급여 조회 결과 1행 출력
+     *
+     * @param row 급여 조회 결과 행
+     * @throws IOException 응답 스트림 기록 실패 시
+     */
+    void write(PayrollPaymentSearchRowResponseDTO row) throws IOException;
+
+    /**
+     * 형식별 출력기 생성 (헤더 행까지 기록)
+     *
+     * @param format 파일 형식
+     * @param out    응답 출력 스트림
+     * @return 출력기
+     * @throws IOException 응답 스트림 기록 실패 시
+     */
+    static PayrollPaymentExportWriter open(PayrollExportFormat format, OutputStream out) throws IOException {
+        return switch (format) {
+            case CSV -> new PayrollPaymentCsvWriter(out);
+            case XLSX -> new PayrollPaymentXlsxWriter(out);
+        };
+    }
+}
@@ -0,0 +1,82 @@
+package com.c4.hero.domain.payroll.payment.service;
+
+import com.c4.hero.domain.payroll.payment.dto.PayrollPaymentSearchRowResponseDTO;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.xssf.streaming.SXSSFSheet;
+import org.apache.poi.xssf.streaming.SXSSFWorkbook;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * <pre>
+ * Class Name : PayrollPaymentXlsxWriter
+ * Description : 급여 조회 결과 XLSX 출력기 (POI SXSSF 스트리밍)
+ *
+ * 출력 규칙
+ *  - 메모리에는 최근 ROW_WINDOW 행만 유지하고 이전 행은 임시 파일로 내보냄
+ *  - 시트 XML 은 close() 시점에 응답 스트림으로 기록 후 임시 파일 삭제
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+final class PayrollPaymentXlsxWriter implements PayrollPaymentExportWriter {
+
+    /** 메모리 유지 행 수 */
+    private static final int ROW_WINDOW = 100;
+
+    private final OutputStream out;
+    private final SXSSFWorkbook workbook;
+    private final SXSSFSheet sheet;
+    private int rowNo;
+
+    PayrollPaymentXlsxWriter(OutputStream out) {
+        this.out = out;
+        this.workbook = new SXSSFWorkbook(ROW_WINDOW);
+        this.workbook.setCompressTempFiles(true);
+        this.sheet = workbook.createSheet("급여조회");
+
+        Row header = sheet.createRow(rowNo++);
+        for (int i = 0; i < HEADERS.size(); i++) {
+            header.createCell(i).setCellValue(HEADERS.get(i));
+        }
+    }
+
+    @Override
+    public void write(PayrollPaymentSearchRowResponseDTO row) {
+        Row r = sheet.createRow(rowNo++);
+        text(r, 0, row.salaryMonth());
+        text(r, 1, row.employeeNumber());
+        text(r, 2, row.employeeName());
+        text(r, 3, row.departmentName());
+        text(r, 4, row.jobTitleName());
+        number(r, 5, row.baseSalary());
+        number(r, 6, row.allowanceTotal());
+        number(r, 7, row.deductionTotal());
+        number(r, 8, row.netPay());
+        text(r, 9, row.payrollStatus());
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            workbook.write(out);
+            out.flush();
+        } finally {
+            workbook.dispose();
+            workbook.close();
+        }
+    }
+
+    private static void text(Row row, int col, String value) {
+        if (value != null) row.createCell(col).setCellValue(value);
+    }
+
+    private static void number(Row row, int col, Integer value) {
+        if (value != null) row.createCell(col).setCellValue(value);
+    }
+}
@@ -0,0 +1,26 @@
+package com.c4.hero.domain.payroll.payslip.dto;
+
+/**
+ * 배치 단위 급여명세서 기본 정보 DTO
+ * <pre>
+ * Class Name: PayslipBatchBaseDTO
+ * Description: 명세서 문서 일괄 생성 시 배치 소속 사원별 명세서 기본 정보 행
+ *
+ * History
+ * 2026/10/17 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public record PayslipBatchBaseDTO(
+        Integer employeeId,
+        String salaryMonth,
+        String employeeName,
+        String departmentName,
+        int baseSalary,
+        int grossPay,
+        int totalDeduction,
+        int netPay,
+        String pdfUrl
+) {}
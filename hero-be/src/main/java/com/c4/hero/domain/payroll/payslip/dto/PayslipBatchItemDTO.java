@@ -0,0 +1,21 @@
+package com.c4.hero.domain.payroll.payslip.dto;
+
+/**
+ * 배치 단위 급여명세서 항목 DTO
+ * <pre>
+ * Class Name: PayslipBatchItemDTO
+ * Description: 명세서 문서 일괄 생성 시 배치 소속 사원별 수당/공제 항목 행
+ *
+ * History
+ * 2026/10/17 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public record PayslipBatchItemDTO(
+        Integer employeeId,
+        String itemType,
+        String name,
+        int amount
+) {}
@@ -0,0 +1,78 @@
+package com.c4.hero.domain.payroll.payslip.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Lob;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * <pre>
+ * Class Name : PayslipDocument
+ * Description : 급여 지급 시점에 미리 생성해 둔 급여명세서 문서 엔티티
+ *               (PayslipDetailDTO 를 JSON 으로 직렬화하여 보관)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Entity
+@Table(
+        name = "tbl_payslip_document",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_payslip_document", columnNames = {"employee_id", "salary_month"})
+        },
+        indexes = {
+                @Index(name = "idx_payslip_document_batch", columnList = "batch_id")
+        }
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class PayslipDocument {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "payslip_document_id")
+    private Integer payslipDocumentId;
+
+    @Column(name = "batch_id", nullable = false)
+    private Integer batchId;
+
+    @Column(name = "employee_id", nullable = false)
+    private Integer employeeId;
+
+    @Column(name = "salary_month", nullable = false, length = 7)
+    private String salaryMonth;
+
+    @Lob
+    @Column(name = "content_json", nullable = false)
+    private String contentJson;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 엔티티 최초 저장 시 생성 시각 자동 세팅
+     */
+    @PrePersist
+    void prePersist() {
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,51 @@
+package com.c4.hero.domain.payroll.payslip.event;
+
+import com.c4.hero.domain.payroll.batch.event.PayrollBatchPaidEvent;
+import com.c4.hero.domain.payroll.payslip.service.PayslipDocumentCache;
+import com.c4.hero.domain.payroll.payslip.service.PayslipDocumentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * <pre>
+ * Class Name : PayslipDocumentEventListener
+ * Description : 급여 배치 지급 완료 이벤트를 수신하여 급여명세서 문서를 생성하는 리스너
+ *
+ * 처리 규칙
+ *  - 지급 트랜잭션 커밋 이후에만 생성 (지급 롤백 시 문서 미생성)
+ *  - 생성 실패 시 지급 결과에는 영향 없음 (명세서 조회는 실시간 조회로 대체됨)
+ *  - 생성 완료 후 해당 급여월 명세서 캐시 해제
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PayslipDocumentEventListener {
+
+    private final PayslipDocumentService documentService;
+    private final PayslipDocumentCache documentCache;
+
+    /**
+     * 급여 배치 지급 완료 이벤트 처리
+     *
+     * @param event 급여 배치 지급 완료 이벤트
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void onBatchPaid(PayrollBatchPaidEvent event) {
+        try {
+            documentService.generateForBatch(event.batchId());
+            documentCache.evictMonth(event.salaryMonth());
+        } catch (Exception e) {
+            log.error("급여명세서 문서 생성 실패 batchId={}, month={}", event.batchId(), event.salaryMonth(), e);
+        }
+    }
+}
@@ -1,9 +1,13 @@
 package com.c4.hero.domain.payroll.payslip.mapper;
 
 import com.c4.hero.domain.payroll.payslip.dto.PayslipBaseDTO;
+import com.c4.hero.domain.payroll.payslip.dto.PayslipBatchBaseDTO;
+import com.c4.hero.domain.payroll.payslip.dto.PayslipBatchItemDTO;
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
 
+import java.util.List;
+
 /**
  * 급여 명세서 조회용 MyBatis Mapper
  *
@@ -12,13 +16,15 @@ import org.apache.ibatis.annotations.Param;
  * Description: 사원의 급여명세서(Payslip) 기본 정보를 조회하기 위한 SQL Mapper
  *              - 급여월 기준 명세서 기본 정보 조회
  *              - PDF 다운로드를 위한 URL 포함
+ *              - 배치 단위 명세서 문서 생성용 기본 정보/항목 일괄 조회
  *
  * History
  * 2025/12/14 동근 report 도메인에서 payslip 도메인으로 분리
+ * 2026/10/17 동근 배치 단위 명세서 기본 정보/항목 일괄 조회 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 @Mapper
 public interface PayslipQueryMapper {
@@ -33,4 +39,18 @@ public interface PayslipQueryMapper {
             @Param("employeeId") Integer employeeId,
             @Param("salaryMonth") String salaryMonth
     );
+
+    /**
+     * 배치 소속 사원 전체의 명세서 기본 정보 일괄 조회
+     * @param batchId 급여 배치 ID
+     * @return 사원별 명세서 기본 정보 목록
+     */
+    List<PayslipBatchBaseDTO> selectPayslipBasesByBatch(@Param("batchId") Integer batchId);
+
+    /**
+     * 배치 소속 사원 전체의 수당/공제 항목 일괄 조회 (사원 ID, 항목 정렬순)
+     * @param batchId 급여 배치 ID
+     * @return 사원별 수당/공제 항목 목록
+     */
+    List<PayslipBatchItemDTO> selectPayslipItemsByBatch(@Param("batchId") Integer batchId);
 }
@@ -0,0 +1,47 @@
+package com.c4.hero.domain.payroll.payslip.repository;
+
+import com.c4.hero.domain.payroll.payslip.entity.PayslipDocument;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+/**
+ * <pre>
+ * Class Name : PayslipDocumentRepository
+ * Description : 미리 생성된 급여명세서 문서(PayslipDocument) 조회/재생성을 위한 Repository
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public interface PayslipDocumentRepository extends JpaRepository<PayslipDocument, Integer> {
+
+    /**
+     * 사원/급여월 기준 명세서 문서 조회
+     *
+     * @param employeeId  사원 ID
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 명세서 문서 (지급 전이거나 생성 전이면 없음)
+     */
+    Optional<PayslipDocument> findByEmployeeIdAndSalaryMonth(Integer employeeId, String salaryMonth);
+
+    /**
+     * 배치 단위 명세서 문서 일괄 삭제 (재생성 전 호출)
+     *  - 벌크 DELETE 로 즉시 실행되어 이후 INSERT 와 유니크 제약이 충돌하지 않음
+     *
+     * @param batchId 급여 배치 ID
+     * @return 삭제 건수
+     */
+    @Modifying
+    @Query("""
+        delete from PayslipDocument d
+         where d.batchId = :batchId
+        """)
+    int deleteAllByBatchId(@Param("batchId") Integer batchId);
+}
@@ -0,0 +1,77 @@
+package com.c4.hero.domain.payroll.payslip.service;
+
+import com.c4.hero.domain.payroll.payslip.dto.PayslipDetailDTO;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name : PayslipDocumentCache
+ * Description : 미리 생성된 급여명세서 문서의 LRU 캐시
+ *
+ * 캐시 규칙
+ *  - 키: 사원 ID + 급여월, 값: 역직렬화된 명세서 DTO
+ *  - 지급 완료로 생성된 문서만 캐시 (지급 전 실시간 조회 결과는 캐시하지 않음)
+ *  - 최대 건수 초과 시 가장 오래 조회되지 않은 항목부터 제거
+ *  - 명세서 문서 재생성 시 해당 급여월 항목 일괄 제거
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Component
+public class PayslipDocumentCache {
+
+    private final Map<String, PayslipDetailDTO> cache;
+
+    public PayslipDocumentCache(@Value("${payroll.payslip.cache-size:5000}") int maxSize) {
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, PayslipDetailDTO> eldest) {
+                return size() > maxSize;
+            }
+        };
+    }
+
+    /**
+     * 캐시된 명세서 조회 (조회 시 최근 사용으로 갱신)
+     *
+     * @param employeeId  사원 ID
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 명세서 DTO (없으면 null)
+     */
+    public synchronized PayslipDetailDTO get(Integer employeeId, String salaryMonth) {
+        return cache.get(key(employeeId, salaryMonth));
+    }
+
+    /**
+     * 명세서 캐시 등록
+     *
+     * @param employeeId  사원 ID
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @param detail      명세서 DTO
+     */
+    public synchronized void put(Integer employeeId, String salaryMonth, PayslipDetailDTO detail) {
+        cache.put(key(employeeId, salaryMonth), detail);
+    }
+
+    /**
+     * 급여월 단위 캐시 해제 (명세서 문서 재생성 후 호출)
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     */
+    public synchronized void evictMonth(String salaryMonth) {
+        String suffix = ":" + salaryMonth;
+        cache.keySet().removeIf(key -> key.endsWith(suffix));
+    }
+
+    private static String key(Integer employeeId, String salaryMonth) {
+        return employeeId + ":" + salaryMonth;
+    }
+}
@@ -0,0 +1,101 @@
+package com.c4.hero.domain.payroll.payslip.service;
+
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.payslip.dto.PayslipBatchBaseDTO;
+import com.c4.hero.domain.payroll.payslip.dto.PayslipBatchItemDTO;
+import com.c4.hero.domain.payroll.payslip.dto.PayslipDetailDTO;
+import com.c4.hero.domain.payroll.payslip.entity.PayslipDocument;
+import com.c4.hero.domain.payroll.payslip.mapper.PayslipQueryMapper;
+import com.c4.hero.domain.payroll.payslip.repository.PayslipDocumentRepository;
+import com.c4.hero.domain.payroll.report.dto.PayItemDTO;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * <pre>
+ * Service Name : PayslipDocumentService
+ * Description  : 급여 지급 완료 배치의 급여명세서 문서 일괄 생성 서비스
+ *
+ * 생성 방식
+ *  - 배치 소속 사원의 명세서 기본 정보/항목을 쿼리 2회로 일괄 조회
+ *  - 사원별로 PayslipDetailDTO 를 구성하여 JSON 으로 직렬화 후 저장
+ *  - 재지급(재시도) 시 기존 배치 문서를 삭제 후 다시 생성
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+public class PayslipDocumentService {
+
+    private static final Set<String> ALLOWANCE_TYPES = Set.of("ALLOWANCE", "BONUS");
+
+    private final PayslipQueryMapper payslipQueryMapper;
+    private final PayslipDocumentRepository documentRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 배치 단위 급여명세서 문서 생성
+     *  - 지급 트랜잭션 커밋 이후 호출되므로 별도 트랜잭션(REQUIRES_NEW)으로 실행
+     *
+     * @param batchId 급여 배치 ID
+     * @return 생성된 명세서 문서 건수
+     */
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public int generateForBatch(Integer batchId) {
+        List<PayslipBatchBaseDTO> bases = payslipQueryMapper.selectPayslipBasesByBatch(batchId);
+
+        Map<Integer, List<PayItemDTO>> allowances = new HashMap<>();
+        Map<Integer, List<PayItemDTO>> deductions = new HashMap<>();
+        for (PayslipBatchItemDTO item : payslipQueryMapper.selectPayslipItemsByBatch(batchId)) {
+            Map<Integer, List<PayItemDTO>> target =
+                    ALLOWANCE_TYPES.contains(item.itemType()) ? allowances : deductions;
+            target.computeIfAbsent(item.employeeId(), k -> new ArrayList<>())
+                    .add(new PayItemDTO(item.name(), item.amount()));
+        }
+
+        List<PayslipDocument> documents = new ArrayList<>(bases.size());
+        for (PayslipBatchBaseDTO base : bases) {
+            PayslipDetailDTO detail = new PayslipDetailDTO(
+                    base.salaryMonth(),
+                    base.employeeName(),
+                    base.departmentName(),
+                    base.baseSalary(),
+                    allowances.getOrDefault(base.employeeId(), List.of()),
+                    deductions.getOrDefault(base.employeeId(), List.of()),
+                    base.grossPay(),
+                    base.totalDeduction(),
+                    base.netPay(),
+                    base.pdfUrl()
+            );
+            documents.add(PayslipDocument.builder()
+                    .batchId(batchId)
+                    .employeeId(base.employeeId())
+                    .salaryMonth(base.salaryMonth())
+                    .contentJson(objectMapper.writeValueAsString(detail))
+                    .build());
+        }
+
+        int deleted = documentRepository.deleteAllByBatchId(batchId);
+        documentRepository.saveAll(documents);
+
+        log.info("급여명세서 문서 생성 batchId={}, generated={}, replaced={}", batchId, documents.size(), deleted);
+        return documents.size();
+    }
+}
@@ -4,10 +4,14 @@ import com.c4.hero.domain.auth.security.LoginOnly;
 import com.c4.hero.domain.payroll.payslip.dto.PayslipBaseDTO;
 import com.c4.hero.domain.payroll.payslip.dto.PayslipDetailDTO;
 import com.c4.hero.domain.payroll.payslip.mapper.PayslipQueryMapper;
+import com.c4.hero.domain.payroll.payslip.repository.PayslipDocumentRepository;
 import com.c4.hero.domain.payroll.report.dto.PayItemDTO;
 import com.c4.hero.domain.payroll.report.mapper.EmployeePayrollReportMapper;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
 
 import java.time.YearMonth;
 import java.util.List;
@@ -24,15 +28,18 @@ import java.util.List;
  * Design Note
  *  - 명세서 기본 정보: PayslipQueryMapper (payslip 도메인 전용)
  *  - 수당/공제 항목: EmployeePayrollReportMapper 재사용 (items)
+ *  - 조회 순서: LRU 캐시 → 지급 시 생성된 명세서 문서(PayslipDocument) → 실시간 조회
  *
  * History
  * 2025/12/14 - 동근 report 도메인에서 payslip 도메인으로 분리
  * 2026/01/03 - 동근 권한 인가 정책 추가
+ * 2026/10/17 - 동근 지급 시 생성된 명세서 문서 및 LRU 캐시 우선 조회
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
+@Slf4j
 @LoginOnly
 @Service
 @RequiredArgsConstructor
@@ -44,10 +51,18 @@ public class PayslipService {
     /** 급여 항목(수당/공제) 조회 재사용 Mapper */
     private final EmployeePayrollReportMapper reportMapper;
 
+    /** 지급 시 생성된 명세서 문서 Repository */
+    private final PayslipDocumentRepository documentRepository;
+
+    /** 명세서 문서 LRU 캐시 */
+    private final PayslipDocumentCache documentCache;
+
+    private final ObjectMapper objectMapper;
 
     /**
      * 명세서 상세 조회(PayslipBaseDto로 기본 정보 조회)
-     * PayslipBaseDTO로 기본 정보를 조회하고, 수당/공제 항목을 조합해서 PayslipDetailDTO로 반환
+     * 지급 완료 월은 캐시/명세서 문서에서 바로 반환하고,
+     * 문서가 없으면 PayslipBaseDTO로 기본 정보를 조회하고, 수당/공제 항목을 조합해서 PayslipDetailDTO로 반환
      * @param employeeId 사원 ID
      * @param month 조회할 급여월(YYYY-MM)
      * @return 명세서 상세 DTO
@@ -57,6 +72,17 @@ public class PayslipService {
                 ? month
                 : YearMonth.now().toString();
 
+        PayslipDetailDTO cached = documentCache.get(employeeId, targetMonth);
+        if (cached != null) {
+            return cached;
+        }
+
+        PayslipDetailDTO document = readDocument(employeeId, targetMonth);
+        if (document != null) {
+            documentCache.put(employeeId, targetMonth, document);
+            return document;
+        }
+
         PayslipBaseDTO base = payslipQueryMapper.selectPayslipBase(employeeId, targetMonth);
         if (base == null) {
             throw new IllegalArgumentException("해당 월 명세서가 없습니다.");
@@ -78,4 +104,25 @@ public class PayslipService {
                 base.pdfUrl()
         );
     }
+
+    /**
+     * 지급 시 생성된 명세서 문서 역직렬화
+     *
+     * @param employeeId 사원 ID
+     * @param month      급여월(YYYY-MM)
+     * @return 명세서 상세 DTO (없거나 형식이 맞지 않으면 null → 실시간 조회)
+     */
+    private PayslipDetailDTO readDocument(Integer employeeId, String month) {
+        return documentRepository.findByEmployeeIdAndSalaryMonth(employeeId, month)
+                .map(stored -> {
+                    try {
+                        return objectMapper.readValue(stored.getContentJson(), PayslipDetailDTO.class);
+                    } catch (JacksonException e) {
+                        log.warn("급여명세서 문서 역직렬화 실패 - 실시간 조회 employeeId={}, month={}",
+                                employeeId, month, e);
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
 }
@@ -16,10 +16,11 @@ import java.util.List;
  *
  * History
  *  2025/12/24 - 동근 최초 작성
+ *  2026/10/17 - 동근 FORMULA 계산식(formula) 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 public record ItemPolicyUpsertRequestDTO(
 
@@ -41,6 +42,9 @@ public record ItemPolicyUpsertRequestDTO(
         /** 비율 값 (RATE 방식에서 사용) */
         BigDecimal rate,
 
+        /** 계산식 (FORMULA 방식에서 사용, 예: BASE_SALARY * 0.1 + 50000) */
+        String formula,
+
         /** 기준 금액 유형 (기본급, 과세대상 금액 등) */
         BaseAmountType baseAmountType,
 
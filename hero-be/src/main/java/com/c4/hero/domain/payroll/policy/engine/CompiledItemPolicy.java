@@ -0,0 +1,129 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * <pre>
+ * Class Name : CompiledItemPolicy
+ * Description : 항목 정책 1건을 배치 계산용으로 사전 해석한 평가기 (불변)
+ *
+ * 계산 규칙
+ *  - FIXED   : fixedAmount
+ *  - RATE    : 기준 금액(baseAmountType) × rate
+ *  - FORMULA : 컴파일된 계산식 평가 결과
+ *  - 결과는 roundingUnit 단위로 roundingMode 에 따라 반올림, 음수는 0 처리
+ *    (FORMULA 결과는 나눗셈 잔여 오차가 CEIL/FLOOR 에 반영되지 않도록 소수 6자리로 먼저 정리)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 엔티티 대신 정책 스냅샷 기준으로 생성하도록 변경
+ *  2026/10/17 - 동근 FORMULA 금액을 BigDecimal 로 계산
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+final class CompiledItemPolicy {
+
+    /** FORMULA 결과를 반올림 단위 적용 전에 정리할 소수 자릿수 */
+    private static final int FORMULA_SCALE = 6;
+
+    private final Integer itemPolicyId;
+    private final ItemType itemType;
+    private final String itemCode;
+    private final String itemName;
+    private final String taxableYn;
+    private final CalcMethod calcMethod;
+    private final int fixedAmount;
+    private final BigDecimal rate;
+    private final PayrollFormulaVariable baseVariable;
+    private final PayrollFormula formula;
+    private final BigDecimal roundingUnit;
+    private final RoundingMode roundingMode;
+
+    CompiledItemPolicy(PayrollPolicySnapshotDTO.ItemSnapshot policy) {
+        this.itemPolicyId = policy.itemPolicyId();
+        this.itemType = policy.itemType();
+        this.itemCode = policy.itemCode();
+        this.itemName = policy.itemName();
+        this.taxableYn = policy.taxableYn();
+        this.calcMethod = policy.calcMethod();
+        this.fixedAmount = policy.fixedAmount() == null ? 0 : policy.fixedAmount();
+        this.rate = policy.rate() == null ? BigDecimal.ZERO : policy.rate();
+        this.baseVariable = toVariable(policy.baseAmountType());
+        this.roundingUnit = BigDecimal.valueOf(
+                policy.roundingUnit() == null || policy.roundingUnit() <= 0 ? 1 : policy.roundingUnit()
+        );
+        this.roundingMode = toRoundingMode(policy.roundingMode());
+
+        if (calcMethod == CalcMethod.FORMULA) {
+            try {
+                this.formula = PayrollFormula.compile(policy.formula());
+            } catch (IllegalArgumentException e) {
+                throw new IllegalArgumentException(
+                        "항목 정책 계산식 컴파일 실패 itemPolicyId=" + itemPolicyId + ", itemCode=" + itemCode
+                                + " : " + e.getMessage(), e);
+            }
+        } else {
+            this.formula = null;
+        }
+    }
+
+    /**
+     * 항목 금액 평가
+     *
+     * @param values PayrollFormulaVariable ordinal 순서의 변수 값 배열
+     * @return 반올림 적용 후 금액 (0 이상)
+     */
+    int evaluate(double[] values) {
+        BigDecimal raw = switch (calcMethod) {
+            case FIXED -> BigDecimal.valueOf(fixedAmount);
+            case RATE -> BigDecimal.valueOf((long) values[baseVariable.ordinal()]).multiply(rate);
+            case FORMULA -> formula.evaluate(values).setScale(FORMULA_SCALE, RoundingMode.HALF_UP);
+        };
+        if (raw.signum() <= 0) return 0;
+
+        BigDecimal rounded = raw.divide(roundingUnit, 0, roundingMode).multiply(roundingUnit);
+        return rounded.min(BigDecimal.valueOf(Integer.MAX_VALUE)).intValue();
+    }
+
+    EvaluatedPayrollItem toResult(int amount) {
+        return new EvaluatedPayrollItem(itemType, itemCode, itemName, amount, taxableYn);
+    }
+
+    Integer getItemPolicyId() {
+        return itemPolicyId;
+    }
+
+    ItemType getItemType() {
+        return itemType;
+    }
+
+    boolean isTaxable() {
+        return "Y".equals(taxableYn);
+    }
+
+    private static PayrollFormulaVariable toVariable(BaseAmountType type) {
+        if (type == null) return PayrollFormulaVariable.BASE_SALARY;
+        return switch (type) {
+            case BASE_SALARY -> PayrollFormulaVariable.BASE_SALARY;
+            case GROSS_PAY -> PayrollFormulaVariable.GROSS_PAY;
+            case TAXABLE_PAY -> PayrollFormulaVariable.TAXABLE_PAY;
+        };
+    }
+
+    private static RoundingMode toRoundingMode(RoundingModeType type) {
+        if (type == null) return RoundingMode.HALF_UP;
+        return switch (type) {
+            case HALF_UP -> RoundingMode.HALF_UP;
+            case FLOOR -> RoundingMode.FLOOR;
+            case CEIL -> RoundingMode.CEILING;
+        };
+    }
+}
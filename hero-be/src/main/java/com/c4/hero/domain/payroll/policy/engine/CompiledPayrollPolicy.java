@@ -0,0 +1,258 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name : CompiledPayrollPolicy
+ * Description : 급여 배치 1회 계산에 사용하는 항목 정책 평가 엔진 (불변, 워커 스레드 간 공유)
+ *
+ * 구조
+ *  - 적용 항목 정책을 우선순위(priority → itemPolicyId) 순으로 정렬하여 보관
+ *  - 대상 유형(PayrollTargetType) + 대상 값 기준으로 항목 인덱스(int[])를 사전 색인
+ *  - 사원 평가 시 ALL + 부서 + 직급 + 사원 색인만 조회하므로 정책 테이블 재조회 없음
+ *
+ * 평가 규칙
+ *  - 우선순위 순서대로 평가하며, 앞서 계산된 수당은 GROSS_PAY / TAXABLE_PAY 에 누적
+ *  - 동일 항목이 여러 대상 조건에 동시에 해당해도 1회만 평가
+ *  - 금액이 0인 항목은 결과에서 제외
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 정책 스냅샷 기준 생성 및 공통 설정(PolicyConfig) 조회 추가
+ *  2026/10/17 - 동근 증분 재계산 판별용 정책 지문 보관
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+public final class CompiledPayrollPolicy {
+
+    private static final int[] NONE = new int[0];
+
+    private final Integer policyId;
+    private final String salaryMonth;
+    private final String fingerprint;
+    private final Map<String, String> configs;
+    private final List<CompiledItemPolicy> items;
+    private final int[] allTargets;
+    private final Map<PayrollTargetType, Map<String, int[]>> targetIndex;
+
+    private CompiledPayrollPolicy(
+            Integer policyId,
+            String salaryMonth,
+            String fingerprint,
+            Map<String, String> configs,
+            List<CompiledItemPolicy> items,
+            int[] allTargets,
+            Map<PayrollTargetType, Map<String, int[]>> targetIndex
+    ) {
+        this.policyId = policyId;
+        this.salaryMonth = salaryMonth;
+        this.fingerprint = fingerprint;
+        this.configs = configs;
+        this.items = items;
+        this.allTargets = allTargets;
+        this.targetIndex = targetIndex;
+    }
+
+    /**
+     * 적용 정책이 없는 경우의 빈 엔진 (항목 생성 없음)
+     *
+     * @param salaryMonth 급여월 (YYYY-MM)
+     */
+    public static CompiledPayrollPolicy empty(String salaryMonth) {
+        return new CompiledPayrollPolicy(null, salaryMonth, null, Map.of(), List.of(), NONE, Map.of());
+    }
+
+    /**
+     * 정책 스냅샷 컴파일
+     *  - 항목 순서가 평가 순서이므로 스냅샷 생성 시 우선순위 정렬되어 있어야 함
+     *
+     * @param snapshot 배치 기준 정책 스냅샷
+     * @return 항목 정책 평가 엔진
+     *
+     * @throws IllegalArgumentException 계산식에 문법 오류가 있는 경우
+     */
+    public static CompiledPayrollPolicy compile(PayrollPolicySnapshotDTO snapshot) {
+        Builder builder = new Builder(
+                snapshot.policyId(), snapshot.salaryMonth(), snapshot.fingerprint(), snapshot.configs()
+        );
+        for (PayrollPolicySnapshotDTO.ItemSnapshot item : snapshot.items()) {
+            builder.add(new CompiledItemPolicy(item), item.targets() == null ? Map.of() : item.targets());
+        }
+        return builder.build();
+    }
+
+    /**
+     * 적용 정책 ID (정책 미적용 시 null)
+     */
+    public Integer getPolicyId() {
+        return policyId;
+    }
+
+    /**
+     * 컴파일 기준 급여월
+     */
+    public String getSalaryMonth() {
+        return salaryMonth;
+    }
+
+    /**
+     * 컴파일 기준 정책 지문 (정책 미적용 시 null)
+     */
+    public String getFingerprint() {
+        return fingerprint;
+    }
+
+    /**
+     * 공통 설정 값 조회
+     *
+     * @param configKey 설정 키
+     * @return 설정 값 (없으면 null)
+     */
+    public String getConfig(String configKey) {
+        return configs.get(configKey);
+    }
+
+    /**
+     * 컴파일된 항목 정책 수
+     */
+    public int size() {
+        return items.size();
+    }
+
+    /**
+     * 사원 1명 항목 정책 평가
+     *
+     * @param input 사원 평가 입력값
+     * @return 항목 평가 결과 목록 (우선순위 순, 금액 0 항목 제외)
+     */
+    public List<EvaluatedPayrollItem> evaluate(PolicyEvaluationInput input) {
+        if (items.isEmpty()) return List.of();
+
+        boolean[] matched = new boolean[items.size()];
+        mark(matched, allTargets);
+        mark(matched, lookup(PayrollTargetType.DEPARTMENT, input.departmentId()));
+        mark(matched, lookup(PayrollTargetType.POSITION, input.gradeId()));
+        mark(matched, lookup(PayrollTargetType.EMPLOYEE, input.employeeId()));
+
+        double[] values = new double[PayrollFormulaVariable.SIZE];
+        values[PayrollFormulaVariable.BASE_SALARY.ordinal()] = input.baseSalary();
+        values[PayrollFormulaVariable.OVERTIME_PAY.ordinal()] = input.overtimePay();
+        values[PayrollFormulaVariable.ATTENDANCE_DAYS.ordinal()] = input.attendanceDays();
+        values[PayrollFormulaVariable.WORKED_MINUTES.ordinal()] = input.workedMinutes();
+
+        long gross = (long) input.baseSalary() + input.overtimePay();
+        long taxable = gross;
+
+        List<EvaluatedPayrollItem> results = new ArrayList<>();
+        for (int i = 0; i < matched.length; i++) {
+            if (!matched[i]) continue;
+
+            CompiledItemPolicy item = items.get(i);
+            values[PayrollFormulaVariable.GROSS_PAY.ordinal()] = gross;
+            values[PayrollFormulaVariable.TAXABLE_PAY.ordinal()] = taxable;
+
+            int amount = item.evaluate(values);
+            if (amount <= 0) continue;
+
+            results.add(item.toResult(amount));
+            if (item.getItemType() == ItemType.ALLOWANCE) {
+                gross += amount;
+                if (item.isTaxable()) taxable += amount;
+            }
+        }
+        return results;
+    }
+
+    private int[] lookup(PayrollTargetType type, Integer value) {
+        if (value == null) return NONE;
+        Map<String, int[]> byValue = targetIndex.get(type);
+        if (byValue == null) return NONE;
+        int[] indexes = byValue.get(String.valueOf(value));
+        return indexes == null ? NONE : indexes;
+    }
+
+    private static void mark(boolean[] matched, int[] indexes) {
+        for (int i : indexes) matched[i] = true;
+    }
+
+    /**
+     * CompiledPayrollPolicy 조립기
+     *  - add 호출 순서가 평가 순서가 되므로 우선순위 정렬 후 추가해야 함
+     */
+    private static final class Builder {
+
+        private final Integer policyId;
+        private final String salaryMonth;
+        private final String fingerprint;
+        private final Map<String, String> configs;
+        private final List<CompiledItemPolicy> items = new ArrayList<>();
+        private final List<Integer> allTargets = new ArrayList<>();
+        private final Map<PayrollTargetType, Map<String, List<Integer>>> targets = new EnumMap<>(PayrollTargetType.class);
+
+        Builder(Integer policyId, String salaryMonth, String fingerprint, Map<String, String> configs) {
+            this.policyId = policyId;
+            this.salaryMonth = salaryMonth;
+            this.fingerprint = fingerprint;
+            this.configs = configs == null ? Map.of() : Map.copyOf(configs);
+        }
+
+        /**
+         * 항목 정책 추가
+         *
+         * @param item    컴파일된 항목 정책
+         * @param targets 대상 유형 → 대상 값 목록 (비어 있으면 전체 사원 대상)
+         */
+        Builder add(CompiledItemPolicy item, Map<PayrollTargetType, List<String>> targets) {
+            int index = items.size();
+            items.add(item);
+
+            if (targets.isEmpty() || targets.containsKey(PayrollTargetType.ALL)) {
+                allTargets.add(index);
+                return this;
+            }
+            targets.forEach((type, values) -> {
+                Map<String, List<Integer>> byValue = this.targets.computeIfAbsent(type, t -> new HashMap<>());
+                for (String value : values) {
+                    if (value == null || value.isBlank()) continue;
+                    byValue.computeIfAbsent(value.trim(), v -> new ArrayList<>()).add(index);
+                }
+            });
+            return this;
+        }
+
+        CompiledPayrollPolicy build() {
+            Map<PayrollTargetType, Map<String, int[]>> index = new EnumMap<>(PayrollTargetType.class);
+            targets.forEach((type, byValue) -> {
+                Map<String, int[]> frozen = new HashMap<>(byValue.size() * 2);
+                byValue.forEach((value, list) -> frozen.put(value, toArray(list)));
+                index.put(type, Collections.unmodifiableMap(frozen));
+            });
+            return new CompiledPayrollPolicy(
+                    policyId,
+                    salaryMonth,
+                    fingerprint,
+                    configs,
+                    List.copyOf(items),
+                    toArray(allTargets),
+                    Collections.unmodifiableMap(index)
+            );
+        }
+
+        private static int[] toArray(List<Integer> list) {
+            int[] arr = new int[list.size()];
+            for (int i = 0; i < arr.length; i++) arr[i] = list.get(i);
+            return arr;
+        }
+    }
+}
@@ -0,0 +1,41 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.batch.entity.PayrollItem;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+
+/**
+ * <pre>
+ * Record Name : EvaluatedPayrollItem
+ * Description : 사원 1명 기준 항목 정책 평가 결과 (급여 저장 전이라 payrollId 미포함)
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param itemType  항목 유형 (수당 / 공제)
+ * @param itemCode  항목 코드
+ * @param itemName  항목명
+ * @param amount    계산 금액 (반올림 적용 후)
+ * @param taxableYn 과세 여부 (Y/N)
+ */
+public record EvaluatedPayrollItem(
+        ItemType itemType,
+        String itemCode,
+        String itemName,
+        int amount,
+        String taxableYn
+) {
+
+    /**
+     * 급여 항목 엔티티 변환
+     *
+     * @param payrollId 저장된 급여 ID
+     * @return 급여 항목 엔티티
+     */
+    public PayrollItem toEntity(Integer payrollId) {
+        return PayrollItem.of(payrollId, itemType.name(), itemCode, itemName, amount, taxableYn);
+    }
+}
@@ -0,0 +1,271 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * <pre>
+ * Class Name : PayrollFormula
+ * Description : 급여 항목 계산식(FORMULA)을 1회 파싱하여 재사용 가능한 평가기로 컴파일한 객체 (불변)
+ *
+ * 문법
+ *  - 사칙연산(+ - * /), 단항 부호, 괄호, 숫자(소수 허용)
+ *  - 변수 : PayrollFormulaVariable (예: BASE_SALARY, WORKED_MINUTES)
+ *  - 함수 : MIN(a, b, ...), MAX(a, b, ...), ABS(a)
+ *
+ * 평가 규칙
+ *  - BigDecimal 로 평가 (요율 리터럴 0.035, 1.1 등은 10진수 그대로 파싱하여 이진 부동소수 오차 없음)
+ *  - 나눗셈만 유효숫자 34자리(DECIMAL128)로 반올림
+ *  - 0으로 나누는 경우 0으로 평가 (근태 0일 등 정상 케이스에서 배치가 중단되지 않도록)
+ *  - 상수끼리의 연산은 컴파일 시점에 미리 계산
+ *
+ * 사용 예
+ *  - PayrollFormula.compile("BASE_SALARY * 0.1 + MIN(ATTENDANCE_DAYS, 22) * 10000")
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 double 대신 BigDecimal 로 평가 (CEIL/FLOOR 반올림 시 부동소수 오차로 1원 단위가 틀어지던 문제)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+public final class PayrollFormula {
+
+    /** 나눗셈 정밀도 */
+    private static final MathContext DIVISION_CONTEXT = MathContext.DECIMAL128;
+
+    private final String expression;
+    private final Node root;
+
+    private PayrollFormula(String expression, Node root) {
+        this.expression = expression;
+        this.root = root;
+    }
+
+    /**
+     * 계산식 컴파일
+     *
+     * @param expression 계산식 문자열
+     * @return 컴파일된 계산식
+     *
+     * @throws IllegalArgumentException 문법 오류 또는 알 수 없는 변수/함수가 포함된 경우
+     */
+    public static PayrollFormula compile(String expression) {
+        if (expression == null || expression.isBlank()) {
+            throw new IllegalArgumentException("계산식이 비어 있습니다.");
+        }
+        Parser parser = new Parser(expression);
+        Node root = parser.parseExpression();
+        parser.expectEnd();
+        return new PayrollFormula(expression.trim(), root);
+    }
+
+    /**
+     * 계산식 평가
+     *
+     * @param values PayrollFormulaVariable ordinal 순서의 변수 값 배열
+     * @return 평가 결과 (반올림 전)
+     */
+    public BigDecimal evaluate(double[] values) {
+        return root.eval(values);
+    }
+
+    /**
+     * 원본 계산식
+     */
+    public String getExpression() {
+        return expression;
+    }
+
+    @Override
+    public String toString() {
+        return expression;
+    }
+
+    /** 컴파일된 계산식 노드 */
+    @FunctionalInterface
+    private interface Node {
+        BigDecimal eval(double[] values);
+    }
+
+    /** 상수 노드 (상수 접기 판별용) */
+    private record Constant(BigDecimal value) implements Node {
+        @Override
+        public BigDecimal eval(double[] values) {
+            return value;
+        }
+    }
+
+    /**
+     * 재귀 하강 파서
+     *
+     *  expression := term (('+' | '-') term)*
+     *  term       := unary (('*' | '/') unary)*
+     *  unary      := ('+' | '-') unary | primary
+     *  primary    := NUMBER | IDENT | IDENT '(' expression (',' expression)* ')' | '(' expression ')'
+     */
+    private static final class Parser {
+
+        private final String src;
+        private int pos;
+
+        Parser(String src) {
+            this.src = src;
+        }
+
+        Node parseExpression() {
+            Node left = parseTerm();
+            while (true) {
+                if (accept('+')) left = binary(left, parseTerm(), '+');
+                else if (accept('-')) left = binary(left, parseTerm(), '-');
+                else return left;
+            }
+        }
+
+        private Node parseTerm() {
+            Node left = parseUnary();
+            while (true) {
+                if (accept('*')) left = binary(left, parseUnary(), '*');
+                else if (accept('/')) left = binary(left, parseUnary(), '/');
+                else return left;
+            }
+        }
+
+        private Node parseUnary() {
+            if (accept('+')) return parseUnary();
+            if (accept('-')) {
+                Node operand = parseUnary();
+                if (operand instanceof Constant c) return new Constant(c.value().negate());
+                return v -> operand.eval(v).negate();
+            }
+            return parsePrimary();
+        }
+
+        private Node parsePrimary() {
+            skipSpaces();
+            if (pos >= src.length()) throw error("식이 완결되지 않았습니다.");
+
+            char ch = src.charAt(pos);
+            if (accept('(')) {
+                Node inner = parseExpression();
+                expect(')');
+                return inner;
+            }
+            if (Character.isDigit(ch) || ch == '.') return parseNumber();
+            if (Character.isLetter(ch) || ch == '_') return parseIdentifier();
+
+            throw error("예상하지 못한 문자 '" + ch + "'");
+        }
+
+        private Node parseNumber() {
+            int start = pos;
+            while (pos < src.length() && (Character.isDigit(src.charAt(pos)) || src.charAt(pos) == '.')) pos++;
+            try {
+                return new Constant(new BigDecimal(src.substring(start, pos)));
+            } catch (NumberFormatException e) {
+                throw error("잘못된 숫자 '" + src.substring(start, pos) + "'");
+            }
+        }
+
+        private Node parseIdentifier() {
+            int start = pos;
+            while (pos < src.length() && (Character.isLetterOrDigit(src.charAt(pos)) || src.charAt(pos) == '_')) pos++;
+            String name = src.substring(start, pos).toUpperCase(Locale.ROOT);
+
+            if (accept('(')) return parseFunction(name);
+
+            try {
+                int index = PayrollFormulaVariable.valueOf(name).ordinal();
+                return v -> BigDecimal.valueOf(v[index]);
+            } catch (IllegalArgumentException e) {
+                throw error("알 수 없는 변수 '" + name + "'");
+            }
+        }
+
+        private Node parseFunction(String name) {
+            List<Node> args = new ArrayList<>();
+            if (!accept(')')) {
+                do {
+                    args.add(parseExpression());
+                } while (accept(','));
+                expect(')');
+            }
+            Node[] a = args.toArray(new Node[0]);
+
+            return switch (name) {
+                case "MIN" -> {
+                    requireArgs(name, a, 2);
+                    yield v -> {
+                        BigDecimal r = a[0].eval(v);
+                        for (int i = 1; i < a.length; i++) r = r.min(a[i].eval(v));
+                        return r;
+                    };
+                }
+                case "MAX" -> {
+                    requireArgs(name, a, 2);
+                    yield v -> {
+                        BigDecimal r = a[0].eval(v);
+                        for (int i = 1; i < a.length; i++) r = r.max(a[i].eval(v));
+                        return r;
+                    };
+                }
+                case "ABS" -> {
+                    if (a.length != 1) throw error("ABS 함수는 인자 1개가 필요합니다.");
+                    Node x = a[0];
+                    yield v -> x.eval(v).abs();
+                }
+                default -> throw error("알 수 없는 함수 '" + name + "'");
+            };
+        }
+
+        private void requireArgs(String name, Node[] args, int min) {
+            if (args.length < min) throw error(name + " 함수는 인자가 " + min + "개 이상 필요합니다.");
+        }
+
+        private static Node binary(Node l, Node r, char op) {
+            Node node = switch (op) {
+                case '+' -> v -> l.eval(v).add(r.eval(v));
+                case '-' -> v -> l.eval(v).subtract(r.eval(v));
+                case '*' -> v -> l.eval(v).multiply(r.eval(v));
+                default -> v -> {
+                    BigDecimal d = r.eval(v);
+                    return d.signum() == 0 ? BigDecimal.ZERO : l.eval(v).divide(d, DIVISION_CONTEXT);
+                };
+            };
+            if (l instanceof Constant && r instanceof Constant) {
+                return new Constant(node.eval(null)); // 상수 접기
+            }
+            return node;
+        }
+
+        void expectEnd() {
+            skipSpaces();
+            if (pos < src.length()) throw error("예상하지 못한 문자 '" + src.charAt(pos) + "'");
+        }
+
+        private void expect(char ch) {
+            if (!accept(ch)) throw error("'" + ch + "'가 필요합니다.");
+        }
+
+        private boolean accept(char ch) {
+            skipSpaces();
+            if (pos < src.length() && src.charAt(pos) == ch) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        private void skipSpaces() {
+            while (pos < src.length() && Character.isWhitespace(src.charAt(pos))) pos++;
+        }
+
+        private IllegalArgumentException error(String message) {
+            return new IllegalArgumentException("계산식 오류(" + (pos + 1) + "번째 문자): " + message + " - " + src);
+        }
+    }
+}
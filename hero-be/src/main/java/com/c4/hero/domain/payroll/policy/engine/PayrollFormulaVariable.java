@@ -0,0 +1,40 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+/**
+ * <pre>
+ * Enum Name : PayrollFormulaVariable
+ * Description : 급여 항목 계산식(FORMULA)에서 참조 가능한 변수 정의
+ *
+ * 참고
+ *  - ordinal 순서로 평가용 값 배열(double[])의 인덱스를 결정하므로 순서 변경 시 주의
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public enum PayrollFormulaVariable {
+
+    /** 기본급 (승인된 인상 반영) */
+    BASE_SALARY,
+
+    /** 연장근무 수당 */
+    OVERTIME_PAY,
+
+    /** 지급총액 (기본급 + 연장근무 수당 + 선행 계산된 수당) */
+    GROSS_PAY,
+
+    /** 과세대상 금액 (기본급 + 연장근무 수당 + 선행 계산된 과세 수당) */
+    TAXABLE_PAY,
+
+    /** 해당 월 근태 기록 일수 */
+    ATTENDANCE_DAYS,
+
+    /** 해당 월 총 근무 시간 (분 단위) */
+    WORKED_MINUTES;
+
+    /** 평가용 값 배열 크기 */
+    public static final int SIZE = values().length;
+}
@@ -0,0 +1,78 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * DTO Name : PayrollPolicySnapshotDTO
+ * Description : 급여 배치 기준 정책 스냅샷 (BatchPolicySnapshot.snapshotJson 직렬화 대상)
+ *
+ * 포함 범위
+ *  - 정책 공통 설정(PolicyConfig) 값
+ *  - 급여월 기준 적용 항목 정책 (계산 방식 / 반올림 / 우선순위 / 대상)
+ *  - 수당/공제 마스터 기준 항목명 및 과세 여부
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param policyId    급여 정책 ID
+ * @param salaryMonth 급여월 (YYYY-MM)
+ * @param fingerprint 스냅샷 생성 시점 정책 지문 (정책 변경 감지용)
+ * @param configs     활성 공통 설정 (configKey → configValue)
+ * @param items       적용 항목 정책 목록 (평가 순서)
+ */
+public record PayrollPolicySnapshotDTO(
+        Integer policyId,
+        String salaryMonth,
+        String fingerprint,
+        Map<String, String> configs,
+        List<ItemSnapshot> items
+) {
+
+    /**
+     * 항목 정책 1건 스냅샷
+     *
+     * @param itemPolicyId   항목 정책 ID
+     * @param itemType       항목 유형 (수당 / 공제)
+     * @param itemCode       항목 코드
+     * @param itemName       항목명 (마스터 기준, 없으면 항목 코드)
+     * @param taxableYn      과세 여부 (Y/N)
+     * @param calcMethod     계산 방식
+     * @param fixedAmount    고정 금액 (FIXED)
+     * @param rate           비율 (RATE)
+     * @param formula        계산식 (FORMULA)
+     * @param baseAmountType 기준 금액 유형 (RATE)
+     * @param roundingUnit   반올림 단위
+     * @param roundingMode   반올림 방식
+     * @param priority       우선순위
+     * @param targets        대상 유형 → 대상 값 목록 (비어 있으면 전체 사원)
+     */
+    public record ItemSnapshot(
+            Integer itemPolicyId,
+            ItemType itemType,
+            String itemCode,
+            String itemName,
+            String taxableYn,
+            CalcMethod calcMethod,
+            Integer fixedAmount,
+            BigDecimal rate,
+            String formula,
+            BaseAmountType baseAmountType,
+            Integer roundingUnit,
+            RoundingModeType roundingMode,
+            Integer priority,
+            Map<PayrollTargetType, List<String>> targets
+    ) {}
+}
@@ -0,0 +1,142 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.allowance.entity.Allowance;
+import com.c4.hero.domain.payroll.allowance.repository.AllowanceRepository;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.PayrollTargetType;
+import com.c4.hero.domain.payroll.deduction.entity.Deduction;
+import com.c4.hero.domain.payroll.deduction.repository.DeductionRepository;
+import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicy;
+import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicyTarget;
+import com.c4.hero.domain.payroll.policy.entity.PolicyConfig;
+import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollItemPolicyTargetRepository;
+import com.c4.hero.domain.payroll.policy.repository.PolicyConfigRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Class Name : PayrollPolicySnapshotLoader
+ * Description : 급여 정책 테이블을 조회하여 배치 기준 정책 스냅샷(PayrollPolicySnapshotDTO)을 생성
+ *
+ * 처리 흐름 (스냅샷 1회 생성당 조회 5회 고정)
+ *  1. 정책 하위 항목 정책 조회 후 활성(Y) + 급여월 적용 기간 필터
+ *  2. 항목 정책 대상 일괄 조회
+ *  3. 활성 공통 설정(PolicyConfig) 조회
+ *  4. 수당/공제 마스터에서 항목명/과세 여부 조회
+ *  5. 우선순위(priority → itemPolicyId) 정렬
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ *  2026/10/17 - 동근 컴파일과 분리하여 정책 스냅샷 생성 전용으로 변경 (PayrollItemPolicyCompiler → PayrollPolicySnapshotLoader)
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class PayrollPolicySnapshotLoader {
+
+    private final PayrollItemPolicyRepository itemPolicyRepository;
+    private final PayrollItemPolicyTargetRepository targetRepository;
+    private final PolicyConfigRepository configRepository;
+    private final AllowanceRepository allowanceRepository;
+    private final DeductionRepository deductionRepository;
+
+    /**
+     * 정책 스냅샷 생성
+     *
+     * @param policyId    급여 정책 ID
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @param fingerprint 조회 시점 정책 지문
+     * @return 배치 기준 정책 스냅샷
+     */
+    public PayrollPolicySnapshotDTO load(Integer policyId, String salaryMonth, String fingerprint) {
+        List<PayrollItemPolicy> items = itemPolicyRepository.findAllByPolicyId(policyId).stream()
+                .filter(i -> "Y".equals(i.getActiveYn()))
+                .filter(i -> isEffective(i, salaryMonth))
+                .sorted(Comparator.comparing(PayrollItemPolicy::getPriority)
+                        .thenComparing(PayrollItemPolicy::getItemPolicyId))
+                .toList();
+
+        Map<Integer, Map<PayrollTargetType, List<String>>> targetsByItem = new HashMap<>();
+        if (!items.isEmpty()) {
+            for (PayrollItemPolicyTarget t : targetRepository.findAllByItemPolicyIdIn(
+                    items.stream().map(PayrollItemPolicy::getItemPolicyId).toList())) {
+                targetsByItem
+                        .computeIfAbsent(t.getItemPolicyId(), id -> new EnumMap<>(PayrollTargetType.class))
+                        .computeIfAbsent(t.getPayrollTargetType(), type -> new ArrayList<>())
+                        .add(t.getTargetValue());
+            }
+        }
+
+        Map<String, String> configs = new HashMap<>();
+        for (PolicyConfig c : configRepository.findAllByPolicyId(policyId)) {
+            if ("Y".equals(c.getActiveYn())) configs.put(c.getConfigKey(), c.getConfigValue());
+        }
+
+        Map<String, Allowance> allowances = new HashMap<>();
+        for (Allowance a : allowanceRepository.findAll()) allowances.put(a.getAllowanceId(), a);
+        Map<String, Deduction> deductions = new HashMap<>();
+        for (Deduction d : deductionRepository.findAll()) deductions.put(d.getDeductionId(), d);
+
+        List<PayrollPolicySnapshotDTO.ItemSnapshot> snapshots = new ArrayList<>(items.size());
+        for (PayrollItemPolicy item : items) {
+            String name = item.getItemCode();
+            String taxableYn = "N";
+            if (item.getItemType() == ItemType.ALLOWANCE) {
+                Allowance a = allowances.get(item.getItemCode());
+                if (a != null) {
+                    name = a.getAllowanceName();
+                    taxableYn = a.getTaxableYn();
+                } else {
+                    taxableYn = "Y";
+                }
+            } else {
+                Deduction d = deductions.get(item.getItemCode());
+                if (d != null) name = d.getDeductionName();
+            }
+
+            snapshots.add(new PayrollPolicySnapshotDTO.ItemSnapshot(
+                    item.getItemPolicyId(),
+                    item.getItemType(),
+                    item.getItemCode(),
+                    name,
+                    taxableYn,
+                    item.getCalcMethod(),
+                    item.getFixedAmount(),
+                    item.getRate(),
+                    item.getFormula(),
+                    item.getBaseAmountType(),
+                    item.getRoundingUnit(),
+                    item.getRoundingMode(),
+                    item.getPriority(),
+                    targetsByItem.getOrDefault(item.getItemPolicyId(), Map.of())
+            ));
+        }
+        return new PayrollPolicySnapshotDTO(policyId, salaryMonth, fingerprint, configs, snapshots);
+    }
+
+    /**
+     * 항목 정책 적용 기간 판별 (YYYY-MM 문자열 비교)
+     */
+    private boolean isEffective(PayrollItemPolicy item, String salaryMonth) {
+        if (item.getSalaryMonthFrom() != null && item.getSalaryMonthFrom().compareTo(salaryMonth) > 0) return false;
+        return item.getSalaryMonthTo() == null
+                || item.getSalaryMonthTo().isBlank()
+                || item.getSalaryMonthTo().compareTo(salaryMonth) >= 0;
+    }
+}
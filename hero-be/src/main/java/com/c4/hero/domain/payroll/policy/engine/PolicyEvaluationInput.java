@@ -0,0 +1,31 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+/**
+ * <pre>
+ * Record Name : PolicyEvaluationInput
+ * Description : 항목 정책 평가에 필요한 사원 1명 기준 입력값
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param employeeId     사원 ID (EMPLOYEE 대상 판별)
+ * @param departmentId   부서 ID (DEPARTMENT 대상 판별, 없으면 null)
+ * @param gradeId        직급 ID (POSITION 대상 판별, 없으면 null)
+ * @param baseSalary     기본급 (승인된 인상 반영)
+ * @param overtimePay    연장근무 수당
+ * @param attendanceDays 해당 월 근태 기록 일수
+ * @param workedMinutes  해당 월 총 근무 시간 (분 단위)
+ */
+public record PolicyEvaluationInput(
+        Integer employeeId,
+        Integer departmentId,
+        Integer gradeId,
+        int baseSalary,
+        int overtimePay,
+        int attendanceDays,
+        int workedMinutes
+) {}
@@ -0,0 +1,30 @@
+package com.c4.hero.domain.payroll.policy.mapper;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * <pre>
+ * Class Name : PolicySnapshotQueryMapper
+ * Description : 급여 배치 정책 스냅샷 유효성 판별용 조회 매퍼
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Mapper
+public interface PolicySnapshotQueryMapper {
+
+    /**
+     * 정책 지문 조회
+     *  - 항목 정책 / 대상 / 공통 설정 / 수당·공제 마스터의 행 수 + CRC32 합계를 조합한 문자열
+     *  - 스냅샷 생성 이후 정책이 변경되었는지 테이블 전체 재조회 없이 1회 쿼리로 판별
+     *
+     * @param policyId 급여 정책 ID
+     * @return 정책 지문 문자열
+     */
+    String selectPolicyFingerprint(@Param("policyId") Integer policyId);
+}
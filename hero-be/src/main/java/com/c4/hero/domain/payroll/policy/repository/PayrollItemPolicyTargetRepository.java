@@ -3,6 +3,7 @@ package com.c4.hero.domain.payroll.policy.repository;
 import com.c4.hero.domain.payroll.policy.entity.PayrollItemPolicyTarget;
 import org.springframework.data.jpa.repository.JpaRepository;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -12,10 +13,11 @@ import java.util.List;
  *
  * History
  *  2025/12/24 - 동근 최초 작성
+ *  2026/10/17 - 동근 항목 정책 목록 단위 대상 일괄 조회 추가
  * </pre>
  *
  * @author 동근
- * @version 1.0
+ * @version 1.1
  */
 public interface PayrollItemPolicyTargetRepository extends JpaRepository<PayrollItemPolicyTarget, Integer> {
 
@@ -27,6 +29,15 @@ public interface PayrollItemPolicyTargetRepository extends JpaRepository<Payroll
      */
     List<PayrollItemPolicyTarget> findAllByItemPolicyId(Integer itemPolicyId);
 
+    /**
+     * 항목 정책 ID 목록 기준 적용 대상 일괄 조회
+     *  - 급여 배치 계산 시 항목 정책별 반복 조회 제거 용도
+     *
+     * @param itemPolicyIds 항목 정책 식별자 목록
+     * @return 대상 목록
+     */
+    List<PayrollItemPolicyTarget> findAllByItemPolicyIdIn(Collection<Integer> itemPolicyIds);
+
     /**
      * 항목 정책 ID 기준 적용 대상 전체 삭제
      *  - 항목 정책 수정 시 대상 조건을 재구성하기 위해 사용
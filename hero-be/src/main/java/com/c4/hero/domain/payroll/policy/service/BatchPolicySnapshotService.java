@@ -0,0 +1,144 @@
+package com.c4.hero.domain.payroll.policy.service;
+
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.common.type.PolicyStatus;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicySnapshotDTO;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicySnapshotLoader;
+import com.c4.hero.domain.payroll.policy.entity.PayrollPolicy;
+import com.c4.hero.domain.payroll.policy.mapper.PolicySnapshotQueryMapper;
+import com.c4.hero.domain.payroll.policy.repository.BatchPolicySnapshotRepository;
+import com.c4.hero.domain.payroll.policy.repository.PayrollPolicyRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * <pre>
+ * Class Name : BatchPolicySnapshotService
+ * Description : 급여 배치 단위 정책 스냅샷 캐시 (불변 평가 엔진을 배치 단위로 재사용)
+ *
+ * 조회 순서 (배치 계산 1회당)
+ *  1. ACTIVE 정책 ID + 정책 지문 조회 (쿼리 2회)
+ *  2. 메모리 캐시 : 동일 배치 + 동일 정책 + 동일 지문이면 그대로 재사용
+ *  3. 저장된 BatchPolicySnapshot : 지문이 같으면 JSON 역직렬화 후 컴파일 (재기동 후 재계산)
+ *  4. 위 모두 해당 없으면 정책 테이블 조회 → 스냅샷 저장(교체) → 컴파일
+ *
+ * 무효화
+ *  - 별도 만료 없이 "재계산 시점에 정책 지문이 달라진 경우"에만 재생성
+ *  - 지문은 DB 기준이므로 다중 노드 / 재기동 환경에서도 동일하게 판별됨
+ *
+ * History
+ *  2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@PayrollAdminOnly
+@Service
+@RequiredArgsConstructor
+public class BatchPolicySnapshotService {
+
+    private final PayrollPolicyRepository policyRepository;
+    private final PolicySnapshotQueryMapper snapshotQueryMapper;
+    private final BatchPolicySnapshotRepository snapshotRepository;
+    private final PolicySnapshotTxService snapshotTxService;
+    private final PayrollPolicySnapshotLoader snapshotLoader;
+    private final ObjectMapper objectMapper;
+
+    /** batchId → 컴파일된 정책 (급여월 단위 배치라 항목 수가 작아 별도 만료 정책 없음) */
+    private final Map<Integer, CachedPolicy> cache = new ConcurrentHashMap<>();
+
+    /**
+     * 캐시 항목
+     *
+     * @param policyId    스냅샷 기준 정책 ID
+     * @param salaryMonth 스냅샷 기준 급여월
+     * @param fingerprint 스냅샷 기준 정책 지문
+     * @param compiled    컴파일된 평가 엔진
+     */
+    private record CachedPolicy(Integer policyId, String salaryMonth, String fingerprint, CompiledPayrollPolicy compiled) {
+
+        boolean matches(Integer policyId, String salaryMonth, String fingerprint) {
+            return Objects.equals(this.policyId, policyId)
+                    && Objects.equals(this.salaryMonth, salaryMonth)
+                    && Objects.equals(this.fingerprint, fingerprint);
+        }
+    }
+
+    /**
+     * 배치 기준 정책 평가 엔진 조회 (스냅샷 재사용 또는 재생성)
+     *
+     * @param batchId     급여 배치 ID
+     * @param salaryMonth 급여월 (YYYY-MM)
+     * @return 항목 정책 평가 엔진 (ACTIVE 정책이 없으면 빈 엔진)
+     */
+    public CompiledPayrollPolicy getPolicy(Integer batchId, String salaryMonth) {
+        PayrollPolicy policy = policyRepository.findFirstByStatusOrderByPolicyIdDesc(PolicyStatus.ACTIVE)
+                .orElse(null);
+        if (policy == null) {
+            cache.remove(batchId);
+            return CompiledPayrollPolicy.empty(salaryMonth);
+        }
+
+        Integer policyId = policy.getPolicyId();
+        String fingerprint = snapshotQueryMapper.selectPolicyFingerprint(policyId);
+
+        CachedPolicy cached = cache.get(batchId);
+        if (cached != null && cached.matches(policyId, salaryMonth, fingerprint)) {
+            return cached.compiled();
+        }
+
+        PayrollPolicySnapshotDTO snapshot = readStoredSnapshot(batchId);
+        if (snapshot == null
+                || !Objects.equals(snapshot.policyId(), policyId)
+                || !Objects.equals(snapshot.salaryMonth(), salaryMonth)
+                || !Objects.equals(snapshot.fingerprint(), fingerprint)) {
+
+            snapshot = snapshotLoader.load(policyId, salaryMonth, fingerprint);
+            snapshotTxService.saveSnapshot(batchId, policyId, salaryMonth, objectMapper.writeValueAsString(snapshot));
+            log.info("급여 정책 스냅샷 재생성 batchId={}, policyId={}, items={}",
+                    batchId, policyId, snapshot.items().size());
+        }
+
+        CompiledPayrollPolicy compiled = CompiledPayrollPolicy.compile(snapshot);
+        cache.put(batchId, new CachedPolicy(policyId, salaryMonth, fingerprint, compiled));
+        return compiled;
+    }
+
+    /**
+     * 배치 캐시 제거 (배치 삭제 등 더 이상 재계산되지 않는 경우)
+     *
+     * @param batchId 급여 배치 ID
+     */
+    public void evict(Integer batchId) {
+        cache.remove(batchId);
+    }
+
+    /**
+     * 저장된 배치 정책 스냅샷 역직렬화
+     *
+     * @param batchId 급여 배치 ID
+     * @return 스냅샷 (없거나 형식이 맞지 않으면 null → 재생성)
+     */
+    private PayrollPolicySnapshotDTO readStoredSnapshot(Integer batchId) {
+        return snapshotRepository.findByBatchId(batchId)
+                .map(stored -> {
+                    try {
+                        return objectMapper.readValue(stored.getSnapshotJson(), PayrollPolicySnapshotDTO.class);
+                    } catch (JacksonException e) {
+                        log.warn("급여 정책 스냅샷 역직렬화 실패 - 재생성 batchId={}", batchId, e);
+                        return null;
+                    }
+                })
+                .orElse(null);
+    }
+}
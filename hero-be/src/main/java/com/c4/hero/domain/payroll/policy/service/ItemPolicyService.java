@@ -4,6 +4,7 @@ import com.c4.hero.domain.auth.security.PayrollAdminOnly;
 import com.c4.hero.domain.payroll.common.type.BaseAmountType;
 import com.c4.hero.domain.payroll.common.type.ItemType;
 import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+import com.c4.hero.domain.payroll.policy.engine.PayrollFormula;
 import com.c4.hero.domain.payroll.policy.dto.response.ItemPolicyResponseDTO;
 import com.c4.hero.domain.payroll.policy.dto.request.ItemPolicyTargetRequestDTO;
 import com.c4.hero.domain.payroll.policy.dto.request.ItemPolicyUpsertRequestDTO;
@@ -31,10 +32,11 @@ import java.util.stream.Collectors;
  * History
  *  2025/12/24 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/17 - 동근 FORMULA 계산식 저장 및 문법 검증 추가
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @PayrollAdminOnly
 @Service
@@ -78,7 +80,7 @@ public class ItemPolicyService {
                 .build();
 
         entity.applyAll(
-                req.calcMethod(), req.fixedAmount(), req.rate(),
+                req.calcMethod(), req.fixedAmount(), req.rate(), req.formula(),
                 defaultBase(req.baseAmountType()),
                 defaultRoundingUnit(req.roundingUnit()),
                 defaultRoundingMode(req.roundingMode()),
@@ -106,7 +108,7 @@ public class ItemPolicyService {
                 .orElseThrow(() -> new IllegalArgumentException("itemPolicyId가 존재하지 않습니다."));
 
         item.applyAll(
-                req.calcMethod(), req.fixedAmount(), req.rate(),
+                req.calcMethod(), req.fixedAmount(), req.rate(), req.formula(),
                 defaultBase(req.baseAmountType()),
                 defaultRoundingUnit(req.roundingUnit()),
                 defaultRoundingMode(req.roundingMode()),
@@ -158,6 +160,7 @@ public class ItemPolicyService {
                 i.getCalcMethod(),
                 i.getFixedAmount(),
                 i.getRate(),
+                i.getFormula(),
                 i.getBaseAmountType(),
                 i.getRoundingUnit(),
                 i.getRoundingMode(),
@@ -200,6 +203,10 @@ public class ItemPolicyService {
                 }
             }
             case FORMULA -> {
+                if (req.formula() == null || req.formula().isBlank()) {
+                    throw new IllegalArgumentException("FORMULA는 formula(계산식)가 필요합니다.");
+                }
+                PayrollFormula.compile(req.formula()); // 문법/변수 오류 시 IllegalArgumentException
             }
         }
         if (req.roundingUnit() != null && req.roundingUnit() <= 0) {
@@ -246,6 +253,7 @@ public class ItemPolicyService {
                         req.calcMethod(),
                         req.fixedAmount(),
                         req.rate(),
+                        req.formula(),
                         req.baseAmountType(),
                         req.roundingUnit(),
                         req.roundingMode(),
@@ -262,6 +270,7 @@ public class ItemPolicyService {
                         .calcMethod(req.calcMethod())
                         .fixedAmount(req.fixedAmount())
                         .rate(req.rate())
+                        .formula(req.formula())
                         .baseAmountType(req.baseAmountType())
                         .roundingUnit(req.roundingUnit())
                         .roundingMode(req.roundingMode())
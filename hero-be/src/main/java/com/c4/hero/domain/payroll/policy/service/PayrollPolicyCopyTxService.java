@@ -26,10 +26,11 @@ import java.util.List;
  * History
  *  2025/12/24 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/17 - 동근 항목 정책 계산식(formula) 복사 추가
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @PayrollAdminOnly
 @Service
@@ -95,6 +96,7 @@ public class PayrollPolicyCopyTxService {
                     .calcMethod(item.getCalcMethod())
                     .fixedAmount(item.getFixedAmount())
                     .rate(item.getRate())
+                    .formula(item.getFormula())
                     .baseAmountType(item.getBaseAmountType())
                     .roundingUnit(item.getRoundingUnit())
                     .roundingMode(item.getRoundingMode())
@@ -30,10 +30,11 @@ import java.util.Map;
  * History
  *  2025/12/24 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/17 - 동근 항목 정책 계산식(formula) 응답 추가
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @PayrollAdminOnly
 @Service
@@ -87,7 +88,7 @@ public class PolicyDetailService {
                     ItemPolicyResponseDTO item = new ItemPolicyResponseDTO(
                             i.getItemPolicyId(), i.getPolicyId(),
                             i.getItemType(), i.getItemCode(), i.getCalcMethod(),
-                            i.getFixedAmount(), i.getRate(),
+                            i.getFixedAmount(), i.getRate(), i.getFormula(),
                             i.getBaseAmountType(), i.getRoundingUnit(), i.getRoundingMode(),
                             i.getSalaryMonthFrom(), i.getSalaryMonthTo(),
                             i.getPriority(), i.getActiveYn()
@@ -15,10 +15,11 @@ import org.springframework.transaction.annotation.Transactional;
  * History
  *  2025/12/24 - 동근 최초 작성
  *  2026/01/03 - 동근 권한 인가 정책 추가
+ *  2026/10/17 - 동근 교체 시 삭제 선반영(flush)으로 batch_id 유니크 충돌 방지
  * </pre>
  *
  * @author 동근
- * @version 1.1
+ * @version 1.2
  */
 @PayrollAdminOnly
 @Service
@@ -38,7 +39,10 @@ public class PolicySnapshotTxService {
      */
     @Transactional
     public void saveSnapshot(Integer batchId, Integer policyId, String salaryMonth, String snapshotJson) {
-        snapshotRepository.findByBatchId(batchId).ifPresent(snapshotRepository::delete);
+        snapshotRepository.findByBatchId(batchId).ifPresent(old -> {
+            snapshotRepository.delete(old);
+            snapshotRepository.flush(); // INSERT 가 DELETE 보다 먼저 실행되면 uk_batch_snapshot 충돌
+        });
 
         snapshotRepository.save(BatchPolicySnapshot.builder()
                 .batchId(batchId)
@@ -0,0 +1,34 @@
+package com.c4.hero.domain.payroll.report.dto;
+
+/**
+ * 사원 ID 포함 급여 이력 Row DTO
+ * 급여 누적 집계(Rollup) 갱신 시 여러 사원의 급여 이력을 한 번에 조회할 때 사용
+ * <pre>
+ * Class Name: EmployeePayHistoryRowDTO
+ * Description: 사원별 월 급여 요약 행 (기본급/수당/공제/실수령)
+ *
+ * History
+ * 2026/10/17 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+public record EmployeePayHistoryRowDTO(
+        Integer employeeId,
+        String salaryMonth,
+        int baseSalary,
+        int allowanceTotal,
+        int deductionTotal,
+        int netPay
+) {
+
+    /**
+     * 급여 이력 테이블 행으로 변환
+     *
+     * @return 급여 이력 Row DTO
+     */
+    public PayHistoryRowDTO toHistoryRow() {
+        return new PayHistoryRowDTO(salaryMonth, baseSalary, allowanceTotal, deductionTotal, netPay, "");
+    }
+}
@@ -0,0 +1,33 @@
+package com.c4.hero.domain.payroll.report.dto;
+
+/**
+ * 사원별 급여 누적 집계(Rollup) DTO
+ * 급여 지급 시점에 1회 갱신되어 급여 이력 조회 시 재집계 없이 사용
+ * <pre>
+ * Class Name: EmployeePayRollupDTO
+ * Description: 사원별 올해 누적 실수령액, 최근 12개월 급여 이력(링), 최소/최대 실수령액
+ *
+ * History
+ * 2026/10/17 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ *
+ * @param employeeId  사원 ID
+ * @param lastMonth   마지막 반영 급여월 (YYYY-MM)
+ * @param ytdYear     누적 기준 연도 (YYYY)
+ * @param ytdNetPay   누적 기준 연도 실수령액 합계
+ * @param minNetPay   이력 링 최소 실수령액
+ * @param maxNetPay   이력 링 최대 실수령액
+ * @param historyJson 최근 12개월 급여 이력 (PayHistoryRowDTO 배열 JSON, 급여월 오름차순)
+ */
+public record EmployeePayRollupDTO(
+        Integer employeeId,
+        String lastMonth,
+        String ytdYear,
+        int ytdNetPay,
+        int minNetPay,
+        int maxNetPay,
+        String historyJson
+) {}
@@ -0,0 +1,71 @@
+package com.c4.hero.domain.payroll.report.mapper;
+
+import com.c4.hero.domain.payroll.report.dto.EmployeePayHistoryRowDTO;
+import com.c4.hero.domain.payroll.report.dto.EmployeePayRollupDTO;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * 사원별 급여 누적 집계(Rollup) MyBatis Mapper
+ *
+ * <pre>
+ * Class Name: EmployeePayRollupMapper
+ * Description: 사원별 급여 누적 집계 조회/갱신 SQL Mapper
+ *              - 급여 지급 배치 소속 사원 급여 행 일괄 조회
+ *              - 누적 집계가 없는 사원의 최초 이력 일괄 조회
+ *              - 누적 집계 일괄 UPSERT
+ *
+ * History
+ * 2026/10/17 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Mapper
+public interface EmployeePayRollupMapper {
+
+    /**
+     * 사원 누적 집계 단건 조회 (PK 조회)
+     * @param employeeId 사원 ID
+     * @return 누적 집계 (지급 이력이 없으면 null)
+     */
+    EmployeePayRollupDTO selectRollup(@Param("employeeId") Integer employeeId);
+
+    /**
+     * 사원 누적 집계 일괄 조회
+     * @param employeeIds 사원 ID 목록
+     * @return 누적 집계 목록 (없는 사원은 제외)
+     */
+    List<EmployeePayRollupDTO> selectRollups(@Param("employeeIds") Collection<Integer> employeeIds);
+
+    /**
+     * 배치 소속 사원별 급여 행 조회
+     * @param batchId 급여 배치 ID
+     * @return 사원별 급여 행 목록
+     */
+    List<EmployeePayHistoryRowDTO> selectBatchPayRows(@Param("batchId") Integer batchId);
+
+    /**
+     * 누적 집계 최초 생성용 확정 급여 이력 일괄 조회
+     * @param employeeIds 사원 ID 목록
+     * @param fromMonth   시작 급여월(YYYY-MM)
+     * @param toMonth     종료 급여월(YYYY-MM)
+     * @return 사원/급여월 오름차순 급여 행 목록
+     */
+    List<EmployeePayHistoryRowDTO> selectConfirmedPayRows(
+            @Param("employeeIds") Collection<Integer> employeeIds,
+            @Param("fromMonth") String fromMonth,
+            @Param("toMonth") String toMonth
+    );
+
+    /**
+     * 누적 집계 일괄 UPSERT
+     * @param rollups 누적 집계 목록
+     * @return 반영 건수
+     */
+    int upsertRollups(@Param("rollups") List<EmployeePayRollupDTO> rollups);
+}
@@ -0,0 +1,202 @@
+package com.c4.hero.domain.payroll.report.service;
+
+import com.c4.hero.domain.auth.security.PayrollAdminOnly;
+import com.c4.hero.domain.payroll.report.dto.EmployeePayHistoryRowDTO;
+import com.c4.hero.domain.payroll.report.dto.EmployeePayRollupDTO;
+import com.c4.hero.domain.payroll.report.dto.PayHistoryRowDTO;
+import com.c4.hero.domain.payroll.report.mapper.EmployeePayRollupMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import tools.jackson.core.JacksonException;
+import tools.jackson.core.type.TypeReference;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * <pre>
+ * Service Name : EmployeePayRollupService
+ * Description  : 사원별 급여 누적 집계(Rollup) 갱신/조회 서비스
+ *
+ * 집계 항목
+ *  - 올해 누적 실수령액 (ytd_year 기준, 연도가 바뀌면 새로 누적)
+ *  - 최근 12개월 급여 이력 링 (급여월 오름차순, 12건 초과 시 가장 오래된 월 제거)
+ *  - 이력 링 기준 최소/최대 실수령액
+ *
+ * 갱신 규칙
+ *  - 급여 배치 지급 트랜잭션 안에서 배치 소속 사원만 1회 갱신
+ *  - 같은 급여월 재지급(재시도) 시 기존 월 값을 대체 (누적액 이중 합산 없음)
+ *  - 누적 집계가 없는 사원은 직전 11개월 확정 급여로 최초 이력을 채운 뒤 반영
+ *
+ * History
+ *   2026/10/17 - 동근 최초 작성
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EmployeePayRollupService {
+
+    /** 이력 링 최대 개월 수 */
+    private static final int HISTORY_SIZE = 12;
+
+    /** IN 절 / 다중 VALUES 1회 최대 건수 */
+    private static final int CHUNK_SIZE = 500;
+
+    private static final TypeReference<List<PayHistoryRowDTO>> HISTORY_TYPE = new TypeReference<>() {};
+
+    private final EmployeePayRollupMapper rollupMapper;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 지급 배치 소속 사원 누적 집계 갱신
+     *
+     * @param batchId 급여 배치 ID
+     * @return 갱신된 사원 수
+     */
+    @PayrollAdminOnly
+    @Transactional
+    public int applyBatch(Integer batchId) {
+        List<EmployeePayHistoryRowDTO> paid = rollupMapper.selectBatchPayRows(batchId);
+        for (int from = 0; from < paid.size(); from += CHUNK_SIZE) {
+            applyChunk(paid.subList(from, Math.min(from + CHUNK_SIZE, paid.size())));
+        }
+        log.info("사원 급여 누적 집계 갱신 batchId={}, employees={}", batchId, paid.size());
+        return paid.size();
+    }
+
+    /**
+     * 누적 집계의 급여 이력 링 역직렬화
+     *
+     * @param rollup 누적 집계
+     * @return 급여월 오름차순 이력 (형식이 맞지 않으면 null → 실시간 조회)
+     */
+    public List<PayHistoryRowDTO> readHistory(EmployeePayRollupDTO rollup) {
+        try {
+            return objectMapper.readValue(rollup.historyJson(), HISTORY_TYPE);
+        } catch (JacksonException e) {
+            log.warn("사원 급여 누적 이력 역직렬화 실패 - 실시간 조회 employeeId={}", rollup.employeeId(), e);
+            return null;
+        }
+    }
+
+    private void applyChunk(List<EmployeePayHistoryRowDTO> paid) {
+        List<Integer> employeeIds = paid.stream().map(EmployeePayHistoryRowDTO::employeeId).toList();
+
+        Map<Integer, EmployeePayRollupDTO> existing = new HashMap<>();
+        for (EmployeePayRollupDTO rollup : rollupMapper.selectRollups(employeeIds)) {
+            existing.put(rollup.employeeId(), rollup);
+        }
+
+        Map<Integer, List<PayHistoryRowDTO>> seeds = loadSeeds(paid, existing);
+
+        List<EmployeePayRollupDTO> updated = new ArrayList<>(paid.size());
+        for (EmployeePayHistoryRowDTO row : paid) {
+            EmployeePayRollupDTO current = existing.get(row.employeeId());
+            List<PayHistoryRowDTO> history = current == null ? null : readHistory(current);
+            if (history == null) {
+                current = null;
+                history = seeds.getOrDefault(row.employeeId(), List.of());
+            }
+            updated.add(apply(row, current, new ArrayList<>(history)));
+        }
+        rollupMapper.upsertRollups(updated);
+    }
+
+    /**
+     * 누적 집계가 없는 사원의 최초 이력 조회 (반영 급여월 직전 11개월)
+     */
+    private Map<Integer, List<PayHistoryRowDTO>> loadSeeds(
+            List<EmployeePayHistoryRowDTO> paid,
+            Map<Integer, EmployeePayRollupDTO> existing
+    ) {
+        List<Integer> missing = paid.stream()
+                .filter(row -> !existing.containsKey(row.employeeId()))
+                .map(EmployeePayHistoryRowDTO::employeeId)
+                .toList();
+        if (missing.isEmpty()) {
+            return Map.of();
+        }
+
+        YearMonth month = YearMonth.parse(paid.get(0).salaryMonth());
+        Map<Integer, List<PayHistoryRowDTO>> seeds = new HashMap<>();
+        for (EmployeePayHistoryRowDTO row : rollupMapper.selectConfirmedPayRows(
+                missing,
+                month.minusMonths(HISTORY_SIZE - 1).toString(),
+                month.minusMonths(1).toString()
+        )) {
+            seeds.computeIfAbsent(row.employeeId(), k -> new ArrayList<>()).add(row.toHistoryRow());
+        }
+        return seeds;
+    }
+
+    /**
+     * 급여 1건을 누적 집계에 반영
+     *
+     * @param row     지급 급여 행
+     * @param current 기존 누적 집계 (없으면 null)
+     * @param history 기존 이력 링 (수정 가능 목록)
+     * @return 반영 후 누적 집계
+     */
+    private EmployeePayRollupDTO apply(
+            EmployeePayHistoryRowDTO row,
+            EmployeePayRollupDTO current,
+            List<PayHistoryRowDTO> history
+    ) {
+        String month = row.salaryMonth();
+        String year = month.substring(0, 4);
+
+        int replacedNet = history.stream()
+                .filter(h -> h.salaryMonth().equals(month))
+                .mapToInt(PayHistoryRowDTO::netPay)
+                .findFirst()
+                .orElse(0);
+        history.removeIf(h -> h.salaryMonth().equals(month));
+        history.add(row.toHistoryRow());
+        history.sort(Comparator.comparing(PayHistoryRowDTO::salaryMonth));
+        while (history.size() > HISTORY_SIZE) {
+            history.remove(0);
+        }
+
+        String ytdYear;
+        int ytdNetPay;
+        if (current != null && year.equals(current.ytdYear())) {
+            ytdYear = year;
+            ytdNetPay = current.ytdNetPay() - replacedNet + row.netPay();
+        } else if (current != null && current.ytdYear() != null && year.compareTo(current.ytdYear()) < 0) {
+            // 지난 연도 급여 소급 지급 → 올해 누적액은 유지
+            ytdYear = current.ytdYear();
+            ytdNetPay = current.ytdNetPay();
+        } else {
+            // 최초 생성 또는 연도 변경 → 이력 링에서 해당 연도 합계로 새로 누적
+            ytdYear = year;
+            ytdNetPay = history.stream()
+                    .filter(h -> h.salaryMonth().startsWith(year + "-"))
+                    .mapToInt(PayHistoryRowDTO::netPay)
+                    .sum();
+        }
+
+        String lastMonth = (current != null && current.lastMonth() != null
+                && current.lastMonth().compareTo(month) > 0) ? current.lastMonth() : month;
+
+        return new EmployeePayRollupDTO(
+                row.employeeId(),
+                lastMonth,
+                ytdYear,
+                ytdNetPay,
+                history.stream().mapToInt(PayHistoryRowDTO::netPay).min().orElse(0),
+                history.stream().mapToInt(PayHistoryRowDTO::netPay).max().orElse(0),
+                objectMapper.writeValueAsString(history)
+        );
+    }
+}
@@ -2,12 +2,14 @@ package com.c4.hero.domain.payroll.report.service;
 
 
 import com.c4.hero.domain.auth.security.LoginOnly;
+import com.c4.hero.domain.payroll.report.dto.EmployeePayRollupDTO;
 import com.c4.hero.domain.payroll.report.dto.MyPaySummaryCoreDTO;
 import com.c4.hero.domain.payroll.report.dto.MyPaySummaryDTO;
 import com.c4.hero.domain.payroll.report.dto.PayHistoryChartPointDTO;
 import com.c4.hero.domain.payroll.report.dto.PayHistoryResponseDTO;
 import com.c4.hero.domain.payroll.report.dto.PayHistoryRowDTO;
 import com.c4.hero.domain.payroll.report.dto.PayItemDTO;
+import com.c4.hero.domain.payroll.report.mapper.EmployeePayRollupMapper;
 import com.c4.hero.domain.payroll.report.mapper.EmployeePayrollReportMapper;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
@@ -25,15 +27,19 @@ import java.util.List;
  *              - 내 급여 요약 조회
  *              - 최근 급여 이력 조회 (차트/테이블)
  *
+ * Design Note
+ *  - 급여 이력은 지급 시 갱신되는 사원별 누적 집계(EmployeePayRollup)를 PK 1회 조회로 사용
+ *  - 누적 집계가 없는 사원(지급 이력 없음)만 급여 테이블 실시간 조회
  *
  * History
  * 2025/12/08 - 동근 최초 작성
  * 2025/12/14 - 동근 payslip 조회 로직 제거 및 report 역할 명확화
  * 2026/01/03 - 동근 권한 인가 정책 추가
+ * 2026/10/17 - 동근 급여 이력을 사원별 누적 집계 우선 조회로 변경
  * </pre>
  *
  * @author 동근
- * @version 1.2
+ * @version 1.3
  */
 @LoginOnly
 @Service
@@ -41,6 +47,8 @@ import java.util.List;
 public class ReportService {
 
     private final EmployeePayrollReportMapper mapper;
+    private final EmployeePayRollupMapper rollupMapper;
+    private final EmployeePayRollupService rollupService;
 
 
     /**
@@ -88,6 +96,8 @@ public class ReportService {
 
     /**
      *  최근 12개월 급여 이력 + 차트 데이터
+     *      누적 집계가 있으면 이력 링에서 최근 12개월만 골라 사용
+     *      누적 집계가 없으면 급여 테이블에서 최근 12개월 실시간 조회
      *
      * @param employeeId 사원 ID
      * @return 급여 이력 응답 DTO
@@ -97,12 +107,37 @@ public class ReportService {
         YearMonth now = YearMonth.now();          // 현재 월
         YearMonth from = now.minusMonths(11);     // 최근 12개월
 
-        // 급여 이력 행 데이터 조회
-        List<PayHistoryRowDTO> rows = mapper.selectPayHistory(
-                employeeId,
-                from.toString(),   // YYYY-MM
-                now.toString()
-        );
+        EmployeePayRollupDTO rollup = rollupMapper.selectRollup(employeeId);
+        List<PayHistoryRowDTO> history = (rollup == null) ? null : rollupService.readHistory(rollup);
+
+        if (history == null) {
+            // 급여 이력 행 데이터 조회
+            List<PayHistoryRowDTO> rows = mapper.selectPayHistory(
+                    employeeId,
+                    from.toString(),   // YYYY-MM
+                    now.toString()
+            );
+            return buildPayHistory(rows, null);
+        }
+
+        String fromMonth = from.toString();
+        String toMonth = now.toString();
+        List<PayHistoryRowDTO> rows = history.stream()
+                .filter(r -> r.salaryMonth().compareTo(fromMonth) >= 0 && r.salaryMonth().compareTo(toMonth) <= 0)
+                .toList();
+
+        // 이력 링 전체가 조회 구간 안이면 누적 집계의 최소/최대/누적액을 그대로 사용
+        return buildPayHistory(rows, rows.size() == history.size() ? rollup : null);
+    }
+
+    /**
+     *  급여 이력 응답 조립
+     *
+     * @param rows   최근 12개월 급여 이력 (급여월 오름차순)
+     * @param rollup 그대로 사용할 누적 집계 (없으면 rows 로 계산)
+     * @return 급여 이력 응답 DTO
+     */
+    private PayHistoryResponseDTO buildPayHistory(List<PayHistoryRowDTO> rows, EmployeePayRollupDTO rollup) {
 
         // chart 데이터 변환
         List<PayHistoryChartPointDTO> chart = rows.stream()
@@ -113,8 +148,10 @@ public class ReportService {
         int avg = rows.isEmpty() ? 0 :
                 (int) rows.stream().mapToInt(PayHistoryRowDTO::netPay).average().orElse(0);
 
-        int max = rows.stream().mapToInt(PayHistoryRowDTO::netPay).max().orElse(0);
-        int min = rows.stream().mapToInt(PayHistoryRowDTO::netPay).min().orElse(0);
+        int max = (rollup != null) ? rollup.maxNetPay()
+                : rows.stream().mapToInt(PayHistoryRowDTO::netPay).max().orElse(0);
+        int min = (rollup != null) ? rollup.minNetPay()
+                : rows.stream().mapToInt(PayHistoryRowDTO::netPay).min().orElse(0);
 
 
 //     전월 대비 변화율 계산
@@ -139,10 +176,12 @@ public class ReportService {
         if (!rows.isEmpty()) {
             String currentYear = rows.get(rows.size() - 1).salaryMonth().substring(0, 4); // "2025"
 
-            ytdNetPay = rows.stream()
-                    .filter(r -> r.salaryMonth().startsWith(currentYear + "-"))
-                    .mapToInt(PayHistoryRowDTO::netPay)
-                    .sum();
+            ytdNetPay = (rollup != null && currentYear.equals(rollup.ytdYear()))
+                    ? rollup.ytdNetPay()
+                    : rows.stream()
+                            .filter(r -> r.salaryMonth().startsWith(currentYear + "-"))
+                            .mapToInt(PayHistoryRowDTO::netPay)
+                            .sum();
         }
 
         //최종 응답 조립
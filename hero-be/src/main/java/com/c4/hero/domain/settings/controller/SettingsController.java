@@ -2,6 +2,8 @@ package com.c4.hero.domain.settings.controller;
 
 import com.c4.hero.common.response.CustomResponse;
 import com.c4.hero.common.response.PageResponse;
+import com.c4.hero.domain.attendance.dto.AttendanceImportResultDTO;
+import com.c4.hero.domain.attendance.service.AttendanceImportService;
 import com.c4.hero.domain.employee.entity.Employee;
 import com.c4.hero.domain.employee.entity.Grade;
 import com.c4.hero.domain.employee.entity.JobTitle;
@@ -32,6 +34,7 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -42,6 +45,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 import java.util.List;
 
@@ -58,10 +62,11 @@ import java.util.List;
  * 2025/12/24 (혜원) 서비스 파일명 변경 수정, @PreAuthorize로 설정에 진입 가능한 권한체크
  * 2025/12/29 (지윤) 근태 설정 조회 및 삽입문 기능 추가
  * 2026/01/07 (승건) 스웨거 작성
+ * 2026/10/17 (지윤) 근태 일괄 등록(CSV/JSON) API 추가
  * </pre>
  *
  * @author 승건
- * @version 2.0
+ * @version 2.1
  */
 @RestController
 @RequestMapping("/api/settings")
@@ -77,6 +82,7 @@ public class SettingsController {
     private final SettingsNotificationCommandService settingsNotificationCommandService;
     private final SettingsNotificationQueryService settingsNotificationQueryService; // 추가
     private final SettingsAttendanceService  settingsAttendanceService;
+    private final AttendanceImportService attendanceImportService;
 
     /**
      * 부서 목록 조회 (트리 구조)
@@ -504,4 +510,27 @@ public class SettingsController {
         settingsAttendanceService.upsertWorkSystemTemplates(requestList);
         return ResponseEntity.ok(CustomResponse.success("Work system templates upserted successfully"));
     }
-}
\ No newline at end of file
+
+    /**
+     * 근태 일괄 등록 (출입 시스템 장애 등으로 누락된 출퇴근 기록 재등록)
+     * - 같은 사원/근무일 기록이 있으면 수정, 없으면 등록
+     * - 행 단위로 검증하며 오류 행은 건너뛰고 결과에 포함
+     *
+     * @param file   CSV(헤더: employeeId,workDate,startTime,endTime,workSystemTemplateId) 또는 JSON 배열 파일
+     * @param format 입력 형식 (csv/json, 미지정 시 파일 확장자로 판단)
+     * @return 등록 결과 (입력/반영/오류 건수, 행 단위 오류 목록)
+     */
+    @Operation(summary = "근태 일괄 등록", description = "CSV 또는 JSON 파일의 출퇴근 기록을 일괄 등록(업서트)합니다.")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "등록 완료 (행 단위 오류 포함)",
+                    content = @Content(schema = @Schema(implementation = CustomResponse.class)))
+    })
+    @PostMapping(value = "/attendance/import", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    public ResponseEntity<CustomResponse<AttendanceImportResultDTO>> importAttendances(
+            @RequestParam("file") MultipartFile file,
+            @RequestParam(required = false) String format
+    ) {
+        AttendanceImportResultDTO result = attendanceImportService.importAttendances(file, format);
+        return ResponseEntity.ok(CustomResponse.success(result));
+    }
+}
@@ -2,6 +2,7 @@ package com.c4.hero.domain.settings.service;
 
 import com.c4.hero.domain.attendance.entity.WorkSystemTemplate;
 import com.c4.hero.domain.attendance.entity.WorkSystemType;
+import com.c4.hero.domain.attendance.event.WorkSystemChangedEvent;
 import com.c4.hero.domain.settings.dto.request.SettingWorkSystemRequestDTO;
 import com.c4.hero.domain.settings.dto.response.SettingWorkSystemResponseDTO;
 import com.c4.hero.domain.settings.mapper.SettingsMapper;
@@ -9,6 +10,7 @@ import com.c4.hero.domain.settings.repository.SettingAttTemplateRepository;
 import com.c4.hero.domain.settings.repository.SettingAttTypeRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -29,6 +31,7 @@ import java.util.stream.Collectors;
  * History
  * 2025/12/29 (지윤) 최초 작성 및 컨벤션 적용
  * 2026/01/07 (혜원) 신규 근무제 생성 시 WorkSystemType도 함께 생성하도록 수정
+ * 2026/10/17 (지윤) 근무제 저장 시 WorkSystemChangedEvent 발행 (근무제 레지스트리 갱신)
  * </pre>
  *
  * 근무제 템플릿(WorkSystemTemplate)에 대한 조회 및 일괄 저장(Upsert, Insert) 기능을 제공합니다.
@@ -48,6 +51,9 @@ public class SettingsAttendanceService {
     /** 근무제 유형(WorkSystemType) 저장/조회용 JPA Repository */
     private final SettingAttTypeRepository settingAttTypeRepository;
 
+    /** 근무제 변경 이벤트 발행 (커밋 후 근무제 레지스트리 갱신) */
+    private final ApplicationEventPublisher eventPublisher;
+
     /**
      * 근무제 템플릿 목록을 조회합니다.
      *
@@ -205,5 +211,8 @@ public class SettingsAttendanceService {
 
         log.info("근무제 템플릿 저장 완료 - 총 {}건 (신규: {}건, 수정: {}건)",
                 toSave.size(), newRequests.size(), updateRequests.size());
+
+        // 6) 커밋 후 근무제 레지스트리 갱신 (다른 노드는 Redis 채널로 무효화)
+        eventPublisher.publishEvent(new WorkSystemChangedEvent());
     }
 }
\ No newline at end of file
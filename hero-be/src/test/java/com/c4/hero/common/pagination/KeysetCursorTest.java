@@ -0,0 +1,75 @@
+package com.c4.hero.common.pagination;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("KeysetCursor 단위 테스트")
+class KeysetCursorTest {
+
+    private static String encodeRaw(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("encode 한 커서를 decode 하면 같은 (날짜, PK)가 나온다")
+    void encodeDecode_RoundTrip() {
+        // Given
+        KeysetCursor cursor = new KeysetCursor(LocalDate.of(2026, 10, 17), 12345);
+
+        // When
+        KeysetCursor decoded = KeysetCursor.decode(cursor.encode());
+
+        // Then
+        assertThat(decoded).isEqualTo(cursor);
+    }
+
+    @Test
+    @DisplayName("커서 문자열은 URL-safe Base64 이며 패딩이 없다")
+    void encode_UrlSafeWithoutPadding() {
+        // When
+        String encoded = new KeysetCursor(LocalDate.of(2026, 1, 1), 1).encode();
+
+        // Then
+        assertThat(encoded).doesNotContain("=", "+", "/");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"", "   "})
+    @DisplayName("null/빈 커서는 첫 페이지(null)로 해석한다")
+    void decode_Blank_ReturnNull(String cursor) {
+        assertThat(KeysetCursor.decode(cursor)).isNull();
+        assertThat(KeysetCursor.decode(null)).isNull();
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {
+            "2026-10-17",     // 구분자 없음
+            "2026-13-40:1",   // 잘못된 날짜
+            "2026-10-17:abc", // 숫자가 아닌 PK
+            "2026-10-17:"     // PK 없음
+    })
+    @DisplayName("형식이 잘못된 커서는 INVALID_INPUT_VALUE 예외를 던진다")
+    void decode_MalformedRaw_ThrowException(String raw) {
+        assertThatThrownBy(() -> KeysetCursor.decode(encodeRaw(raw)))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+
+    @Test
+    @DisplayName("Base64 가 아닌 커서는 INVALID_INPUT_VALUE 예외를 던진다")
+    void decode_NotBase64_ThrowException() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not base64!"))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
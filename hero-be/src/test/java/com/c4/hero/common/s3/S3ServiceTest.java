@@ -0,0 +1,188 @@
+package com.c4.hero.common.s3;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.model.S3Object;
+import com.amazonaws.services.s3.model.S3ObjectSummary;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import com.amazonaws.util.IOUtils;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.multipart.MultipartFile;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * S3 호환 저장소(S3Mock 컨테이너)에 실제로 업로드/삭제하는 S3Service 테스트
+ * Docker 를 사용할 수 없는 환경에서는 건너뜀
+ */
+@DisplayName("S3Service 업로드/삭제 테스트 (S3Mock)")
+class S3ServiceTest {
+
+    private static final String BUCKET = "hero-test";
+    private static final int S3MOCK_PORT = 9090;
+
+    /** 멀티파트 업로드 기준/파트 크기 (S3 최소 파트 크기) */
+    private static final long PART_SIZE = 5L * 1024 * 1024;
+
+    private static GenericContainer<?> s3Mock;
+    private static AmazonS3 amazonS3;
+    private static TransferManager transferManager;
+
+    private S3Service s3Service;
+
+    @BeforeAll
+    static void startS3Mock() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker 를 사용할 수 없어 S3Mock 테스트 생략");
+
+        s3Mock = new GenericContainer<>(DockerImageName.parse("adobe/s3mock:3.12.0"))
+                .withExposedPorts(S3MOCK_PORT)
+                .waitingFor(Wait.forHttp("/favicon.ico").forPort(S3MOCK_PORT).forStatusCode(200));
+        s3Mock.start();
+
+        String endpoint = "http://" + s3Mock.getHost() + ":" + s3Mock.getMappedPort(S3MOCK_PORT);
+        amazonS3 = AmazonS3ClientBuilder.standard()
+                .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(endpoint, "ap-northeast-2"))
+                .withPathStyleAccessEnabled(true)
+                .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+                .build();
+        amazonS3.createBucket(BUCKET);
+
+        transferManager = TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withExecutorFactory(() -> Executors.newFixedThreadPool(4))
+                .withMultipartUploadThreshold(PART_SIZE)
+                .withMinimumUploadPartSize(PART_SIZE)
+                .build();
+    }
+
+    @AfterAll
+    static void stopS3Mock() {
+        if (transferManager != null) {
+            transferManager.shutdownNow(false);
+        }
+        if (s3Mock != null) {
+            s3Mock.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        s3Service = new S3Service(amazonS3, transferManager);
+        ReflectionTestUtils.setField(s3Service, "bucket", BUCKET);
+
+        amazonS3.listObjects(BUCKET).getObjectSummaries()
+                .forEach(summary -> amazonS3.deleteObject(BUCKET, summary.getKey()));
+    }
+
+    private static MockMultipartFile file(String name, byte[] content) {
+        return new MockMultipartFile("files", name, "application/octet-stream", content);
+    }
+
+    private static byte[] read(String key) throws IOException {
+        try (S3Object object = amazonS3.getObject(BUCKET, key)) {
+            return IOUtils.toByteArray(object.getObjectContent());
+        }
+    }
+
+    private static List<String> storedKeys() {
+        return amazonS3.listObjects(BUCKET).getObjectSummaries().stream()
+                .map(S3ObjectSummary::getKey)
+                .toList();
+    }
+
+    @Test
+    @DisplayName("여러 파일을 업로드하면 요청 순서대로 키를 돌려주고 내용이 그대로 저장된다 (멀티파트 포함)")
+    void uploadFiles_StoresEveryFileInOrder() throws IOException {
+        // Given
+        byte[] small = "결재 첨부".getBytes(StandardCharsets.UTF_8);
+        byte[] large = new byte[(int) PART_SIZE + 1024 * 1024];
+        Arrays.fill(large, (byte) 7);
+        List<MultipartFile> files = List.of(file("휴가신청.pdf", small), file("scan.png", large));
+
+        // When
+        List<String> keys = s3Service.uploadFiles(files, "approval");
+
+        // Then
+        assertThat(keys).hasSize(2);
+        assertThat(keys.get(0)).startsWith("approval/").endsWith(".pdf");
+        assertThat(keys.get(1)).startsWith("approval/").endsWith(".png");
+        assertThat(read(keys.get(0))).isEqualTo(small);
+        assertThat(read(keys.get(1))).isEqualTo(large);
+    }
+
+    @Test
+    @DisplayName("지원하지 않는 형식이 하나라도 있으면 아무 파일도 올리지 않는다")
+    void uploadFiles_InvalidExtension() {
+        // Given
+        List<MultipartFile> files = List.of(
+                file("ok.pdf", new byte[]{1}),
+                file("script.exe", new byte[]{2})
+        );
+
+        // When & Then
+        assertThatThrownBy(() -> s3Service.uploadFiles(files, "approval"))
+                .isInstanceOf(IllegalArgumentException.class);
+        assertThat(storedKeys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("업로드 중 하나가 실패하면 이미 올라간 파일을 삭제하고 예외를 던진다")
+    void uploadFiles_FailureDeletesUploaded() {
+        // Given
+        MockMultipartFile broken = new MockMultipartFile("files", "broken.pdf", "application/pdf", new byte[]{1, 2, 3}) {
+            @Override
+            public InputStream getInputStream() throws IOException {
+                // 앞 파일 업로드가 S3에 반영될 시간을 둔 뒤 실패 (이미 올라간 파일이 삭제되는지 확인)
+                try {
+                    Thread.sleep(500);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                throw new IOException("stream closed");
+            }
+        };
+        List<MultipartFile> files = List.of(file("ok.pdf", new byte[]{1}), broken);
+
+        // When & Then
+        assertThatThrownBy(() -> s3Service.uploadFiles(files, "approval"))
+                .isInstanceOf(RuntimeException.class)
+                .hasCauseInstanceOf(IOException.class);
+        assertThat(storedKeys()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("deleteFiles 는 요청한 키를 한 번에 삭제하고 null/빈 키는 무시한다")
+    void deleteFiles_RemovesKeys() {
+        // Given
+        List<String> keys = s3Service.uploadFiles(
+                List.of(file("a.pdf", new byte[]{1}), file("b.pdf", new byte[]{2})), "approval");
+
+        // When
+        s3Service.deleteFiles(Arrays.asList(keys.get(0), null, "", keys.get(1)));
+
+        // Then
+        assertThat(storedKeys()).isEmpty();
+    }
+}
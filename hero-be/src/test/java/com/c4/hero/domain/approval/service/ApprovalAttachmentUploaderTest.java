@@ -0,0 +1,119 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.domain.approval.dto.ApprovalUploadedFileDTO;
+import com.c4.hero.domain.approval.exception.ApprovalFileUploadException;
+import com.c4.hero.domain.approval.exception.InvalidApprovalStateException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.web.multipart.MultipartFile;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalAttachmentUploaderTest {
+
+    @InjectMocks
+    private ApprovalAttachmentUploader attachmentUploader;
+
+    @Mock
+    private S3Service s3Service;
+
+    private final List<MultipartFile> files = List.of(
+            new MockMultipartFile("files", "휴가신청.pdf", "application/pdf", new byte[]{1, 2, 3}),
+            new MockMultipartFile("files", "scan.png", "image/png", new byte[]{4, 5})
+    );
+
+    @Test
+    @DisplayName("업로드 후 작업 실행 - 업로드 결과를 파일 순서대로 전달")
+    void uploadThen_PassesUploadedFiles() {
+        // given
+        given(s3Service.uploadFiles(files, "approval"))
+                .willReturn(List.of("approval/a.pdf", "approval/b.png"));
+
+        // when
+        List<ApprovalUploadedFileDTO> result = attachmentUploader.uploadThen(files, uploaded -> uploaded);
+
+        // then
+        assertEquals(List.of(
+                new ApprovalUploadedFileDTO("휴가신청.pdf", "approval/a.pdf", 3L),
+                new ApprovalUploadedFileDTO("scan.png", "approval/b.png", 2L)
+        ), result);
+        verify(s3Service, never()).deleteFiles(anyList());
+    }
+
+    @Test
+    @DisplayName("업로드 후 작업 실행 - 작업이 실패하면 업로드한 파일을 삭제하고 같은 예외를 던짐")
+    void uploadThen_ActionFails_DeletesUploaded() {
+        // given
+        given(s3Service.uploadFiles(files, "approval"))
+                .willReturn(List.of("approval/a.pdf", "approval/b.png"));
+        InvalidApprovalStateException failure = new InvalidApprovalStateException(ErrorCode.DOCUMENT_NOT_DRAFT);
+
+        // when
+        InvalidApprovalStateException thrown = assertThrows(InvalidApprovalStateException.class, () ->
+                attachmentUploader.uploadThen(files, uploaded -> {
+                    throw failure;
+                }));
+
+        // then
+        assertSame(failure, thrown);
+        verify(s3Service).deleteFiles(List.of("approval/a.pdf", "approval/b.png"));
+    }
+
+    @Test
+    @DisplayName("업로드 후 작업 실행 - 첨부파일이 없으면 업로드/삭제 없이 작업만 실행")
+    void uploadThen_NoFiles() {
+        // when
+        assertThrows(IllegalStateException.class, () ->
+                attachmentUploader.uploadThen(null, uploaded -> {
+                    assertTrue(uploaded.isEmpty());
+                    throw new IllegalStateException("저장 실패");
+                }));
+
+        // then
+        verifyNoInteractions(s3Service);
+    }
+
+    @Test
+    @DisplayName("업로드 후 작업 실행 - S3 업로드 실패 시 작업을 실행하지 않고 업로드 실패 예외")
+    void uploadThen_UploadFails() {
+        // given
+        given(s3Service.uploadFiles(files, "approval")).willThrow(new RuntimeException("파일 업로드에 실패했습니다."));
+        AtomicBoolean executed = new AtomicBoolean();
+
+        // when
+        ApprovalFileUploadException thrown = assertThrows(ApprovalFileUploadException.class, () ->
+                attachmentUploader.uploadThen(files, uploaded -> executed.getAndSet(true)));
+
+        // then
+        assertEquals(ErrorCode.FILE_UPLOAD_ERROR, thrown.getErrorCode());
+        assertFalse(executed.get());
+        verify(s3Service, never()).deleteFiles(anyList());
+    }
+
+    @Test
+    @DisplayName("업로드 후 작업 실행 - 파일 검증 실패는 그대로 전달")
+    void uploadThen_InvalidFile() {
+        // given
+        given(s3Service.uploadFiles(eq(files), any())).willThrow(new IllegalArgumentException("지원하지 않는 파일 형식입니다."));
+
+        // when & then
+        assertThrows(IllegalArgumentException.class, () ->
+                attachmentUploader.uploadThen(files, uploaded -> uploaded));
+    }
+}
@@ -1,28 +1,37 @@
 package com.c4.hero.domain.approval.service;
 
-import com.c4.hero.common.s3.S3Service;
+import com.c4.hero.common.exception.ErrorCode;
 import com.c4.hero.domain.approval.dto.ApprovalLineDTO;
+import com.c4.hero.domain.approval.dto.ApprovalReferenceDTO;
+import com.c4.hero.domain.approval.dto.ApprovalUploadedFileDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalActionRequestDTO;
 import com.c4.hero.domain.approval.dto.request.ApprovalRequestDTO;
 import com.c4.hero.domain.approval.dto.response.ApprovalActionResponseDTO;
 import com.c4.hero.domain.approval.entity.*;
+import com.c4.hero.domain.approval.exception.ApprovalDocumentAuthorityException;
+import com.c4.hero.domain.approval.exception.InvalidApprovalStateException;
+import com.c4.hero.domain.approval.mapper.ApprovalBulkMapper;
+import com.c4.hero.domain.approval.mapper.ApprovalInboxMapper;
 import com.c4.hero.domain.approval.repository.*;
 import com.c4.hero.domain.employee.repository.EmployeeRepository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.context.ApplicationEventPublisher;
-import org.springframework.web.multipart.MultipartFile;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -45,13 +54,17 @@ class ApprovalCommandServiceTest {
     @Mock
     private ApprovalTemplateRepository templateRepository;
     @Mock
-    private ApprovalSequenceRepository sequenceRepository;
-    @Mock
     private ApplicationEventPublisher eventPublisher;
     @Mock
-    private S3Service s3Service;
-    @Mock
     private EmployeeRepository employeeRepository;
+    @Mock
+    private ApprovalInboxMapper inboxMapper;
+    @Mock
+    private ApprovalSearchIndexer searchIndexer;
+    @Mock
+    private ApprovalDocNoAllocator docNoAllocator;
+    @Mock
+    private ApprovalBulkMapper bulkMapper;
 
     @Test
     @DisplayName("즐겨찾기 토글 - 없을 때 추가")
@@ -97,7 +110,7 @@ class ApprovalCommandServiceTest {
         dto.setFormType("VACATION");
         dto.setTitle("휴가 신청");
         dto.setDetails("휴가 갑니다.");
-        List<MultipartFile> files = new ArrayList<>();
+        List<ApprovalUploadedFileDTO> files = new ArrayList<>();
         String status = "DRAFT";
 
         ApprovalTemplate template = ApprovalTemplate.builder().templateId(1).templateKey("VACATION").build();
@@ -202,4 +215,218 @@ class ApprovalCommandServiceTest {
         assertEquals("반려합니다.", currentLine.getComment());
         assertEquals("REJECTED", document.getDocStatus());
     }
-}
\ No newline at end of file
+
+    @Test
+    @DisplayName("임시저장 수정 - 같은 결재선은 유지 후 초기 상태로 복원, 결재자가 바뀐 결재선만 삭제/추가")
+    @SuppressWarnings("unchecked")
+    void updateDraftDocument_SyncApprovalLines() {
+        // given
+        Integer empId = 1;
+        givenDraftDocument(10, empId);
+
+        ApprovalLine drafterLine = ApprovalLine.builder()
+                .lineId(100).docId(10).approverId(1).seq(1).lineStatus("APPROVED").build();
+        ApprovalLine rejectedLine = ApprovalLine.builder()
+                .lineId(200).docId(10).approverId(2).seq(2).lineStatus("REJECTED").comment("반려").build();
+        ApprovalLine replacedLine = ApprovalLine.builder()
+                .lineId(300).docId(10).approverId(3).seq(3).lineStatus("PENDING").build();
+        given(lineRepository.findByDocIdOrderBySeqAsc(10))
+                .willReturn(List.of(drafterLine, rejectedLine, replacedLine));
+
+        ApprovalRequestDTO dto = draftRequest(
+                List.of(line(1, 1), line(2, 2), line(3, 4)),
+                null
+        );
+
+        // when
+        approvalCommandService.updateDraftDocument(empId, 10, dto, List.of());
+
+        // then
+        assertEquals("APPROVED", drafterLine.getLineStatus());
+        assertEquals("PENDING", rejectedLine.getLineStatus());
+        assertNull(rejectedLine.getComment());
+        verify(lineRepository).deleteAllByIdInBatch(List.of(300));
+
+        ArgumentCaptor<List<ApprovalLine>> captor = ArgumentCaptor.forClass(List.class);
+        verify(bulkMapper).insertApprovalLines(eq(10), captor.capture());
+        assertEquals(1, captor.getValue().size());
+        assertEquals(4, captor.getValue().get(0).getApproverId());
+        assertEquals(3, captor.getValue().get(0).getSeq());
+        assertEquals("PENDING", captor.getValue().get(0).getLineStatus());
+    }
+
+    @Test
+    @DisplayName("임시저장 수정 - 결재 순서가 바뀐 결재자는 기존 결재선 삭제 후 새 순서로 추가")
+    @SuppressWarnings("unchecked")
+    void updateDraftDocument_SyncApprovalLines_Reordered() {
+        // given
+        Integer empId = 1;
+        givenDraftDocument(10, empId);
+
+        given(lineRepository.findByDocIdOrderBySeqAsc(10)).willReturn(List.of(
+                ApprovalLine.builder().lineId(100).docId(10).approverId(1).seq(1).lineStatus("APPROVED").build(),
+                ApprovalLine.builder().lineId(200).docId(10).approverId(2).seq(2).lineStatus("PENDING").build(),
+                ApprovalLine.builder().lineId(300).docId(10).approverId(3).seq(3).lineStatus("PENDING").build()
+        ));
+
+        ApprovalRequestDTO dto = draftRequest(
+                List.of(line(1, 1), line(2, 3), line(3, 2)),
+                null
+        );
+
+        // when
+        approvalCommandService.updateDraftDocument(empId, 10, dto, List.of());
+
+        // then
+        ArgumentCaptor<List<Integer>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(lineRepository).deleteAllByIdInBatch(deleted.capture());
+        assertEquals(Set.of(200, 300), Set.copyOf(deleted.getValue()));
+
+        ArgumentCaptor<List<ApprovalLine>> inserted = ArgumentCaptor.forClass(List.class);
+        verify(bulkMapper).insertApprovalLines(eq(10), inserted.capture());
+        assertEquals(2, inserted.getValue().size());
+        assertEquals(3, inserted.getValue().get(0).getApproverId());
+        assertEquals(2, inserted.getValue().get(0).getSeq());
+        assertEquals(2, inserted.getValue().get(1).getApproverId());
+        assertEquals(3, inserted.getValue().get(1).getSeq());
+    }
+
+    @Test
+    @DisplayName("임시저장 수정 - 결재선이 그대로면 삭제/추가 없음")
+    void updateDraftDocument_SyncApprovalLines_Unchanged() {
+        // given
+        Integer empId = 1;
+        givenDraftDocument(10, empId);
+
+        given(lineRepository.findByDocIdOrderBySeqAsc(10)).willReturn(List.of(
+                ApprovalLine.builder().lineId(100).docId(10).approverId(1).seq(1).lineStatus("APPROVED").build(),
+                ApprovalLine.builder().lineId(200).docId(10).approverId(2).seq(2).lineStatus("PENDING").build()
+        ));
+
+        ApprovalRequestDTO dto = draftRequest(List.of(line(1, 1), line(2, 2)), null);
+
+        // when
+        approvalCommandService.updateDraftDocument(empId, 10, dto, List.of());
+
+        // then
+        verify(lineRepository, never()).deleteAllByIdInBatch(anyList());
+        verify(bulkMapper, never()).insertApprovalLines(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("임시저장 수정 - 기존 참조자는 유지, 빠진 참조자만 삭제, 새 참조자만 추가")
+    void updateDraftDocument_SyncReferences() {
+        // given
+        Integer empId = 1;
+        givenDraftDocument(10, empId);
+
+        given(referenceRepository.findByDocId(10)).willReturn(List.of(
+                ApprovalReference.builder().refId(50).docId(10).empId(5).build(),
+                ApprovalReference.builder().refId(60).docId(10).empId(6).build()
+        ));
+
+        ApprovalRequestDTO dto = draftRequest(null, List.of(reference(5), reference(7)));
+
+        // when
+        approvalCommandService.updateDraftDocument(empId, 10, dto, List.of());
+
+        // then
+        verify(referenceRepository).deleteAllByIdInBatch(List.of(60));
+        verify(bulkMapper).insertApprovalReferences(10, List.of(7));
+    }
+
+    @Test
+    @DisplayName("임시저장 수정 - 참조자를 모두 빼면 기존 참조자 전부 삭제")
+    @SuppressWarnings("unchecked")
+    void updateDraftDocument_SyncReferences_Removed() {
+        // given
+        Integer empId = 1;
+        givenDraftDocument(10, empId);
+
+        given(referenceRepository.findByDocId(10)).willReturn(List.of(
+                ApprovalReference.builder().refId(50).docId(10).empId(5).build(),
+                ApprovalReference.builder().refId(60).docId(10).empId(6).build()
+        ));
+
+        ApprovalRequestDTO dto = draftRequest(null, List.of());
+
+        // when
+        approvalCommandService.updateDraftDocument(empId, 10, dto, List.of());
+
+        // then
+        ArgumentCaptor<List<Integer>> deleted = ArgumentCaptor.forClass(List.class);
+        verify(referenceRepository).deleteAllByIdInBatch(deleted.capture());
+        assertEquals(Set.of(50, 60), Set.copyOf(deleted.getValue()));
+        verify(bulkMapper, never()).insertApprovalReferences(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("수정/상신 사전 검증 - 작성자의 임시저장 문서는 통과")
+    void validateDraftEditable_Owner() {
+        // given
+        givenDraftDocument(10, 1);
+
+        // when & then
+        assertDoesNotThrow(() -> approvalCommandService.validateDraftEditable(1, 10));
+    }
+
+    @Test
+    @DisplayName("수정/상신 사전 검증 - 작성자가 아니면 거절")
+    void validateDraftEditable_NotDrafter() {
+        // given
+        givenDraftDocument(10, 1);
+
+        // when
+        ApprovalDocumentAuthorityException exception = assertThrows(ApprovalDocumentAuthorityException.class,
+                () -> approvalCommandService.validateDraftEditable(2, 10));
+
+        // then
+        assertEquals(ErrorCode.NOT_THE_DRAFTER, exception.getErrorCode());
+    }
+
+    @Test
+    @DisplayName("수정/상신 사전 검증 - 임시저장 상태가 아니면 거절")
+    void validateDraftEditable_NotDraft() {
+        // given
+        ApprovalDocument document = ApprovalDocument.builder()
+                .docId(10)
+                .drafterId(1)
+                .docStatus("INPROGRESS")
+                .build();
+        given(documentRepository.findById(10)).willReturn(Optional.of(document));
+
+        // when
+        InvalidApprovalStateException exception = assertThrows(InvalidApprovalStateException.class,
+                () -> approvalCommandService.validateDraftEditable(1, 10));
+
+        // then
+        assertEquals(ErrorCode.DOCUMENT_NOT_DRAFT, exception.getErrorCode());
+    }
+
+    private void givenDraftDocument(Integer docId, Integer drafterId) {
+        ApprovalDocument document = ApprovalDocument.builder()
+                .docId(docId)
+                .drafterId(drafterId)
+                .docStatus("DRAFT")
+                .title("휴가 신청")
+                .build();
+        given(documentRepository.findById(docId)).willReturn(Optional.of(document));
+    }
+
+    private ApprovalRequestDTO draftRequest(List<ApprovalLineDTO> lines, List<ApprovalReferenceDTO> references) {
+        ApprovalRequestDTO dto = new ApprovalRequestDTO();
+        dto.setTitle("휴가 신청");
+        dto.setDetails("휴가 갑니다.");
+        dto.setLines(lines);
+        dto.setReferences(references);
+        return dto;
+    }
+
+    private ApprovalLineDTO line(int seq, int approverId) {
+        return ApprovalLineDTO.builder().seq(seq).approverId(approverId).build();
+    }
+
+    private ApprovalReferenceDTO reference(int referencerId) {
+        return ApprovalReferenceDTO.builder().referencerId(referencerId).build();
+    }
+}
@@ -0,0 +1,213 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.approval.exception.ApprovalDocumentNumberFailedException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalDocNoAllocatorTest {
+
+    private static final ZoneId ZONE = ZoneId.of("Asia/Seoul");
+
+    @Mock
+    private ApprovalSequenceTxService sequenceTxService;
+
+    private static Clock clockAt(LocalDate date) {
+        return Clock.fixed(date.atStartOfDay(ZONE).toInstant(), ZONE);
+    }
+
+    @Test
+    @DisplayName("문서번호 발급 - 동시 발급 시 번호 중복 없음")
+    void next_ConcurrentUnique() throws Exception {
+        // given
+        AtomicLong sequence = new AtomicLong();
+        given(sequenceTxService.reserveBlock(eq("HERO-2026"), eq(10)))
+                .willAnswer(invocation -> sequence.getAndAdd(10) + 1);
+
+        ExecutorService prefetchExecutor = Executors.newSingleThreadExecutor();
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(
+                sequenceTxService, 10, clockAt(LocalDate.of(2026, 10, 17)), prefetchExecutor);
+
+        int threads = 8;
+        int perThread = 500;
+        Set<String> issued = ConcurrentHashMap.newKeySet();
+        CountDownLatch start = new CountDownLatch(1);
+        ExecutorService workers = Executors.newFixedThreadPool(threads);
+
+        // when
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(workers.submit(() -> {
+                    start.await();
+                    for (int i = 0; i < perThread; i++) {
+                        assertTrue(issued.add(allocator.next()));
+                    }
+                    return null;
+                }));
+            }
+            start.countDown();
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            workers.shutdownNow();
+            prefetchExecutor.shutdownNow();
+        }
+
+        // then
+        assertEquals(threads * perThread, issued.size());
+        assertTrue(issued.stream().allMatch(docNo -> docNo.matches("HERO-2026-\\d{5}")));
+    }
+
+    @Test
+    @DisplayName("구간 교체 - 잔여 번호가 절반 아래면 다음 구간을 미리 예약하고, 구간 끝에서 그 구간으로 교체")
+    void next_RefillFromPrefetchedBlock() {
+        // given
+        given(sequenceTxService.reserveBlock("HERO-2026", 2)).willReturn(1L, 3L);
+        List<Runnable> prefetchTasks = new ArrayList<>();
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(
+                sequenceTxService, 2, clockAt(LocalDate.of(2026, 10, 17)), prefetchTasks::add);
+
+        // when
+        String first = allocator.next();
+        String second = allocator.next();
+
+        // then - 두 번째 발급에서 다음 구간 예약을 요청 스레드가 아닌 실행기에 맡김
+        assertEquals("HERO-2026-00001", first);
+        assertEquals("HERO-2026-00002", second);
+        assertEquals(1, prefetchTasks.size());
+        verify(sequenceTxService, times(1)).reserveBlock("HERO-2026", 2);
+
+        // when - 미리 예약 완료 후 구간 끝을 넘어 발급
+        prefetchTasks.get(0).run();
+        String third = allocator.next();
+
+        // then - 요청 스레드에서 추가 예약 없이 미리 예약한 구간 사용
+        assertEquals("HERO-2026-00003", third);
+        verify(sequenceTxService, times(2)).reserveBlock("HERO-2026", 2);
+    }
+
+    @Test
+    @DisplayName("구간 교체 - 미리 예약한 구간이 없으면 호출 스레드에서 바로 예약")
+    void next_RefillWithoutPrefetchedBlock() {
+        // given - 미리 예약 작업이 실행되지 않는 실행기
+        given(sequenceTxService.reserveBlock("HERO-2026", 2)).willReturn(1L, 41L);
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(
+                sequenceTxService, 2, clockAt(LocalDate.of(2026, 10, 17)), task -> {});
+
+        // when
+        allocator.next();
+        allocator.next();
+        String third = allocator.next();
+
+        // then
+        assertEquals("HERO-2026-00041", third);
+        verify(sequenceTxService, times(2)).reserveBlock("HERO-2026", 2);
+    }
+
+    @Test
+    @DisplayName("연도 변경 - 새 연도 시퀀스에서 구간을 예약하고 이전 연도 예비 구간은 버림")
+    void next_YearRollover() {
+        // given
+        Clock clock = mock(Clock.class);
+        given(clock.getZone()).willReturn(ZONE);
+        given(clock.instant()).willReturn(
+                LocalDate.of(2026, 12, 31).atStartOfDay(ZONE).toInstant(),
+                LocalDate.of(2027, 1, 1).atStartOfDay(ZONE).toInstant()
+        );
+        given(sequenceTxService.reserveBlock("HERO-2026", 1)).willReturn(120L, 121L);
+        given(sequenceTxService.reserveBlock("HERO-2027", 1)).willReturn(1L, 2L);
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(
+                sequenceTxService, 1, clock, Runnable::run);
+
+        // when
+        String lastOfYear = allocator.next();
+        String firstOfYear = allocator.next();
+
+        // then
+        assertEquals("HERO-2026-00120", lastOfYear);
+        assertEquals("HERO-2027-00001", firstOfYear);
+        verify(sequenceTxService, times(2)).reserveBlock("HERO-2026", 1);
+        verify(sequenceTxService, times(2)).reserveBlock("HERO-2027", 1);
+    }
+
+    @Test
+    @DisplayName("구간 예약 - 연도 첫 예약 INSERT 충돌 시 한 번 재시도")
+    void next_RetryOnDataIntegrityViolation() {
+        // given
+        given(sequenceTxService.reserveBlock("HERO-2026", 50))
+                .willThrow(new DataIntegrityViolationException("duplicate seq_type"))
+                .willReturn(51L);
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(
+                sequenceTxService, 50, clockAt(LocalDate.of(2026, 1, 1)), task -> {});
+
+        // when
+        String docNo = allocator.next();
+
+        // then
+        assertEquals("HERO-2026-00051", docNo);
+        verify(sequenceTxService, times(2)).reserveBlock("HERO-2026", 50);
+    }
+
+    @Test
+    @DisplayName("구간 예약 - 재시도도 실패하면 문서번호 생성 실패")
+    void next_RetryFailed() {
+        // given
+        given(sequenceTxService.reserveBlock(anyString(), anyInt()))
+                .willThrow(new DataIntegrityViolationException("duplicate seq_type"))
+                .willThrow(new QueryTimeoutException("lock wait timeout"));
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(
+                sequenceTxService, 50, clockAt(LocalDate.of(2026, 1, 1)), task -> {});
+
+        // when
+        ApprovalDocumentNumberFailedException exception =
+                assertThrows(ApprovalDocumentNumberFailedException.class, allocator::next);
+
+        // then
+        assertEquals(ErrorCode.DOC_NO_GENERATION_ERROR, exception.getErrorCode());
+        verify(sequenceTxService, times(2)).reserveBlock("HERO-2026", 50);
+    }
+
+    @Test
+    @DisplayName("기동 시 예약 - 첫 구간을 미리 예약해 첫 발급은 예약 없이 처리")
+    void reserveOnStartup_FirstBlock() {
+        // given
+        given(sequenceTxService.reserveBlock("HERO-2026", 50)).willReturn(1L);
+        ApprovalDocNoAllocator allocator = new ApprovalDocNoAllocator(
+                sequenceTxService, 50, clockAt(LocalDate.of(2026, 10, 17)), task -> {});
+
+        // when
+        allocator.reserveOnStartup();
+        String docNo = allocator.next();
+
+        // then
+        assertEquals("HERO-2026-00001", docNo);
+        verify(sequenceTxService, times(1)).reserveBlock("HERO-2026", 50);
+    }
+}
@@ -0,0 +1,113 @@
+package com.c4.hero.domain.approval.service;
+
+import com.c4.hero.domain.approval.dto.ApprovalSearchTokenDTO;
+import com.c4.hero.domain.approval.mapper.ApprovalSearchMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ApprovalSearchIndexerTest {
+
+    @InjectMocks
+    private ApprovalSearchIndexer searchIndexer;
+
+    @Mock
+    private ApprovalSearchMapper searchMapper;
+
+    @Test
+    @DisplayName("토큰 분해 - 소문자로 정규화 후 2글자 n-gram")
+    void tokenize_LowercaseBigrams() {
+        // when
+        List<String> tokens = ApprovalSearchIndexer.tokenize("HeRo");
+
+        // then
+        assertEquals(List.of("he", "er", "ro"), tokens);
+    }
+
+    @Test
+    @DisplayName("토큰 분해 - 문자/숫자가 아닌 글자로 단어 분리 (단어 경계를 넘는 토큰 없음)")
+    void tokenize_SplitOnNonLetterOrDigit() {
+        // when
+        List<String> tokens = ApprovalSearchIndexer.tokenize("휴가신청-2026 (연차)");
+
+        // then
+        assertEquals(List.of("휴가", "가신", "신청", "20", "02", "26", "연차"), tokens);
+        assertFalse(tokens.contains("청-"));
+        assertFalse(tokens.contains("6 "));
+    }
+
+    @Test
+    @DisplayName("토큰 분해 - 중복 토큰은 한 번만 (등장 순서 유지)")
+    void tokenize_Dedupe() {
+        // when
+        List<String> tokens = ApprovalSearchIndexer.tokenize("결재 결재 결재요청");
+
+        // then
+        assertEquals(List.of("결재", "재요", "요청"), tokens);
+    }
+
+    @Test
+    @DisplayName("토큰 분해 - 1글자 단어는 토큰화하지 않음")
+    void tokenize_SingleCharWords() {
+        // when
+        List<String> tokens = ApprovalSearchIndexer.tokenize("a 휴 b가");
+
+        // then
+        assertEquals(List.of("b가"), tokens);
+        assertTrue(ApprovalSearchIndexer.tokenize("휴").isEmpty());
+    }
+
+    @Test
+    @DisplayName("토큰 분해 - null/빈 문자열/공백은 빈 목록")
+    void tokenize_EmptyInput() {
+        assertTrue(ApprovalSearchIndexer.tokenize(null).isEmpty());
+        assertTrue(ApprovalSearchIndexer.tokenize("").isEmpty());
+        assertTrue(ApprovalSearchIndexer.tokenize("   ").isEmpty());
+        assertTrue(ApprovalSearchIndexer.tokenize("- / ()").isEmpty());
+    }
+
+    @Test
+    @DisplayName("인덱스 재생성 - 기존 토큰 삭제 후 제목/문서번호 토큰을 필드별로 저장")
+    @SuppressWarnings("unchecked")
+    void index_TitleAndDocNo() {
+        // when
+        searchIndexer.index(10, "연차", "HR-1");
+
+        // then
+        ArgumentCaptor<List<ApprovalSearchTokenDTO>> captor = ArgumentCaptor.forClass(List.class);
+        var inOrder = inOrder(searchMapper);
+        inOrder.verify(searchMapper).deleteSearchTokensByDocId(10);
+        inOrder.verify(searchMapper).insertSearchTokens(eq(10), captor.capture());
+
+        List<ApprovalSearchTokenDTO> saved = captor.getValue();
+        assertEquals(2, saved.size());
+        assertEquals("연차", saved.get(0).getToken());
+        assertEquals(ApprovalSearchIndexer.FIELD_TITLE, saved.get(0).getField());
+        assertEquals("hr", saved.get(1).getToken());
+        assertEquals(ApprovalSearchIndexer.FIELD_DOC_NO, saved.get(1).getField());
+    }
+
+    @Test
+    @DisplayName("인덱스 재생성 - 토큰이 없으면 삭제만 하고 저장하지 않음")
+    void index_NoTokens() {
+        // when
+        searchIndexer.index(10, "휴", null);
+
+        // then
+        verify(searchMapper).deleteSearchTokensByDocId(10);
+        verify(searchMapper, never()).insertSearchTokens(any(), anyList());
+    }
+}
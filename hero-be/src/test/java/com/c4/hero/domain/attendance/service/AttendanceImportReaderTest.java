@@ -0,0 +1,157 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.dto.AttendanceImportRowDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import tools.jackson.core.JacksonException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.*;
+
+@DisplayName("AttendanceImportReader 단위 테스트")
+class AttendanceImportReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private static InputStream input(String content) {
+        return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Nested
+    @DisplayName("CSV")
+    class CsvTest {
+
+        @Test
+        @DisplayName("헤더 순서/대소문자와 무관하게 컬럼을 찾고, BOM/따옴표/공백을 제거한다")
+        void next_HeaderAnyOrder_CleanValues() throws IOException {
+            // Given
+            String csv = "\uFEFFWorkDate, EMPLOYEEID ,startTime,endTime\n"
+                    + "\"2026-10-16\", 7 , 09:01 ,\" 18:30 \"\n";
+
+            try (AttendanceImportReader reader = AttendanceImportReader.open(input(csv), false, objectMapper)) {
+                // When
+                AttendanceImportRowDTO row = reader.next();
+
+                // Then
+                assertThat(row.getEmployeeId()).isEqualTo("7");
+                assertThat(row.getWorkDate()).isEqualTo("2026-10-16");
+                assertThat(row.getStartTime()).isEqualTo("09:01");
+                assertThat(row.getEndTime()).isEqualTo("18:30");
+                assertThat(row.getWorkSystemTemplateId()).isNull();
+                assertThat(reader.rowNumber()).isEqualTo(1);
+                assertThat(reader.next()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("빈 줄은 건너뛰고 행 번호에 포함하지 않으며, 빈 값은 null 로 읽는다")
+        void next_BlankLinesSkipped_EmptyValueNull() throws IOException {
+            // Given
+            String csv = "employeeId,workDate,startTime,endTime\n"
+                    + "1,2026-10-16,09:00,\n"
+                    + "\n"
+                    + "   \n"
+                    + "2,2026-10-16,09:00,18:00\n";
+
+            try (AttendanceImportReader reader = AttendanceImportReader.open(input(csv), false, objectMapper)) {
+                // When
+                AttendanceImportRowDTO first = reader.next();
+                AttendanceImportRowDTO second = reader.next();
+
+                // Then
+                assertThat(first.getEndTime()).isNull();
+                assertThat(second.getEmployeeId()).isEqualTo("2");
+                assertThat(reader.rowNumber()).isEqualTo(2);
+                assertThat(reader.next()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("값이 헤더보다 적은 행은 부족한 컬럼을 null 로 읽는다")
+        void next_ShortRow_MissingColumnsNull() throws IOException {
+            // Given
+            String csv = "employeeId,workDate,startTime,endTime\n1,2026-10-16\n";
+
+            try (AttendanceImportReader reader = AttendanceImportReader.open(input(csv), false, objectMapper)) {
+                // When
+                AttendanceImportRowDTO row = reader.next();
+
+                // Then
+                assertThat(row.getStartTime()).isNull();
+                assertThat(row.getEndTime()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("필수 컬럼(employeeId, workDate, startTime)이 헤더에 없으면 INVALID_INPUT_VALUE 예외를 던진다")
+        void open_MissingRequiredColumn_ThrowException() {
+            String csv = "employeeId,workDate,endTime\n1,2026-10-16,18:00\n";
+
+            assertThatThrownBy(() -> AttendanceImportReader.open(input(csv), false, objectMapper))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+        }
+
+        @Test
+        @DisplayName("빈 입력은 헤더가 없으므로 INVALID_INPUT_VALUE 예외를 던진다")
+        void open_EmptyInput_ThrowException() {
+            assertThatThrownBy(() -> AttendanceImportReader.open(input(""), false, objectMapper))
+                    .isInstanceOf(BusinessException.class);
+        }
+    }
+
+    @Nested
+    @DisplayName("JSON")
+    class JsonTest {
+
+        @Test
+        @DisplayName("행 객체 배열을 한 행씩 읽는다 (숫자 값도 문자열로 읽음)")
+        void next_ArrayOfRows() throws IOException {
+            // Given
+            String json = """
+                    [
+                      {"employeeId": 1, "workDate": "2026-10-16", "startTime": "09:00", "endTime": "18:00"},
+                      {"employeeId": "2", "workDate": "2026-10-16", "startTime": "09:10", "workSystemTemplateId": 3}
+                    ]
+                    """;
+
+            try (AttendanceImportReader reader = AttendanceImportReader.open(input(json), true, objectMapper)) {
+                // When
+                AttendanceImportRowDTO first = reader.next();
+                AttendanceImportRowDTO second = reader.next();
+
+                // Then
+                assertThat(first.getEmployeeId()).isEqualTo("1");
+                assertThat(second.getWorkSystemTemplateId()).isEqualTo("3");
+                assertThat(second.getEndTime()).isNull();
+                assertThat(reader.rowNumber()).isEqualTo(2);
+                assertThat(reader.next()).isNull();
+            }
+        }
+
+        @Test
+        @DisplayName("JSON 구조가 깨지면 앞선 행은 읽고, 깨진 위치에서 JacksonException 을 던진다")
+        void next_BrokenJson_ThrowAfterValidRows() throws IOException {
+            // Given
+            String json = "[{\"employeeId\": 1, \"workDate\": \"2026-10-16\", \"startTime\": \"09:00\"}, {\"employeeId\": ";
+
+            try (AttendanceImportReader reader = AttendanceImportReader.open(input(json), true, objectMapper)) {
+                // When
+                AttendanceImportRowDTO first = reader.next();
+
+                // Then
+                assertThat(first.getEmployeeId()).isEqualTo("1");
+                assertThatThrownBy(reader::next).isInstanceOf(JacksonException.class);
+                assertThat(reader.rowNumber()).isEqualTo(1);
+            }
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.domain.attendance.dto.AttendanceImportEmployeeDTO;
+import com.c4.hero.domain.attendance.dto.AttendanceImportErrorDTO;
+import com.c4.hero.domain.attendance.dto.AttendanceImportRecordDTO;
+import com.c4.hero.domain.attendance.dto.AttendanceImportResultDTO;
+import com.c4.hero.domain.attendance.dto.WorkSystemTemplateCacheDTO;
+import com.c4.hero.domain.attendance.mapper.AttendanceImportMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.mock.web.MockMultipartFile;
+import tools.jackson.databind.ObjectMapper;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.time.YearMonth;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AttendanceImportService 단위 테스트")
+class AttendanceImportServiceTest {
+
+    private static final String HEADER = "employeeId,workDate,startTime,endTime,workSystemTemplateId\n";
+    private static final LocalDate WORK_DATE = LocalDate.now().minusDays(1);
+
+    @Mock
+    private AttendanceImportMapper attendanceImportMapper;
+
+    @Mock
+    private AttendanceImportWriter attendanceImportWriter;
+
+    @Mock
+    private AttendanceScoreService attendanceScoreService;
+
+    @Mock
+    private WorkSystemRegistry workSystemRegistry;
+
+    private AttendanceImportService attendanceImportService;
+
+    @BeforeEach
+    void setUp() {
+        attendanceImportService = new AttendanceImportService(
+                attendanceImportMapper, attendanceImportWriter, attendanceScoreService, workSystemRegistry, new ObjectMapper());
+    }
+
+    private static MockMultipartFile csv(String body) {
+        return new MockMultipartFile("file", "punch.csv", "text/csv", (HEADER + body).getBytes(StandardCharsets.UTF_8));
+    }
+
+    private void givenEmployees(AttendanceImportEmployeeDTO... employees) {
+        when(attendanceImportMapper.selectImportEmployees(anyCollection())).thenReturn(List.of(employees));
+    }
+
+    private void givenTemplate() {
+        when(workSystemRegistry.findTemplate(1)).thenReturn(new WorkSystemTemplateCacheDTO(
+                1, LocalTime.of(9, 0), LocalTime.of(18, 0), 60, "기본", 1));
+    }
+
+    @Test
+    @DisplayName("형식 오류/존재하지 않는 직원 행은 행 번호와 함께 오류로 모으고, 나머지 행만 반영한다")
+    void importAttendances_CollectRowErrors_WriteValidRows() {
+        // Given
+        givenEmployees(new AttendanceImportEmployeeDTO(1, 10, 1));
+        givenTemplate();
+        MockMultipartFile file = csv(
+                "1," + WORK_DATE + ",09:05,18:30,\n"                         // 1: 정상 (지각)
+                        + "abc," + WORK_DATE + ",09:00,18:00,\n"             // 2: employeeId 숫자 아님
+                        + "1,2026-13-01,09:00,18:00,\n"                      // 3: 날짜 형식 오류
+                        + "1," + WORK_DATE.minusDays(1) + ",9시,18:00,\n"    // 4: 시각 형식 오류
+                        + "999," + WORK_DATE + ",09:00,18:00,\n"             // 5: 존재하지 않는 직원
+                        + "1," + WORK_DATE.minusDays(2) + ",18:00,09:00,\n"  // 6: 퇴근이 출근보다 빠름
+                        + "1," + WORK_DATE.minusDays(3) + ",09:00,18:00,x\n" // 7: 템플릿 ID 형식 오류
+        );
+
+        // When
+        AttendanceImportResultDTO result = attendanceImportService.importAttendances(file, null);
+
+        // Then
+        assertThat(result.getTotalRows()).isEqualTo(7);
+        assertThat(result.getImportedRows()).isEqualTo(1);
+        assertThat(result.getFailedRows()).isEqualTo(6);
+        assertThat(result.isErrorsTruncated()).isFalse();
+        assertThat(result.getErrors())
+                .extracting(AttendanceImportErrorDTO::rowNumber)
+                .containsExactly(2L, 3L, 4L, 5L, 6L, 7L);
+        assertThat(result.getErrors().get(3).message()).contains("존재하지 않는 직원");
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AttendanceImportRecordDTO>> written = ArgumentCaptor.forClass(List.class);
+        verify(attendanceImportWriter).write(written.capture());
+        assertThat(written.getValue()).singleElement().satisfies(record -> {
+            assertThat(record.employeeId()).isEqualTo(1);
+            assertThat(record.departmentId()).isEqualTo(10);
+            assertThat(record.state()).isEqualTo("지각");
+            assertThat(record.workDuration()).isEqualTo(9 * 60 + 25 - 60);
+        });
+        verify(attendanceScoreService).refresh(List.of(1), YearMonth.from(WORK_DATE));
+    }
+
+    @Test
+    @DisplayName("존재하지 않는 근무제 템플릿을 지정한 행은 오류로 처리한다")
+    void importAttendances_UnknownTemplate_RowError() {
+        // Given
+        givenEmployees(new AttendanceImportEmployeeDTO(1, 10, null));
+        when(workSystemRegistry.findTemplate(42)).thenReturn(null);
+
+        // When
+        AttendanceImportResultDTO result =
+                attendanceImportService.importAttendances(csv("1," + WORK_DATE + ",09:00,18:00,42\n"), "csv");
+
+        // Then
+        assertThat(result.getImportedRows()).isZero();
+        assertThat(result.getErrors()).singleElement()
+                .satisfies(error -> assertThat(error.message()).contains("근무제 템플릿"));
+        verifyNoInteractions(attendanceImportWriter, attendanceScoreService);
+    }
+
+    @Test
+    @DisplayName("같은 사원/근무일 행이 여러 번 나오면 마지막 행만 반영한다")
+    void importAttendances_DuplicateEmployeeDate_LastRowWins() {
+        // Given
+        givenEmployees(new AttendanceImportEmployeeDTO(1, 10, 1));
+        givenTemplate();
+
+        // When
+        attendanceImportService.importAttendances(csv(
+                "1," + WORK_DATE + ",09:00,18:00,\n"
+                        + "1," + WORK_DATE + ",08:50,19:00,\n"), null);
+
+        // Then
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<AttendanceImportRecordDTO>> written = ArgumentCaptor.forClass(List.class);
+        verify(attendanceImportWriter).write(written.capture());
+        assertThat(written.getValue()).singleElement()
+                .satisfies(record -> assertThat(record.startTime()).isEqualTo(LocalTime.of(8, 50)));
+    }
+
+    @Test
+    @DisplayName("묶음 반영이 DB 오류로 실패하면 묶음의 반영 대상 행을 모두 오류로 처리하고 집계를 재계산하지 않는다")
+    void importAttendances_WriteFails_ChunkRowsFailed() {
+        // Given
+        givenEmployees(new AttendanceImportEmployeeDTO(1, 10, 1), new AttendanceImportEmployeeDTO(2, 10, 1));
+        givenTemplate();
+        doThrow(new DataIntegrityViolationException("duplicate")).when(attendanceImportWriter).write(anyCollection());
+
+        // When
+        AttendanceImportResultDTO result = attendanceImportService.importAttendances(csv(
+                "1," + WORK_DATE + ",09:00,18:00,\n"
+                        + "2," + WORK_DATE + ",09:00,18:00,\n"), null);
+
+        // Then
+        assertThat(result.getImportedRows()).isZero();
+        assertThat(result.getFailedRows()).isEqualTo(2);
+        assertThat(result.getErrors()).extracting(AttendanceImportErrorDTO::message).containsOnly("DB 반영 실패");
+        verify(attendanceScoreService, never()).refresh(anyCollection(), any(YearMonth.class));
+    }
+
+    @Test
+    @DisplayName("JSON 형식이 중간에 깨지면 앞선 행은 반영하고 깨진 위치를 오류로 남긴다")
+    void importAttendances_BrokenJson_KeepPreviousRows() {
+        // Given
+        givenEmployees(new AttendanceImportEmployeeDTO(1, 10, 1));
+        givenTemplate();
+        MockMultipartFile file = new MockMultipartFile("file", "punch.json", "application/json",
+                ("[{\"employeeId\":1,\"workDate\":\"" + WORK_DATE + "\",\"startTime\":\"09:00\"},{\"employeeId\":")
+                        .getBytes(StandardCharsets.UTF_8));
+
+        // When
+        AttendanceImportResultDTO result = attendanceImportService.importAttendances(file, null);
+
+        // Then
+        assertThat(result.getImportedRows()).isEqualTo(1);
+        assertThat(result.getErrors()).singleElement().satisfies(error -> {
+            assertThat(error.rowNumber()).isEqualTo(2L);
+            assertThat(error.message()).contains("JSON 형식 오류");
+        });
+    }
+
+    @Test
+    @DisplayName("빈 파일은 INVALID_INPUT_VALUE 예외를 던진다")
+    void importAttendances_EmptyFile_ThrowException() {
+        MockMultipartFile empty = new MockMultipartFile("file", "punch.csv", "text/csv", new byte[0]);
+
+        assertThatThrownBy(() -> attendanceImportService.importAttendances(empty, null))
+                .isInstanceOf(BusinessException.class)
+                .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+    }
+}
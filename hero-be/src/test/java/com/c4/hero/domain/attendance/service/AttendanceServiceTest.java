@@ -1,5 +1,9 @@
 package com.c4.hero.domain.attendance.service;
 
+import com.c4.hero.common.exception.BusinessException;
+import com.c4.hero.common.exception.ErrorCode;
+import com.c4.hero.common.pagination.KeysetCursor;
+import com.c4.hero.common.response.CursorResponse;
 import com.c4.hero.common.response.PageResponse;
 import com.c4.hero.domain.attendance.dto.*;
 import com.c4.hero.domain.attendance.mapper.AttendanceMapper;
@@ -45,6 +49,12 @@ class AttendanceServiceTest {
     @Mock
     private AttendanceEmployeeDashboardRepository attendanceEmployeeDashboardRepository;
 
+    @Mock
+    private AttendanceScoreService attendanceScoreService;
+
+    @Mock
+    private WorkSystemRegistry workSystemRegistry;
+
     @Mock
     private EmployeeRepository employeeRepository;
 
@@ -75,17 +85,14 @@ class AttendanceServiceTest {
     class GetPersonalSummaryTest {
 
         @Test
-        @DisplayName("기간이 null이면 이번 달 1일~오늘로 보정하여 Mapper를 호출한다")
-        void getPersonalSummary_NullPeriod_ResolveToThisMonthAndToday() {
+        @DisplayName("기간이 null이면 이번 달 1일~오늘로 보정하여 이번 달 월간 근태 집계를 조회한다")
+        void getPersonalSummary_NullPeriod_ReadThisMonthSummary() {
             // Given
             Integer employeeId = 1;
-
-            LocalDate today = LocalDate.now();
-            LocalDate expectedStart = today.withDayOfMonth(1);
-            LocalDate expectedEnd = today;
+            YearMonth thisMonth = YearMonth.now();
 
             AttSummaryDTO summary = mock(AttSummaryDTO.class);
-            when(attendanceMapper.selectPersonalSummary(eq(employeeId), any(LocalDate.class), any(LocalDate.class)))
+            when(attendanceMapper.selectPersonalMonthlySummary(employeeId, thisMonth.toString()))
                     .thenReturn(summary);
 
             // When
@@ -93,14 +100,27 @@ class AttendanceServiceTest {
 
             // Then
             assertThat(result).isSameAs(summary);
+            verify(attendanceScoreService).ensureMonth(thisMonth);
+            verify(attendanceMapper, never()).selectPersonalSummary(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("한 달 전체가 아닌 기간은 전달받은 기간 그대로 Mapper를 호출한다")
+        void getPersonalSummary_PartialPeriod_PassThroughToMapper() {
+            // Given
+            Integer employeeId = 1;
+            LocalDate startDate = LocalDate.of(2024, 2, 5);
+            LocalDate endDate = LocalDate.of(2024, 2, 20);
 
-            ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
-            ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
+            AttSummaryDTO summary = mock(AttSummaryDTO.class);
+            when(attendanceMapper.selectPersonalSummary(employeeId, startDate, endDate)).thenReturn(summary);
 
-            verify(attendanceMapper).selectPersonalSummary(eq(employeeId), startCaptor.capture(), endCaptor.capture());
+            // When
+            AttSummaryDTO result = attendanceService.getPersonalSummary(employeeId, startDate, endDate);
 
-            assertThat(startCaptor.getValue()).isEqualTo(expectedStart);
-            assertThat(endCaptor.getValue()).isEqualTo(expectedEnd);
+            // Then
+            assertThat(result).isSameAs(summary);
+            verify(attendanceMapper, never()).selectPersonalMonthlySummary(any(), any());
         }
 
         @Test
@@ -109,18 +129,14 @@ class AttendanceServiceTest {
             // Given
             AttSummaryDTO summary = mock(AttSummaryDTO.class);
 
-            when(attendanceMapper.selectPersonalSummary(
-                    isNull(),
-                    any(LocalDate.class),
-                    any(LocalDate.class)
-            )).thenReturn(summary);
+            when(attendanceMapper.selectPersonalMonthlySummary(isNull(), anyString())).thenReturn(summary);
 
             // When
             AttSummaryDTO result = attendanceService.getPersonalSummary(null, null, null);
 
             // Then
             assertThat(result).isSameAs(summary);
-            verify(attendanceMapper).selectPersonalSummary(isNull(), any(LocalDate.class), any(LocalDate.class));
+            verify(attendanceMapper).selectPersonalMonthlySummary(isNull(), anyString());
         }
 
     }
@@ -236,6 +252,105 @@ class AttendanceServiceTest {
         }
     }
 
+    /* =========================
+       개인 근태 목록(커서)
+       ========================= */
+
+    @Nested
+    @DisplayName("개인 근태 목록(커서, getPersonalListByCursor)")
+    class PersonalListCursorTest {
+
+        private PersonalDTO row(int attendanceId, LocalDate workDate) {
+            PersonalDTO dto = new PersonalDTO();
+            dto.setAttendanceId(attendanceId);
+            dto.setWorkDate(workDate);
+            return dto;
+        }
+
+        @Test
+        @DisplayName("커서가 없으면 첫 페이지를 size + 1 건 조회하고, 초과분이 있으면 마지막 행으로 다음 커서를 만든다")
+        void getPersonalListByCursor_FirstPage_NextCursorFromLastRow() {
+            // Given
+            Integer employeeId = 1;
+            LocalDate day = LocalDate.of(2026, 10, 17);
+            when(attendanceMapper.selectPersonalPageAfter(employeeId, null, null, 3, null, null))
+                    .thenReturn(List.of(row(30, day), row(20, day), row(10, day.minusDays(1))));
+
+            // When
+            CursorResponse<PersonalDTO> result =
+                    attendanceService.getPersonalListByCursor(employeeId, null, 2, null, null, false);
+
+            // Then
+            assertThat(result.getContent()).hasSize(2);
+            assertThat(result.isHasNext()).isTrue();
+            assertThat(KeysetCursor.decode(result.getNextCursor())).isEqualTo(new KeysetCursor(day, 20));
+            assertThat(result.getTotalElements()).isNull();
+            verify(attendanceMapper, never()).selectPersonalCount(any(), any(), any());
+        }
+
+        @Test
+        @DisplayName("커서가 있으면 커서의 (날짜, PK) 다음 행부터 조회한다")
+        void getPersonalListByCursor_WithCursor_SeekAfterCursor() {
+            // Given
+            Integer employeeId = 1;
+            KeysetCursor cursor = new KeysetCursor(LocalDate.of(2026, 10, 17), 20);
+            when(attendanceMapper.selectPersonalPageAfter(employeeId, cursor.date(), cursor.id(), 11, null, null))
+                    .thenReturn(List.of());
+
+            // When
+            CursorResponse<PersonalDTO> result =
+                    attendanceService.getPersonalListByCursor(employeeId, cursor.encode(), 10, null, null, false);
+
+            // Then
+            assertThat(result.getContent()).isEmpty();
+            assertThat(result.isHasNext()).isFalse();
+            assertThat(result.getNextCursor()).isNull();
+        }
+
+        @Test
+        @DisplayName("size 가 1보다 작으면 1건으로 보정한다")
+        void getPersonalListByCursor_NonPositiveSize_UseOne() {
+            // Given
+            Integer employeeId = 1;
+            when(attendanceMapper.selectPersonalPageAfter(employeeId, null, null, 2, null, null))
+                    .thenReturn(List.of());
+
+            // When
+            CursorResponse<PersonalDTO> result =
+                    attendanceService.getPersonalListByCursor(employeeId, null, 0, null, null, false);
+
+            // Then
+            assertThat(result.getSize()).isEqualTo(1);
+        }
+
+        @Test
+        @DisplayName("잘못된 커서는 조회 전에 INVALID_INPUT_VALUE 예외를 던진다")
+        void getPersonalListByCursor_MalformedCursor_ThrowException() {
+            assertThatThrownBy(() -> attendanceService.getPersonalListByCursor(1, "@@@", 10, null, null, false))
+                    .isInstanceOf(BusinessException.class)
+                    .hasFieldOrPropertyWithValue("errorCode", ErrorCode.INVALID_INPUT_VALUE);
+
+            verifyNoInteractions(attendanceMapper);
+        }
+
+        @Test
+        @DisplayName("withTotal 이면 전체 개수를 함께 조회한다")
+        void getPersonalListByCursor_WithTotal_CountQuery() {
+            // Given
+            Integer employeeId = 1;
+            when(attendanceMapper.selectPersonalPageAfter(eq(employeeId), isNull(), isNull(), anyInt(), isNull(), isNull()))
+                    .thenReturn(List.of());
+            when(attendanceMapper.selectPersonalCount(employeeId, null, null)).thenReturn(7);
+
+            // When
+            CursorResponse<PersonalDTO> result =
+                    attendanceService.getPersonalListByCursor(employeeId, null, 10, null, null, true);
+
+            // Then
+            assertThat(result.getTotalElements()).isEqualTo(7L);
+        }
+    }
+
     /* =========================
        부서 근태 현황
        ========================= */
@@ -290,8 +405,8 @@ class AttendanceServiceTest {
     class DashboardTest {
 
         @Test
-        @DisplayName("month가 주어지면 해당 월 start/end로 Repository를 호출한다")
-        void getAttendanceDashboardList_WithMonth_UsesMonthRange() {
+        @DisplayName("month가 주어지면 해당 월 집계를 보장한 뒤 집계 월로 Repository를 호출한다")
+        void getAttendanceDashboardList_WithMonth_UsesScoreMonth() {
             // Given
             Integer departmentId = 10;
             String month = "2024-02"; // 현재 월과 무관한 안정 테스트
@@ -299,10 +414,6 @@ class AttendanceServiceTest {
             int page = 2;
             int size = 5;
 
-            YearMonth ym = YearMonth.parse(month);
-            LocalDate expectedStart = ym.atDay(1);
-            LocalDate expectedEnd = ym.atEndOfMonth();
-
             Page<AttendanceDashboardDTO> pageResult = new PageImpl<>(
                     List.of(mock(AttendanceDashboardDTO.class)),
                     PageRequest.of(page - 1, size),
@@ -311,8 +422,7 @@ class AttendanceServiceTest {
 
             when(attendanceDashboardRepository.findAttendanceDashboard(
                     eq(departmentId),
-                    any(LocalDate.class),
-                    any(LocalDate.class),
+                    anyString(),
                     anyString(),
                     any(Pageable.class)
             )).thenReturn(pageResult);
@@ -324,21 +434,20 @@ class AttendanceServiceTest {
             // Then
             assertThat(result).isNotNull();
 
-            ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
-            ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
+            verify(attendanceScoreService).ensureMonth(YearMonth.parse(month));
+
+            ArgumentCaptor<String> monthCaptor = ArgumentCaptor.forClass(String.class);
             ArgumentCaptor<String> sortCaptor = ArgumentCaptor.forClass(String.class);
             ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
 
             verify(attendanceDashboardRepository).findAttendanceDashboard(
                     eq(departmentId),
-                    startCaptor.capture(),
-                    endCaptor.capture(),
+                    monthCaptor.capture(),
                     sortCaptor.capture(),
                     pageableCaptor.capture()
             );
 
-            assertThat(startCaptor.getValue()).isEqualTo(expectedStart);
-            assertThat(endCaptor.getValue()).isEqualTo(expectedEnd);
+            assertThat(monthCaptor.getValue()).isEqualTo(month);
             assertThat(sortCaptor.getValue()).isEqualTo("ASC");
             assertThat(pageableCaptor.getValue()).isEqualTo(PageRequest.of(page - 1, size));
         }
@@ -354,7 +463,7 @@ class AttendanceServiceTest {
             int size = 10;
 
             when(attendanceDashboardRepository.findAttendanceDashboard(
-                    isNull(), any(LocalDate.class), any(LocalDate.class), anyString(), any(Pageable.class)
+                    isNull(), anyString(), anyString(), any(Pageable.class)
             )).thenReturn(new PageImpl<>(List.of(), PageRequest.of(0, size), 0));
 
             // When
@@ -364,7 +473,7 @@ class AttendanceServiceTest {
             ArgumentCaptor<String> sortCaptor = ArgumentCaptor.forClass(String.class);
 
             verify(attendanceDashboardRepository).findAttendanceDashboard(
-                    isNull(), any(LocalDate.class), any(LocalDate.class), sortCaptor.capture(), any(Pageable.class)
+                    isNull(), anyString(), sortCaptor.capture(), any(Pageable.class)
             );
 
             assertThat(sortCaptor.getValue()).isEqualTo("DESC");
@@ -378,15 +487,11 @@ class AttendanceServiceTest {
             String month = "2024-04";
 
             when(attendanceDashboardSummaryRepository.countTotalEmployees(departmentId)).thenReturn(100L);
-            when(attendanceDashboardSummaryRepository.countExcellentEmployees(eq(departmentId), any(), any()))
+            when(attendanceDashboardSummaryRepository.countExcellentEmployees(eq(departmentId), anyString()))
                     .thenReturn(12L);
-            when(attendanceDashboardSummaryRepository.countRiskyEmployees(eq(departmentId), any(), any()))
+            when(attendanceDashboardSummaryRepository.countRiskyEmployees(eq(departmentId), anyString()))
                     .thenReturn(5L);
 
-            YearMonth ym = YearMonth.parse(month);
-            LocalDate expectedStart = ym.atDay(1);
-            LocalDate expectedEnd = ym.atEndOfMonth();
-
             // When
             AttendanceDashboardSummaryDTO result =
                     attendanceService.getAttendanceDashboardSummary(departmentId, month);
@@ -395,15 +500,9 @@ class AttendanceServiceTest {
             assertThat(result).isNotNull();
 
             verify(attendanceDashboardSummaryRepository).countTotalEmployees(departmentId);
-
-            ArgumentCaptor<LocalDate> startCaptor = ArgumentCaptor.forClass(LocalDate.class);
-            ArgumentCaptor<LocalDate> endCaptor = ArgumentCaptor.forClass(LocalDate.class);
-
-            verify(attendanceDashboardSummaryRepository).countExcellentEmployees(eq(departmentId), startCaptor.capture(), endCaptor.capture());
-            assertThat(startCaptor.getValue()).isEqualTo(expectedStart);
-            assertThat(endCaptor.getValue()).isEqualTo(expectedEnd);
-
-            verify(attendanceDashboardSummaryRepository).countRiskyEmployees(eq(departmentId), any(LocalDate.class), any(LocalDate.class));
+            verify(attendanceScoreService).ensureMonth(YearMonth.parse(month));
+            verify(attendanceDashboardSummaryRepository).countExcellentEmployees(departmentId, month);
+            verify(attendanceDashboardSummaryRepository).countRiskyEmployees(departmentId, month);
         }
     }
 
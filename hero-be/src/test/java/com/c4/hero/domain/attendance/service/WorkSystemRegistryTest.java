@@ -0,0 +1,215 @@
+package com.c4.hero.domain.attendance.service;
+
+import com.c4.hero.domain.attendance.dto.WorkSystemTemplateCacheDTO;
+import com.c4.hero.domain.attendance.event.WorkSystemChangedEvent;
+import com.c4.hero.domain.attendance.mapper.AttendanceMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Clock;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("WorkSystemRegistry 단위 테스트")
+class WorkSystemRegistryTest {
+
+    @Mock
+    private AttendanceMapper attendanceMapper;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private RedisConnectionFactory connectionFactory;
+
+    @Mock
+    private Clock clock;
+
+    private final AtomicLong now = new AtomicLong(1_000_000L);
+
+    private WorkSystemRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(clock.millis()).thenAnswer(invocation -> now.get());
+        registry = new WorkSystemRegistry(attendanceMapper, redisTemplate, connectionFactory, clock);
+    }
+
+    private static WorkSystemTemplateCacheDTO template(int id) {
+        return new WorkSystemTemplateCacheDTO(id, LocalTime.of(9, 0), LocalTime.of(18, 0), 60, "템플릿" + id, 1);
+    }
+
+    /** 기동 시 적재 (템플릿 1번만 존재) */
+    private void givenLoaded() {
+        when(attendanceMapper.selectWorkSystemTemplates()).thenReturn(List.of(template(1)));
+        registry.reload();
+    }
+
+    private void advance(long millis) {
+        now.addAndGet(millis);
+    }
+
+    private DefaultMessage message(String sender) {
+        return new DefaultMessage(
+                WorkSystemRegistry.CHANNEL.getBytes(StandardCharsets.UTF_8),
+                sender.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("없는 템플릿 ID 조회 시 재적재 후 다른 노드에서 추가된 템플릿 반환")
+    void findTemplate_miss_reloadsAndFinds() {
+        // given
+        givenLoaded();
+        when(attendanceMapper.selectWorkSystemTemplates()).thenReturn(List.of(template(1), template(2)));
+
+        // when
+        WorkSystemTemplateCacheDTO found = registry.findTemplate(2);
+
+        // then
+        assertThat(found).isEqualTo(template(2));
+        verify(attendanceMapper, times(2)).selectWorkSystemTemplates();
+    }
+
+    @Test
+    @DisplayName("있는 템플릿 ID / null 조회는 재적재하지 않음")
+    void findTemplate_hitOrNull_noReload() {
+        // given
+        givenLoaded();
+
+        // when
+        WorkSystemTemplateCacheDTO hit = registry.findTemplate(1);
+        WorkSystemTemplateCacheDTO none = registry.findTemplate(null);
+
+        // then
+        assertThat(hit).isEqualTo(template(1));
+        assertThat(none).isNull();
+        verify(attendanceMapper, times(1)).selectWorkSystemTemplates();
+    }
+
+    @Test
+    @DisplayName("없는 ID 반복 조회: MISS_RELOAD_INTERVAL 안에서는 다른 ID 라도 재적재 1회")
+    void findTemplate_repeatedMiss_reloadedOncePerInterval() {
+        // given
+        givenLoaded();
+
+        // when
+        for (int i = 0; i < 100; i++) {
+            assertThat(registry.findTemplate(99)).isNull();
+        }
+        assertThat(registry.findTemplate(98)).isNull();
+        assertThat(registry.startTimeOf(97)).isEqualTo(WorkSystemRegistry.DEFAULT_START_TIME);
+
+        // then
+        verify(attendanceMapper, times(2)).selectWorkSystemTemplates();
+    }
+
+    @Test
+    @DisplayName("없는 ID 조회: MISS_RELOAD_INTERVAL 이 지나면 다시 재적재")
+    void findTemplate_missAfterInterval_reloadedAgain() {
+        // given
+        givenLoaded();
+        registry.findTemplate(99);
+
+        // when
+        advance(WorkSystemRegistry.MISS_RELOAD_INTERVAL.toMillis() - 1);
+        registry.findTemplate(99);
+        advance(1);
+        registry.findTemplate(99);
+
+        // then
+        verify(attendanceMapper, times(3)).selectWorkSystemTemplates();
+    }
+
+    @Test
+    @DisplayName("없는 ID 재적재 실패 시에도 간격 적용 (DB 장애 중 조회마다 재시도하지 않음)")
+    void findTemplate_reloadFailure_throttled() {
+        // given
+        givenLoaded();
+        when(attendanceMapper.selectWorkSystemTemplates()).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when & then
+        assertThatThrownBy(() -> registry.findTemplate(99)).isInstanceOf(QueryTimeoutException.class);
+        assertThat(registry.findTemplate(99)).isNull();
+        assertThat(registry.findTemplate(1)).isEqualTo(template(1));
+        verify(attendanceMapper, times(2)).selectWorkSystemTemplates();
+    }
+
+    @Test
+    @DisplayName("무효화 메시지: 자기 노드 메시지는 무시하고 다른 노드 메시지만 재적재")
+    void onMessage_selfIgnored_otherReloaded() {
+        // given
+        givenLoaded();
+        String nodeId = (String) ReflectionTestUtils.getField(registry, "nodeId");
+
+        // when
+        registry.onMessage(message(nodeId), null);
+
+        // then
+        verify(attendanceMapper, times(1)).selectWorkSystemTemplates();
+
+        // when
+        registry.onMessage(message("other-node"), null);
+
+        // then
+        verify(attendanceMapper, times(2)).selectWorkSystemTemplates();
+    }
+
+    @Test
+    @DisplayName("무효화 메시지 재적재 실패 시 기존 스냅샷 유지")
+    void onMessage_reloadFailure_keepsSnapshot() {
+        // given
+        givenLoaded();
+        when(attendanceMapper.selectWorkSystemTemplates()).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        assertThatCode(() -> registry.onMessage(message("other-node"), null)).doesNotThrowAnyException();
+
+        // then
+        assertThat(registry.findTemplate(1)).isEqualTo(template(1));
+    }
+
+    @Test
+    @DisplayName("근태 설정 저장 후 재적재하고 이 노드 식별자로 무효화 전파")
+    void onWorkSystemChanged_reloadsAndPublishesNodeId() {
+        // given
+        givenLoaded();
+        String nodeId = (String) ReflectionTestUtils.getField(registry, "nodeId");
+
+        // when
+        registry.onWorkSystemChanged(new WorkSystemChangedEvent());
+
+        // then
+        verify(attendanceMapper, times(2)).selectWorkSystemTemplates();
+        verify(redisTemplate).convertAndSend(WorkSystemRegistry.CHANNEL, nodeId);
+    }
+
+    @Test
+    @DisplayName("무효화 전파 실패는 저장 흐름에 영향 없음")
+    void onWorkSystemChanged_publishFailure_swallowed() {
+        // given
+        givenLoaded();
+        when(redisTemplate.convertAndSend(eq(WorkSystemRegistry.CHANNEL), anyString()))
+                .thenThrow(new RedisConnectionFailureException("down"));
+
+        // when & then
+        assertThatCode(() -> registry.onWorkSystemChanged(new WorkSystemChangedEvent()))
+                .doesNotThrowAnyException();
+    }
+}
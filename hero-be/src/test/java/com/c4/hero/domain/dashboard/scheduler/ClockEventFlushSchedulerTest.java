@@ -0,0 +1,190 @@
+package com.c4.hero.domain.dashboard.scheduler;
+
+import com.c4.hero.domain.dashboard.dto.ClockEventDTO;
+import com.c4.hero.domain.dashboard.service.ClockEventQueue;
+import com.c4.hero.domain.dashboard.service.ClockEventWriter;
+import com.c4.hero.domain.dashboard.service.DashboardCache;
+import com.c4.hero.domain.dashboard.service.DashboardWidget;
+import com.c4.hero.domain.notification.service.AttendanceNotificationEventService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * 출퇴근 이벤트 대기열 반영 스케줄러 테스트 (정상 반영 / 일시적 오류 재시도 / 실패 대기열 이동)
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClockEventFlushScheduler 단위 테스트")
+class ClockEventFlushSchedulerTest {
+
+    private static final LocalDate WORK_DATE = LocalDate.of(2026, 10, 17);
+
+    @Mock
+    private ClockEventQueue clockEventQueue;
+
+    @Mock
+    private ClockEventWriter clockEventWriter;
+
+    @Mock
+    private DashboardCache dashboardCache;
+
+    @Mock
+    private AttendanceNotificationEventService attendanceNotificationEventService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ClockEventFlushScheduler scheduler;
+
+    @BeforeEach
+    void setUp() {
+        scheduler = new ClockEventFlushScheduler(
+                clockEventQueue, clockEventWriter, objectMapper, dashboardCache, attendanceNotificationEventService);
+    }
+
+    private String clockIn(int employeeId) {
+        return objectMapper.writeValueAsString(new ClockEventDTO(
+                ClockEventDTO.CLOCK_IN, employeeId, 3, WORK_DATE, LocalTime.of(9, 5), 1, 1, null));
+    }
+
+    private String clockOut(int employeeId) {
+        return objectMapper.writeValueAsString(new ClockEventDTO(
+                ClockEventDTO.CLOCK_OUT, employeeId, null, WORK_DATE, LocalTime.of(18, 0), null, null, 480));
+    }
+
+    private ClockEventQueue.Claim givenClaim(String... events) {
+        ClockEventQueue.Claim claim = new ClockEventQueue.Claim("attendance:clock-events:claim:test", List.of(events));
+        when(clockEventQueue.claim(anyInt())).thenReturn(claim);
+        return claim;
+    }
+
+    private static List<ClockEventDTO> employees(Integer... employeeIds) {
+        return argThat(events -> events != null
+                && events.stream().map(ClockEventDTO::getEmployeeId).toList().equals(List.of(employeeIds)));
+    }
+
+    @Test
+    @DisplayName("정상 반영: 묶음 반영 후 ack, 캐시 무효화, 근태 알림")
+    void flush_success_ackAndNotify() {
+        // given
+        ClockEventQueue.Claim claim = givenClaim(clockIn(1), clockOut(2));
+
+        // when
+        scheduler.flush();
+
+        // then
+        verify(clockEventQueue).releaseStaleClaims();
+        verify(clockEventWriter).write(employees(1, 2));
+        verify(clockEventQueue).ack(claim);
+        verify(clockEventQueue, never()).release(any());
+        verify(clockEventQueue, never()).deadLetter(any());
+        verify(dashboardCache).evict(1, DashboardWidget.ATTENDANCE_WIDGETS);
+        verify(dashboardCache).evict(2, DashboardWidget.ATTENDANCE_WIDGETS);
+        verify(attendanceNotificationEventService).clockIn(1, WORK_DATE, LocalTime.of(9, 5), 1);
+        verify(attendanceNotificationEventService).clockOut(2);
+    }
+
+    @Test
+    @DisplayName("묶음 반영 중 일시적 오류: 묶음을 대기열로 되돌리고 다음 주기에 재시도")
+    void flush_transientError_released() {
+        // given
+        ClockEventQueue.Claim claim = givenClaim(clockIn(1), clockIn(2));
+        when(clockEventWriter.write(anyList())).thenThrow(new DataAccessResourceFailureException("connection refused"));
+
+        // when
+        scheduler.flush();
+
+        // then
+        verify(clockEventWriter, times(1)).write(anyList());
+        verify(clockEventQueue).release(claim);
+        verify(clockEventQueue, never()).ack(any());
+        verify(clockEventQueue, never()).deadLetter(any());
+        verifyNoInteractions(dashboardCache, attendanceNotificationEventService);
+    }
+
+    @Test
+    @DisplayName("묶음 반영 실패: 건별 재반영 후 실패 건만 실패 대기열로 이동")
+    void flush_chunkFailure_deadLettersFailedEventOnly() {
+        // given
+        String ok = clockIn(1);
+        String bad = clockIn(2);
+        ClockEventQueue.Claim claim = givenClaim(ok, bad);
+        when(clockEventWriter.write(employees(1, 2))).thenThrow(new DataIntegrityViolationException("fk"));
+        when(clockEventWriter.write(employees(1))).thenReturn(1);
+        when(clockEventWriter.write(employees(2))).thenThrow(new DataIntegrityViolationException("fk"));
+
+        // when
+        scheduler.flush();
+
+        // then
+        verify(clockEventQueue).deadLetter(bad);
+        verify(clockEventQueue, never()).deadLetter(ok);
+        verify(clockEventQueue).ack(claim);
+        verify(dashboardCache).evict(1, DashboardWidget.ATTENDANCE_WIDGETS);
+        verify(dashboardCache, never()).evict(eq(2), any());
+        verify(attendanceNotificationEventService).clockIn(eq(1), any(), any(), any());
+        verify(attendanceNotificationEventService, never()).clockIn(eq(2), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("건별 재반영 중 일시적 오류: 실패 대기열로 보내지 않고 묶음 전체를 되돌림")
+    void flush_transientErrorDuringRetry_released() {
+        // given
+        ClockEventQueue.Claim claim = givenClaim(clockIn(1), clockIn(2));
+        when(clockEventWriter.write(employees(1, 2))).thenThrow(new DataIntegrityViolationException("fk"));
+        when(clockEventWriter.write(employees(1))).thenThrow(new QueryTimeoutException("timeout"));
+
+        // when
+        scheduler.flush();
+
+        // then
+        verify(clockEventQueue).release(claim);
+        verify(clockEventQueue, never()).ack(any());
+        verify(clockEventQueue, never()).deadLetter(any());
+        verifyNoInteractions(attendanceNotificationEventService);
+    }
+
+    @Test
+    @DisplayName("역직렬화 실패 이벤트는 실패 대기열로 이동하고 나머지는 반영")
+    void flush_malformedEvent_deadLettered() {
+        // given
+        ClockEventQueue.Claim claim = givenClaim("{not-json", clockOut(2));
+
+        // when
+        scheduler.flush();
+
+        // then
+        verify(clockEventQueue).deadLetter("{not-json");
+        verify(clockEventWriter).write(employees(2));
+        verify(clockEventQueue).ack(claim);
+        verify(attendanceNotificationEventService).clockOut(2);
+    }
+
+    @Test
+    @DisplayName("대기열이 비었으면 반영 없이 종료")
+    void flush_emptyQueue_noop() {
+        // given
+        when(clockEventQueue.claim(anyInt())).thenReturn(new ClockEventQueue.Claim("attendance:clock-events:claim:empty", List.of()));
+
+        // when
+        scheduler.flush();
+
+        // then
+        verify(clockEventQueue, times(1)).claim(anyInt());
+        verify(clockEventQueue, never()).ack(any());
+        verifyNoInteractions(clockEventWriter, dashboardCache, attendanceNotificationEventService);
+    }
+}
@@ -0,0 +1,201 @@
+package com.c4.hero.domain.dashboard.service;
+
+import com.c4.hero.domain.dashboard.dto.ClockEventDTO;
+import com.c4.hero.domain.dashboard.dto.ClockStatusDTO;
+import com.c4.hero.domain.dashboard.mapper.DashboardMapper;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.utility.DockerImageName;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.*;
+
+/**
+ * 출퇴근 이벤트 대기열 묶음 소비(claim / ack / release) 테스트 (Redis 컨테이너)
+ * 소비 규칙이 Lua 스크립트에 있으므로 실제 Redis 로 검증, Docker 를 사용할 수 없는 환경에서는 건너뜀
+ */
+@DisplayName("ClockEventQueue 묶음 소비 테스트 (Redis)")
+class ClockEventQueueTest {
+
+    private static final int REDIS_PORT = 6379;
+    private static final LocalDate WORK_DATE = LocalDate.of(2026, 10, 17);
+
+    private static GenericContainer<?> redis;
+    private static LettuceConnectionFactory connectionFactory;
+    private static StringRedisTemplate redisTemplate;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private ClockEventQueue clockEventQueue;
+
+    @BeforeAll
+    static void startRedis() {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker 를 사용할 수 없어 Redis 테스트 생략");
+
+        redis = new GenericContainer<>(DockerImageName.parse("redis:7-alpine")).withExposedPorts(REDIS_PORT);
+        redis.start();
+
+        connectionFactory = new LettuceConnectionFactory(
+                new RedisStandaloneConfiguration(redis.getHost(), redis.getMappedPort(REDIS_PORT)));
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+        redisTemplate = new StringRedisTemplate(connectionFactory);
+    }
+
+    @AfterAll
+    static void stopRedis() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+        if (redis != null) {
+            redis.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        redisTemplate.execute(connection -> {
+            connection.serverCommands().flushAll();
+            return null;
+        }, true);
+        clockEventQueue = new ClockEventQueue(redisTemplate, mock(DashboardMapper.class), objectMapper);
+    }
+
+    private void enqueue(String... events) {
+        redisTemplate.opsForList().rightPushAll(ClockEventQueue.EVENT_QUEUE_KEY, events);
+    }
+
+    private List<String> queued() {
+        return redisTemplate.opsForList().range(ClockEventQueue.EVENT_QUEUE_KEY, 0, -1);
+    }
+
+    @Test
+    @DisplayName("claim: 대기열 앞쪽 이벤트를 순서대로 묶음 키로 이동하고 반영 중 목록에 등록")
+    void claim_movesHeadEvents() {
+        // given
+        enqueue("e1", "e2", "e3");
+
+        // when
+        ClockEventQueue.Claim claim = clockEventQueue.claim(2);
+
+        // then
+        assertThat(claim.events()).containsExactly("e1", "e2");
+        assertThat(queued()).containsExactly("e3");
+        assertThat(redisTemplate.opsForList().range(claim.key(), 0, -1)).containsExactly("e1", "e2");
+        assertThat(redisTemplate.opsForZSet().score(ClockEventQueue.CLAIMS_KEY, claim.key())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("claim: 연속으로 가져간 묶음끼리 이벤트가 겹치지 않음")
+    void claim_twice_noOverlap() {
+        // given
+        enqueue("e1", "e2", "e3");
+
+        // when
+        ClockEventQueue.Claim first = clockEventQueue.claim(2);
+        ClockEventQueue.Claim second = clockEventQueue.claim(2);
+        ClockEventQueue.Claim empty = clockEventQueue.claim(2);
+
+        // then
+        assertThat(first.events()).containsExactly("e1", "e2");
+        assertThat(second.events()).containsExactly("e3");
+        assertThat(empty.events()).isEmpty();
+        assertThat(redisTemplate.opsForZSet().size(ClockEventQueue.CLAIMS_KEY)).isEqualTo(2);
+    }
+
+    @Test
+    @DisplayName("ack: 반영을 마친 묶음 키와 반영 중 목록 항목 삭제")
+    void ack_deletesClaim() {
+        // given
+        enqueue("e1", "e2");
+        ClockEventQueue.Claim claim = clockEventQueue.claim(10);
+
+        // when
+        clockEventQueue.ack(claim);
+
+        // then
+        assertThat(redisTemplate.hasKey(claim.key())).isFalse();
+        assertThat(redisTemplate.opsForZSet().size(ClockEventQueue.CLAIMS_KEY)).isZero();
+        assertThat(queued()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("release: 묶음 이벤트를 원래 순서대로 대기열 앞으로 되돌림")
+    void release_restoresOrderAtHead() {
+        // given
+        enqueue("e1", "e2", "e3");
+        ClockEventQueue.Claim claim = clockEventQueue.claim(2);
+        enqueue("e4");
+
+        // when
+        clockEventQueue.release(claim);
+
+        // then
+        assertThat(queued()).containsExactly("e1", "e2", "e3", "e4");
+        assertThat(redisTemplate.hasKey(claim.key())).isFalse();
+        assertThat(redisTemplate.opsForZSet().size(ClockEventQueue.CLAIMS_KEY)).isZero();
+    }
+
+    @Test
+    @DisplayName("releaseStaleClaims: CLAIM_TIMEOUT 이 지난 묶음만 되돌림")
+    void releaseStaleClaims_onlyTimedOut() {
+        // given
+        enqueue("e1", "e2", "e3");
+        ClockEventQueue.Claim stale = clockEventQueue.claim(2);
+        ClockEventQueue.Claim fresh = clockEventQueue.claim(1);
+        long claimedAt = System.currentTimeMillis() - ClockEventQueue.CLAIM_TIMEOUT.toMillis() - 1_000;
+        redisTemplate.opsForZSet().add(ClockEventQueue.CLAIMS_KEY, stale.key(), claimedAt);
+
+        // when
+        long released = clockEventQueue.releaseStaleClaims();
+
+        // then
+        assertThat(released).isEqualTo(2);
+        assertThat(queued()).containsExactly("e1", "e2");
+        assertThat(redisTemplate.opsForList().range(fresh.key(), 0, -1)).containsExactly("e3");
+        assertThat(redisTemplate.opsForZSet().score(ClockEventQueue.CLAIMS_KEY, fresh.key())).isNotNull();
+    }
+
+    @Test
+    @DisplayName("offerClockIn: 같은 사원 중복 출근은 거부하고 대기열에 한 번만 적재")
+    void offerClockIn_duplicateRejected() {
+        // given
+        ClockStatusDTO status = new ClockStatusDTO(
+                null, WORK_DATE, LocalTime.of(9, 0), null, "NORMAL", true, false, null, 1);
+        ClockEventDTO event = new ClockEventDTO(
+                ClockEventDTO.CLOCK_IN, 7, 3, WORK_DATE, LocalTime.of(9, 0), 1, 1, null);
+
+        // when
+        boolean first = clockEventQueue.offerClockIn(status, event);
+        boolean duplicate = clockEventQueue.offerClockIn(status, event);
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(duplicate).isFalse();
+        assertThat(queued()).hasSize(1);
+        assertThat(clockEventQueue.findStatusJson(7, WORK_DATE)).isNotNull();
+    }
+
+    @Test
+    @DisplayName("deadLetter: 실패 이벤트를 실패 대기열에 보관")
+    void deadLetter_appends() {
+        // when
+        clockEventQueue.deadLetter("bad");
+
+        // then
+        assertThat(redisTemplate.opsForList().range(ClockEventQueue.DEAD_LETTER_KEY, 0, -1)).containsExactly("bad");
+    }
+}
@@ -0,0 +1,200 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.batch.repository.PayrollBatchJobRepository;
+import com.c4.hero.domain.payroll.common.type.PayrollJobStatus;
+import com.c4.hero.domain.payroll.common.type.PayrollJobType;
+import net.javacrumbs.shedlock.core.LockConfiguration;
+import net.javacrumbs.shedlock.core.LockProvider;
+import net.javacrumbs.shedlock.core.SimpleLock;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * <pre>
+ * Class Name: PayrollBatchJobRunnerTest
+ * Description: 급여 배치 작업 실행기 재개 테스트 (노드 재기동 후 QUEUED/RUNNING 작업 재개)
+ *
+ * History
+ *   2026/10/17 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("급여 배치 작업 실행기 재개 테스트")
+class PayrollBatchJobRunnerTest {
+
+    private static final long TIMEOUT_MS = 2_000;
+
+    @Mock
+    private PayrollBatchJobRepository jobRepository;
+
+    @Mock
+    private PayrollBatchJobTxService jobTxService;
+
+    @Mock
+    private PayrollBatchService batchService;
+
+    @Mock
+    private LockProvider lockProvider;
+
+    @Mock
+    private SimpleLock lock;
+
+    private PayrollBatchJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        // 재기동된 노드의 새 실행기 (이전 노드의 디스패치 기록 없음)
+        runner = new PayrollBatchJobRunner(
+                jobRepository, jobTxService, batchService, lockProvider, 2, Duration.ofMinutes(30)
+        );
+    }
+
+    @AfterEach
+    void tearDown() {
+        runner.shutdown();
+    }
+
+    private PayrollBatchJob job(Integer jobId, Integer batchId, PayrollJobType jobType, PayrollJobStatus status) {
+        PayrollBatchJob job = PayrollBatchJob.queued(batchId, jobType, List.of(1, 2, 3), 2, false, 1);
+        ReflectionTestUtils.setField(job, "jobId", jobId);
+        ReflectionTestUtils.setField(job, "status", status);
+        return job;
+    }
+
+    private void givenActiveJobs(PayrollBatchJob... jobs) {
+        when(jobRepository.findAllByStatusInOrderByJobIdAsc(PayrollBatchJobService.ACTIVE_STATUSES))
+                .thenReturn(List.of(jobs));
+    }
+
+    private void givenStarted(PayrollBatchJob job) {
+        when(jobTxService.start(job.getJobId())).thenAnswer(invocation -> {
+            job.start();
+            return Optional.of(job);
+        });
+    }
+
+    @Test
+    @DisplayName("재기동 후 점검: QUEUED / RUNNING 작업을 배치 락 획득 후 재개")
+    void resumePendingJobs_resumesQueuedAndRunning() {
+        // Given
+        PayrollBatchJob queued = job(1, 10, PayrollJobType.CALCULATE, PayrollJobStatus.QUEUED);
+        PayrollBatchJob running = job(2, 20, PayrollJobType.CONFIRM, PayrollJobStatus.RUNNING);
+        givenActiveJobs(queued, running);
+        when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+        givenStarted(queued);
+        givenStarted(running);
+        when(batchService.confirm(20, 1)).thenReturn(3);
+
+        AtomicReference<List<String>> authorities = new AtomicReference<>();
+        doAnswer(invocation -> {
+            authorities.set(SecurityContextHolder.getContext().getAuthentication().getAuthorities().stream()
+                    .map(GrantedAuthority::getAuthority)
+                    .toList());
+            return null;
+        }).when(batchService).runCalculation(queued);
+
+        // When
+        runner.resumePendingJobs();
+
+        // Then
+        verify(jobTxService, timeout(TIMEOUT_MS)).completeCalculation(1);
+        verify(jobTxService, timeout(TIMEOUT_MS)).complete(2, 3, 3, 0);
+        verify(lock, timeout(TIMEOUT_MS).times(2)).unlock();
+
+        ArgumentCaptor<LockConfiguration> captor = ArgumentCaptor.forClass(LockConfiguration.class);
+        verify(lockProvider, times(2)).lock(captor.capture());
+        assertThat(captor.getAllValues())
+                .extracting(LockConfiguration::getName)
+                .containsExactlyInAnyOrder("payroll-batch-10", "payroll-batch-20");
+        assertThat(authorities.get()).containsExactly("ROLE_HR_PAYROLL");
+        assertThat(running.getAttemptCount()).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("실행 중인 작업은 다음 점검 주기에 다시 디스패치되지 않음 (1회만 재개)")
+    void resumePendingJobs_inFlightJob_dispatchedOnce() throws InterruptedException {
+        // Given
+        PayrollBatchJob running = job(1, 10, PayrollJobType.CALCULATE, PayrollJobStatus.RUNNING);
+        givenActiveJobs(running);
+        when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+        givenStarted(running);
+
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        doAnswer(invocation -> {
+            started.countDown();
+            release.await(TIMEOUT_MS, TimeUnit.MILLISECONDS);
+            return null;
+        }).when(batchService).runCalculation(running);
+
+        // When
+        runner.resumePendingJobs();
+        assertThat(started.await(TIMEOUT_MS, TimeUnit.MILLISECONDS)).isTrue();
+        runner.resumePendingJobs();
+        runner.resumePendingJobs();
+        release.countDown();
+
+        // Then
+        verify(jobTxService, timeout(TIMEOUT_MS)).completeCalculation(1);
+        verify(lock, timeout(TIMEOUT_MS)).unlock();
+        verify(lockProvider, times(1)).lock(any());
+        verify(jobTxService, times(1)).start(1);
+        verify(batchService, times(1)).runCalculation(running);
+    }
+
+    @Test
+    @DisplayName("다른 노드가 배치 락을 보유 중이면 작업을 시작하지 않음")
+    void resumePendingJobs_lockHeldElsewhere_skipped() {
+        // Given
+        givenActiveJobs(job(1, 10, PayrollJobType.CALCULATE, PayrollJobStatus.RUNNING));
+        when(lockProvider.lock(any())).thenReturn(Optional.empty());
+
+        // When
+        runner.resumePendingJobs();
+
+        // Then
+        verify(lockProvider, timeout(TIMEOUT_MS)).lock(any());
+        verify(jobTxService, after(200).never()).start(any());
+        verifyNoInteractions(batchService);
+    }
+
+    @Test
+    @DisplayName("락 획득 전에 다른 노드가 종료시킨 작업은 실행하지 않고 락만 해제")
+    void resumePendingJobs_alreadyFinished_unlockOnly() {
+        // Given
+        givenActiveJobs(job(1, 10, PayrollJobType.PAY, PayrollJobStatus.RUNNING));
+        when(lockProvider.lock(any())).thenReturn(Optional.of(lock));
+        when(jobTxService.start(1)).thenReturn(Optional.empty());
+
+        // When
+        runner.resumePendingJobs();
+
+        // Then
+        verify(lock, timeout(TIMEOUT_MS)).unlock();
+        verifyNoInteractions(batchService);
+        verify(jobTxService, never()).fail(any(), any());
+    }
+}
@@ -0,0 +1,139 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatchJob;
+import com.c4.hero.domain.payroll.common.type.PayrollJobType;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.service.BatchPolicySnapshotService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * <pre>
+ * Class Name: PayrollCalculationServiceTest
+ * Description: 급여 배치 청크 분할 / 청크 롤백 시 사원 단위 재처리 테스트
+ *
+ * History
+ *   2026/10/17 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("급여 배치 계산 서비스 테스트")
+class PayrollCalculationServiceTest {
+
+    private static final String MONTH = "2026-10";
+    private static final Integer BATCH_ID = 7;
+    private static final Integer JOB_ID = 70;
+
+    @Mock
+    private PayrollEmployeeCalculateTxService employeeTxService;
+
+    @Mock
+    private PayrollBatchJobTxService jobTxService;
+
+    @Mock
+    private PayrollInputSnapshotLoader inputSnapshotLoader;
+
+    @Mock
+    private BatchPolicySnapshotService policySnapshotService;
+
+    private PayrollCalculationService calculationService;
+    private PayrollBatch batch;
+    private PayrollInputSnapshot snapshot;
+    private CompiledPayrollPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        calculationService = new PayrollCalculationService(
+                employeeTxService, jobTxService, inputSnapshotLoader, policySnapshotService, 2
+        );
+        batch = PayrollBatch.create(MONTH, 1);
+        ReflectionTestUtils.setField(batch, "batchId", BATCH_ID);
+        snapshot = new PayrollInputSnapshot(MONTH, Map.of());
+        policy = CompiledPayrollPolicy.empty(MONTH);
+    }
+
+    @AfterEach
+    void tearDown() {
+        calculationService.shutdown();
+    }
+
+    private PayrollBatchJob job(List<Integer> employeeIds, int chunkSize) {
+        PayrollBatchJob job = PayrollBatchJob.queued(BATCH_ID, PayrollJobType.CALCULATE, employeeIds, chunkSize, false, 1);
+        ReflectionTestUtils.setField(job, "jobId", JOB_ID);
+        return job;
+    }
+
+    @Test
+    @DisplayName("청크 트랜잭션이 롤백되면 해당 청크 사원만 calculateOne 으로 재처리 후 체크포인트 저장")
+    void chunkFailure_fallsBackToCalculateOne() {
+        // Given
+        when(inputSnapshotLoader.load(MONTH, List.of(1, 2, 3, 4, 5))).thenReturn(snapshot);
+        when(policySnapshotService.getPolicy(BATCH_ID, MONTH)).thenReturn(policy);
+        when(employeeTxService.calculateChunk(any(), any(), anyInt(), any(), any(), any(), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    int chunkNo = invocation.getArgument(2);
+                    if (chunkNo == 1) throw new IllegalStateException("deadlock");
+                    List<Integer> empIds = invocation.getArgument(3);
+                    return new PayrollEmployeeCalculateTxService.ChunkResult(empIds.size(), 0, 0);
+                });
+        when(employeeTxService.calculateOne(batch, 3, snapshot, policy)).thenReturn(true);
+        when(employeeTxService.calculateOne(batch, 4, snapshot, policy)).thenReturn(false);
+
+        // When
+        calculationService.calculateEmployees(batch, job(List.of(1, 2, 3, 4, 5), 2), Set.of()).join();
+
+        // Then
+        verify(employeeTxService).calculateChunk(batch, JOB_ID, 0, List.of(1, 2), snapshot, policy, false);
+        verify(employeeTxService).calculateChunk(batch, JOB_ID, 1, List.of(3, 4), snapshot, policy, false);
+        verify(employeeTxService).calculateChunk(batch, JOB_ID, 2, List.of(5), snapshot, policy, false);
+        verify(employeeTxService).calculateOne(batch, 3, snapshot, policy);
+        verify(employeeTxService).calculateOne(batch, 4, snapshot, policy);
+        verify(employeeTxService, times(2)).calculateOne(any(), any(), any(), any());
+        // 정상 청크의 체크포인트는 청크 트랜잭션 안에서 저장되므로 재처리 청크만 호출 측에서 저장
+        verify(jobTxService).saveCheckpoint(JOB_ID, 1, 1, 1, 0);
+        verifyNoMoreInteractions(jobTxService);
+    }
+
+    @Test
+    @DisplayName("체크포인트가 있는 청크는 건너뛰고 남은 청크 사원만 선조회")
+    void completedChunks_skipped() {
+        // Given
+        when(inputSnapshotLoader.load(MONTH, List.of(3, 4, 5))).thenReturn(snapshot);
+        when(policySnapshotService.getPolicy(BATCH_ID, MONTH)).thenReturn(policy);
+
+        // When
+        calculationService.calculateEmployees(batch, job(List.of(1, 2, 3, 4, 5), 2), Set.of(0)).join();
+
+        // Then
+        verify(employeeTxService, never()).calculateChunk(any(), any(), eq(0), any(), any(), any(), anyBoolean());
+        verify(employeeTxService).calculateChunk(batch, JOB_ID, 1, List.of(3, 4), snapshot, policy, false);
+        verify(employeeTxService).calculateChunk(batch, JOB_ID, 2, List.of(5), snapshot, policy, false);
+        verify(employeeTxService, never()).calculateOne(any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("모든 청크가 완료된 작업은 선조회 없이 즉시 완료")
+    void allChunksCompleted_noLoad() {
+        // When
+        calculationService.calculateEmployees(batch, job(List.of(1, 2, 3), 2), Set.of(0, 1)).join();
+
+        // Then
+        verifyNoInteractions(inputSnapshotLoader, policySnapshotService, employeeTxService, jobTxService);
+    }
+}
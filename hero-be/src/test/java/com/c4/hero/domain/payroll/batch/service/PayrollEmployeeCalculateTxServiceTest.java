@@ -1,109 +1,272 @@
-//package com.c4.hero.domain.payroll.batch.service;
-//
-//import com.c4.hero.common.exception.BusinessException;
-//import com.c4.hero.domain.payroll.batch.entity.Payroll;
-//import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
-//import com.c4.hero.domain.payroll.batch.repository.PayrollItemRepository;
-//import com.c4.hero.domain.payroll.batch.repository.PayrollRepository;
-//import com.c4.hero.domain.payroll.integration.attendance.service.PayrollAttendanceService;
-//import org.junit.jupiter.api.DisplayName;
-//import org.junit.jupiter.api.Test;
-//import org.junit.jupiter.api.extension.ExtendWith;
-//
-//import org.mockito.InjectMocks;
-//import org.mockito.Mock;
-//import org.mockito.junit.jupiter.MockitoExtension;
-//
-//import java.util.Optional;
-//
-//import static org.mockito.ArgumentMatchers.any;
-//import static org.mockito.ArgumentMatchers.eq;
-//import static org.mockito.Mockito.atLeastOnce;
-//import static org.mockito.Mockito.doReturn;
-//import static org.mockito.Mockito.mock;
-//import static org.mockito.Mockito.never;
-//import static org.mockito.Mockito.spy;
-//import static org.mockito.Mockito.verify;
-//import static org.mockito.Mockito.when;
-//@ExtendWith(MockitoExtension.class)
-//@DisplayName("사원 단위 급여 계산 TX 서비스 테스트")
-//class PayrollEmployeeCalculateTxServiceTest {
-//
-//    @Mock PayrollRepository payrollRepository;
-//    @Mock PayrollItemRepository payrollItemRepository;
-//    @Mock PayrollAttendanceService attendanceService;
-//
-//    @InjectMocks PayrollEmployeeCalculateTxService txService;
-//
-//    @Test
-//    @DisplayName("정상 계산: Payroll 저장 + 연장근무수당 항목 갱신")
-//    void calculateOne_success_saveCalculatedAndUpsertItem() {
-//        // given (준비 단계)
-//        PayrollBatch batch = PayrollBatch.create("2025-12");
-//
-//        when(attendanceService.getBaseSalary(10)).thenReturn(3_000_000);
-//        when(attendanceService.calculateOvertime("2025-12", 10)).thenReturn(120_000);
-//
-//        when(payrollRepository.findByEmployeeIdAndSalaryMonth(10, "2025-12"))
-//                .thenReturn(Optional.empty());
-//        when(payrollRepository.save(any(Payroll.class)))
-//                .thenAnswer(invocation -> invocation.getArgument(0));
-//
-//        // when
-//        txService.calculateOne(batch, 10);
-//
-//        // then
-//        verify(payrollRepository).save(any(Payroll.class));
-//        verify(payrollItemRepository).deleteByPayrollIdAndItemTypeAndItemCode(
-//                any(),
-//                eq("ALLOWANCE"),
-//                eq("OVERTIME")
-//        );
-//        verify(payrollItemRepository).save(any());
-//    }
-//
-//
-//    @Test
-//    @DisplayName("근태 계산 중 BusinessException 발생: FAILED로 저장한다(락 상태 아니면)")
-//    void calculateOne_businessException_saveFailed() {
-//        PayrollBatch batch = PayrollBatch.create("2025-12");
-//        PayrollBatch spyBatch = spy(batch);
-//        doReturn(1).when(spyBatch).getBatchId();
-//
-//        when(attendanceService.getBaseSalary(11)).thenReturn(3_000_000);
-//        when(attendanceService.calculateOvertime("2025-12", 11))
-//                .thenThrow(mock(BusinessException.class));
-//
-//        when(payrollRepository.findByEmployeeIdAndSalaryMonth(11, "2025-12"))
-//                .thenReturn(Optional.empty());
-//
-//        when(payrollRepository.save(any(Payroll.class))).thenAnswer(inv -> inv.getArgument(0));
-//
-//        txService.calculateOne(spyBatch, 11);
-//
-//        verify(payrollRepository, atLeastOnce()).save(any(Payroll.class));
-//        verify(payrollItemRepository, never()).save(any());
-//    }
-//
-//    @Test
-//    @DisplayName("이미 CONFIRMED(락)된 Payroll이면 DB 저장/항목 저장을 스킵한다")
-//    void calculateOne_lockedPayroll_skip() {
-//        // given
-//        PayrollBatch batch = PayrollBatch.create("2025-12");
-//
-//        Payroll locked = Payroll.ready(10, 1, "2025-12");
-//        locked.lock();
-//
-//        when(payrollRepository.findByEmployeeIdAndSalaryMonth(10, "2025-12"))
-//                .thenReturn(Optional.of(locked));
-//
-//        // when
-//        txService.calculateOne(batch, 10);
-//
-//        // then
-//        // 이미 락된 급여는 DB에 다시 저장되거나 항목이 갱신되지 않는지만 검증
-//        verify(payrollRepository, never()).save(any());
-//        verify(payrollItemRepository, never()).save(any());
-//    }
-//
-//}
\ No newline at end of file
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
+import com.c4.hero.domain.payroll.batch.entity.Payroll;
+import com.c4.hero.domain.payroll.batch.entity.PayrollBatch;
+import com.c4.hero.domain.payroll.batch.repository.PayrollItemRepository;
+import com.c4.hero.domain.payroll.batch.repository.PayrollRepository;
+import com.c4.hero.domain.payroll.common.type.PayrollStatus;
+import com.c4.hero.domain.payroll.integration.attendance.service.PayrollAttendanceService;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicySnapshotDTO;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * <pre>
+ * Class Name: PayrollEmployeeCalculateTxServiceTest
+ * Description: 사원 단위 급여 계산 트랜잭션 서비스 테스트 (청크 계산 / 단일 사원 계산)
+ *
+ * History
+ *   2025/12/18 - 동근 테스트 추가
+ *   2026/10/17 - 동근 청크 계산 / 스냅샷 기반 계산 구조에 맞게 재작성
+ *   2026/10/17 - 동근 증분 재계산(입력값 지문) 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.2
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사원 단위 급여 계산 TX 서비스 테스트")
+class PayrollEmployeeCalculateTxServiceTest {
+
+    private static final String MONTH = "2026-10";
+    private static final Integer BATCH_ID = 7;
+    private static final Integer JOB_ID = 70;
+
+    @Mock
+    private PayrollRepository payrollRepository;
+
+    @Mock
+    private PayrollItemRepository payrollItemRepository;
+
+    @Mock
+    private PayrollAttendanceService attendanceService;
+
+    @Mock
+    private PayrollBatchJobTxService jobTxService;
+
+    @InjectMocks
+    private PayrollEmployeeCalculateTxService txService;
+
+    private PayrollBatch batch;
+    private CompiledPayrollPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        batch = PayrollBatch.create(MONTH, 1);
+        ReflectionTestUtils.setField(batch, "batchId", BATCH_ID);
+        policy = CompiledPayrollPolicy.empty(MONTH);
+    }
+
+    private PayrollEmployeeInputDTO input(int employeeId, int baseSalary) {
+        return new PayrollEmployeeInputDTO(employeeId, 1, 1, baseSalary, null, 20, 9600, 0);
+    }
+
+    private PayrollInputSnapshot snapshot(PayrollEmployeeInputDTO... inputs) {
+        Map<Integer, PayrollEmployeeInputDTO> map = new HashMap<>();
+        for (PayrollEmployeeInputDTO input : inputs) {
+            map.put(input.employeeId(), input);
+        }
+        return new PayrollInputSnapshot(MONTH, map);
+    }
+
+    private Payroll lockedPayroll(int employeeId) {
+        Payroll payroll = Payroll.calculated(employeeId, BATCH_ID, MONTH, 3_000_000, 0, 0, 0);
+        payroll.lock();
+        return payroll;
+    }
+
+    private Payroll calculatedPayroll(PayrollEmployeeInputDTO input, CompiledPayrollPolicy calculatedWith) {
+        Payroll payroll = Payroll.calculated(input.employeeId(), BATCH_ID, MONTH, input.baseSalary(), 0, 0, 0);
+        payroll.recordInputFingerprint(PayrollInputFingerprint.of(input, calculatedWith));
+        return payroll;
+    }
+
+    private CompiledPayrollPolicy policy(String fingerprint) {
+        return CompiledPayrollPolicy.compile(new PayrollPolicySnapshotDTO(1, MONTH, fingerprint, Map.of(), List.of()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Payroll> capturedSaveAll() {
+        ArgumentCaptor<List<Payroll>> captor = ArgumentCaptor.forClass(List.class);
+        verify(payrollRepository).saveAll(captor.capture());
+        return captor.getValue();
+    }
+
+    @Test
+    @DisplayName("청크 계산: 확정(CONFIRMED)된 급여는 계산/저장 없이 완료로 집계")
+    void calculateChunk_lockedPayroll_skipped() {
+        // Given
+        Payroll locked = lockedPayroll(1);
+        when(payrollRepository.findAllByEmployeeIdInAndSalaryMonth(List.of(1, 2), MONTH))
+                .thenReturn(List.of(locked));
+        when(attendanceService.calculateOvertime(3_000_000, 20, 9600)).thenReturn(0);
+
+        // When
+        PayrollEmployeeCalculateTxService.ChunkResult result = txService.calculateChunk(
+                batch, JOB_ID, 0, List.of(1, 2), snapshot(input(1, 3_000_000), input(2, 3_000_000)), policy, false
+        );
+
+        // Then
+        assertThat(result).isEqualTo(new PayrollEmployeeCalculateTxService.ChunkResult(2, 0, 0));
+        assertThat(locked.getStatus()).isEqualTo(PayrollStatus.CONFIRMED);
+        assertThat(capturedSaveAll())
+                .extracting(Payroll::getEmployeeId)
+                .containsExactly(2);
+        verify(attendanceService, times(1)).calculateOvertime(anyInt(), anyInt(), anyInt());
+        verify(jobTxService).saveCheckpoint(JOB_ID, 0, 2, 0, 0);
+    }
+
+    @Test
+    @DisplayName("청크 계산: 전원 확정이면 항목 삭제/재생성 없이 체크포인트만 저장")
+    void calculateChunk_allLocked_noItemReplace() {
+        // Given
+        when(payrollRepository.findAllByEmployeeIdInAndSalaryMonth(List.of(1, 2), MONTH))
+                .thenReturn(List.of(lockedPayroll(1), lockedPayroll(2)));
+
+        // When
+        PayrollEmployeeCalculateTxService.ChunkResult result = txService.calculateChunk(
+                batch, JOB_ID, 3, List.of(1, 2), snapshot(), policy, false
+        );
+
+        // Then
+        assertThat(result.done()).isEqualTo(2);
+        assertThat(capturedSaveAll()).isEmpty();
+        verifyNoInteractions(attendanceService, payrollItemRepository);
+        verify(jobTxService).saveCheckpoint(JOB_ID, 3, 2, 0, 0);
+    }
+
+    @Test
+    @DisplayName("단일 사원 계산: 확정(CONFIRMED)된 급여는 저장하지 않고 성공 처리")
+    void calculateOne_lockedPayroll_skipped() {
+        // Given
+        when(payrollRepository.findByEmployeeIdAndSalaryMonth(1, MONTH))
+                .thenReturn(Optional.of(lockedPayroll(1)));
+
+        // When
+        boolean ok = txService.calculateOne(batch, 1, snapshot(input(1, 3_000_000)), policy);
+
+        // Then
+        assertThat(ok).isTrue();
+        verify(payrollRepository, never()).save(any());
+        verifyNoInteractions(attendanceService, payrollItemRepository);
+    }
+
+    @Test
+    @DisplayName("단일 사원 계산: 시스템 오류는 해당 사원만 FAILED 로 저장")
+    void calculateOne_systemError_savedAsFailed() {
+        // Given
+        when(payrollRepository.findByEmployeeIdAndSalaryMonth(1, MONTH)).thenReturn(Optional.empty());
+        when(attendanceService.calculateOvertime(anyInt(), anyInt(), anyInt()))
+                .thenThrow(new IllegalStateException("boom"));
+
+        // When
+        boolean ok = txService.calculateOne(batch, 1, snapshot(input(1, 3_000_000)), policy);
+
+        // Then
+        assertThat(ok).isFalse();
+        ArgumentCaptor<Payroll> captor = ArgumentCaptor.forClass(Payroll.class);
+        verify(payrollRepository).save(captor.capture());
+        assertThat(captor.getValue().getStatus()).isEqualTo(PayrollStatus.FAILED);
+        assertThat(captor.getValue().getErrorMessage()).isEqualTo("시스템 오류로 계산에 실패했습니다.");
+    }
+
+    @Test
+    @DisplayName("증분 재계산: 입력값/정책 지문이 같으면 계산/저장 없이 스킵")
+    void calculateChunk_incremental_unchanged_skipped() {
+        // Given
+        PayrollEmployeeInputDTO input = input(1, 3_000_000);
+        CompiledPayrollPolicy current = policy("fp-a");
+        when(payrollRepository.findAllByEmployeeIdInAndSalaryMonth(List.of(1), MONTH))
+                .thenReturn(List.of(calculatedPayroll(input, current)));
+
+        // When
+        PayrollEmployeeCalculateTxService.ChunkResult result = txService.calculateChunk(
+                batch, JOB_ID, 0, List.of(1), snapshot(input), current, true
+        );
+
+        // Then
+        assertThat(result).isEqualTo(new PayrollEmployeeCalculateTxService.ChunkResult(1, 0, 1));
+        assertThat(capturedSaveAll()).isEmpty();
+        verifyNoInteractions(attendanceService, payrollItemRepository);
+        verify(jobTxService).saveCheckpoint(JOB_ID, 0, 1, 0, 1);
+    }
+
+    @Test
+    @DisplayName("증분 재계산: 정책이 바뀌면 입력값이 같아도 재계산 후 지문 갱신")
+    void calculateChunk_incremental_policyChanged_recalculated() {
+        // Given
+        PayrollEmployeeInputDTO input = input(1, 3_000_000);
+        CompiledPayrollPolicy current = policy("fp-b");
+        Payroll payroll = calculatedPayroll(input, policy("fp-a"));
+        when(payrollRepository.findAllByEmployeeIdInAndSalaryMonth(List.of(1), MONTH)).thenReturn(List.of(payroll));
+        when(attendanceService.calculateOvertime(3_000_000, 20, 9600)).thenReturn(0);
+
+        // When
+        PayrollEmployeeCalculateTxService.ChunkResult result = txService.calculateChunk(
+                batch, JOB_ID, 0, List.of(1), snapshot(input), current, true
+        );
+
+        // Then
+        assertThat(result).isEqualTo(new PayrollEmployeeCalculateTxService.ChunkResult(1, 0, 0));
+        assertThat(capturedSaveAll()).containsExactly(payroll);
+        assertThat(payroll.getInputFingerprint()).isEqualTo(PayrollInputFingerprint.of(input, current));
+        verify(jobTxService).saveCheckpoint(JOB_ID, 0, 1, 0, 0);
+    }
+
+    @Test
+    @DisplayName("증분 재계산: 입력값(기본급)이 바뀌면 재계산")
+    void calculateChunk_incremental_inputChanged_recalculated() {
+        // Given
+        CompiledPayrollPolicy current = policy("fp-a");
+        Payroll payroll = calculatedPayroll(input(1, 3_000_000), current);
+        when(payrollRepository.findAllByEmployeeIdInAndSalaryMonth(List.of(1), MONTH)).thenReturn(List.of(payroll));
+        when(attendanceService.calculateOvertime(3_200_000, 20, 9600)).thenReturn(0);
+
+        // When
+        PayrollEmployeeCalculateTxService.ChunkResult result = txService.calculateChunk(
+                batch, JOB_ID, 0, List.of(1), snapshot(input(1, 3_200_000)), current, true
+        );
+
+        // Then
+        assertThat(result.skipped()).isZero();
+        assertThat(payroll.getBaseSalary()).isEqualTo(3_200_000);
+        assertThat(capturedSaveAll()).containsExactly(payroll);
+    }
+
+    @Test
+    @DisplayName("전체 재계산: 지문이 같아도 증분 모드가 아니면 재계산")
+    void calculateChunk_full_unchanged_recalculated() {
+        // Given
+        PayrollEmployeeInputDTO input = input(1, 3_000_000);
+        CompiledPayrollPolicy current = policy("fp-a");
+        Payroll payroll = calculatedPayroll(input, current);
+        when(payrollRepository.findAllByEmployeeIdInAndSalaryMonth(List.of(1), MONTH)).thenReturn(List.of(payroll));
+        when(attendanceService.calculateOvertime(3_000_000, 20, 9600)).thenReturn(0);
+
+        // When
+        PayrollEmployeeCalculateTxService.ChunkResult result = txService.calculateChunk(
+                batch, JOB_ID, 0, List.of(1), snapshot(input), current, false
+        );
+
+        // Then
+        assertThat(result).isEqualTo(new PayrollEmployeeCalculateTxService.ChunkResult(1, 0, 0));
+        assertThat(capturedSaveAll()).containsExactly(payroll);
+    }
+}
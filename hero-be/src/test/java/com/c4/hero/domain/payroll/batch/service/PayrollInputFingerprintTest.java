@@ -0,0 +1,84 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
+import com.c4.hero.domain.payroll.policy.engine.CompiledPayrollPolicy;
+import com.c4.hero.domain.payroll.policy.engine.PayrollPolicySnapshotDTO;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: PayrollInputFingerprintTest
+ * Description: 급여 계산 입력값 지문 테스트 (증분 재계산 변경 감지)
+ *
+ * History
+ *   2026/10/17 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@DisplayName("급여 계산 입력값 지문 테스트")
+class PayrollInputFingerprintTest {
+
+    private static final PayrollEmployeeInputDTO INPUT =
+            new PayrollEmployeeInputDTO(1, 10, 20, 3_000_000, null, 21, 10_080, 0);
+
+    private static CompiledPayrollPolicy policy(Integer policyId, String fingerprint) {
+        return CompiledPayrollPolicy.compile(
+                new PayrollPolicySnapshotDTO(policyId, "2026-10", fingerprint, Map.of(), List.of())
+        );
+    }
+
+    @Test
+    @DisplayName("입력값과 정책이 같으면 지문이 같음")
+    void sameInput_sameFingerprint() {
+        // Given
+        PayrollEmployeeInputDTO copy = new PayrollEmployeeInputDTO(1, 10, 20, 3_000_000, null, 21, 10_080, 0);
+
+        // When
+        String a = PayrollInputFingerprint.of(INPUT, policy(1, "fp-a"));
+        String b = PayrollInputFingerprint.of(copy, policy(1, "fp-a"));
+
+        // Then
+        assertThat(a).isEqualTo(b).hasSize(64);
+    }
+
+    @Test
+    @DisplayName("정책 지문 또는 정책 ID가 바뀌면 지문이 바뀜")
+    void policyChanged_fingerprintChanged() {
+        // Given
+        String base = PayrollInputFingerprint.of(INPUT, policy(1, "fp-a"));
+
+        // When & Then
+        assertThat(PayrollInputFingerprint.of(INPUT, policy(1, "fp-b"))).isNotEqualTo(base);
+        assertThat(PayrollInputFingerprint.of(INPUT, policy(2, "fp-a"))).isNotEqualTo(base);
+        assertThat(PayrollInputFingerprint.of(INPUT, CompiledPayrollPolicy.empty("2026-10"))).isNotEqualTo(base);
+    }
+
+    @Test
+    @DisplayName("계산 입력값 중 하나라도 바뀌면 지문이 바뀜")
+    void inputChanged_fingerprintChanged() {
+        // Given
+        CompiledPayrollPolicy policy = policy(1, "fp-a");
+        String base = PayrollInputFingerprint.of(INPUT, policy);
+
+        // When & Then
+        assertThat(List.of(
+                new PayrollEmployeeInputDTO(1, 11, 20, 3_000_000, null, 21, 10_080, 0),
+                new PayrollEmployeeInputDTO(1, 10, 21, 3_000_000, null, 21, 10_080, 0),
+                new PayrollEmployeeInputDTO(1, 10, 20, 3_100_000, null, 21, 10_080, 0),
+                new PayrollEmployeeInputDTO(1, 10, 20, 3_000_000, 3_300_000, 21, 10_080, 0),
+                new PayrollEmployeeInputDTO(1, 10, 20, 3_000_000, null, 20, 10_080, 0),
+                new PayrollEmployeeInputDTO(1, 10, 20, 3_000_000, null, 21, 10_140, 0),
+                new PayrollEmployeeInputDTO(1, 10, 20, 3_000_000, null, 21, 10_080, 50_000)
+        )).extracting(changed -> PayrollInputFingerprint.of(changed, policy))
+                .doesNotContain(base)
+                .doesNotHaveDuplicates();
+    }
+}
@@ -0,0 +1,129 @@
+package com.c4.hero.domain.payroll.batch.service;
+
+import com.c4.hero.domain.attendance.service.AttendanceScoreService;
+import com.c4.hero.domain.payroll.adjustment.dto.PayrollAdjustmentNetDTO;
+import com.c4.hero.domain.payroll.adjustment.entity.PayrollRaise;
+import com.c4.hero.domain.payroll.adjustment.mapper.PayrollAdjustmentQueryMapper;
+import com.c4.hero.domain.payroll.adjustment.repository.PayrollRaiseRepository;
+import com.c4.hero.domain.payroll.batch.dto.PayrollEmployeeInputDTO;
+import com.c4.hero.domain.payroll.integration.attendance.dto.AttendanceMonthlySummaryDTO;
+import com.c4.hero.domain.payroll.integration.attendance.dto.EmployeeBaseSalaryDTO;
+import com.c4.hero.domain.payroll.integration.attendance.mapper.PayrollAttendanceMapper;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.YearMonth;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * <pre>
+ * Class Name: PayrollInputSnapshotLoaderTest
+ * Description: 급여 입력값 선조회 로더 테스트 (IN 목록 분할 / 입력값 병합)
+ *
+ * History
+ *   2026/10/17 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("급여 입력값 선조회 로더 테스트")
+class PayrollInputSnapshotLoaderTest {
+
+    private static final String MONTH = "2026-10";
+
+    @Mock
+    private PayrollAttendanceMapper attendanceMapper;
+
+    @Mock
+    private AttendanceScoreService attendanceScoreService;
+
+    @Mock
+    private PayrollRaiseRepository payrollRaiseRepository;
+
+    @Mock
+    private PayrollAdjustmentQueryMapper payrollAdjustmentQueryMapper;
+
+    @InjectMocks
+    private PayrollInputSnapshotLoader loader;
+
+    @Test
+    @DisplayName("사원 2,500명은 1,000명 단위 3개 분할로 조회 (분할당 4회)")
+    @SuppressWarnings("unchecked")
+    void load_partitionsBy1000() {
+        // Given
+        List<Integer> employeeIds = IntStream.rangeClosed(1, 2500).boxed().toList();
+
+        // When
+        PayrollInputSnapshot snapshot = loader.load(MONTH, employeeIds);
+
+        // Then
+        ArgumentCaptor<List<Integer>> captor = ArgumentCaptor.forClass(List.class);
+        verify(attendanceMapper, times(3)).selectBaseSalaries(captor.capture());
+        assertThat(captor.getAllValues()).extracting(List::size).containsExactly(1000, 1000, 500);
+        assertThat(captor.getAllValues().get(0)).startsWith(1).endsWith(1000);
+        assertThat(captor.getAllValues().get(1)).startsWith(1001).endsWith(2000);
+        assertThat(captor.getAllValues().get(2)).startsWith(2001).endsWith(2500);
+
+        verify(attendanceMapper, times(3)).selectMonthlyAttendanceSummaries(anyList(), eq(MONTH));
+        verify(payrollRaiseRepository, times(3))
+                .findAllByEmployeeIdInAndEffectiveMonthAndStatus(anyList(), eq(MONTH), eq("APPROVED"));
+        verify(payrollAdjustmentQueryMapper, times(3)).selectApprovedAdjustmentNets(anyList(), eq(MONTH));
+        verify(attendanceScoreService).ensureMonth(YearMonth.of(2026, 10));
+
+        assertThat(snapshot.size()).isEqualTo(2500);
+    }
+
+    @Test
+    @DisplayName("사원 1,000명은 분할 1개로 조회")
+    void load_exactPartitionSize() {
+        // Given
+        List<Integer> employeeIds = IntStream.rangeClosed(1, 1000).boxed().toList();
+
+        // When
+        loader.load(MONTH, employeeIds);
+
+        // Then
+        verify(attendanceMapper, times(1)).selectBaseSalaries(employeeIds);
+    }
+
+    @Test
+    @DisplayName("조회 결과 병합: 최신 승인 인상 채택, 조회 결과 없는 사원은 0으로 채움")
+    void load_mergesRows() {
+        // Given
+        List<Integer> employeeIds = List.of(1, 2);
+        when(attendanceMapper.selectBaseSalaries(employeeIds))
+                .thenReturn(List.of(new EmployeeBaseSalaryDTO(1, 3_000_000, 10, 20)));
+        when(attendanceMapper.selectMonthlyAttendanceSummaries(employeeIds, MONTH))
+                .thenReturn(List.of(new AttendanceMonthlySummaryDTO(1, 21, 10_080)));
+        when(payrollRaiseRepository.findAllByEmployeeIdInAndEffectiveMonthAndStatus(employeeIds, MONTH, "APPROVED"))
+                .thenReturn(List.of(
+                        PayrollRaise.builder().raiseId(9).employeeId(1).afterSalary(3_300_000).build(),
+                        PayrollRaise.builder().raiseId(5).employeeId(1).afterSalary(3_200_000).build()
+                ));
+        when(payrollAdjustmentQueryMapper.selectApprovedAdjustmentNets(employeeIds, MONTH))
+                .thenReturn(List.of(new PayrollAdjustmentNetDTO(1, -50_000), new PayrollAdjustmentNetDTO(2, null)));
+
+        // When
+        PayrollInputSnapshot snapshot = loader.load(MONTH, employeeIds);
+
+        // Then
+        assertThat(snapshot.get(1)).isEqualTo(
+                new PayrollEmployeeInputDTO(1, 10, 20, 3_000_000, 3_300_000, 21, 10_080, -50_000)
+        );
+        assertThat(snapshot.get(1).effectiveBaseSalary()).isEqualTo(3_300_000);
+        assertThat(snapshot.get(2)).isEqualTo(
+                new PayrollEmployeeInputDTO(2, null, null, 0, null, 0, 0, 0)
+        );
+    }
+}
@@ -0,0 +1,168 @@
+package com.c4.hero.domain.payroll.payment.repository;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.DockerClientFactory;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.containers.wait.strategy.Wait;
+import org.testcontainers.utility.DockerImageName;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * <pre>
+ * Class Name: PaymentHistoryRepositoryTest
+ * Description: 배치 단위 지급 이력 일괄 등록 쿼리 테스트 (MariaDB 컨테이너)
+ *              - 리포지토리 @Query 원문을 그대로 실행하여 재시도 시 중복 등록이 없는지 검증
+ *              - Docker 를 사용할 수 없는 환경에서는 건너뜀
+ *
+ * History
+ *   2026/10/17 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@DisplayName("지급 이력 일괄 등록 쿼리 테스트 (MariaDB)")
+class PaymentHistoryRepositoryTest {
+
+    private static final String PASSWORD = "test";
+    private static final int MARIADB_PORT = 3306;
+
+    private static GenericContainer<?> mariaDb;
+    private static JdbcTemplate jdbcTemplate;
+    private static NamedParameterJdbcTemplate namedJdbcTemplate;
+    private static String insertCompletedForBatch;
+
+    @BeforeAll
+    static void startMariaDb() throws NoSuchMethodException {
+        assumeTrue(DockerClientFactory.instance().isDockerAvailable(), "Docker 를 사용할 수 없어 MariaDB 테스트 생략");
+
+        mariaDb = new GenericContainer<>(DockerImageName.parse("mariadb:11.4"))
+                .withEnv("MARIADB_ROOT_PASSWORD", PASSWORD)
+                .withEnv("MARIADB_DATABASE", "hero")
+                .withExposedPorts(MARIADB_PORT)
+                .waitingFor(Wait.forLogMessage(".*ready for connections.*", 2));
+        mariaDb.start();
+
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:mariadb://" + mariaDb.getHost() + ":" + mariaDb.getMappedPort(MARIADB_PORT) + "/hero",
+                "root", PASSWORD
+        );
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        namedJdbcTemplate = new NamedParameterJdbcTemplate(dataSource);
+
+        jdbcTemplate.execute("""
+            CREATE TABLE tbl_payroll (
+                payroll_id INT AUTO_INCREMENT PRIMARY KEY,
+                batch_id   INT NOT NULL,
+                total_pay  INT NOT NULL
+            )
+            """);
+        jdbcTemplate.execute("""
+            CREATE TABLE tbl_payment_history (
+                payment_id      INT AUTO_INCREMENT PRIMARY KEY,
+                payment_date    DATE         NOT NULL,
+                payment_amount  INT          NOT NULL,
+                payment_method  VARCHAR(30)  NOT NULL,
+                transaction_id  VARCHAR(100),
+                status          VARCHAR(30)  NOT NULL,
+                created_at      DATETIME     NOT NULL,
+                bank_account_id INT,
+                payroll_id      INT
+            )
+            """);
+
+        insertCompletedForBatch = PaymentHistoryRepository.class
+                .getMethod("insertCompletedForBatch", Integer.class, LocalDate.class, LocalDateTime.class)
+                .getAnnotation(Query.class)
+                .value();
+    }
+
+    @AfterAll
+    static void stopMariaDb() {
+        if (mariaDb != null) {
+            mariaDb.stop();
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM tbl_payment_history");
+        jdbcTemplate.update("DELETE FROM tbl_payroll");
+    }
+
+    private int insertPayroll(int batchId, int totalPay) {
+        jdbcTemplate.update("INSERT INTO tbl_payroll (batch_id, total_pay) VALUES (?, ?)", batchId, totalPay);
+        return jdbcTemplate.queryForObject("SELECT LAST_INSERT_ID()", Integer.class);
+    }
+
+    private int insertCompletedForBatch(int batchId) {
+        return namedJdbcTemplate.update(insertCompletedForBatch, new MapSqlParameterSource()
+                .addValue("batchId", batchId)
+                .addValue("paymentDate", LocalDate.of(2026, 10, 25))
+                .addValue("createdAt", LocalDateTime.of(2026, 10, 25, 9, 0)));
+    }
+
+    private int countHistory(int payrollId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM tbl_payment_history WHERE payroll_id = ?", Integer.class, payrollId
+        );
+    }
+
+    @Test
+    @DisplayName("지급 재시도: 두 번째 실행은 등록 0건, 급여당 지급 이력 1건 유지")
+    void insertCompletedForBatch_retry_noDuplicate() {
+        // Given
+        int p1 = insertPayroll(1, 3_000_000);
+        int p2 = insertPayroll(1, 2_500_000);
+        int otherBatch = insertPayroll(2, 4_000_000);
+
+        // When
+        int first = insertCompletedForBatch(1);
+        int retry = insertCompletedForBatch(1);
+
+        // Then
+        assertThat(first).isEqualTo(2);
+        assertThat(retry).isZero();
+        assertThat(countHistory(p1)).isEqualTo(1);
+        assertThat(countHistory(p2)).isEqualTo(1);
+        assertThat(countHistory(otherBatch)).isZero();
+        assertThat(jdbcTemplate.queryForObject(
+                "SELECT payment_amount FROM tbl_payment_history WHERE payroll_id = ?", Integer.class, p2
+        )).isEqualTo(2_500_000);
+    }
+
+    @Test
+    @DisplayName("부분 지급 후 재시도: 이력이 없는 급여만 등록")
+    void insertCompletedForBatch_partial_onlyMissing() {
+        // Given
+        int paid = insertPayroll(1, 3_000_000);
+        int missing = insertPayroll(1, 2_500_000);
+        jdbcTemplate.update("""
+            INSERT INTO tbl_payment_history
+                (payment_date, payment_amount, payment_method, status, created_at, payroll_id)
+            VALUES ('2026-10-25', 3000000, 'BANK_TRANSFER', 'COMPLETED', NOW(), ?)
+            """, paid);
+
+        // When
+        int posted = insertCompletedForBatch(1);
+
+        // Then
+        assertThat(posted).isEqualTo(1);
+        assertThat(countHistory(paid)).isEqualTo(1);
+        assertThat(countHistory(missing)).isEqualTo(1);
+    }
+}
@@ -0,0 +1,82 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import com.c4.hero.domain.payroll.common.type.BaseAmountType;
+import com.c4.hero.domain.payroll.common.type.CalcMethod;
+import com.c4.hero.domain.payroll.common.type.ItemType;
+import com.c4.hero.domain.payroll.common.type.RoundingModeType;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * <pre>
+ * Class Name: CompiledItemPolicyTest
+ * Description: 항목 정책 평가기 반올림 단위/방식 테스트
+ *
+ * History
+ *   2026/10/17 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@DisplayName("항목 정책 평가기 반올림 테스트")
+class CompiledItemPolicyTest {
+
+    private double[] values(int baseSalary) {
+        double[] v = new double[PayrollFormulaVariable.SIZE];
+        v[PayrollFormulaVariable.BASE_SALARY.ordinal()] = baseSalary;
+        return v;
+    }
+
+    private CompiledItemPolicy formula(String formula, int roundingUnit, RoundingModeType roundingMode) {
+        return new CompiledItemPolicy(new PayrollPolicySnapshotDTO.ItemSnapshot(
+                1, ItemType.DEDUCTION, "TEST", "테스트", "N", CalcMethod.FORMULA,
+                null, null, formula, null, roundingUnit, roundingMode, 1, Map.of()
+        ));
+    }
+
+    private CompiledItemPolicy rate(String rate, int roundingUnit, RoundingModeType roundingMode) {
+        return new CompiledItemPolicy(new PayrollPolicySnapshotDTO.ItemSnapshot(
+                1, ItemType.DEDUCTION, "TEST", "테스트", "N", CalcMethod.RATE,
+                null, new BigDecimal(rate), null, BaseAmountType.BASE_SALARY, roundingUnit, roundingMode, 1, Map.of()
+        ));
+    }
+
+    @ParameterizedTest(name = "{0} (기본급 {1}, 단위 {2}, {3}) = {4}")
+    @CsvSource({
+            "BASE_SALARY * 0.035, 3000000, 1,  CEIL,    105000",
+            "BASE_SALARY * 0.035, 3000000, 10, CEIL,    105000",
+            "BASE_SALARY * 0.035, 3000000, 1,  FLOOR,   105000",
+            "BASE_SALARY * 1.1,   100,     1,  CEIL,    110",
+            "BASE_SALARY * 1.1,   100,     1,  FLOOR,   110",
+            "BASE_SALARY * 0.035, 3000001, 1,  CEIL,    105001",
+            "BASE_SALARY * 0.035, 3000001, 1,  FLOOR,   105000",
+            "BASE_SALARY * 0.035, 3000001, 10, HALF_UP, 105000",
+            "BASE_SALARY / 3 * 3, 100,     1,  FLOOR,   100",
+            "BASE_SALARY / 3 * 3, 100,     1,  CEIL,    100",
+            "BASE_SALARY / 3,     100,     1,  CEIL,    34",
+            "BASE_SALARY / 3,     100,     1,  FLOOR,   33"
+    })
+    @DisplayName("FORMULA 금액은 부동소수 오차 없이 반올림 단위/방식 적용")
+    void testFormulaRounding(String formula, int baseSalary, int unit, RoundingModeType mode, int expected) {
+        assertThat(formula(formula, unit, mode).evaluate(values(baseSalary))).isEqualTo(expected);
+    }
+
+    @ParameterizedTest(name = "기본급 {0} × {1} (단위 {2}, {3}) = {4}")
+    @CsvSource({
+            "3000000, 0.035, 1,  CEIL,  105000",
+            "3000000, 0.035, 10, FLOOR, 105000",
+            "100,     1.1,   1,  CEIL,  110",
+            "3000001, 0.035, 10, CEIL,  105010"
+    })
+    @DisplayName("RATE 금액도 같은 결과")
+    void testRateRounding(int baseSalary, String rate, int unit, RoundingModeType mode, int expected) {
+        assertThat(rate(rate, unit, mode).evaluate(values(baseSalary))).isEqualTo(expected);
+    }
+}
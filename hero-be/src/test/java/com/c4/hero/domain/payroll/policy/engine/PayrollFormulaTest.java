@@ -0,0 +1,88 @@
+package com.c4.hero.domain.payroll.policy.engine;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * <pre>
+ * Class Name: PayrollFormulaTest
+ * Description: 급여 항목 계산식(FORMULA) 컴파일/평가 테스트
+ *
+ * History
+ *   2026/10/17 - 동근 테스트 추가
+ *   2026/10/17 - 동근 BigDecimal 평가 결과 검증, 요율 리터럴 정확도 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.1
+ */
+@DisplayName("급여 항목 계산식 테스트")
+class PayrollFormulaTest {
+
+    private double[] values(int baseSalary, int attendanceDays) {
+        double[] v = new double[PayrollFormulaVariable.SIZE];
+        v[PayrollFormulaVariable.BASE_SALARY.ordinal()] = baseSalary;
+        v[PayrollFormulaVariable.ATTENDANCE_DAYS.ordinal()] = attendanceDays;
+        return v;
+    }
+
+    @Test
+    @DisplayName("변수/함수/연산자 우선순위 평가")
+    void testEvaluateWithVariablesAndFunctions() {
+        // Given
+        PayrollFormula formula = PayrollFormula.compile("base_salary * 0.1 + MIN(ATTENDANCE_DAYS, 22) * 10000");
+
+        // When
+        BigDecimal result = formula.evaluate(values(3_000_000, 25));
+
+        // Then
+        assertThat(result).isEqualByComparingTo("520000");
+    }
+
+    @Test
+    @DisplayName("단항 부호와 괄호 평가")
+    void testEvaluateUnaryAndParentheses() {
+        assertThat(PayrollFormula.compile("-(2 + 3) * 4 / (1 + 1)").evaluate(values(0, 0))).isEqualByComparingTo("-10");
+    }
+
+    @Test
+    @DisplayName("0으로 나누면 0으로 평가")
+    void testDivideByZeroEvaluatesToZero() {
+        assertThat(PayrollFormula.compile("BASE_SALARY / WORKED_MINUTES").evaluate(values(3_000_000, 0))).isZero();
+    }
+
+    @Test
+    @DisplayName("요율 리터럴은 10진수 그대로 계산 (부동소수 오차 없음)")
+    void testRateLiteralsAreExact() {
+        // double 이면 105000.00000000001 / 110.00000000000001 이 되는 식
+        assertThat(PayrollFormula.compile("BASE_SALARY * 0.035").evaluate(values(3_000_000, 0)))
+                .isEqualByComparingTo("105000");
+        assertThat(PayrollFormula.compile("BASE_SALARY * 1.1").evaluate(values(100, 0)))
+                .isEqualByComparingTo("110");
+        assertThat(PayrollFormula.compile("0.1 + 0.2").evaluate(values(0, 0)))
+                .isEqualByComparingTo("0.3");
+    }
+
+    @Test
+    @DisplayName("MIN / MAX / ABS 평가")
+    void testFunctions() {
+        assertThat(PayrollFormula.compile("MIN(ATTENDANCE_DAYS, 22, 30)").evaluate(values(0, 25))).isEqualByComparingTo("22");
+        assertThat(PayrollFormula.compile("MAX(BASE_SALARY - 1060000, 0)").evaluate(values(1_000_000, 0))).isEqualByComparingTo("0");
+        assertThat(PayrollFormula.compile("ABS(BASE_SALARY - 100)").evaluate(values(40, 0))).isEqualByComparingTo("60");
+    }
+
+    @Test
+    @DisplayName("알 수 없는 변수 / 문법 오류는 IllegalArgumentException")
+    void testCompileErrors() {
+        assertThatThrownBy(() -> PayrollFormula.compile("FOO + 1")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayrollFormula.compile("1 +")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayrollFormula.compile("(1 + 2")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayrollFormula.compile("MAX(1)")).isInstanceOf(IllegalArgumentException.class);
+        assertThatThrownBy(() -> PayrollFormula.compile(" ")).isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,203 @@
+package com.c4.hero.domain.payroll.report.service;
+
+import com.c4.hero.domain.payroll.report.dto.EmployeePayHistoryRowDTO;
+import com.c4.hero.domain.payroll.report.dto.EmployeePayRollupDTO;
+import com.c4.hero.domain.payroll.report.dto.PayHistoryRowDTO;
+import com.c4.hero.domain.payroll.report.mapper.EmployeePayRollupMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+import static org.mockito.Mockito.*;
+
+/**
+ * <pre>
+ * Class Name: EmployeePayRollupServiceTest
+ * Description: 사원별 급여 누적 집계 갱신 테스트 (월 대체 / 소급 지급 / 연도 변경 / 최초 이력)
+ *
+ * History
+ *   2026/10/17 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("사원 급여 누적 집계 갱신 테스트")
+class EmployeePayRollupServiceTest {
+
+    private static final Integer BATCH_ID = 7;
+    private static final Integer EMPLOYEE_ID = 1;
+
+    @Mock
+    private EmployeePayRollupMapper rollupMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private EmployeePayRollupService rollupService;
+
+    @BeforeEach
+    void setUp() {
+        rollupService = new EmployeePayRollupService(rollupMapper, objectMapper);
+    }
+
+    private EmployeePayHistoryRowDTO paid(String month, int netPay) {
+        return new EmployeePayHistoryRowDTO(EMPLOYEE_ID, month, netPay, 0, 0, netPay);
+    }
+
+    private PayHistoryRowDTO history(String month, int netPay) {
+        return paid(month, netPay).toHistoryRow();
+    }
+
+    private EmployeePayRollupDTO rollup(String lastMonth, String ytdYear, int ytdNetPay, List<PayHistoryRowDTO> history) {
+        return new EmployeePayRollupDTO(
+                EMPLOYEE_ID, lastMonth, ytdYear, ytdNetPay,
+                history.stream().mapToInt(PayHistoryRowDTO::netPay).min().orElse(0),
+                history.stream().mapToInt(PayHistoryRowDTO::netPay).max().orElse(0),
+                objectMapper.writeValueAsString(history)
+        );
+    }
+
+    /** 지급 배치 1건 반영 후 저장된 누적 집계 */
+    @SuppressWarnings("unchecked")
+    private EmployeePayRollupDTO applyBatch(EmployeePayHistoryRowDTO row, EmployeePayRollupDTO existing) {
+        when(rollupMapper.selectBatchPayRows(BATCH_ID)).thenReturn(List.of(row));
+        when(rollupMapper.selectRollups(List.of(EMPLOYEE_ID)))
+                .thenReturn(existing == null ? List.of() : List.of(existing));
+
+        rollupService.applyBatch(BATCH_ID);
+
+        ArgumentCaptor<List<EmployeePayRollupDTO>> captor = ArgumentCaptor.forClass(List.class);
+        verify(rollupMapper).upsertRollups(captor.capture());
+        assertThat(captor.getValue()).hasSize(1);
+        return captor.getValue().get(0);
+    }
+
+    @Test
+    @DisplayName("같은 급여월 재지급: 기존 월 값을 대체하고 누적액은 차액만 반영")
+    void apply_sameMonth_replaced() {
+        // Given
+        EmployeePayRollupDTO existing = rollup("2026-02", "2026", 500,
+                List.of(history("2026-01", 200), history("2026-02", 300)));
+
+        // When
+        EmployeePayRollupDTO result = applyBatch(paid("2026-02", 350), existing);
+
+        // Then
+        assertThat(result.ytdYear()).isEqualTo("2026");
+        assertThat(result.ytdNetPay()).isEqualTo(550);
+        assertThat(result.lastMonth()).isEqualTo("2026-02");
+        assertThat(result.minNetPay()).isEqualTo(200);
+        assertThat(result.maxNetPay()).isEqualTo(350);
+        assertThat(rollupService.readHistory(result))
+                .extracting(PayHistoryRowDTO::salaryMonth, PayHistoryRowDTO::netPay)
+                .containsExactly(tuple("2026-01", 200), tuple("2026-02", 350));
+    }
+
+    @Test
+    @DisplayName("같은 급여월 지급 재시도: 누적 실수령액 이중 합산 없음")
+    void apply_retrySameMonth_noDoubleCount() {
+        // Given
+        EmployeePayRollupDTO existing = rollup("2026-01", "2026", 200, List.of(history("2026-01", 200)));
+        EmployeePayRollupDTO first = applyBatch(paid("2026-02", 300), existing);
+        reset(rollupMapper);
+
+        // When
+        EmployeePayRollupDTO retried = applyBatch(paid("2026-02", 300), first);
+
+        // Then
+        assertThat(first.ytdNetPay()).isEqualTo(500);
+        assertThat(retried.ytdNetPay()).isEqualTo(500);
+        assertThat(retried.historyJson()).isEqualTo(first.historyJson());
+        assertThat(rollupService.readHistory(retried)).hasSize(2);
+    }
+
+    @Test
+    @DisplayName("지난 연도 소급 지급: 이력에는 반영하고 올해 누적액/최종 급여월은 유지")
+    void apply_backdatedPastYear_ytdKept() {
+        // Given
+        EmployeePayRollupDTO existing = rollup("2026-02", "2026", 500,
+                List.of(history("2026-01", 200), history("2026-02", 300)));
+
+        // When
+        EmployeePayRollupDTO result = applyBatch(paid("2025-12", 900), existing);
+
+        // Then
+        assertThat(result.ytdYear()).isEqualTo("2026");
+        assertThat(result.ytdNetPay()).isEqualTo(500);
+        assertThat(result.lastMonth()).isEqualTo("2026-02");
+        assertThat(result.maxNetPay()).isEqualTo(900);
+        assertThat(rollupService.readHistory(result))
+                .extracting(PayHistoryRowDTO::salaryMonth)
+                .containsExactly("2025-12", "2026-01", "2026-02");
+    }
+
+    @Test
+    @DisplayName("연도 변경: 새 연도 급여만으로 누적액을 새로 시작")
+    void apply_yearChanged_ytdRestarted() {
+        // Given
+        EmployeePayRollupDTO existing = rollup("2025-12", "2025", 2_400,
+                List.of(history("2025-11", 200), history("2025-12", 300)));
+
+        // When
+        EmployeePayRollupDTO result = applyBatch(paid("2026-01", 400), existing);
+
+        // Then
+        assertThat(result.ytdYear()).isEqualTo("2026");
+        assertThat(result.ytdNetPay()).isEqualTo(400);
+        assertThat(result.lastMonth()).isEqualTo("2026-01");
+        assertThat(result.minNetPay()).isEqualTo(200);
+    }
+
+    @Test
+    @DisplayName("누적 집계가 없는 사원: 직전 11개월 확정 급여로 이력을 채운 뒤 반영")
+    void apply_noRollup_seededFromConfirmedRows() {
+        // Given
+        when(rollupMapper.selectConfirmedPayRows(List.of(EMPLOYEE_ID), "2025-04", "2026-02"))
+                .thenReturn(List.of(paid("2025-12", 100), paid("2026-01", 200), paid("2026-02", 300)));
+
+        // When
+        EmployeePayRollupDTO result = applyBatch(paid("2026-03", 400), null);
+
+        // Then
+        assertThat(result.ytdYear()).isEqualTo("2026");
+        assertThat(result.ytdNetPay()).isEqualTo(900);
+        assertThat(result.lastMonth()).isEqualTo("2026-03");
+        assertThat(result.minNetPay()).isEqualTo(100);
+        assertThat(result.maxNetPay()).isEqualTo(400);
+        assertThat(rollupService.readHistory(result))
+                .extracting(PayHistoryRowDTO::salaryMonth)
+                .containsExactly("2025-12", "2026-01", "2026-02", "2026-03");
+    }
+
+    @Test
+    @DisplayName("이력 링은 최근 12개월만 유지 (가장 오래된 월 제거)")
+    void apply_historyRing_trimmedTo12() {
+        // Given
+        List<PayHistoryRowDTO> twelve = new ArrayList<>();
+        for (YearMonth m = YearMonth.of(2025, 1); !m.isAfter(YearMonth.of(2025, 12)); m = m.plusMonths(1)) {
+            twelve.add(history(m.toString(), 100));
+        }
+        EmployeePayRollupDTO existing = rollup("2025-12", "2025", 1_200, twelve);
+
+        // When
+        EmployeePayRollupDTO result = applyBatch(paid("2026-01", 200), existing);
+
+        // Then
+        List<PayHistoryRowDTO> ring = rollupService.readHistory(result);
+        assertThat(ring).hasSize(12);
+        assertThat(ring.get(0).salaryMonth()).isEqualTo("2025-02");
+        assertThat(ring.get(11).salaryMonth()).isEqualTo("2026-01");
+    }
+}
@@ -0,0 +1,145 @@
+package com.c4.hero.domain.payroll.report.service;
+
+import com.c4.hero.domain.payroll.report.dto.EmployeePayRollupDTO;
+import com.c4.hero.domain.payroll.report.dto.PayHistoryResponseDTO;
+import com.c4.hero.domain.payroll.report.dto.PayHistoryRowDTO;
+import com.c4.hero.domain.payroll.report.mapper.EmployeePayRollupMapper;
+import com.c4.hero.domain.payroll.report.mapper.EmployeePayrollReportMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import tools.jackson.databind.ObjectMapper;
+
+import java.time.YearMonth;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+/**
+ * <pre>
+ * Class Name: ReportServiceTest
+ * Description: 내 급여 이력 조회 테스트 (사원별 누적 집계 우선 조회 / 실시간 조회 대체)
+ *
+ * History
+ *   2026/10/17 - 동근 테스트 추가
+ * </pre>
+ *
+ * @author 동근
+ * @version 1.0
+ */
+@ExtendWith(MockitoExtension.class)
+@DisplayName("내 급여 이력 조회 테스트")
+class ReportServiceTest {
+
+    private static final Integer EMPLOYEE_ID = 1;
+
+    @Mock
+    private EmployeePayrollReportMapper mapper;
+
+    @Mock
+    private EmployeePayRollupMapper rollupMapper;
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private ReportService reportService;
+
+    /** 조회 기준 월 (getPayHistory 는 현재 월 기준 최근 12개월) */
+    private final YearMonth now = YearMonth.now();
+
+    @BeforeEach
+    void setUp() {
+        reportService = new ReportService(mapper, rollupMapper, new EmployeePayRollupService(rollupMapper, objectMapper));
+    }
+
+    private PayHistoryRowDTO row(YearMonth month, int netPay) {
+        return new PayHistoryRowDTO(month.toString(), netPay, 0, 0, netPay, "");
+    }
+
+    private EmployeePayRollupDTO rollup(String ytdYear, int ytdNetPay, int min, int max, List<PayHistoryRowDTO> history) {
+        return new EmployeePayRollupDTO(
+                EMPLOYEE_ID, history.get(history.size() - 1).salaryMonth(), ytdYear, ytdNetPay, min, max,
+                objectMapper.writeValueAsString(history)
+        );
+    }
+
+    @Test
+    @DisplayName("이력 링 전체가 조회 구간 안이면 누적 집계의 최소/최대/누적액을 그대로 사용")
+    void getPayHistory_ringInsideWindow_usesRollup() {
+        // Given
+        List<PayHistoryRowDTO> history = List.of(row(now.minusMonths(1), 300), row(now, 400));
+        // 집계 값을 이력과 다르게 두어 누적 집계 값이 응답에 쓰이는지 확인
+        when(rollupMapper.selectRollup(EMPLOYEE_ID))
+                .thenReturn(rollup(String.valueOf(now.getYear()), 12_345, 11, 99_999, history));
+
+        // When
+        PayHistoryResponseDTO response = reportService.getPayHistory(EMPLOYEE_ID);
+
+        // Then
+        assertThat(response.rows()).containsExactlyElementsOf(history);
+        assertThat(response.minNetPay()).isEqualTo(11);
+        assertThat(response.maxNetPay()).isEqualTo(99_999);
+        assertThat(response.ytdNetPay()).isEqualTo(12_345);
+        assertThat(response.avgNetPay()).isEqualTo(350);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("이력 링에 조회 구간 밖 월이 있으면 구간 안 이력으로 최소/최대를 다시 계산")
+    void getPayHistory_ringOutsideWindow_recomputed() {
+        // Given
+        List<PayHistoryRowDTO> history = List.of(row(now.minusMonths(12), 100), row(now.minusMonths(1), 300), row(now, 400));
+        when(rollupMapper.selectRollup(EMPLOYEE_ID))
+                .thenReturn(rollup(String.valueOf(now.getYear()), 12_345, 100, 400, history));
+
+        // When
+        PayHistoryResponseDTO response = reportService.getPayHistory(EMPLOYEE_ID);
+
+        // Then
+        assertThat(response.rows()).extracting(PayHistoryRowDTO::salaryMonth)
+                .containsExactly(now.minusMonths(1).toString(), now.toString());
+        assertThat(response.minNetPay()).isEqualTo(300);
+        assertThat(response.maxNetPay()).isEqualTo(400);
+        int expectedYtd = (now.getMonthValue() == 1 ? 0 : 300) + 400;
+        assertThat(response.ytdNetPay()).isEqualTo(expectedYtd);
+        verifyNoInteractions(mapper);
+    }
+
+    @Test
+    @DisplayName("누적 집계가 없으면 급여 테이블에서 최근 12개월 실시간 조회")
+    void getPayHistory_noRollup_queriesPayrollTable() {
+        // Given
+        when(rollupMapper.selectRollup(EMPLOYEE_ID)).thenReturn(null);
+        when(mapper.selectPayHistory(EMPLOYEE_ID, now.minusMonths(11).toString(), now.toString()))
+                .thenReturn(List.of(row(now.minusMonths(1), 200), row(now, 300)));
+
+        // When
+        PayHistoryResponseDTO response = reportService.getPayHistory(EMPLOYEE_ID);
+
+        // Then
+        assertThat(response.maxNetPay()).isEqualTo(300);
+        assertThat(response.minNetPay()).isEqualTo(200);
+        assertThat(response.monthOverMonthRate()).isEqualTo(50);
+    }
+
+    @Test
+    @DisplayName("누적 이력 형식이 깨졌으면 급여 테이블에서 실시간 조회")
+    void getPayHistory_brokenHistoryJson_queriesPayrollTable() {
+        // Given
+        when(rollupMapper.selectRollup(EMPLOYEE_ID)).thenReturn(new EmployeePayRollupDTO(
+                EMPLOYEE_ID, now.toString(), String.valueOf(now.getYear()), 1, 1, 1, "{broken"
+        ));
+        when(mapper.selectPayHistory(EMPLOYEE_ID, now.minusMonths(11).toString(), now.toString()))
+                .thenReturn(List.of(row(now, 300)));
+
+        // When
+        PayHistoryResponseDTO response = reportService.getPayHistory(EMPLOYEE_ID);
+
+        // Then
+        assertThat(response.ytdNetPay()).isEqualTo(300);
+        assertThat(response.maxNetPay()).isEqualTo(300);
+    }
+}